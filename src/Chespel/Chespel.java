@@ -35,6 +35,9 @@ import org.antlr.stringtemplate.*;
 // Imports from Java
 import org.apache.commons.cli.*; // Command Language Interface
 import java.io.*;
+import java.net.*;
+import java.util.ArrayList;
+import java.util.concurrent.*;
 
 // Parser and Compiler
 import parser.*;
@@ -45,14 +48,23 @@ import compiler.*;
  * compiler. It accepts a set of options to generate the AST in
  * dot format. To know about the accepted options,
  * run the command Chespel -help.
+ *
+ * Several programs can be compiled at once (batch mode), either giving
+ * them in the command line or in a manifest file, and in daemon mode the
+ * compiler waits for programs to compile on a local port.
+ * Each program is compiled by its own ChespelCompiler on a pool of workers.
  */
 
 public class Chespel{
 
-    /** The file name of the program. */
-    private static String infile = null;
+    /** The file names of the programs. */
+    private static ArrayList<String> infiles = new ArrayList<String>();
+    /** The file names of the generated code (null if derived from the program's) */
+    private static ArrayList<String> outfiles = new ArrayList<String>();
 
     private static String outfile = "generated_eval.cpp";
+    /** Directory of the generated code in batch mode. */
+    private static String outdir = null;
     /** Name of the file representing the AST. */
     private static String astfile = null;
     /** Flag indicating that the AST must be written in dot format. */
@@ -61,6 +73,18 @@ public class Chespel{
 //     private static String tracefile = null;
     /** Flag to indicate whether the program must be compiled after parsing. */
     private static boolean compile = true;
+    /** Flag indicating that several programs are compiled (batch mode). */
+    private static boolean batch = false;
+    /** Number of programs compiled at the same time. */
+    private static int jobs = Runtime.getRuntime().availableProcessors();
+    /** Local port where the daemon listens for jobs (-1 if not a daemon). */
+    private static int port = -1;
+    /** Number of files the functions and rules are split in (0 for none). */
+    private static int shards = 0;
+    /** Cache of the code generated for the definitions (null if not used). */
+    private static CodeCache cache = null;
+    /** Flag indicating whether the optimization pass must be run. */
+    private static boolean optimize = false;
       
     /** Main program that invokes the parser and the compiler. */
     
@@ -68,21 +92,37 @@ public class Chespel{
         // Parser for command line options
         if (!readOptions (args)) System.exit(1);
 
+        if (port >= 0) runDaemon();
+        else if (!batch) {
+            if (!compileFile(infiles.get(0), outfile, astfile, System.err)) System.exit(1);
+        }
+        else if (!compileBatch()) System.exit(1);
+    }
+
+    /**
+     * Parses and compiles one program. The errors and warnings are
+     * written to err. It returns true if the program has been compiled.
+     */
+    private static boolean compileFile(String infile, String outfile, String astfile, final PrintStream err) throws IOException {
         // Parsing of the input file
         CharStream input = null;
         try {
             input = new ANTLRFileStream(infile);
         } catch (IOException e) {
-            System.err.println ("Error: file " + infile + " could not be opened.");
-            System.exit(1);
+            err.println ("Error: file " + infile + " could not be opened.");
+            return false;
         }
 
         // Creates the lexer
-        ChespelLexer lex = new ChespelLexer(input);
+        ChespelLexer lex = new ChespelLexer(input) {
+            public void emitErrorMessage(String msg) { err.println(msg); }
+        };
         CommonTokenStream tokens = new CommonTokenStream(lex);
 
         // Creates and runs the parser. As a result, an AST is created
-        ChespelParser parser = new ChespelParser(tokens);
+        ChespelParser parser = new ChespelParser(tokens) {
+            public void emitErrorMessage(String msg) { err.println(msg); }
+        };
         ChespelTreeAdaptor adaptor = new ChespelTreeAdaptor();
         parser.setTreeAdaptor(adaptor);
         ChespelParser.prog_return result = null;
@@ -93,9 +133,9 @@ public class Chespel{
         // Check for parsing errors
         int nerrors = parser.getNumberOfSyntaxErrors();
         if (nerrors > 0) {
-            System.err.println (nerrors + " errors detected. " +
+            err.println (nerrors + " errors detected. " +
                                 "The program has not been compiled.");
-            System.exit(1);
+            return false;
         }
 
         // Get the AST
@@ -121,11 +161,15 @@ public class Chespel{
             ErrorStack E = new ErrorStack(infile);
             try {
                 C = new ChespelCompiler(t, E, outfile);
+                C.setShards(shards);
+                C.setCache(cache);
+                C.setOptimize(optimize);
                 C.compile();                  // Compiles the code
             } catch (CompileException e) {
-                System.err.print (E.getErrors());
-                System.exit(1); // status code 1
+                err.print (E.getErrors());
+                return false;
             } 
+            if (E.hasWarnings()) err.print(E.getWarnings());
             /*catch (RuntimeException e) {
                 if (C != null) linenumber = C.lineNumber();
                 System.err.print ("Runtime error");
@@ -138,7 +182,140 @@ public class Chespel{
                 if (linenumber < 0) System.err.print (".");
                 else System.err.println (" (" + infile + ", line " + linenumber + ").");
             }*/
-         }
+        }
+        return true;
+    }
+
+    /** Result of compiling a program: whether it succeeded and its messages. */
+    private static class Job implements Callable<Job> {
+        String infile, outfile, messages;
+        boolean ok = false;
+
+        Job(String infile, String outfile) {
+            this.infile = infile;
+            this.outfile = outfile;
+        }
+
+        public Job call() {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            PrintStream err = new PrintStream(buffer);
+            try {
+                ok = compileFile(infile, outfile, null, err);
+            } catch (Exception e) {
+                err.println("Error (" + infile + "): " + e);
+            }
+            err.flush();
+            messages = buffer.toString();
+            return this;
+        }
+    }
+
+    /**
+     * Compiles all the programs in the pool of workers. The messages are
+     * written in the order of the programs. It returns true if all of them
+     * have been compiled.
+     */
+    private static boolean compileBatch() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(jobs);
+        ArrayList<Future<Job>> results = new ArrayList<Future<Job>>();
+        for (int i = 0; i < infiles.size(); ++i) {
+            results.add(pool.submit(new Job(infiles.get(i), batchOutfile(infiles.get(i), outfiles.get(i)))));
+        }
+        pool.shutdown();
+        int failed = 0;
+        for (Future<Job> f : results) {
+            try {
+                Job job = f.get();
+                System.err.print(job.messages);
+                if (!job.ok) ++failed;
+            } catch (ExecutionException e) {
+                System.err.println("Error: " + e.getCause());
+                ++failed;
+            }
+        }
+        if (failed > 0) System.err.println(failed + " of " + infiles.size() + " programs have not been compiled.");
+        return failed == 0;
+    }
+
+    /**
+     * Waits for jobs on the local port. Each line received is a job
+     * "program [output]", answered with the messages of its compilation
+     * followed by a line "ok" or "failed". The connections are served
+     * by the pool of workers, so the JVM and the parser stay warm.
+     */
+    private static void runDaemon() throws IOException {
+        final ExecutorService pool = Executors.newFixedThreadPool(jobs);
+        ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        System.err.println("Chespel daemon listening on port " + server.getLocalPort());
+        while (true) {
+            final Socket client = server.accept();
+            pool.submit(new Runnable() {
+                public void run() { serveClient(client); }
+            });
+        }
+    }
+
+    private static void serveClient(Socket client) {
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream()));
+            PrintStream out = new PrintStream(client.getOutputStream(), true);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] words = line.trim().split("\\s+");
+                if (words[0].length() == 0) continue;
+                Job job = new Job(words[0], batchOutfile(words[0], (words.length > 1 ? words[1] : null))).call();
+                out.print(job.messages);
+                out.println(job.ok ? "ok" : "failed");
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+        } finally {
+            try { client.close(); } catch (IOException e) {}
+        }
+    }
+
+    /** Adds the extension .cpp to the output file if it doesn't have it. */
+    private static String cppName(String file) {
+        if (file.length() < 5 || !file.substring( file.length()-4 ).equals(".cpp")) file += ".cpp";
+        return file;
+    }
+
+    /**
+     * Output file of a program in batch mode: the one given for it or
+     * the name of the program with extension .cpp (in outdir if given).
+     */
+    private static String batchOutfile(String infile, String outfile) {
+        if (outfile != null) return cppName(outfile);
+        String name = infile;
+        if (name.endsWith(".chp")) name = name.substring(0, name.length()-4);
+        if (outdir != null) name = new File(outdir, new File(name).getName()).getPath();
+        return cppName(name);
+    }
+
+    /**
+     * Reads the programs of a manifest file: one program per line,
+     * optionally followed by its output file. Empty lines and lines
+     * starting with '#' are skipped.
+     */
+    private static boolean readManifest(String manifest) {
+        try {
+            BufferedReader br = new BufferedReader(new FileReader(manifest));
+            try {
+                String line;
+                while ((line = br.readLine()) != null) {
+                    String[] words = line.trim().split("\\s+");
+                    if (words[0].length() == 0 || words[0].startsWith("#")) continue;
+                    infiles.add(words[0]);
+                    outfiles.add(words.length > 1 ? words[1] : null);
+                }
+            } finally {
+                br.close();
+            }
+        } catch (IOException e) {
+            System.err.println ("Error: manifest " + manifest + " could not be read.");
+            return false;
+        }
+        return true;
     }
 
     /**
@@ -152,6 +329,7 @@ public class Chespel{
         Option help = new Option("help", "print this message");
         Option noexec = new Option("nocomp", "do not compile the program");
         Option dot = new Option("dot", "dump the AST in dot format");
+        Option opt = new Option("O", "optimize the program: fold constants, reuse common subexpressions and hoist loop invariants");
         Option output = OptionBuilder
                         .withArgName ("file")
                         .hasArg()
@@ -163,17 +341,60 @@ public class Chespel{
                         .hasArg()
                         .withDescription ("write the AST")
                         .create ("ast");
+
+        Option directory = OptionBuilder
+                        .withArgName ("dir")
+                        .hasArg()
+                        .withDescription ("output directory of the programs in batch mode")
+                        .create ("d");
+
+        Option manifest = OptionBuilder
+                        .withArgName ("file")
+                        .hasArg()
+                        .withDescription ("compile the programs listed in the file (one per line, optionally followed by its output file)")
+                        .create ("manifest");
+
+        Option threads = OptionBuilder
+                        .withArgName ("n")
+                        .hasArg()
+                        .withDescription ("number of programs compiled at the same time")
+                        .create ("j");
+
+        Option daemon = OptionBuilder
+                        .withArgName ("port")
+                        .hasArg()
+                        .withDescription ("wait for programs to compile on a local port")
+                        .create ("daemon");
+                                       
+        Option shard = OptionBuilder
+                        .withArgName ("n")
+                        .hasArg()
+                        .withDescription ("split the functions and rules in n more files, so that only those which change are recompiled")
+                        .create ("shards");
+
+        Option cachedir = OptionBuilder
+                        .withArgName ("dir")
+                        .hasArg()
+                        .withDescription ("reuse the code generated for the definitions which did not change")
+                        .create ("cache");
                                        
         Options options = new Options();
         options.addOption(help);
         options.addOption(dot);
+        options.addOption(opt);
         options.addOption(ast);
         options.addOption(noexec);
         options.addOption(output);
+        options.addOption(directory);
+        options.addOption(manifest);
+        options.addOption(threads);
+        options.addOption(daemon);
+        options.addOption(shard);
+        options.addOption(cachedir);
         CommandLineParser clp = new GnuParser();
         CommandLine line = null;
 
-        String cmdline = "Chespel [options] file";
+        String cmdline = "Chespel [options] file...";
         
         
         // Parse the options
@@ -201,25 +422,48 @@ public class Chespel{
         if (line.hasOption ("ast")) astfile = line.getOptionValue ("ast");
 
         // Option -o output_file
-        if (line.hasOption ("o")) {
-            outfile = line.getOptionValue ("o");
-            if (outfile.length() < 5 || !outfile.substring( outfile.length()-4 ).equals(".cpp")) outfile += ".cpp";
-        }
+        if (line.hasOption ("o")) outfile = cppName(line.getOptionValue ("o"));
+
+        // Option -d output_dir
+        if (line.hasOption ("d")) outdir = line.getOptionValue ("d");
         
         // Option -noexec
         if (line.hasOption ("nocomp")) compile = false;
 
-        // Remaining arguments (the input file)
-        String[] files = line.getArgs();
-        if (files.length != 1) {
+        // Option -O
+        if (line.hasOption ("O")) optimize = true;
+
+        // Option -cache dir
+        if (line.hasOption ("cache")) cache = new CodeCache(new File(line.getOptionValue ("cache")));
+
+        // Options -j n, -daemon port and -shards n
+        try {
+            if (line.hasOption ("j")) jobs = Math.max(1, Integer.parseInt(line.getOptionValue ("j")));
+            if (line.hasOption ("daemon")) port = Integer.parseInt(line.getOptionValue ("daemon"));
+            if (line.hasOption ("shards")) shards = Math.max(0, Integer.parseInt(line.getOptionValue ("shards")));
+        } catch (NumberFormatException e) {
+            System.err.println ("Incorrect command line: " + e.getMessage());
+            return false;
+        }
+        if (port >= 0) return true;
+
+        // Remaining arguments (the input files), and the ones of -manifest file
+        for (String file : line.getArgs()) {
+            infiles.add(file);
+            outfiles.add(null);
+        }
+        if (line.hasOption ("manifest") && !readManifest(line.getOptionValue ("manifest"))) return false;
+        if (infiles.size() == 0) {
             System.err.println ("Incorrect command line.");
             HelpFormatter formatter = new HelpFormatter();
             formatter.printHelp (cmdline, options);
             return false;
         }
-        
-        infile = files[0];
+        batch = infiles.size() > 1 || line.hasOption ("manifest") || outdir != null;
+        if (batch && (astfile != null || line.hasOption ("o"))) {
+            System.err.println ("Incorrect command line: -o and -ast need a single program.");
+            return false;
+        }
         return true;
     }
 }
-
@@ -0,0 +1,51 @@
+package compiler;
+
+/**
+ * Generator of synthetic chp programs for the benchmarks of the compiler.
+ * A program of size n has n functions, n rules and n/10 globals, each rule
+ * calling its own function, with loops, conditions, arrays and strings like
+ * the programs written by hand.
+ */
+
+public class ProgramGenerator {
+
+    /** Source of a program with n functions and n rules. */
+    public static String generate(int n) {
+        int nglobals = Math.max(1, n / 10);
+        StringBuilder prog = new StringBuilder();
+        prog.append("config {\n    centipawn_value = 1;\n}\n\n");
+        for (int i = 0; i < nglobals; ++i) {
+            prog.append("global num bonus" + i + " = " + (i % 9 + 1) + " * 2;\n");
+        }
+        prog.append("\n");
+        for (int i = 0; i < n; ++i) {
+            prog.append("num weight" + i + "([piece] ps, num k) {\n");
+            prog.append("    num total = 0;\n");
+            prog.append("    forall (p in ps) {\n");
+            prog.append("        if (p.value > " + (100 * (i % 9)) + " and p.cell.inCenter) total = total + k * 2;\n");
+            prog.append("        else total = total + p.value / 100;\n");
+            prog.append("    }\n");
+            prog.append("    return total;\n");
+            prog.append("}\n\n");
+        }
+        for (int i = 0; i < n; ++i) {
+            prog.append("rule rule" + i + " sym {\n");
+            prog.append("    num c = weight" + i + "(spawns, " + (i % 7 + 1) + ");\n");
+            prog.append("    [file] fs = [$a, $" + (char) ('b' + i % 6) + ", $h];\n");
+            prog.append("    forall (p in spieces) {\n");
+            prog.append("        if (p.file in fs) score c + bonus" + (i % nglobals) + ", \"rule " + i + " \" ++ p ++ \" at \" ++ p.cell;\n");
+            prog.append("    }\n");
+            prog.append("}\n\n");
+        }
+        return prog.toString();
+    }
+
+    /** Writes the program of the size given to the standard output. */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: ProgramGenerator size");
+            System.exit(1);
+        }
+        System.out.print(generate(Integer.parseInt(args[0])));
+    }
+}
@@ -0,0 +1,212 @@
+package compiler;
+
+import org.antlr.runtime.*;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import parser.*;
+
+/**
+ * Benchmarks of the stages of the compiler: lexing, parsing, semantic
+ * analysis, empty array inference and code translation (of the program as
+ * it is, and after the optimization pass). Each stage is
+ * measured on its own: the stages before it run on every operation, but
+ * out of the measure. After some warmup iterations, every iteration runs
+ * the stage for a fixed time, and the throughput (operations per second)
+ * and the bytes allocated per operation are reported. The generated code is
+ * discarded, so the disk is not measured.
+ *
+ * The programs are chp files, or synthetic programs of n functions and n
+ * rules (-synthetic n, see ProgramGenerator).
+ */
+
+public class StageBenchmark {
+
+    private static int warmup = 3;
+    private static int iterations = 5;
+    /** Duration of each iteration in milliseconds. */
+    private static long iteration_time = 1000;
+
+    private static final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** A stage of the compiler: setup() prepares its input, run() is measured. */
+    private static abstract class Stage {
+        String name;
+        Stage(String name) { this.name = name; }
+        abstract Object setup(String source) throws Exception;
+        abstract void run(Object input) throws Exception;
+    }
+
+    /** Name of the output file: nothing is written to it. */
+    private static final String outfile = "bench_eval.cpp";
+
+    /** Sink of the generated code. */
+    private static final Writer discard = new Writer() {
+        public void write(char[] buf, int off, int len) {}
+        public void flush() {}
+        public void close() {}
+    };
+
+    private static ChespelParser parser(String source) {
+        ChespelLexer lex = new ChespelLexer(new ANTLRStringStream(source));
+        ChespelParser parser = new ChespelParser(new CommonTokenStream(lex));
+        parser.setTreeAdaptor(new ChespelTreeAdaptor());
+        return parser;
+    }
+
+    private static ChespelCompiler compiler(String source) throws Exception {
+        return compiler(source, new ErrorStack("benchmark"));
+    }
+
+    private static ChespelCompiler compiler(String source, ErrorStack errors) throws Exception {
+        ChespelParser parser = parser(source);
+        ChespelTree t = (ChespelTree) parser.prog().getTree();
+        if (parser.getNumberOfSyntaxErrors() > 0) throw new CompileException("syntax errors");
+        ChespelCompiler compiler = new ChespelCompiler(t, errors, outfile);
+        compiler.parseConfigOptions();
+        return compiler;
+    }
+
+    private static final Stage[] stages = {
+        new Stage("lexer") {
+            Object setup(String source) { return source; }
+            void run(Object input) {
+                ChespelLexer lex = new ChespelLexer(new ANTLRStringStream((String) input));
+                new CommonTokenStream(lex).fill();
+            }
+        },
+        new Stage("parser") {
+            Object setup(String source) {
+                ChespelParser parser = parser(source);
+                ((CommonTokenStream) parser.getTokenStream()).fill();
+                return parser;
+            }
+            void run(Object input) throws Exception { ((ChespelParser) input).prog(); }
+        },
+        new Stage("semanticAnalysis") {
+            Object setup(String source) throws Exception { return compiler(source); }
+            void run(Object input) { ((ChespelCompiler) input).semanticAnalysis(); }
+        },
+        new Stage("inferEmptyArrayType") {
+            Object setup(String source) throws Exception {
+                ChespelCompiler compiler = compiler(source);
+                compiler.semanticAnalysis();
+                return compiler;
+            }
+            void run(Object input) { ((ChespelCompiler) input).inferEmptyArrayType(); }
+        },
+        new Stage("codeTranslation") {
+            Object setup(String source) throws Exception {
+                ChespelCompiler compiler = compiler(source);
+                compiler.semanticAnalysis();
+                compiler.inferEmptyArrayType();
+                return compiler;
+            }
+            void run(Object input) throws Exception { ((ChespelCompiler) input).codeTranslation(discard); }
+        },
+        new Stage("codeTranslation -O") {
+            Object setup(String source) throws Exception {
+                ChespelCompiler compiler = compiler(source);
+                compiler.semanticAnalysis();
+                compiler.inferEmptyArrayType();
+                compiler.optimizationPass();
+                return compiler;
+            }
+            void run(Object input) throws Exception { ((ChespelCompiler) input).codeTranslation(discard); }
+        }
+    };
+
+    /* Result of an iteration */
+    private static class Measure {
+        long ops = 0;
+        long nanos = 0;
+        long bytes = 0;
+    }
+
+    private static Measure iteration(Stage stage, String source) throws Exception {
+        Measure m = new Measure();
+        long thread = Thread.currentThread().getId();
+        long end = System.nanoTime() + iteration_time * 1000000;
+        while (m.ops == 0 || System.nanoTime() < end) {
+            Object input = stage.setup(source);
+            long bytes = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            stage.run(input);
+            m.nanos += System.nanoTime() - start;
+            m.bytes += threads.getThreadAllocatedBytes(thread) - bytes;
+            ++m.ops;
+        }
+        return m;
+    }
+
+    private static void benchmark(String program, String source) throws Exception {
+        // check the program before measuring it
+        ErrorStack errors = new ErrorStack(program);
+        compiler(source, errors).semanticAnalysis();
+        if (errors.hasErrors()) throw new CompileException("semantic errors");
+        System.out.println(program + " (" + source.length() + " chars)");
+        for (Stage stage : stages) {
+            for (int i = 0; i < warmup; ++i) iteration(stage, source);
+            double[] throughput = new double[iterations];
+            double mean = 0, bytes = 0;
+            for (int i = 0; i < iterations; ++i) {
+                Measure m = iteration(stage, source);
+                throughput[i] = m.ops * 1e9 / m.nanos;
+                mean += throughput[i] / iterations;
+                bytes += (double) m.bytes / m.ops / iterations;
+            }
+            double error = 0;
+            for (double t : throughput) error = Math.max(error, Math.abs(t - mean));
+            System.out.println(String.format("    %-20s %12.3f +- %9.3f ops/s %14.0f B/op", stage.name, mean, error, bytes));
+        }
+    }
+
+    private static String read(String file) throws IOException {
+        StringBuilder source = new StringBuilder();
+        Reader in = new BufferedReader(new FileReader(file));
+        try {
+            char[] buf = new char[4096];
+            int n;
+            while ((n = in.read(buf)) > 0) source.append(buf, 0, n);
+        } finally {
+            in.close();
+        }
+        return source.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        ArrayList<String> programs = new ArrayList<String>();
+        ArrayList<String> sources = new ArrayList<String>();
+        try {
+            for (int i = 0; i < args.length; ++i) {
+                if (args[i].equals("-warmup")) warmup = Integer.parseInt(args[++i]);
+                else if (args[i].equals("-iterations")) iterations = Integer.parseInt(args[++i]);
+                else if (args[i].equals("-time")) iteration_time = Long.parseLong(args[++i]);
+                else if (args[i].equals("-synthetic")) {
+                    int n = Integer.parseInt(args[++i]);
+                    programs.add("synthetic " + n);
+                    sources.add(ProgramGenerator.generate(n));
+                }
+                else {
+                    programs.add(args[i]);
+                    sources.add(read(args[i]));
+                }
+            }
+        } catch (RuntimeException e) {
+            programs.clear();
+        }
+        if (programs.isEmpty()) {
+            System.err.println("Usage: StageBenchmark [-warmup n] [-iterations n] [-time ms] [-synthetic n | file.chp]...");
+            System.exit(1);
+        }
+        System.out.println("Warmup: " + warmup + " iterations, measure: " + iterations + " iterations of " + iteration_time + " ms");
+        for (int i = 0; i < programs.size(); ++i) {
+            try {
+                benchmark(programs.get(i), sources.get(i));
+            } catch (CompileException e) {
+                System.out.println(programs.get(i) + ": not compiled (" + e.getMessage() + ")");
+            }
+        }
+    }
+}
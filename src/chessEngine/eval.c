@@ -319,22 +319,90 @@ long int end_eval_tables (void) {
   }
 }
 
+void init_eval (void) {
+
+  /* initialize the globals of the generated eval which do not depend on
+     the position, so that they are not rebuilt at every call to eval(): */
+  static_preamble ();
+  init_attack_tables ();
+
+  /* allocate the eval cache and the pawn hash.  Their sizes in MB are given
+     by the config options eval_cache_mb and pawn_hash_mb of the Chespel
+     program, and 0 disables them: */
+  eval_table = init_eval_hash (_eval_cache_mb, &eval_hash_mask, "eval cache");
+  pawn_table = init_eval_hash (_pawn_hash_mb, &pawn_hash_mask, "pawn hash");
+
+}
+
 long int eval (void) {
-  long int score = 0;
-  /* select the appropriate eval() routine: */
-  if (piece_count > 11) {
-    if (_default_PStables) score = score + opn_eval_tables();
-    score = score + (opn_eval() / _centipawn_value);
-    return score;
+
+  /* evaluate the position exactly (the window can't be left): */
+  return (eval_lazy (-INF, INF));
+
+}
+
+long int eval_lazy (long int alpha, long int beta) {
+
+  /* evaluate the position, but the generated eval may stop as soon as the
+     score is known to be out of the (alpha, beta) window.  Then the score
+     returned is only a bound, so it isn't stored in the eval cache: */
+
+  long int score = 0, tables = 0;
+  s_int phase;
+  eval_hash_s *eval_p = NULL;
+  d_long key;
+
+  if (piece_count > 11)
+    phase = opn_phase;
+  else if (piece_count < 5)
+    phase = end_phase;
+  else
+    phase = mid_phase;
+
+  /* look the position up in the eval cache.  The phase is checked as well,
+     since piece_count is not updated on promotions.  The eval command needs
+     the rules to be run to show their traces, so it skips the cache: */
+  if (eval_table != NULL && !eval_debug) {
+    key = cur_pos;
+    cxor (&key, castled_h_values[white_castled]);
+    cxor (&key, castled_h_values[black_castled]);
+    eval_p = eval_table + (eval_hash_mask & key.x1);
+    if (eval_p->hash.x1 == key.x1 && eval_p->hash.x2 == key.x2 &&
+	eval_p->phase == phase)
+      return eval_p->score;
   }
-  else if (piece_count < 5) {
-    if (_default_PStables) score = score + end_eval_tables();
-    score = score + (end_eval() / _centipawn_value);
-    return score;
+
+  evals++;
+
+  /* select the appropriate eval() routine.  The window is passed in the
+     units of the generated eval, without the score of the tables.  The
+     eval command runs the trace variant, which shows the rules' traces: */
+  lazy_exit = FALSE;
+  if (phase == opn_phase) {
+    if (_default_PStables) tables = opn_eval_tables();
+    if (eval_debug) score = opn_eval_trace();
+    else score = opn_eval_lazy((alpha-tables)*_centipawn_value,
+			       (beta-tables)*_centipawn_value);
+  }
+  else if (phase == end_phase) {
+    if (_default_PStables) tables = end_eval_tables();
+    if (eval_debug) score = end_eval_trace();
+    else score = end_eval_lazy((alpha-tables)*_centipawn_value,
+			       (beta-tables)*_centipawn_value);
   }
   else {
-    if (_default_PStables) score = score + mid_eval_tables();
-    score = score + (mid_eval() / _centipawn_value);
-    return score;
+    if (_default_PStables) tables = mid_eval_tables();
+    if (eval_debug) score = mid_eval_trace();
+    else score = mid_eval_lazy((alpha-tables)*_centipawn_value,
+			       (beta-tables)*_centipawn_value);
+  }
+  score = tables + (score / _centipawn_value);
+
+  /* store the score in the eval cache: */
+  if (eval_p != NULL && !lazy_exit) {
+    eval_p->hash = key;
+    eval_p->score = score;
+    eval_p->phase = phase;
   }
+  return score;
 }
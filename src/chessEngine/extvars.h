@@ -13,12 +13,12 @@ extern int board[144], moved[144], ep_square, white_to_move, wking_loc,
 extern long int nodes, raw_nodes, qnodes, piece_count, killer_scores[PV_BUFF],
   killer_scores2[PV_BUFF], moves_to_tc, min_per_game, inc, time_left,
   opp_time, time_cushion, time_for_move, cur_score, start_piece_count,
-  last_root_score;
+  last_root_score, evals;
 
 extern cbool xb_mode, captures, searching_pv, post, time_exit, time_failure,
   allow_more_time, bad_root_score;
 
-extern cbool eval_debug;
+extern cbool eval_debug, lazy_exit;
 
 extern move_s pv[PV_BUFF][PV_BUFF], dummy, killer1[PV_BUFF], killer2[PV_BUFF],
   killer3[PV_BUFF];
@@ -27,8 +27,19 @@ extern rtime_t start_time;
 
 extern d_long h_values[14][144], ep_h_values[144], wck_h_values[2],
   wcq_h_values[2], bck_h_values[2], bcq_h_values[2], color_h_values[2],
-  cur_pos, rep_history[PV_BUFF];
+  cur_pos, rep_history[PV_BUFF], castled_h_values[5],
+  type_pos[7];
 
 extern hash_s *hash_table;
 
-extern unsigned long int hash_mask, hash_max_mb;
+extern eval_hash_s *eval_table, *pawn_table;
+
+extern plist_s piece_lists[14];
+
+extern bitboard piece_bbs[14], square_bb[144], file_bb[9], adj_files_bb[9],
+  center_bb, expanded_center_bb;
+
+extern int plist_type[14];
+
+extern unsigned long int hash_mask, hash_max_mb, eval_hash_mask,
+  pawn_hash_mask;
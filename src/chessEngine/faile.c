@@ -19,12 +19,12 @@ int board[144], moved[144], ep_square, white_to_move, wking_loc,
 long int nodes, raw_nodes, qnodes, piece_count, killer_scores[PV_BUFF],
   killer_scores2[PV_BUFF], moves_to_tc, min_per_game, inc, time_left,
   opp_time, time_cushion, time_for_move, cur_score, start_piece_count,
-  last_root_score;
+  last_root_score, evals;
 
 cbool xb_mode, captures, searching_pv, post, time_exit, time_failure,
   allow_more_time, bad_root_score;
 
-cbool eval_debug;
+cbool eval_debug, lazy_exit;
 
 move_s pv[PV_BUFF][PV_BUFF], killer1[PV_BUFF], killer2[PV_BUFF],
  killer3[PV_BUFF];
@@ -33,11 +33,19 @@ rtime_t start_time;
 
 d_long h_values[14][144], ep_h_values[144], wck_h_values[2], wcq_h_values[2],
   bck_h_values[2], bcq_h_values[2], color_h_values[2], cur_pos, 
-  rep_history[PV_BUFF];
+  rep_history[PV_BUFF], castled_h_values[5], type_pos[7];
 
 hash_s *hash_table;
 
-unsigned long int hash_mask, hash_max_mb = 0;
+eval_hash_s *eval_table, *pawn_table;
+
+plist_s piece_lists[14];
+
+bitboard piece_bbs[14], square_bb[144], file_bb[9], adj_files_bb[9],
+  center_bb, expanded_center_bb;
+
+unsigned long int hash_mask, hash_max_mb = 0, eval_hash_mask,
+  pawn_hash_mask;
 
 
 int main (int argc, char *argv[]) {
@@ -53,9 +61,11 @@ int main (int argc, char *argv[]) {
   parse_cmdline (argc, argv);
   start_up ();
   init_hash_values ();
+  init_bitboards ();
   init_hash_tables ();
   init_game ();
   init_book ();
+  init_eval ();
   xb_mode = FALSE;
   force_mode = FALSE;
   comp_color = 0;
@@ -205,12 +215,22 @@ int main (int argc, char *argv[]) {
       	printf("=== Result: %ld ===\n", eval_result);
       	eval_debug = FALSE;
       }
+      else if (!strcmp (input, "profile")) {
+	print_profile ();
+      }
       else if (!strcmp (input, "quit") || !strcmp (input, "exit")) {
 		shut_down (EXIT_SUCCESS);
       }
       else if (!strcmp (input, "diagram") || !strcmp (input, "d")) {
 	toggle_bool (&show_board);
       }
+      else if (!strncmp (input, "bench", 5)) {
+	depth = BENCH_DEPTH;
+	sscanf (input+5, "%d", &depth);
+	bench (depth);
+	force_mode = FALSE;
+	comp_color = 0;
+      }
       else if (!strncmp (input, "perft", 5)) {
 	sscanf (input+6, "%d", &depth);
 	raw_nodes = 0;
@@ -298,6 +318,9 @@ int main (int argc, char *argv[]) {
       }
       else if (!strcmp (input, "help")) {
 	printf ("\n%s\n\n", divider);
+	printf ("bench <x>: search and evaluate a fixed set of positions\n");
+	printf ("           to depth x (default %d), and start a new game\n",
+		BENCH_DEPTH);
 	printf ("diagram/d: toggle diagram display\n");
 	printf ("exit/quit: terminate Faile\n");
 	printf ("go:        make Faile play the side to move\n");
@@ -311,6 +334,8 @@ int main (int argc, char *argv[]) {
 	printf ("nps:       outputs Faile's NPS in search\n");
 	printf ("perft <x>: compute raw nodes to depth x\n");
 	printf ("post:      toggles thinking output\n");
+	printf ("profile:   time spent in each rule since the last profile\n");
+	printf ("           (programs compiled with profile = true)\n");
 	printf ("xboard:    put Faile into xboard mode\n");
 	printf ("\n%s\n\n", divider);
       }
@@ -70,6 +70,22 @@ extern struct timeval tv;
 #define draw_by_rep    5
 
 /* hash flags: */
+/* board features that the rules may read, for the eval caches (the bits of
+   the piece types follow their order in the piece lists): */
+#define f_pawns    1
+#define f_bishops  2
+#define f_rooks    4
+#define f_knights  8
+#define f_kings    16
+#define f_queens   32
+#define f_castled  64
+
+/* game phases (the eval function is selected by the phase): */
+#define no_phase   0
+#define opn_phase  1
+#define mid_phase  2
+#define end_phase  3
+
 #define no_info    0
 #define avoid_null 1
 #define exact      2
@@ -79,6 +95,8 @@ extern struct timeval tv;
 #define rank(square) ((((square)-26)/12)+1)
 #define file(square) ((((square)-26)%12)+1)
 
+#define PLIST_MAX 16
+
 typedef unsigned char s_int;
 typedef s_int cbool;
 
@@ -105,8 +123,26 @@ typedef struct {
   s_int flag;
 } hash_s;
 
+typedef struct {
+  d_long hash;
+  long int score;
+  s_int phase;
+} eval_hash_s;
+
 typedef enum {p_none, p_pawn, p_K, p_Q, p_R, p_N, p_B} piece_t;
 
+/* a set of squares, one bit per square of the board (a1 is bit 0, b1 bit 1,
+   ..., h8 bit 63): */
+typedef unsigned long long int bitboard;
+
+/* list of the squares of the pieces of a given color and type, sorted by
+   piece number (see piece_lists[]): */
+typedef struct {
+  int sq[PLIST_MAX];
+  int num[PLIST_MAX];
+  int count;
+} plist_s;
+
 #ifndef ANSI
 typedef struct timeb rtime_t;
 #else
@@ -119,6 +155,8 @@ typedef time_t rtime_t;
 #define PV_BUFF 1000
 #define HASH_MB 8
 #define MAX_B_PLY 40
+#define BENCH_DEPTH 5
+#define BENCH_EVALS 20000
 
 #endif
 
@@ -3,7 +3,6 @@
 
 #include <vector>
 #include <string>
-#include <iostream>
 #include "faile.h"
 #include "extvars.h"
 #include "protos.h"
@@ -11,9 +10,20 @@
 // Declaration of config options and main eval_generated function
 extern const int _centipawn_value;
 extern const bool _default_PStables;
+extern const int _eval_cache_mb;
+extern const int _pawn_hash_mb;
 
 // Required functions for evaluation
+extern void static_preamble();
+extern void clear_rule_stamps();
 extern long int opn_eval();
 extern long int mid_eval(); 
 extern long int end_eval();
+extern long int opn_eval_lazy(long int alpha, long int beta);
+extern long int mid_eval_lazy(long int alpha, long int beta);
+extern long int end_eval_lazy(long int alpha, long int beta);
+// Evals of the eval command, which print the traces of the rules (config option debug)
+extern long int opn_eval_trace();
+extern long int mid_eval_trace();
+extern long int end_eval_trace();
 #endif
@@ -6,6 +6,7 @@
 #include "faile.h"
 #include "extvars.h"
 #include "protos.h"
+#include "generated_eval.h"
 #include "rand.h"
 
 
@@ -40,6 +41,23 @@ d_long compute_hash (void) {
 }
 
 
+void clear_hash_tables (void) {
+
+  /* clear every entry of the hash tables, so that a search doesn't depend on
+     the searches before it (refresh_hash () keeps the hash moves): */
+
+  memset (hash_table, 0, (hash_mask+1)*sizeof (hash_s));
+  if (eval_table != NULL)
+    memset (eval_table, 0, (eval_hash_mask+1)*sizeof (eval_hash_s));
+  if (pawn_table != NULL)
+    memset (pawn_table, 0, (pawn_hash_mask+1)*sizeof (eval_hash_s));
+
+  /* and the scores of the rules of an incremental eval: */
+  clear_rule_stamps ();
+
+}
+
+
 void hash_to_pv (int depth) {
 
   /* try to extract the PV from hash info */
@@ -114,6 +132,43 @@ void init_hash_tables (void) {
 }
 
 
+eval_hash_s *init_eval_hash (long int size_mb, unsigned long int *mask,
+			    const char *name) {
+
+  /* allocate one of the tables of eval scores (the eval cache or the pawn
+     hash).  The size in MB comes from a Chespel config option, so it is in
+     thousandths as every Chespel number; a size of 0 disables the table: */
+
+  int i = 1;
+  unsigned long int max_entries = 1, element_size = sizeof (eval_hash_s),
+    max_bytes;
+  eval_hash_s *table;
+
+  if (size_mb <= 0)
+    return NULL;
+  max_bytes = ((unsigned long int) size_mb << 20) / 1000;
+
+  /* compute the maximum number of entries, based upon size desired: */
+  while (max_entries * element_size <= max_bytes>>1) {
+    max_entries = 1 << i++;
+  }
+  *mask = max_entries-1;
+
+  if ((table = (eval_hash_s*) malloc (max_entries*element_size)) == NULL) {
+    fprintf (stderr, "Couldn't allocate memory for the %s!\n", name);
+    shut_down (EXIT_FAILURE);
+  }
+  printf ("%lu %s entries * %lu bytes/entry = %lu kb of RAM\n",
+	  max_entries, name, element_size, (max_entries*element_size)>>10);
+
+  /* clear the table (no_phase marks empty entries): */
+  memset (table, 0, max_entries*element_size);
+
+  return (table);
+
+}
+
+
 void init_hash_values (void) {
 
   /* this function sets the hash value tables for the various pieces, as well
@@ -163,6 +218,15 @@ void init_hash_values (void) {
   color_h_values[1].x1 = rand_32 ();
   color_h_values[1].x2 = rand_32 ();
 
+  /* set the hash values for castling done (they are not part of the
+     position's hash, but the eval may depend on them): */
+  castled_h_values[no_castle].x1 = 0;
+  castled_h_values[no_castle].x2 = 0;
+  for (j = 1; j <= 4; j++) {
+    castled_h_values[j].x1 = rand_32 ();
+    castled_h_values[j].x2 = rand_32 ();
+  }
+
 }
 
 
@@ -285,3 +349,77 @@ void cxor (d_long *a, d_long b) {
   a->x2 ^= b.x2;
 
 }
+
+
+cbool probe_pawn_hash (s_int phase, long int *score) {
+
+  /* look for the score of the pawn structure rules in the pawn hash.  The
+     eval command runs all the rules to show their traces, without it: */
+
+  eval_hash_s *pawn_p;
+  d_long key;
+
+  if (pawn_table == NULL)
+    return FALSE;
+
+  key = features_hash (f_pawns);
+  pawn_p = pawn_table + (pawn_hash_mask & key.x1);
+  if (pawn_p->hash.x1 == key.x1 && pawn_p->hash.x2 == key.x2 &&
+      pawn_p->phase == phase) {
+    *score = pawn_p->score;
+    return TRUE;
+  }
+
+  return FALSE;
+
+}
+
+
+void store_pawn_hash (s_int phase, long int score) {
+
+  /* store the score of the pawn structure rules in the pawn hash */
+
+  eval_hash_s *pawn_p;
+  d_long key;
+
+  if (pawn_table == NULL)
+    return;
+
+  key = features_hash (f_pawns);
+  pawn_p = pawn_table + (pawn_hash_mask & key.x1);
+  pawn_p->hash = key;
+  pawn_p->score = score;
+  pawn_p->phase = phase;
+
+}
+
+
+d_long features_hash (int features) {
+
+  /* compute the hash key of the board features (f_* flags) read by some
+     rules.  SELF is the side to move, so it is always part of the key: */
+
+  d_long key = color_h_values[white_to_move];
+  int i;
+
+  for (i = 1; i <= 6; i++) {
+    if (features & (1 << (i-1)))
+      cxor (&key, type_pos[i]);
+  }
+  if (features & f_castled) {
+    cxor (&key, castled_h_values[white_castled]);
+    cxor (&key, castled_h_values[black_castled]);
+  }
+
+  return (key);
+
+}
+
+
+void update_type_hash (int piece, int square) {
+
+  /* add or remove a piece from the hash key of its type */
+
+  cxor (&type_pos[plist_type[piece]/2], h_values[piece][square]);
+
+}
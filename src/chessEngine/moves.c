@@ -8,6 +8,13 @@
 #include "extvars.h"
 #include "protos.h"
 
+/* index in piece_lists[] of the type list of each piece.  The lists are
+   laid out as 2*type + color (white 0, black 1), where type 0 holds all
+   the pieces of a color, and then pawns, bishops, rooks, knights, kings and
+   queens: */
+int plist_type[14] = {-1, 2, 3, 8, 9, 10, 11, 6, 7, 12, 13, 4, 5, -1};
+
+
 cbool check_legal (move_s moves[], int m) {
 
   /* determines if a move made was legal.  Checks to see if the player who
@@ -295,6 +302,62 @@ cbool in_check (void) {
 }
 
 
+void init_bitboards (void) {
+
+  /* set the bitboard of each square, and the masks of the files and the
+     center read by the predefined functions of the eval */
+
+  int i;
+
+  memset (square_bb, 0, sizeof (square_bb));
+  memset (file_bb, 0, sizeof (file_bb));
+  center_bb = 0;
+  expanded_center_bb = 0;
+
+  for (i = 26; i < 118; i++) {
+    if (file (i) > 8)
+      continue;
+    square_bb[i] = (bitboard) 1 << ((rank (i)-1)*8 + file (i)-1);
+    file_bb[file (i)] |= square_bb[i];
+    if (rank (i) >= 4 && rank (i) <= 5 && file (i) >= 4 && file (i) <= 5)
+      center_bb |= square_bb[i];
+    if (rank (i) >= 3 && rank (i) <= 6 && file (i) >= 3 && file (i) <= 6)
+      expanded_center_bb |= square_bb[i];
+  }
+
+  for (i = 1; i <= 8; i++) {
+    adj_files_bb[i] = 0;
+    if (i > 1) adj_files_bb[i] |= file_bb[i-1];
+    if (i < 8) adj_files_bb[i] |= file_bb[i+1];
+  }
+
+}
+
+
+void init_piece_lists (void) {
+
+  /* build the piece lists from the pieces[] array (and with them, the
+     hash keys and the bitboards of each piece type) */
+
+  int i;
+
+  for (i = 0; i < 14; i++) {
+    piece_lists[i].count = 0;
+    piece_bbs[i] = 0;
+  }
+  for (i = 1; i <= 6; i++) {
+    type_pos[i].x1 = 0;
+    type_pos[i].x2 = 0;
+  }
+
+  for (i = 1; i <= num_pieces; i++) {
+    if (pieces[i])
+      plist_add (board[pieces[i]], pieces[i], i);
+  }
+
+}
+
+
 cbool is_attacked (int square, int color) {
 
   /* this function will return TRUE if square "square" is attacked by a piece
@@ -435,6 +498,12 @@ void make (move_s moves[], int i) {
   squares[target] = squares[from];
   squares[from] = 0;
 
+  /* update the piece lists the same way (promotions are handled later): */
+  if (board[target] != npiece)
+    plist_remove (board[target], target);
+  if (!promoted)
+    plist_move (board[from], from, target);
+
   /* update the piece count for determining opening/middlegame/endgame stage */
   switch (board[target]) {
     case (npiece): break;
@@ -451,6 +520,8 @@ void make (move_s moves[], int i) {
     if (promoted) {
       cxor (&cur_pos, h_values[board[from]][target]);
       cxor (&cur_pos, h_values[promoted][target]);
+      plist_remove (board[from], from);
+      plist_add (promoted, target, squares[target]);
       board[target] = promoted;
       board[from] = npiece;
       moved[target]++;
@@ -472,6 +543,7 @@ void make (move_s moves[], int i) {
       moves[i].cap_num = squares[target-12];
       pieces[squares[target-12]] = 0;
       squares[target-12] = 0;
+      plist_remove (bpawn, target-12);
       return;
     }
 
@@ -497,6 +569,8 @@ void make (move_s moves[], int i) {
     if (promoted) {
       cxor (&cur_pos, h_values[board[from]][target]);
       cxor (&cur_pos, h_values[promoted][target]);
+      plist_remove (board[from], from);
+      plist_add (promoted, target, squares[target]);
       board[target] = promoted;
       board[from] = npiece;
       moved[target]++;
@@ -518,6 +592,7 @@ void make (move_s moves[], int i) {
       moves[i].cap_num = squares[target+12];
       pieces[squares[target+12]] = 0;
       squares[target+12] = 0;
+      plist_remove (wpawn, target+12);
       return;
     }
 
@@ -600,6 +675,7 @@ void make (move_s moves[], int i) {
       pieces[squares[33]] = 31;
       squares[31] = squares[33];
       squares[33] = 0;
+      plist_move (wrook, 33, 31);
       return;
     }
 
@@ -615,6 +691,7 @@ void make (move_s moves[], int i) {
       pieces[squares[26]] = 29;
       squares[29] = squares[26];
       squares[26] = 0;
+      plist_move (wrook, 26, 29);
       return;
     }
 
@@ -654,6 +731,7 @@ void make (move_s moves[], int i) {
       pieces[squares[117]] = 115;
       squares[115] = squares[117];
       squares[117] = 0;
+      plist_move (brook, 117, 115);
       return;
     }
 
@@ -669,6 +747,7 @@ void make (move_s moves[], int i) {
       pieces[squares[110]] = 113;
       squares[113] = squares[110];
       squares[110] = 0;
+      plist_move (brook, 110, 113);
       return;
     }
 
@@ -677,6 +756,91 @@ void make (move_s moves[], int i) {
 }
 
 
+void plist_insert (plist_s *list, int square, int num) {
+
+  /* insert a square in a piece list, keeping it sorted by piece number */
+
+  int i;
+
+  for (i = list->count; i > 0 && list->num[i-1] > num; i--) {
+    list->sq[i] = list->sq[i-1];
+    list->num[i] = list->num[i-1];
+  }
+  list->sq[i] = square;
+  list->num[i] = num;
+  list->count++;
+
+}
+
+
+void plist_delete (plist_s *list, int square) {
+
+  /* delete a square from a piece list */
+
+  int i;
+
+  for (i = 0; list->sq[i] != square; i++);
+  for (list->count--; i < list->count; i++) {
+    list->sq[i] = list->sq[i+1];
+    list->num[i] = list->num[i+1];
+  }
+
+}
+
+
+void plist_add (int piece, int square, int num) {
+
+  /* add a piece to the list and the bitboard of its color, and to the ones
+     of its type */
+
+  plist_insert (&piece_lists[1 - piece%2], square, num);
+  plist_insert (&piece_lists[plist_type[piece]], square, num);
+  piece_bbs[1 - piece%2] ^= square_bb[square];
+  piece_bbs[plist_type[piece]] ^= square_bb[square];
+  update_type_hash (piece, square);
+
+}
+
+
+void plist_move (int piece, int from, int target) {
+
+  /* move a piece in its lists and bitboards (its piece number, and so its
+     position in the lists, doesn't change) */
+
+  int i;
+  plist_s *list;
+
+  list = &piece_lists[1 - piece%2];
+  for (i = 0; list->sq[i] != from; i++);
+  list->sq[i] = target;
+
+  list = &piece_lists[plist_type[piece]];
+  for (i = 0; list->sq[i] != from; i++);
+  list->sq[i] = target;
+
+  piece_bbs[1 - piece%2] ^= square_bb[from] | square_bb[target];
+  piece_bbs[plist_type[piece]] ^= square_bb[from] | square_bb[target];
+
+  update_type_hash (piece, from);
+  update_type_hash (piece, target);
+
+}
+
+
+void plist_remove (int piece, int square) {
+
+  /* remove a piece from the list and the bitboard of its color, and from the
+     ones of its type */
+
+  plist_delete (&piece_lists[1 - piece%2], square);
+  plist_delete (&piece_lists[plist_type[piece]], square);
+  piece_bbs[1 - piece%2] ^= square_bb[square];
+  piece_bbs[plist_type[piece]] ^= square_bb[square];
+  update_type_hash (piece, square);
+
+}
+
+
 void push_king (move_s moves[], int *num_moves, int from, int target, 
 		int castle_type) {
 
@@ -985,6 +1149,18 @@ void unmake (move_s moves[], int i) {
   pieces[squares[target]] = target;
   pieces[squares[from]] = from;
 
+  /* update the piece lists the same way (en passant captures are handled
+     later): */
+  if (promoted) {
+    plist_remove (promoted, target);
+    plist_add (promoted%2 ? wpawn : bpawn, from, squares[from]);
+  }
+  else {
+    plist_move (board[target], target, from);
+  }
+  if (captured != npiece && !ep)
+    plist_add (captured, target, moves[i].cap_num);
+
   /* update the piece count for determining opening/middlegame/endgame stage */
   switch (captured) {
     case (npiece): break;
@@ -1009,6 +1185,7 @@ void unmake (move_s moves[], int i) {
       squares[target-12] = moves[i].cap_num;
       pieces[moves[i].cap_num] = target-12;
       squares[target] = 0;
+      plist_add (bpawn, target-12, moves[i].cap_num);
       return;
     }
 
@@ -1036,6 +1213,7 @@ void unmake (move_s moves[], int i) {
       squares[target+12] = moves[i].cap_num;
       pieces[moves[i].cap_num] = target+12;
       squares[target] = 0;
+      plist_add (wpawn, target+12, moves[i].cap_num);
       return;
     }
 
@@ -1104,6 +1282,7 @@ void unmake (move_s moves[], int i) {
       squares[33] = squares[31];
       squares[31] = 0;
       pieces[squares[33]] = 33;
+      plist_move (wrook, 31, 33);
       return;
     }
 
@@ -1117,6 +1296,7 @@ void unmake (move_s moves[], int i) {
       squares[26] = squares[29];
       squares[29] = 0;
       pieces[squares[26]] = 26;
+      plist_move (wrook, 29, 26);
       return;
     }
 
@@ -1146,6 +1326,7 @@ void unmake (move_s moves[], int i) {
       squares[117] = squares[115];
       squares[115] = 0;
       pieces[squares[117]] = 117;
+      plist_move (brook, 115, 117);
       return;
     }
 
@@ -1159,6 +1340,7 @@ void unmake (move_s moves[], int i) {
       squares[110] = squares[113];
       squares[113] = 0;
       pieces[squares[110]] = 110;
+      plist_move (brook, 113, 110);
       return;
     }
 
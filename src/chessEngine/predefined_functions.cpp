@@ -1,99 +1,33 @@
+#include <algorithm>
 #include "predefined_functions.h"
 #include "generated_eval.h"
 #include "predefined_functions.tcc"
 using namespace std;
 
-#define WHITE 1
-#define BLACK 0
-#define SELF (inverted_players ? 0 : 1)
-#define RIVAL (inverted_players ? 1 : 0)
-
 // -------------------------------------------------------------------- //
 //  ** Auxiliar functions (not directly called by chp)                  //
 // -------------------------------------------------------------------- //
 
-bool inverted_players;
-vector<vector<int> > pieces_mem; // pair white, odd black
+// Number of the current eval, which tells the results computed for the position
+// being evaluated from those of other positions
+unsigned long int eval_stamp = 1;
 
-void invert_players() {
-    inverted_players ^= true;
-}
-
-bool are_players_inverted() {
-    return inverted_players;
-}
+// Pieces of each color attacking each square, computed the first time they are
+// asked for in an eval
+static plist_s attack_map[144][2];
+static unsigned long int attack_stamp[144][2];
 
 void reset() {
-    inverted_players = false;
-    pieces_mem = vector<vector<int> > (14, vector<int>());
-    for (int j = 1; j <= num_pieces; ++j) {
-        int i = pieces[j];
-        if (i == 0) continue; // no piece in cell -> dead piece
-        switch (board[i]) {
-            case wpawn:
-                pieces_mem[0].push_back(i); // white piece
-                pieces_mem[2].push_back(i); // white pawn
-                break;
-            case bpawn:
-                pieces_mem[1].push_back(i); // black piece
-                pieces_mem[3].push_back(i); // black pawn
-                break;
-            case wbishop:
-                pieces_mem[0].push_back(i); // white piece
-                pieces_mem[4].push_back(i); // and so on...
-                break;
-            case bbishop:
-                pieces_mem[1].push_back(i); 
-                pieces_mem[5].push_back(i); 
-                break;
-            case wrook:
-                pieces_mem[0].push_back(i); 
-                pieces_mem[6].push_back(i); 
-                break;
-            case brook:
-                pieces_mem[1].push_back(i); 
-                pieces_mem[7].push_back(i); 
-                break;
-            case wknight:
-                pieces_mem[0].push_back(i); 
-                pieces_mem[8].push_back(i); 
-                break;
-            case bknight:
-                pieces_mem[1].push_back(i); 
-                pieces_mem[9].push_back(i); 
-                break;
-            case wking:
-                pieces_mem[0].push_back(i); 
-                pieces_mem[10].push_back(i);
-                break;
-            case bking:
-                pieces_mem[1].push_back(i); 
-                pieces_mem[11].push_back(i);
-                break;
-            case wqueen:
-                pieces_mem[0].push_back(i); 
-                pieces_mem[12].push_back(i);
-                break;
-            case bqueen:
-                pieces_mem[1].push_back(i); 
-                pieces_mem[13].push_back(i);
-                break;
-        }
-    }
+    // the piece lists are kept up to date by make() and unmake(), and the
+    // perspective of the players is fixed at compile time. Only the attack
+    // map and the memoized results belong to the position being evaluated
+    ++eval_stamp;
 }
 
-int self() { return SELF; }
-int rival() { return RIVAL; }
-
 int color(int player) {
-    if (inverted_players) { // inverted player
-        if (player == SELF) return (white_to_move == TRUE ? BLACK : WHITE);
-        else return (white_to_move == TRUE ? WHITE : BLACK);
-    } 
-    else { // normal configuration
-        if (player == SELF) return (white_to_move == TRUE ? WHITE : BLACK);
-        else return (white_to_move == TRUE ? BLACK : WHITE);
-    }
+    // the side to move is always player 1 (see self() and rival())
+    if (player == 1) return (white_to_move == TRUE ? WHITE : BLACK);
+    return (white_to_move == TRUE ? BLACK : WHITE);
 }
 
 int pieceColor(int piece) {
@@ -131,137 +65,207 @@ int to_cell (int r, int f) {
     return (r+1) * 12 + f + 1;
 }
 
-int incr_operation(int object, int incr, string type) {
+int incr_operation(int object, int incr, cell_tag) {
     incr /= 1000; // Rescale the value
-    if (type == "CELL") {
-        int r = rank (object);
-        int f = file (object);
-        f += incr;
-        while (f < 1) { f += 8; --r; }
-        while (f > 8) { f -= 8; ++r; }
-        int c = to_cell(r, f);
-        check_valid_cell(c);
-        return c;
-    }
-    check_valid_file(object + incr); // all do the same
+    int r = rank (object);
+    int f = file (object);
+    f += incr;
+    while (f < 1) { f += 8; --r; }
+    while (f > 8) { f -= 8; ++r; }
+    int c = to_cell(r, f);
+    check_valid_cell(c);
+    return c;
+}
+
+int incr_operation(int object, int incr, row_tag) {
+    incr /= 1000;
+    check_valid_row(object + incr);
     return object + incr;
 }
 
-int arith_operation(int o0, int o1, char op, string type) {
-    if (type == "CELL") {
-        int r0 = rank (o0) - 1;
-        int f0 = file (o0) - 1;
-        int r1 = rank (o1) - 1;
-        int f1 = file (o1) - 1;
-        int f, r;
-        if (op == '+') {
-            f = f0 + f1;
-            r = r0 + r1;
-            if (f > 7) { f-=8; ++r; }
-        }
-        else {
-            f = f0 - f1;
-            r = r0 - r1;
-            if (f < 0) { f+=8; --r; }
+int incr_operation(int object, int incr, rank_tag) {
+    incr /= 1000;
+    check_valid_rank(object + incr);
+    return object + incr;
+}
+
+int incr_operation(int object, int incr, file_tag) {
+    incr /= 1000;
+    check_valid_file(object + incr);
+    return object + incr;
+}
+
+int arith_operation(int o0, int o1, char op, cell_tag) {
+    int r0 = rank (o0) - 1;
+    int f0 = file (o0) - 1;
+    int r1 = rank (o1) - 1;
+    int f1 = file (o1) - 1;
+    int f, r;
+    if (op == '+') {
+        f = f0 + f1;
+        r = r0 + r1;
+        if (f > 7) { f-=8; ++r; }
+    }
+    else {
+        f = f0 - f1;
+        r = r0 - r1;
+        if (f < 0) { f+=8; --r; }
 
-        }
-        return (r*8+f)*1000;
     }
-    return (o0 + (op == '+' ? o1 : (-o1)))*1000;
+    return (r*8+f)*1000;
 }
 
-string string_concat(string s0, string s1, bool first_string, string type) { return s0 + s1; }
+// rows, ranks and files are all coded from 1 to 8
+int arith_operation(int o0, int o1, char op, row_tag) { return (o0 + (op == '+' ? o1 : (-o1)))*1000; }
 
-string to_string(bool x, string type) { return (x ? "true" : "false"); }
+int arith_operation(int o0, int o1, char op, rank_tag) { return (o0 + (op == '+' ? o1 : (-o1)))*1000; }
 
-string to_string(string x, string type) { return x; }
+int arith_operation(int o0, int o1, char op, file_tag) { return (o0 + (op == '+' ? o1 : (-o1)))*1000; }
 
-string to_string(int x, string type) {
-    if (type ==  "NUM") {
-        char buff[40];
-        char buff2[4];
-        float y = (float)x/1000.0;
-        int aux = y;
-        if (aux == y) {
-            sprintf(buff, "%d", aux);
-            return string(buff);
-        }
-        sprintf(buff, "%d", x/1000);
-        sprintf(buff2, "%03d", x%1000);
-        return string(buff) + "." + string(buff2);
-    }
-    else if (type == "PIECE") {
-        string cell = to_string(x, "CELL");
-        string piece;
-        switch (board[x]) {
-            case wpawn:
-                piece = "wP";
-                break;
-            case wbishop:
-                piece = "wB";
-                break;
-            case wknight:
-                piece = "wN";
-                break;
-            case wrook:
-                piece = "wR";
-                break;
-            case wking:
-                piece = "wK";
-                break;
-            case wqueen:
-                piece = "wQ";
-                break;
-            case bpawn:
-                piece = "bP";
-                break;
-            case bbishop:
-                piece = "bB";
-                break;
-            case bknight:
-                piece = "bN";
-                break;
-            case brook:
-                piece = "bR";
-                break;
-            case bking:
-                piece = "bK";
-                break;
-            case bqueen:
-                piece = "bQ";
-                break;
-        }
-        return piece + cell;
-    }
-    else if (type == "CELL") {
-        char str[3] = { file(x)-1 + 'a', rank(x) + '0', 0 }; 
-        return string(str) ;
-    }
-    else if (type == "ROW") {
-        return "$" + string(1, x+'0');
-    }
-    else if (type == "RANK") {
-        return "$r" + string(1, x+'0');
-    }
-    else if (type == "FILE") {
-        return "$" + string(1, x-1 +'a');
+string to_string(bool x, bool_tag) { return (x ? "true" : "false"); }
+
+string to_string(const string &x, string_tag) { return x; }
+
+string to_string(int x, num_tag) {
+    char buff[40];
+    char buff2[4];
+    float y = (float)x/1000.0;
+    int aux = y;
+    if (aux == y) {
+        sprintf(buff, "%d", aux);
+        return string(buff);
     }
-    else { // PLAYER
-        return (x == self() ? "SELF" : "RIVAL");
+    sprintf(buff, "%d", x/1000);
+    sprintf(buff2, "%03d", x%1000);
+    return string(buff) + "." + string(buff2);
+}
+
+string to_string(int x, piece_tag) {
+    string cell = to_string(x, cell_tag());
+    string piece;
+    switch (board[x]) {
+        case wpawn:
+            piece = "wP";
+            break;
+        case wbishop:
+            piece = "wB";
+            break;
+        case wknight:
+            piece = "wN";
+            break;
+        case wrook:
+            piece = "wR";
+            break;
+        case wking:
+            piece = "wK";
+            break;
+        case wqueen:
+            piece = "wQ";
+            break;
+        case bpawn:
+            piece = "bP";
+            break;
+        case bbishop:
+            piece = "bB";
+            break;
+        case bknight:
+            piece = "bN";
+            break;
+        case brook:
+            piece = "bR";
+            break;
+        case bking:
+            piece = "bK";
+            break;
+        case bqueen:
+            piece = "bQ";
+            break;
     }
+    return piece + cell;
+}
+
+string to_string(int x, cell_tag) {
+    char str[3] = { file(x)-1 + 'a', rank(x) + '0', 0 }; 
+    return string(str) ;
 }
 
+string to_string(int x, row_tag) { return "$" + string(1, x+'0'); }
+
+string to_string(int x, rank_tag) { return "$r" + string(1, x+'0'); }
+
+string to_string(int x, file_tag) { return "$" + string(1, x-1 +'a'); }
+
+// players depend on the perspective, see to_string<INV>
+
 int rev_rank[9] = {
 0,8,7,6,5,4,3,2,1};
 
-vector<int> get_pieces(int player, int type) {
-    int piece_code = type*2 + (color(player) == WHITE ? 0 : 1); // mem_table is coded like 'type'
-    return pieces_mem[piece_code];
+piece_list get_pieces(int player, int type) {
+    int piece_code = type*2 + (color(player) == WHITE ? 0 : 1); // piece_lists is coded like 'type'
+    return piece_list(piece_lists[piece_code]);
+}
+
+// Whether the rules left, which change the score by 'bound' at most, can't bring it back
+// into the (alpha, beta) window. If so, the score becomes the bound of the final score
+bool lazy_cutoff(long int &score, long int bound, long int alpha, long int beta) {
+    if (score + bound < alpha) score += bound;
+    else if (score - bound > beta) score -= bound;
+    else return false;
+    lazy_exit = TRUE;
+    return true;
+}
+
+// Runs a rule only if some board feature it reads changed since its last run,
+// otherwise its last score is reused. The eval command runs the rules without it
+void incremental_rule(rule_stamp &stamp, int features, void (*rule)(long int &), long int &score) {
+    d_long key = features_hash(features);
+    if (stamp.valid and stamp.key.x1 == key.x1 and stamp.key.x2 == key.x2) {
+        score += stamp.score;
+        return;
+    }
+    long int rule_score = 0;
+    rule(rule_score);
+    stamp.key = key;
+    stamp.score = rule_score;
+    stamp.valid = true;
+    score += rule_score;
 }
 
-bool eq_rankrow (int rank, int row) {
-    if (color(SELF) == WHITE) return rank == row;
-    return rev_rank[rank] == row;
+// Counters of the profile, in the order they were created
+static prof_counter *prof_counters = NULL;
+
+prof_counter::prof_counter(const char *name, bool eval) :
+    name(name), eval(eval), calls(0), nanos(0), next(prof_counters) {
+    prof_counters = this;
+}
+
+static bool prof_greater(const prof_counter *c0, const prof_counter *c1) {
+    return c0->nanos > c1->nanos;
+}
+
+// Prints the calls and time of every counter since the last profile, from the
+// most expensive, and resets them
+void print_profile() {
+    if (prof_counters == NULL) {
+        printf("No profile: compile the program with the config option profile = true\n");
+        return;
+    }
+    vector<prof_counter *> counters;
+    unsigned long long int eval_nanos = 0;
+    for (prof_counter *c = prof_counters; c != NULL; c = c->next) {
+        counters.push_back(c);
+        if (c->eval) eval_nanos += c->nanos;
+    }
+    sort(counters.begin(), counters.end(), prof_greater);
+    printf("%-40s %12s %12s %10s %8s\n", "", "calls", "total ms", "ns/call", "% eval");
+    for (int i = 0; i < (int) counters.size(); ++i) {
+        prof_counter *c = counters[i];
+        printf("%-40s %12lu %12.3f %10.0f %8.2f\n", c->name, c->calls, c->nanos / 1e6,
+            (c->calls == 0 ? 0.0 : (double) c->nanos / c->calls),
+            (eval_nanos == 0 ? 0.0 : 100.0 * c->nanos / eval_nanos));
+        c->calls = 0;
+        c->nanos = 0;
+    }
 }
 
 // -------------------------------------------------------------------- //
@@ -296,11 +300,6 @@ int func_cell(int piece) {
     return piece;
 }
 
-int func_rank(int piece){
-    // If white, it's the same as row, if black, reverse it
-    return (color(SELF) == WHITE ? rank(piece) : rev_rank[rank(piece)]);
-}
-
 int func_row(int piece) {
     return rank (piece); // in reality is the row
 }
@@ -309,25 +308,6 @@ int func_file(int piece) {
     return file (piece) ;
 }
 
-int func_player(int piece) {
-    switch (board[piece]) {
-        case wpawn:
-        case wbishop:
-        case wrook:
-        case wknight:
-        case wking:
-        case wqueen:
-            return (color(SELF) == WHITE ? SELF : RIVAL);
-        case bpawn:
-        case bbishop:
-        case brook:
-        case bknight:
-        case bking:
-        case bqueen:
-            return (color(SELF) == BLACK ? SELF : RIVAL);
-    }
-}
-
 int func_piece(int cell) {
     return cell;
 }
@@ -345,162 +325,91 @@ int func_startingRow(int piece) { // wouldn't be better startingRank and/or conv
     
 }
 
-int func_toRank(int row) {
-    if (color(SELF) == WHITE) return row;
-    else return rev_rank[row];
-}
-
-vector<int> attackedBy(int square, int col) {
-
- /* this function will return a list with the squares of all the pieces
-    of color 'color' that could attack an enemy piece in the square
-    'square' */
- vector<int> res = vector<int>(0);
-
- int rook_o[4] = {12, -12, 1, -1};
- int bishop_o[4] = {11, -11, 13, -13};
- int knight_o[8] = {10, -10, 14, -14, 23, -23, 25, -25};
- int a_sq, i;
-
- /* white attacker: */
- if (col == WHITE) {
-   /* rook-style moves: */
-   for (i = 0; i < 4; i++) {
-     a_sq = square + rook_o[i];
-     /* the king can attack from one square away: */
-     if (board[a_sq] == wking) res.push_back(a_sq);
-     /* otherwise, check for sliding pieces: */
-     while (board[a_sq] != frame) {
-       if (board[a_sq] == wrook || board[a_sq] == wqueen) res.push_back(a_sq);
-       if (board[a_sq] != npiece) break;
-       a_sq += rook_o [i];
-     }
-   }
-
-   /* bishop-style moves: */
-   for (i = 0; i < 4; i++) {
-     a_sq = square + bishop_o[i];
-     /* check for pawn attacks: */
-     if (board[a_sq] == wpawn && i%2) res.push_back(a_sq);
-     /* the king can attack from one square away: */
-     if (board[a_sq] == wking) res.push_back(a_sq);
-     while (board[a_sq] != frame) {
-   if (board[a_sq] == wbishop || board[a_sq] == wqueen) res.push_back(a_sq);
-   if (board[a_sq] != npiece) break;
-   a_sq += bishop_o [i];
-     }
-   }
-
-   /* knight-style moves: */
-   for (i = 0; i < 8; i++) {
-     a_sq = square + knight_o[i];
-     if (board[a_sq] == wknight) res.push_back(a_sq);
-   }
-
-   return res;
-
- }
-
- /* black attacker: */
- else {
-   /* rook-style moves: */
-   for (i = 0; i < 4; i++) {
-     a_sq = square + rook_o[i];
-     /* the king can attack from one square away: */
-     if (board[a_sq] == bking) res.push_back(a_sq);
-     /* otherwise, check for sliding pieces: */
-     while (board[a_sq] != frame) {
-   if (board[a_sq] == brook || board[a_sq] == bqueen) res.push_back(a_sq);
-   if (board[a_sq] != npiece) break;
-   a_sq += rook_o [i];
-     }
-   }
-
-   /* bishop-style moves: */
-   for (i = 0; i < 4; i++) {
-     a_sq = square + bishop_o[i];
-     /* check for pawn attacks: */
-     if (board[a_sq] == bpawn && !(i%2)) res.push_back(a_sq);
-     /* the king can attack from one square away: */
-     if (board[a_sq] == bking) res.push_back(a_sq);
-     while (board[a_sq] != frame) {
-       if (board[a_sq] == bbishop || board[a_sq] == bqueen) res.push_back(a_sq);
-       if (board[a_sq] != npiece) break;
-       a_sq += bishop_o [i];
-     }
-   }
-
-   /* knight-style moves: */
-   for (i = 0; i < 8; i++) {
-     a_sq = square + knight_o[i];
-     if (board[a_sq] == bknight) res.push_back(a_sq);
-   }
-
-   return res;
-
- }
-}
-
-
-std::vector<int> func_coveredBy(int piece) {
- int col = pieceColor(piece);
- return attackedBy(piece, col);
-}
-
-std::vector<int> func_attackedBy(int piece) {
- int col = pieceColor(piece);
- col = (col+1)%2;
- return attackedBy(piece, col);
+// Squares of the board along each direction from every square (the four rook
+// directions first, then the four bishop ones), and the squares a knight
+// jumps to. Set once by init_attack_tables()
+static const int ray_o[8] = {12, -12, 1, -1, 11, -11, 13, -13};
+static const int knight_o[8] = {10, -10, 14, -14, 23, -23, 25, -25};
+static int rays[144][8][7];
+static int ray_len[144][8];
+static int knight_sqs[144][8];
+static int knight_len[144];
+
+void init_attack_tables() {
+    for (int sq = 26; sq < 118; ++sq) {
+        if (board[sq] == frame) continue;
+        for (int d = 0; d < 8; ++d) {
+            ray_len[sq][d] = 0;
+            for (int a_sq = sq + ray_o[d]; board[a_sq] != frame; a_sq += ray_o[d])
+                rays[sq][d][ray_len[sq][d]++] = a_sq;
+        }
+        knight_len[sq] = 0;
+        for (int i = 0; i < 8; ++i) {
+            if (board[sq + knight_o[i]] != frame) knight_sqs[sq][knight_len[sq]++] = sq + knight_o[i];
+        }
+    }
 }
 
-bool func_isIsolated(int pawn) {
-    int f = file(pawn);
-    int col = pieceColor(pawn);
-    if (col == WHITE) {
-        for (int i = 0; i < (int) pieces_mem[2].size(); i++) {
-            int p = pieces_mem[2][i];
-            if (file(p) == f-1 or file(p) == f+1) return false;
+/* this function will return a list with the squares of all the pieces
+   of color 'col' that could attack an enemy piece in the square
+   'square' (rook-style attackers, bishop-style ones, then knights) */
+piece_list attackedBy(int square, int col) {
+    plist_s &res = attack_map[square][col];
+    if (attack_stamp[square][col] == eval_stamp) return piece_list(res);
+    attack_stamp[square][col] = eval_stamp;
+    res.count = 0;
+
+    int pawn = (col == WHITE ? wpawn : bpawn);
+    int king = (col == WHITE ? wking : bking);
+    int queen = (col == WHITE ? wqueen : bqueen);
+    int knight = (col == WHITE ? wknight : bknight);
+    for (int d = 0; d < 8; ++d) {
+        if (ray_len[square][d] == 0) continue;
+        int slider = (d < 4 ? (col == WHITE ? wrook : brook) : (col == WHITE ? wbishop : bbishop));
+        int a_sq = rays[square][d][0];
+        // pawns attack from one square away, diagonally from behind
+        if (board[a_sq] == pawn && d >= 4 && (d%2 == 1) == (col == WHITE)) res.sq[res.count++] = a_sq;
+        // the king can attack from one square away
+        if (board[a_sq] == king) res.sq[res.count++] = a_sq;
+        // otherwise, check for sliding pieces
+        for (int i = 0; i < ray_len[square][d]; ++i) {
+            a_sq = rays[square][d][i];
+            if (board[a_sq] == slider || board[a_sq] == queen) res.sq[res.count++] = a_sq;
+            if (board[a_sq] != npiece) break;
         }
-        return true;
     }
-    else {
-         for (int i = 0; i < (int) pieces_mem[3].size(); i++) {
-            int p = pieces_mem[3][i];
-            if (file(p) == f-1 or file(p) == f+1) return false;
-        }
-        return true;       
+    for (int i = 0; i < knight_len[square]; ++i) {
+        if (board[knight_sqs[square][i]] == knight) res.sq[res.count++] = knight_sqs[square][i];
     }
+    return piece_list(res);
+}
+
+
+piece_list func_coveredBy(int piece) {
+    int col = pieceColor(piece);
+    return attackedBy(piece, col);
+}
+
+piece_list func_attackedBy(int piece) {
+    int col = pieceColor(piece);
+    col = (col+1)%2;
+    return attackedBy(piece, col);
+}
+
+// The pawn structure and the files are read from the bitboards of the pawns
+// (piece_bbs[2] for white, piece_bbs[3] for black, as in piece_lists)
+
+bool func_isIsolated(int pawn) {
+    bitboard own = piece_bbs[pieceColor(pawn) == WHITE ? 2 : 3];
+    return (own & adj_files_bb[file(pawn)]) == 0;
 }
 
 bool func_isOpen(int file) {
-    for (int i = 0; i < (int) pieces_mem[2].size(); i++) {
-        int p = pieces_mem[2][i];
-        if (file(p) == file) return false;
-    }
-    for (int i = 0; i < (int) pieces_mem[3].size(); i++) {
-        int p = pieces_mem[3][i];
-        if (file(p) == file) return false;
-    }
-    return true;
+    return ((piece_bbs[2] | piece_bbs[3]) & file_bb[file]) == 0;
 }
 
 bool func_isHalfOpen(int file) {
-    int pawnNum = 0;
-    for (int i = 0; i < (int) pieces_mem[2].size(); i++) {
-        int p = pieces_mem[2][i];
-        if (file(p) == file) {
-            ++pawnNum;
-            break;
-        }
-    }
-    for (int i = 0; i < (int) pieces_mem[3].size(); i++) {
-        int p = pieces_mem[3][i];
-        if (file(p) == file) {
-            ++pawnNum;
-            break;
-        }
-    }
-    return pawnNum == 1;
+    return ((piece_bbs[2] & file_bb[file]) == 0) != ((piece_bbs[3] & file_bb[file]) == 0);
 }
 
 int func_king(int player) {
@@ -509,27 +418,8 @@ int func_king(int player) {
 }
 
 bool func_isDoubled(int pawn) {
-    int f = file(pawn);
-    int col = pieceColor(pawn);
-    if (col == WHITE) {
-        for (int i = 0; i < (int) pieces_mem[2].size(); i++) {
-            int p = pieces_mem[2][i];
-            if (p != pawn and file(p) == f) return true;
-        }
-        return false;
-    }
-    else {
-        for (int i = 0; i < (int) pieces_mem[3].size(); i++) {
-            int p = pieces_mem[3][i];
-            if (p != pawn and file(p) == f) return true;
-        }
-        return false;     
-    }
-}
-
-int func_toRow(int rank) {
-    if (color(SELF) == WHITE) return rank;
-    else return rev_rank[rank];
+    bitboard own = piece_bbs[pieceColor(pawn) == WHITE ? 2 : 3];
+    return (own & file_bb[file(pawn)] & ~square_bb[pawn]) != 0;
 }
 
 vector<int> cells() {
@@ -639,33 +529,47 @@ vector<int> get_rang_rank(int rank1, int rank2) {
 }
 
 bool func_inCenter(int cell) {
-    return cell == 65 || cell == 66 || cell == 77 || cell == 78;
+    return (center_bb & square_bb[cell]) != 0;
 }
 
 bool func_inExpandedCenter(int cell) {
-    return (cell >= 52 && cell <= 55) ||
-            (cell >= 64 && cell <= 67) ||
-            (cell >= 76 && cell <= 79) ||
-            (cell >= 88 && cell <= 91);
+    return (expanded_center_bb & square_bb[cell]) != 0;
 }
 
-int func_startingRank(int piece) {
-    switch (board[piece]) {
-        case wpawn:
-            return (color(SELF) == WHITE ? 2 : 7);
-        case wbishop:
-        case wrook:
-        case wknight:
-        case wking:
-        case wqueen:
-            return (color(SELF) == WHITE ? 1 : 8);
-        case bpawn:
-            return (color(SELF) == WHITE ? 7 : 2);
-        case bbishop:
-        case brook:
-        case bknight:
-        case bking:
-        case bqueen:
-            return (color(SELF) == WHITE ? 8 : 1);
-    }    
+
+// -------------------------------------------------------------------- //
+//  ** Array functions for piece lists                                  //
+// -------------------------------------------------------------------- //
+
+int func_len(const piece_list &l) { return l.size() * 1000; }
+
+bool in_expr(int elem, const piece_list &l) {
+    for (piece_list::const_iterator it = l.begin(); it != l.end(); ++it) { if (elem == *it) return true; }
+    return false;
+}
+
+bool array_equality(const piece_list &l0, const piece_list &l1) {
+    return l0.size() == l1.size() && equal(l0.begin(), l0.end(), l1.begin());
+}
+
+bool array_equality(const piece_list &l0, const vector<int> &v1) {
+    return l0.size() == (int) v1.size() && equal(l0.begin(), l0.end(), v1.begin());
+}
+
+bool array_equality(const vector<int> &v0, const piece_list &l1) { return array_equality(l1, v0); }
+
+int access_array(const piece_list &l, int pos) { return l[pos/1000]; }
+
+vector<int> concat(const piece_list &l0, const piece_list &l1) {
+    vector<int> result = vector<int>(l0);
+    result.insert(result.end(), l1.begin(), l1.end());
+    return result;
+}
+
+vector<int> concat(const piece_list &l0, const vector<int> &v1) { return concat(vector<int>(l0), v1); }
+
+vector<int> concat(const vector<int> &v0, const piece_list &l1) {
+    vector<int> result = vector<int>(v0);
+    result.insert(result.end(), l1.begin(), l1.end());
+    return result;
 }
@@ -3,29 +3,129 @@
 
 #include <vector>
 #include <string>
+#include <algorithm>
 #include <stdexcept>
+#include <time.h>
 #include "faile.h"
 #include "extvars.h"
 #include "protos.h"
 
+#define WHITE 1
+#define BLACK 0
+
+// Read-only view of one of the piece lists kept by the engine (see plist_s)
+class piece_list {
+public:
+    typedef const int * const_iterator;
+    piece_list(const plist_s &list) : first(list.sq), n(list.count) {}
+    const_iterator begin() const { return first; }
+    const_iterator end() const { return first + n; }
+    int size() const { return n; }
+    int operator[](int i) const { return first[i]; }
+    operator std::vector<int>() const { return std::vector<int>(first, first + n); }
+private:
+    const int *first;
+    int n;
+};
+
+// Score of a rule at its last run, and the hash key of the board features it read
+struct rule_stamp {
+    d_long key;
+    long int score;
+    bool valid;
+};
+
+// Calls and time spent in a rule, a function or an eval (config option profile).
+// The counters register themselves in a list, printed by the profile command
+struct prof_counter {
+    const char *name;
+    bool eval;
+    unsigned long int calls;
+    unsigned long long int nanos;
+    prof_counter *next;
+    prof_counter(const char *name, bool eval = false);
+};
+
+inline unsigned long long int prof_clock() {
+    timespec t;
+    clock_gettime(CLOCK_MONOTONIC, &t);
+    return t.tv_sec * 1000000000ULL + t.tv_nsec;
+}
+
+// Counts a call, and its time until the end of the scope (including the calls it makes)
+class prof_timer {
+public:
+    prof_timer(prof_counter &c) : counter(c), start(prof_clock()) { ++c.calls; }
+    ~prof_timer() { counter.nanos += prof_clock() - start; }
+private:
+    prof_counter &counter;
+    unsigned long long int start;
+};
+
+// Number of the current eval (see reset())
+extern unsigned long int eval_stamp;
+
+// Results of a memoized function (config option memoize) in the current eval,
+// keyed by its N arguments. Each arguments map to one entry, which keeps the
+// last result stored in it until reset() starts a new eval
+template<typename T, int N>
+class memo_table {
+public:
+    memo_table() { for (int i = 0; i < SIZE; ++i) entries[i].stamp = 0; }
+    const T *find(const int (&args)[N]) const {
+        const entry &e = entries[slot(args)];
+        if (e.stamp != eval_stamp || !std::equal(args, args + N, e.args)) return NULL;
+        return &e.value;
+    }
+    const T &store(const int (&args)[N], const T &value) {
+        entry &e = entries[slot(args)];
+        e.stamp = eval_stamp;
+        std::copy(args, args + N, e.args);
+        e.value = value;
+        return e.value;
+    }
+private:
+    enum { SIZE = 64 };
+    struct entry {
+        unsigned long int stamp;
+        int args[N];
+        T value;
+    };
+    entry entries[SIZE];
+    static int slot(const int (&args)[N]) {
+        unsigned int h = 0;
+        for (int i = 0; i < N; ++i) h = (h ^ args[i]) * 2654435761u;
+        return (h >> 16) % SIZE;
+    }
+};
+
+// Types of chp, passed as tags so that the overloads that depend on them are
+// chosen at compile time
+struct num_tag {};
+struct bool_tag {};
+struct string_tag {};
+struct piece_tag {};
+struct cell_tag {};
+struct row_tag {};
+struct rank_tag {};
+struct file_tag {};
+struct player_tag {};
+template<typename T>
+struct array_tag {};
+
 // Predefined functions
 extern int func_value (int piece);
 extern int func_cell(int piece);
-extern int func_rank (int piece);
 extern int func_row (int piece);
 extern int func_file (int piece);
-extern int func_player (int piece);
 extern int func_piece (int cell);
 extern bool func_castled (int player);
 extern int func_startingRow(int piece);
 extern bool func_check(int player);
-extern int func_toRank(int row);
-extern int func_toRow(int rank);
-extern std::vector<int> func_coveredBy(int piece);
-extern std::vector<int> func_attackedBy(int piece);
+extern piece_list func_coveredBy(int piece);
+extern piece_list func_attackedBy(int piece);
 extern bool func_inCenter(int cell);
 extern bool func_inExpandedCenter(int cell); 
-extern int func_startingRank(int piece);
 extern bool func_isIsolated(int pawn);
 extern bool func_isOpen(int file);
 extern bool func_isHalfOpen(int file);
@@ -34,7 +134,9 @@ extern bool func_isDoubled(int pawn);
 
 // Auxiliar functions
 extern void reset();
-extern bool are_players_inverted();
+extern int color(int player);
+extern int pieceColor(int piece);
+extern int rev_rank[9];
 extern int get_file(char file);
 extern int get_row(int row); 
 extern int get_rank(int rank); 
@@ -43,38 +145,83 @@ extern std::vector<int> get_rang_cell(std::string cell1, std::string cell2);
 extern std::vector<int> get_rang_row(int row1, int row2); 
 extern std::vector<int> get_rang_file(int file1, int file2); 
 extern std::vector<int> get_rang_rank(int rank1, int rank2); 
-extern void invert_players(); 
-extern int self(); 
-extern int rival(); 
 extern std::vector<int> cells(); 
 extern std::vector<int> rows(); 
 extern std::vector<int> files(); 
 extern std::vector<int> ranks(); 
-extern std::vector<int> get_pieces(int player, int type); 
-extern std::string string_concat(std::string s0, std::string s1, bool string_first, std::string type);
-extern std::string to_string(int x, std::string type);
-extern std::string to_string(std::string s, std::string type);
-extern std::string to_string(bool x, std::string type);
-extern int incr_operation(int object, int incr, std::string type);
-extern int arith_operation(int o0, int o1, char op, std::string type);
-extern bool eq_rankrow (int rank, int row);
+extern piece_list get_pieces(int player, int type); 
+extern std::string to_string(int x, num_tag);
+extern std::string to_string(int x, piece_tag);
+extern std::string to_string(int x, cell_tag);
+extern std::string to_string(int x, row_tag);
+extern std::string to_string(int x, rank_tag);
+extern std::string to_string(int x, file_tag);
+extern std::string to_string(bool x, bool_tag);
+extern std::string to_string(const std::string &s, string_tag);
+extern int incr_operation(int object, int incr, cell_tag);
+extern int incr_operation(int object, int incr, row_tag);
+extern int incr_operation(int object, int incr, rank_tag);
+extern int incr_operation(int object, int incr, file_tag);
+extern int arith_operation(int o0, int o1, char op, cell_tag);
+extern int arith_operation(int o0, int o1, char op, row_tag);
+extern int arith_operation(int o0, int o1, char op, rank_tag);
+extern int arith_operation(int o0, int o1, char op, file_tag);
+extern bool lazy_cutoff(long int &score, long int bound, long int alpha, long int beta);
+extern void incremental_rule(rule_stamp &stamp, int features, void (*rule)(long int &), long int &score);
+
+// Overloads of the array functions for piece lists
+extern int func_len(const piece_list &l);
+extern bool in_expr(int elem, const piece_list &l);
+extern bool array_equality(const piece_list &l0, const piece_list &l1);
+extern bool array_equality(const piece_list &l0, const std::vector<int> &v1);
+extern bool array_equality(const std::vector<int> &v0, const piece_list &l1);
+extern int access_array(const piece_list &l, int pos);
+extern std::vector<int> concat(const piece_list &l0, const piece_list &l1);
+extern std::vector<int> concat(const piece_list &l0, const std::vector<int> &v1);
+extern std::vector<int> concat(const std::vector<int> &v0, const piece_list &l1);
 
 // Templated functions (implementation at predefined_functions.tcc)
 // Predefined
 template<typename T>
 extern inline int func_len(const std::vector<T> &v);
 
+// Predefined functions which depend on the perspective of the players. INV is
+// true when the rules are evaluated for the rival (second pass of sym rules)
+template<bool INV>
+extern int func_rank(int piece);
+template<bool INV>
+extern int func_player(int piece);
+template<bool INV>
+extern int func_startingRank(int piece);
+template<bool INV>
+extern int func_toRank(int row);
+template<bool INV>
+extern int func_toRow(int rank);
+
 // Auxiliar
+template<bool INV>
+extern inline int self();
+template<bool INV>
+extern inline int rival();
+template<bool INV>
+extern bool eq_rankrow(int rank, int row);
+template<bool INV, typename T, typename Tag>
+extern std::string to_string(const T &x, Tag type);
+template<bool INV>
+extern std::string to_string(int x, player_tag);
+template<bool INV, typename Tag>
+extern std::string to_string(const piece_list &l, array_tag<Tag>);
+template<bool INV, typename T, typename Tag>
+extern std::string to_string(const std::vector<T> &v, array_tag<Tag>);
+template<bool INV, typename T, typename Tag>
+extern std::string string_concat(const std::string &s0, const T &s1, bool string_first, Tag type); 
 template<typename T>
-extern std::string string_concat(std::string s0, T s1, bool string_first, std::string type); 
-template<typename T>
-extern std::string to_string(std::vector<T> v, std::string type);
-template<typename T>
-extern bool in_expr(T elem, std::vector<T> list);
+extern bool in_expr(const T &elem, const std::vector<T> &list);
 template<typename T>
-extern inline bool array_equality(std::vector<T> v0, std::vector<T> v1);
+extern inline bool array_equality(const std::vector<T> &v0, const std::vector<T> &v1);
 template<typename T> 
-extern inline T access_array(std::vector<T> arr, int pos);
+extern inline const T & access_array(const std::vector<T> &arr, int pos);
+extern inline bool access_array(const std::vector<bool> &arr, int pos);
 template<typename T>
 extern std::vector<T> concat(const std::vector<T> &v0, const std::vector<T> &v1);
 
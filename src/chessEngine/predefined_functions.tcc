@@ -9,16 +9,19 @@ template<typename T>
 int inline func_len(const std::vector<T> &v) { return v.size() * 1000; }
 
 template<typename T>
-bool in_expr(T elem, vector<T> list) {
+bool in_expr(const T &elem, const vector<T> &list) {
     for (int i = 0; i < list.size(); ++i) { if (elem == list[i]) return true; }
     return false;
 }
 
 template<typename T>
-inline bool array_equality(vector<T> v0, vector<T> v1) { return v0 == v1; }
+inline bool array_equality(const vector<T> &v0, const vector<T> &v1) { return v0 == v1; }
 
 template<typename T>
-inline T access_array(vector<T> arr, int pos) { return arr[pos/1000]; }
+inline const T & access_array(const vector<T> &arr, int pos) { return arr[pos/1000]; }
+
+// vector<bool> does not hold its elements as bools, so return them by value
+inline bool access_array(const vector<bool> &arr, int pos) { return arr[pos/1000]; }
 
 template<typename T>
 vector<T> concat(const vector<T> & v0, const vector<T> & v1) {
@@ -29,21 +32,74 @@ vector<T> concat(const vector<T> & v0, const vector<T> & v1) {
     return result;
 }
 
-template<typename T>
-string string_concat(string s0, T s1, bool string_first, string type) {
-    if (string_first) return s0 + to_string(s1,type);
-    return to_string(s1,type) + s0;
+// Players are coded as 1 for the side to move and 0 for the other side, so
+// only the perspective decides which of them is self
+template<bool INV>
+inline int self() { return INV ? 0 : 1; }
+
+template<bool INV>
+inline int rival() { return INV ? 1 : 0; }
+
+template<bool INV>
+int func_rank(int piece) {
+    // If white, it's the same as row, if black, reverse it
+    return (color(self<INV>()) == WHITE ? rank(piece) : rev_rank[rank(piece)]);
 }
 
-template<typename T>
-string to_string (vector<T> v, string type) {
-    string new_type = type.substr(1, type.size()-2 );
+template<bool INV>
+int func_player(int piece) {
+    return (pieceColor(piece) == color(self<INV>()) ? self<INV>() : rival<INV>());
+}
+
+template<bool INV>
+int func_startingRank(int piece) {
+    bool own = (pieceColor(piece) == color(self<INV>()));
+    if (board[piece] == wpawn or board[piece] == bpawn) return (own ? 2 : 7);
+    return (own ? 1 : 8);
+}
+
+template<bool INV>
+int func_toRank(int row) {
+    if (color(self<INV>()) == WHITE) return row;
+    else return rev_rank[row];
+}
+
+template<bool INV>
+int func_toRow(int rank) {
+    if (color(self<INV>()) == WHITE) return rank;
+    else return rev_rank[rank];
+}
+
+template<bool INV>
+bool eq_rankrow(int rank, int row) {
+    if (color(self<INV>()) == WHITE) return rank == row;
+    return rev_rank[rank] == row;
+}
+
+// Only players depend on the perspective, the rest of types are printed the same
+template<bool INV, typename T, typename Tag>
+string to_string(const T &x, Tag type) { return to_string(x, type); }
+
+template<bool INV>
+string to_string(int x, player_tag) { return (x == self<INV>() ? "SELF" : "RIVAL"); }
+
+template<bool INV, typename Tag>
+string to_string(const piece_list &l, array_tag<Tag> type) { return to_string<INV>(vector<int>(l), type); }
+
+template<bool INV, typename T, typename Tag>
+string string_concat(const string &s0, const T &s1, bool string_first, Tag type) {
+    if (string_first) return s0 + to_string<INV>(s1,type);
+    return to_string<INV>(s1,type) + s0;
+}
+
+template<bool INV, typename T, typename Tag>
+string to_string (const vector<T> &v, array_tag<Tag>) {
     string result = "[";
-    typename vector<T>::iterator it = v.begin();
+    typename vector<T>::const_iterator it = v.begin();
     if (it != v.end()) // not empty
         while (true) {
             T value = *it;
-            result += to_string(value, new_type);
+            result += to_string<INV>(value, Tag());
             ++it;
             if (it == v.end()) break;
             result += ", ";
@@ -7,23 +7,33 @@
 #define PROTOSX_H
 
 long int allocate_time (void);
+void bench (int depth);
 int bioskey (void);
 move_s book_move (void);
 cbool check_legal (move_s moves[], int m);
 long int chk_hash (int alpha, int beta, int depth, int *type, move_s *move);
+void clear_hash_tables (void);
 void comp_to_coord (move_s move, char str[]);
 d_long compute_hash (void);
 void display_board (FILE *stream, int color);
 void hash_to_pv (int depth);
 long int end_eval (void);
 long int eval (void);
+long int eval_lazy (long int alpha, long int beta);
+d_long features_hash (int features);
 void gen (move_s moves[], int *num_moves);
 void ics_game_end (void);
 cbool in_check (void);
+void init_attack_tables (void);
+void init_bitboards (void);
 void init_book (void);
+void init_eval (void);
+eval_hash_s *init_eval_hash (long int size_mb, unsigned long int *mask,
+			    const char *name);
 void init_game (void);
 void init_hash_tables (void);
 void init_hash_values (void);
+void init_piece_lists (void);
 cbool is_attacked (int square, int color);
 cbool is_castle (char c);
 cbool is_column (char c);
@@ -41,12 +51,19 @@ long int opn_eval (void);
 void order_moves (move_s moves[], long int move_ordering[], int num_moves,
 		  move_s *h_move);
 void perft (int depth);
+void plist_add (int piece, int square, int num);
+void plist_delete (plist_s *list, int square);
+void plist_insert (plist_s *list, int square, int num);
+void plist_move (int piece, int from, int target);
+void plist_remove (int piece, int square);
 void parse_cmdline (int argc, char *argv[]);
 void perft_debug (void);
 move_s pgn_to_comp (const char *input);
 cbool possible_move (char *input);
 void post_thinking (long int score);
 void print_move (move_s moves[], int m, FILE *stream);
+void print_profile (void);
+cbool probe_pawn_hash (s_int phase, long int *score);
 void push_king (move_s moves[], int *num_moves, int from, int target, 
 		int castle_type);
 void push_knight (move_s moves[], int *num_moves, int from, int target);
@@ -63,16 +80,19 @@ void rinput (char str[], int n, FILE *stream);
 rtime_t rtime (void);
 long int search (int alpha, int beta, int depth, cbool do_null);
 move_s search_root (int alpha, int beta, int depth);
+cbool set_bench_position (int n);
 void shut_down (int status);
 void show_counter (long int game_count);
 void start_up (void);
 void store_hash (int alpha, int depth, int score, int flag, move_s move);
+void store_pawn_hash (s_int phase, long int score);
 move_s think (void);
 void toggle_bool (cbool *var);
 void tree (int depth, int indent, FILE *output, char *disp_b);
 void tree_debug (void);
 void unmake (move_s moves[], int i);
 void u_killers (move_s move, long int score);
+void update_type_hash (int piece, int square);
 cbool verify_coord (char input[], move_s *move);
 piece_t which_piece (char c);
 void cxor (d_long *a, d_long b);
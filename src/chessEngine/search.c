@@ -7,6 +7,7 @@
 #include "faile.h"
 #include "extvars.h"
 #include "protos.h"
+#include "generated_eval.h"
 
 
 void order_moves (move_s moves[], long int move_ordering[], int num_moves,
@@ -162,9 +163,10 @@ long int qsearch (int alpha, int beta, int depth) {
   cbool legal_move, no_moves;
   d_long temp_hash;
 
-  /* return our score if we're at a leaf node: */
+  /* return our score if we're at a leaf node (only its relation to the
+     window matters, so the eval may stop early): */
   if (!depth) {
-    score = eval ();
+    score = eval_lazy (alpha, beta);
     return score;
   }
 
@@ -173,7 +175,7 @@ long int qsearch (int alpha, int beta, int depth) {
   ep_temp = ep_square;
 
   /* see if our position's score is good enough that we can exit early: */
-  standpat = eval ();
+  standpat = eval_lazy (alpha, beta);
   if (standpat >= beta) {
     return standpat;
   }
@@ -722,6 +724,153 @@ move_s think (void) {
 }
 
 
+/* the positions of the bench command, as the moves (in coordinate notation)
+   that lead to them from the initial position.  They cover the opening, the
+   middlegame and the endgame evals, with each side to move: */
+const char *bench_positions[] = {
+  "",
+  "e2e4 e7e5 g1f3 b8c6 f1b5 a7a6 b5a4 g8f6 e1g1 f8e7 f1e1 b7b5 a4b3 d7d6 "
+  "c2c3 e8g8",
+  "e2e4 c7c5 g1f3 d7d6 d2d4 c5d4 f3d4 g8f6 b1c3 a7a6 c1g5 e7e6 f2f4",
+  "d2d4 d7d5 c2c4 e7e6 b1c3 g8f6 c1g5 f8e7 e2e3 e8g8 g1f3 b8d7 a1c1 c7c6 "
+  "f1d3 d5c4 d3c4",
+  "d2d4 g8f6 c2c4 g7g6 b1c3 f8g7 e2e4 d7d6 g1f3 e8g8 f1e2 e7e5 e1g1 b8c6 "
+  "d4d5 c6e7",
+  "e2e4 e7e5 g1f3 b8c6 d2d4 e5d4 f3d4 g8f6 d4c6 b7c6 f1d3 d7d5 e4d5 c6d5 "
+  "e1g1 f8e7 c1g5 e8g8 g5f6 e7f6 b1c3 c8e6",
+  "e2e4 e7e5 g1f3 b8c6 d2d4 e5d4 f3d4 c6d4 d1d4 d8f6 d4f6 g8f6 c1g5 f8e7 "
+  "g5f6 e7f6 b1c3 f6c3 b2c3 d7d6 f1a6 b7a6 a1b1 a8b8 b1b8",
+  NULL
+};
+
+
+cbool set_bench_position (int n) {
+
+  /* set up the position n of bench_positions, returning FALSE if one of its
+     moves is illegal: */
+
+  char str[STR_BUFF];
+  const char *p = bench_positions[n];
+  move_s move;
+  int len;
+
+  init_game ();
+  while (sscanf (p, "%s%n", str, &len) == 1) {
+    if (!verify_coord (str, &move)) {
+      printf ("Illegal move in bench position %d: %s\n", n+1, str);
+      return FALSE;
+    }
+    make (&move, 0);
+    reset_piece_square ();
+    p += len;
+  }
+
+  return TRUE;
+
+}
+
+
+void bench (int depth) {
+
+  /* search the positions of bench_positions to a fixed depth, then evaluate
+     each of them BENCH_EVALS times.  The hash tables are cleared before each
+     search, so the total number of nodes only changes when the search or the
+     eval do: it is the signature to compare for regressions.  The eval
+     tables are left out of the eval loop, and the scores of the rules of an
+     incremental eval are forgotten before each eval, to measure the eval
+     itself: */
+
+  int i, j, ep_temp, positions = 0;
+  long int total_nodes = 0, total_qnodes = 0, total_evals = 0;
+  double elapsed, search_time = 0, eval_time = 0;
+  clock_t cpu_start;
+  cbool old_post = post;
+  eval_hash_s *old_eval_table = eval_table, *old_pawn_table = pawn_table;
+
+  printf ("\n%s\n", divider);
+  printf ("Bench to depth %d:\n", depth);
+  printf ("pos     nodes    qnodes     evals   time(s)  eval(ns)\n");
+
+  for (i = 0; bench_positions[i] != NULL; i++) {
+    if (!set_bench_position (i))
+      continue;
+    positions++;
+    post = FALSE;
+
+    /* search the position to the fixed depth, as think () would if it had no
+       time limit: */
+    clear_hash_tables ();
+    for (j = 0; j < PV_BUFF; j++) {
+      killer_scores[j] = -INF;
+      killer_scores2[j] = -INF;
+      killer1[j] = dummy;
+      killer2[j] = dummy;
+      killer3[j] = dummy;
+    }
+    memset (history_h, 0, sizeof (history_h));
+    nodes = 0;
+    qnodes = 0;
+    evals = 0;
+    ply = 0;
+    time_for_move = LONG_MAX;
+    start_time = rtime ();
+    cpu_start = clock ();
+    for (i_depth = 1; i_depth <= depth; i_depth++) {
+      ep_temp = ep_square;
+      search_root (-INF, INF, i_depth);
+      ep_square = ep_temp;
+      for (j = 0; j < PV_BUFF; j++) {
+	killer_scores[j] = -INF;
+	killer_scores2[j] = -INF;
+      }
+    }
+    elapsed = (clock ()-cpu_start)/(double) CLOCKS_PER_SEC;
+    total_nodes += nodes;
+    total_qnodes += qnodes;
+    total_evals += evals;
+    search_time += elapsed;
+    printf ("%3d %9ld %9ld %9ld %9.2f", i+1, nodes, qnodes, evals, elapsed);
+
+    /* evaluate the position over and over, without the eval tables nor the
+       last scores of the rules: */
+    eval_table = NULL;
+    pawn_table = NULL;
+    cpu_start = clock ();
+    for (j = 0; j < BENCH_EVALS; j++) {
+      clear_rule_stamps ();
+      eval ();
+    }
+    elapsed = (clock ()-cpu_start)/(double) CLOCKS_PER_SEC;
+    eval_table = old_eval_table;
+    pawn_table = old_pawn_table;
+    eval_time += elapsed;
+    printf (" %9.0f\n", elapsed*1e9/BENCH_EVALS);
+  }
+
+  printf ("%s\n", divider);
+  printf ("Nodes searched: %ld (%0.2f%% qnodes)\n", total_nodes,
+	  total_nodes ? (float) total_qnodes/(float) total_nodes*100.0 : 0.0);
+  printf ("Search time:    %0.2f s\n", search_time);
+  if (search_time > 0) {
+    printf ("NPS:            %ld\n", (long int) (total_nodes/search_time));
+    printf ("Evals/s:        %ld (search)\n",
+	    (long int) (total_evals/search_time));
+  }
+  if (eval_time > 0)
+    printf ("Evals/s:        %ld (eval loop)\n",
+	    (long int) (positions*(double) BENCH_EVALS/eval_time));
+  printf ("%s\n\n", divider);
+
+  /* leave a new game, as the new command does: */
+  post = old_post;
+  nodes = total_nodes;
+  qnodes = total_qnodes;
+  init_game ();
+  clear_hash_tables ();
+
+}
+
+
 void tree (int depth, int indent, FILE *output, char *disp_b) {
 
   move_s moves[MOVE_BUFF];
@@ -622,6 +622,9 @@ void reset_piece_square (void) {
     }
   }
 
+  /* the piece lists are sorted by piece number, so rebuild them: */
+  init_piece_lists ();
+
 }
 
 
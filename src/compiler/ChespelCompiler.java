@@ -30,12 +30,19 @@ package compiler;
 import parser.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Scanner;
+import java.util.TreeSet;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Iterator;
 import java.io.*;
+import org.antlr.runtime.CommonToken;
 
 /** Class that implements the compiler of the language. */
 
@@ -47,14 +54,26 @@ public class ChespelCompiler {
     private LinkedList<ChespelTree> GlobalDefinitions;
 
     private LinkedList<ChespelTree> FunctionDefinitions;
+
+    /* Definitions of each function name, in order of definition (several if it is overloaded) */
+    private HashMap<String, ArrayList<ChespelTree>> function_definitions;
     
     private LinkedList<ChespelTree> RuleDefinitions;
 
     private ChespelTree configOptionsTree;
     private ConfigOptions configOptions;
 
-    private static String outfile = "";
-    private static BufferedWriter writer = null;
+    private String outfile = "";
+    private CodeWriter code = null;
+
+    /** Number of files the functions and rules are split in (0 keeps them in outfile). */
+    private int shards = 0;
+
+    /** Cache of the code generated for the definitions (null if there is none). */
+    private CodeCache cache = null;
+
+    /** Whether the optimization pass is run before the translation. */
+    private boolean optimize = false;
 
     /**
      * Stores the line number of the current statement.
@@ -118,6 +137,26 @@ public class ChespelCompiler {
         this.outfile = outfile;
     }
 
+    /**
+     * Splits the functions and rules in n files besides the main one, so that
+     * only the files whose code changes have to be compiled again.
+     */
+    public void setShards(int n) {
+        shards = n;
+    }
+
+    public void setCache(CodeCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Runs the optimization pass on the typed AST: constant folding,
+     * common subexpressions and loop invariants.
+     */
+    public void setOptimize(boolean b) {
+        optimize = b;
+    }
+
     /*
     Place the subtrees corresponding to globals, functions and rules in separate lists
     */
@@ -125,6 +164,7 @@ public class ChespelCompiler {
         assert T != null && T.getType() == ChespelLexer.LIST_DEF;
         GlobalDefinitions = new LinkedList<ChespelTree>();
         FunctionDefinitions = new LinkedList<ChespelTree>();
+        function_definitions = new HashMap<String, ArrayList<ChespelTree>>();
         RuleDefinitions = new LinkedList<ChespelTree>();
         int n = T.getChildCount();
         for (int i = 0; i < n; ++i) {
@@ -132,6 +172,13 @@ public class ChespelCompiler {
             switch (f.getType()) {
                 case ChespelLexer.FUNCTION_DEF:
                     FunctionDefinitions.addLast(f);
+                    String name = f.getChild(1).getText();
+                    ArrayList<ChespelTree> overloads = function_definitions.get(name);
+                    if (overloads == null) {
+                        overloads = new ArrayList<ChespelTree>();
+                        function_definitions.put(name, overloads);
+                    }
+                    overloads.add(f);
                     break;
                 case ChespelLexer.GLOBAL_DEF:
                     GlobalDefinitions.addLast(f);
@@ -147,10 +194,11 @@ public class ChespelCompiler {
 
     /** Compiles the program by translating the sentences 
       * from Chespel to the C++ class of the chess state evaluation. 
+      * The stages are package-private so that the benchmarks can run
+      * them one by one.
       */
     public void compile() throws CompileException, IOException {
         parseConfigOptions();
-        addPredefinedFunctionsToSymbolTable();
 
         semanticAnalysis();
         if (errors.hasErrors()) throw new CompileException("Compile errors.");
@@ -159,7 +207,7 @@ public class ChespelCompiler {
         // could yield is non-inferible array type in forall statement.
         inferEmptyArrayType();
         if (errors.hasErrors()) throw new CompileException("Compile errors.");
-        if (errors.hasWarnings()) System.err.print(errors.getWarnings());
+        if (optimize) optimizationPass();
         codeTranslation();
     }
 
@@ -168,28 +216,107 @@ public class ChespelCompiler {
 //  ** Functions for writing the compiled code                          //
 // -------------------------------------------------------------------- //
 
-    private void codeTranslation() throws IOException { 
-        // open file and write the code
+    /* Declarations shared by the main file and the shards */
+    private String shared_header;
+
+    void codeTranslation() throws IOException { 
+        String base = prepareTranslation();
+        File tmp = openFile(outfile);
         try {
-            File output_file = new File(outfile);
-            writer = new BufferedWriter(new FileWriter(output_file)); 
             writeCode();
+            closeFile(outfile, tmp);
+            if (shards > 0) {
+                tmp = openFile(shared_header);
+                writeSharedHeader();
+                closeFile(shared_header, tmp);
+            }
+            for (int k = 0; k < shards; ++k) {
+                tmp = openFile(shardName(base, k));
+                writeShard(k);
+                closeFile(shardName(base, k), tmp);
+            }
+        } finally {
+            tmp.delete(); // only left if the translation failed
         }
-        finally {
-            try { writer.close(); } catch (Exception e) {}
-        }
+        // the files left by a previous compilation with more shards
+        for (int k = shards; new File(shardName(base, k)).delete(); ++k);
+        if (shards == 0) new File(shared_header).delete();
+    }
+
+    /*
+    Writes the code of all the files (the main one, then the shared header and
+    the shards) to 'out', without touching the disk: the benchmarks measure the
+    translation alone with it
+    */
+    void codeTranslation(Writer out) throws IOException {
+        prepareTranslation();
+        code = new CodeWriter(out);
+        writeCode();
+        if (shards > 0) writeSharedHeader();
+        for (int k = 0; k < shards; ++k) writeShard(k);
+        code = null;
     }
 
-    private static String basic_indent = "    ";
+    /* Collects what the code of the files needs; returns the output file name without extension */
+    private String prepareTranslation() {
+        array_literal_definitions = new LinkedList<LinkedList<String>> ();
+        collectConstantArrays();
+        collectRuleConditions();
+        findMemoizedFunctions();
+        String base = outfile.endsWith(".cpp") ? outfile.substring(0, outfile.length() - 4) : outfile;
+        shared_header = base + "_shared.h";
+        return base;
+    }
 
-    private String indentation = "";
+    private String shardName(String base, int k) {
+        return base + "_shard" + k + ".cpp";
+    }
+
+    /*
+    Streams the code to a temporary file beside the file 'name', which
+    closeFile moves into place
+    */
+    private File openFile(String name) throws IOException {
+        File f = new File(name).getAbsoluteFile();
+        File tmp = File.createTempFile(f.getName(), ".tmp", f.getParentFile());
+        code = new CodeWriter(new BufferedWriter(new FileWriter(tmp)));
+        return tmp;
+    }
 
-    private void incr_indentation() {
-        indentation += basic_indent;
+    /*
+    Replaces the file with the code written, unless it already has that
+    content: files which do not change keep their date, so make does not
+    rebuild them
+    */
+    private void closeFile(String name, File tmp) throws IOException {
+        code.close();
+        code = null;
+        File f = new File(name);
+        if (sameContent(f, tmp)) tmp.delete();
+        else if (!tmp.renameTo(f)) {
+            tmp.delete();
+            throw new IOException("Cannot write " + name);
+        }
     }
 
-    private void decr_indentation() {
-        indentation = indentation.substring(basic_indent.length());
+    /* Whether both files have the same bytes */
+    private static boolean sameContent(File a, File b) throws IOException {
+        if (!a.isFile() || a.length() != b.length()) return false;
+        InputStream in_a = new BufferedInputStream(new FileInputStream(a));
+        try {
+            InputStream in_b = new BufferedInputStream(new FileInputStream(b));
+            try {
+                int c;
+                while ((c = in_a.read()) >= 0) {
+                    if (c != in_b.read()) return false;
+                }
+                return true;
+            } finally {
+                in_b.close();
+            }
+        } finally {
+            in_a.close();
+        }
     }
 
     private int UID = 0;
@@ -199,30 +326,92 @@ public class ChespelCompiler {
         return "" + UID;
     }
     private void writeCode() throws IOException {
-        array_literal_definitions = new LinkedList<LinkedList<String>> ();
         writeIncludes();
-        writeOptions();
+        if (shards > 0) writeLn("#include \"" + new File(shared_header).getName() + "\"\n");
+        else writeOptions();
+        writeConstantArrays(main_arrays);
         writeGlobals();
-        writeHeaders();
+        if (shards == 0) writeHeaders();
         writePreamble();
-        writeFunctions();
-        writeRules();
+        if (shards == 0) {
+            writeFunctions(-1);
+            writeRules(-1);
+        }
         if (num_rule_condition > 0) writeRuleConditionFunction();
+        writeRuleStamps();
         writeOpnEval();
         writeMidEval();
         writeEndEval();
     }
 
+    /* Options, globals and headers, for the main file and the shards */
+    private void writeSharedHeader() throws IOException {
+        String guard = "_" + new File(shared_header).getName().toUpperCase().replace('.', '_');
+        writeLn("#ifndef " + guard);
+        writeLn("#define " + guard);
+        writeLn("");
+        if (configOptions.isEnabled("debug")) writeLn("#include <iostream>");
+        writeLn("#include \"predefined_functions.h\"");
+        writeLn("using namespace std;");
+        writeLn("");
+        writeOptions();
+        writeLn("// Globals (defined in the main file)");
+        for (ChespelTree T : GlobalDefinitions) {
+            writeLn("extern " + typeCode(getTypeFromDeclaration(T.getChild(0))) + " " + T.getChild(1).getText() + ";");
+        }
+        writeLn("");
+        writeHeaders();
+        writeLn("#endif");
+    }
+
+    /* Functions and rules of the k-th shard, instantiated for both perspectives */
+    private void writeShard(int k) throws IOException {
+        writeLn("#include \"" + new File(shared_header).getName() + "\"");
+        writeLn("#include \"predefined_functions.tcc\"");
+        writeLn("");
+        writeConstantArrays(shard_arrays.get(k));
+        writeFunctions(k);
+        writeRules(k);
+        writeLn("// Instantiations for both perspectives");
+        for (ChespelTree T : FunctionDefinitions) {
+            if (shardOf(T.getChild(1).getText()) != k) continue;
+            writeLn(instantiationCode(getFunctionHeader(T), "func_" + T.getChild(1).getText(), "false"));
+            writeLn(instantiationCode(getFunctionHeader(T), "func_" + T.getChild(1).getText(), "true"));
+        }
+        for (ChespelTree T : RuleDefinitions) {
+            if (shardOf(T.getChild(0).getText()) != k) continue;
+            writeLn(instantiationCode(getRuleHeader(T, false), "rule_" + T.getChild(0).getText(), "false"));
+            writeLn(instantiationCode(getRuleHeader(T, false), "rule_" + T.getChild(0).getText(), "true"));
+            if (!configOptions.isEnabled("debug")) continue;
+            writeLn(instantiationCode(getRuleHeader(T, true), "rule_" + T.getChild(0).getText() + "_trace", "false"));
+            writeLn(instantiationCode(getRuleHeader(T, true), "rule_" + T.getChild(0).getText() + "_trace", "true"));
+        }
+    }
+
+    /*
+    Shard of the functions or rule 'name'. It only depends on the name, so that
+    adding or removing definitions does not move the others to other shards
+    */
+    private int shardOf(String name) {
+        return (name.hashCode() & 0x7fffffff) % shards;
+    }
+
+    /* Explicit instantiation of the template of header 'header' (see getFunctionHeader) */
+    private String instantiationCode(String header, String name, String inv) {
+        return header.replace("template<bool INV>\n", "template ").replace(" " + name + "(", " " + name + "<" + inv + ">(") + ";";
+    }
+
     private void write(String s) throws IOException {
-        writer.write(s);
+        code.append(s);
     }
 
     private void writeLn(String s) throws IOException {
-        writer.write(s);
-        writer.newLine();
+        code.line(s);
     }
 
     private void writeIncludes() throws IOException {
+        // only the traces of the rules print (config option debug)
+        if (configOptions.isEnabled("debug")) writeLn("#include <iostream>");
         writeLn("#include \"generated_eval.h\"");
         writeLn("#include \"predefined_functions.h\"");
         writeLn("#include \"predefined_functions.tcc\"");
@@ -241,30 +430,251 @@ public class ChespelCompiler {
         writeLn("");
     }
 
+    /* Array literals known at compile time: C++ key of the literal -> name of its static storage */
+    private HashMap<String, String> const_array_names;
+
+    /* Definition of each constant array, the arrays before those which contain them */
+    private LinkedHashMap<String, String> const_array_definitions;
+
+    /* Constant arrays used by the main file and by each shard */
+    private HashSet<String> main_arrays;
+    private ArrayList<HashSet<String>> shard_arrays;
+
+    /*
+    Gives a name to every constant array literal of the program before any code
+    is written, so that they can be declared once before their first use in
+    each file
+    */
+    private void collectConstantArrays() {
+        const_array_names = new HashMap<String, String>();
+        const_array_definitions = new LinkedHashMap<String, String>();
+        main_arrays = new HashSet<String>();
+        shard_arrays = new ArrayList<HashSet<String>>();
+        for (int k = 0; k < shards; ++k) shard_arrays.add(new HashSet<String>());
+        for (ChespelTree T : GlobalDefinitions) collectConstantArrays(T.getChild(2), main_arrays);
+        for (ChespelTree T : FunctionDefinitions) {
+            String name = T.getChild(1).getText();
+            collectConstantArrays(T.getChild(3), shards == 0 ? main_arrays : shard_arrays.get(shardOf(name)));
+        }
+        for (ChespelTree T : RuleDefinitions) {
+            String name = T.getChild(0).getText();
+            collectConstantArrays(T.getChild(2), shards == 0 ? main_arrays : shard_arrays.get(shardOf(name)));
+            if (T.getChildCount() > 3) collectConstantArrays(T.getChild(3), main_arrays);
+        }
+    }
+
+    private void collectConstantArrays(ChespelTree t, HashSet<String> used) {
+        if (isConstantArray(t)) used.add(constantArrayName(t));
+        for (int i = 0; i < t.getChildCount(); ++i) collectConstantArrays(t.getChild(i), used);
+    }
+
+    private void writeConstantArrays(HashSet<String> used) throws IOException {
+        writeLn("// Constant arrays");
+        for (String name : const_array_definitions.keySet()) {
+            if (used.contains(name)) write(const_array_definitions.get(name));
+        }
+        writeLn("");
+    }
+
+    private boolean isConstantArray(ChespelTree t) {
+        switch (t.getType()) {
+            case ChespelLexer.RANG_CELL_LIT:
+            case ChespelLexer.RANG_ROW_LIT:
+            case ChespelLexer.RANG_FILE_LIT:
+            case ChespelLexer.RANG_RANK_LIT:
+            case ChespelLexer.BOARD_LIST:
+            case ChespelLexer.EMPTY_LIST:
+                return true;
+            case ChespelLexer.LIST_ATOM:
+                for (int i = 0; i < t.getChildCount(); ++i) {
+                    if (!isConstantElement(t.getChild(i))) return false;
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isConstantElement(ChespelTree t) {
+        switch (t.getType()) {
+            case ChespelLexer.NUM:
+            case ChespelLexer.BOOL:
+            case ChespelLexer.STRING:
+            case ChespelLexer.FILE_LIT:
+            case ChespelLexer.ROW_LIT:
+            case ChespelLexer.RANK_LIT:
+            case ChespelLexer.CELL_LIT:
+                return true;
+            case ChespelLexer.PLUS:
+            case ChespelLexer.MINUS:
+                return t.getChildCount() == 1 && isConstantElement(t.getChild(0));
+            default:
+                return isConstantArray(t);
+        }
+    }
+
+    /* Code of an element of a constant array, with board literals folded to their value */
+    private String constantElementCode(ChespelTree t) {
+        String text = t.getText();
+        switch (t.getType()) {
+            case ChespelLexer.FILE_LIT:
+                return "" + (text.charAt(1) - 'a' + 1);
+            case ChespelLexer.ROW_LIT:
+                return text.substring(1);
+            case ChespelLexer.RANK_LIT:
+                return text.substring(2);
+            case ChespelLexer.CELL_LIT:
+                return "" + ((text.charAt(1) - 'a' + 2) + (text.charAt(2) - '1' + 2)*12);
+            case ChespelLexer.PLUS:
+                return "(" + constantElementCode(t.getChild(0)) + ")";
+            case ChespelLexer.MINUS:
+                return "-(" + constantElementCode(t.getChild(0)) + ")";
+            case ChespelLexer.NUM:
+            case ChespelLexer.BOOL:
+            case ChespelLexer.STRING:
+                return exprCode(t);
+            default:
+                return constantArrayName(t);
+        }
+    }
+
+    /* Code that builds a range or a board list */
+    private String boardListCode(ChespelTree t) {
+        switch (t.getType()) {
+            case ChespelLexer.RANG_CELL_LIT:
+                return "get_rang_cell(\"" + t.getText().substring(1,3) + "\",\"" + t.getText().substring(5) + "\" )";
+            case ChespelLexer.RANG_ROW_LIT:
+                return "get_rang_row(" + t.getText().substring(1,2) + "," + t.getText().substring(4) + ")";
+            case ChespelLexer.RANG_FILE_LIT:
+                return "get_rang_file('" + t.getText().substring(1,2) + "','" + t.getText().substring(4) + "')";
+            case ChespelLexer.RANG_RANK_LIT:
+                return "get_rang_rank(" + t.getText().substring(2,3) + "," + t.getText().substring(5) + ")";
+            case ChespelLexer.BOARD_LIST:
+                return t.getText() + "()";
+            default:
+                assert false : "Not a range nor a board list";
+                return null;
+        }
+    }
+
+    /*
+    Returns the name of the static storage of the constant array 't', defining
+    it if no identical array has been defined yet. The name only depends on the
+    array (a digest of its type and content), so the code which uses it does
+    not change when other arrays do
+    */
+    private String constantArrayName(ChespelTree t) {
+        TypeInfo array_type = typeOf(t);
+        String type = typeCode(array_type);
+        String init;
+        if (t.getType() == ChespelLexer.LIST_ATOM) {
+            init = "{";
+            for (int i = 0; i < t.getChildCount(); ++i) {
+                init += (i == 0 ? "" : ", ") + constantElementCode(t.getChild(i));
+            }
+            init += "}";
+        }
+        else if (t.getType() == ChespelLexer.EMPTY_LIST) init = "";
+        else init = boardListCode(t);
+        String key = type + " " + init;
+        String name = const_array_names.get(key);
+        if (name != null) return name;
+        name = "_const_array_" + CodeCache.digest(key);
+        const_array_names.put(key, name);
+        String def;
+        if (t.getType() == ChespelLexer.LIST_ATOM) {
+            String content_type;
+            try {
+                content_type = typeCode(array_type.getArrayContent());
+            } catch (Exception e) { throw new RuntimeException(e.getMessage()); }
+            def = "static const " + content_type + " " + name + "_data[] = " + init + ";\n";
+            def += "static const " + type + " " + name + "(" + name + "_data, " + name + "_data + " + t.getChildCount() + ");\n";
+        }
+        else if (t.getType() == ChespelLexer.EMPTY_LIST) {
+            def = "static const " + type + " " + name + ";\n";
+        }
+        else {
+            def = "static const " + type + " " + name + " = " + init + ";\n";
+        }
+        const_array_definitions.put(name, def);
+        return name;
+    }
+
     LinkedList<ArrayList<String>> preamble_init;
 
+    LinkedList<ArrayList<String>> static_preamble_init;
+
+    /* Globals passed by reference to some function (they can be modified during the evaluation) */
+    private HashSet<String> globals_passed_by_ref = new HashSet<String>();
+
+    /* Globals initialized in a preamble, and those among them which depend on the board */
+    private HashSet<String> preamble_globals;
+    private HashSet<String> board_globals;
+
     private void writeGlobals() throws IOException {
         preamble_init = new LinkedList<ArrayList<String>> ();
+        static_preamble_init = new LinkedList<ArrayList<String>> ();
+        preamble_globals = new HashSet<String>();
+        board_globals = new HashSet<String>();
+        boolean static_globals = configOptions.isEnabled("static_globals");
+        perspective = "false"; // globals are built for self
         writeLn("// Globals");
         for (ChespelTree T : GlobalDefinitions) {
             String t = typeCode(getTypeFromDeclaration(T.getChild(0)));
             String id = T.getChild(1).getText();
-            int tmp = array_literal_definitions.size();
             String s = exprCode(T.getChild(2));
             if (! goesToPreamble (T.getChild(2))) { // initialization doesn't require array literals or funcalls
                 writeLn(t + " " + id + " = " + s + ";");
             }
             else {
                 writeLn(t + " " + id +";"); // only declare
+                preamble_globals.add(id);
                 ArrayList<String> global_init = new ArrayList<String>();
                 global_init.add(id);
                 global_init.add(s);
-                preamble_init.add(global_init);
+                global_init.add(arrayLiteralCode());
+                if (static_globals && !dependsOnBoard(T.getChild(2)) && !globals_passed_by_ref.contains(id)) {
+                    static_preamble_init.add(global_init);
+                }
+                else {
+                    board_globals.add(id);
+                    preamble_init.add(global_init);
+                }
             }
         }
+        perspective = "INV";
         writeLn("");
     }
 
+    /* Predefined functions whose result only depends on their argument */
+    private static final HashSet<String> board_independent_functions = new HashSet<String>(
+        Arrays.asList("row", "file", "piece", "cell", "len", "inCenter", "inExpandedCenter"));
+
+    /*
+    Returns whether the value of the global initialization 't' may change
+    from one position to another
+    */
+    private boolean dependsOnBoard(ChespelTree t) {
+        switch (t.getType()) {
+            case ChespelLexer.PIECE_LIST:
+            case ChespelLexer.SELF:
+            case ChespelLexer.RIVAL:
+                return true;
+            case ChespelLexer.ID:
+                return board_globals.contains(t.getText());
+            case ChespelLexer.FUNCALL:
+                if (!board_independent_functions.contains(t.getChild(0).getText())) return true;
+                return dependsOnBoard(t.getChild(1));
+            case ChespelLexer.DOT:
+                if (!board_independent_functions.contains(t.getChild(1).getText())) return true;
+                return dependsOnBoard(t.getChild(0));
+        }
+        for (int i = 0; i < t.getChildCount(); ++i) {
+            if (dependsOnBoard(t.getChild(i))) return true;
+        }
+        return false;
+    }
+
     private boolean goesToPreamble(ChespelTree t) {
         switch (t.getType()) {
             case ChespelLexer.PLUS:
@@ -284,6 +694,7 @@ public class ChespelCompiler {
                 return goesToPreamble(t.getChild(0)) || goesToPreamble(t.getChild(1));
 
             case ChespelLexer.ID:
+                return preamble_globals.contains(t.getText()); // has to be initialized after it
             case ChespelLexer.BOOL:
             case ChespelLexer.STRING:
             case ChespelLexer.NUM:
@@ -302,22 +713,31 @@ public class ChespelCompiler {
         writeLn("");
         writeLn("// Rules Headers");
         for (ChespelTree T : RuleDefinitions) {
-            writeLn(getRuleHeader(T) + ";");
+            writeLn(getRuleHeader(T, false) + ";");
+            if (configOptions.isEnabled("debug")) writeLn(getRuleHeader(T, true) + ";");
         }
         writeLn("");
     }
 
     private void writePreamble() throws IOException {
+        writeLn("// Preamble for globals independent of the board (called once at engine startup)");
+        writeLn("void static_preamble() {");
+        writePreambleInit(static_preamble_init);
+        writeLn("}\n");
         writeLn("// Preamble for array initialization");
         writeLn("void preamble() {");
-        incr_indentation();
-        write(addArrayLiteral());
-        for (ArrayList<String> assign : preamble_init) {
-            write(indentation + assign.get(0) + " = " + assign.get(1) + ";\n");
-        }
-        decr_indentation();
+        writePreambleInit(preamble_init);
         writeLn("}\n");
-        preamble_init = null;
+        static_preamble_init = null;
+    }
+
+    private void writePreambleInit(LinkedList<ArrayList<String>> init) throws IOException {
+        code.indent();
+        for (ArrayList<String> assign : init) {
+            write(assign.get(2));
+            writeLn(assign.get(0) + " = " + assign.get(1) + ";");
+        }
+        code.dedent();
     }
 
     private String getFunctionHeader(ChespelTree T) {
@@ -325,53 +745,442 @@ public class ChespelCompiler {
         String name = T.getChild(1).getText();
         String params = "";
         for (int i = 0; i < T.getChild(2).getChildCount(); ++i) {
-            params += getParamCode(T.getChild(2).getChild(i)) + ", ";
+            params += getParamCode(T.getChild(2).getChild(i), T) + ", ";
         }
         if (params.equals("")) params = "  ";
-        return (t + " func_" + name + "(" + params.substring(0,params.length()-2)+ ")");
+        return ("template<bool INV>\n" + t + " func_" + name + "(" + params.substring(0,params.length()-2)+ ")");
+    }
+
+    private String getParamCode(ChespelTree t, ChespelTree function) {
+        TypeInfo type = getTypeFromDeclaration(t.getChild(0));
+        String name = t.getChild(1).getText();
+        // parameters by value which are never modified don't need a copy, unless
+        // the argument may be modified through a reference while the function runs
+        if (t.getChild(1).getType() != ChespelLexer.PREF && isPassedByConstReference(type) &&
+            !modifiesVariable(function.getChild(3), name) && !mayBeAliased(function, type)) {
+            return "const " + typeCode(type) + "& " + name;
+        }
+        return typeCode(type) + " "  + name;
+    }
+
+    /* Arrays and strings are not copied when they are only read */
+    private boolean isPassedByConstReference(TypeInfo t) {
+        return t.isArray() || t.isString();
+    }
+
+    /*
+    Whether an argument of type 'type' of the function may be modified while it
+    runs: the caller may pass the same variable (or an array containing it) to a
+    parameter by reference, or a global which the function modifies
+    */
+    private boolean mayBeAliased(ChespelTree function, TypeInfo type) {
+        ChespelTree params = function.getChild(2);
+        for (int i = 0; i < params.getChildCount(); ++i) {
+            ChespelTree param = params.getChild(i);
+            if (param.getChild(1).getType() == ChespelLexer.PREF && mayContain(getTypeFromDeclaration(param.getChild(0)), type)) return true;
+        }
+        return mayModifyGlobals(function.getChild(1).getText());
+    }
+
+    /* Whether a value of type 'container' may hold (or be) a value of type 't' */
+    private boolean mayContain(TypeInfo container, TypeInfo t) {
+        if (container.equals(t)) return true;
+        if (!container.isArray() || container.isEmptyArray()) return false;
+        try {
+            return mayContain(container.getArrayContent(), t);
+        } catch (Exception e) { throw new RuntimeException(e.getMessage()); }
+    }
+
+    /* Functions which may modify a global, computed on the first query */
+    private HashSet<String> global_modifiers = null;
+
+    /*
+    Whether the function 'name' may modify a global: it passes a global by
+    reference or calls a function which may
+    */
+    private boolean mayModifyGlobals(String name) {
+        if (global_modifiers == null) {
+            global_modifiers = new HashSet<String>();
+            boolean changed = !globals_passed_by_ref.isEmpty();
+            while (changed) {
+                changed = false;
+                for (Map.Entry<String, ArrayList<ChespelTree>> f : function_definitions.entrySet()) {
+                    if (global_modifiers.contains(f.getKey())) continue;
+                    for (ChespelTree T : f.getValue()) {
+                        if (!modifiesGlobals(T.getChild(3))) continue;
+                        global_modifiers.add(f.getKey());
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return global_modifiers.contains(name);
     }
 
-    private String getParamCode(ChespelTree t) {
-        return typeCode(getTypeFromDeclaration(t.getChild(0))) + " "  + t.getChild(1).getText();
+    /* Whether 't' passes a global by reference or calls a function which may modify one */
+    private boolean modifiesGlobals(ChespelTree t) {
+        if (global_modifiers == null) mayModifyGlobals("");
+        if (t.getType() == ChespelLexer.FUNCALL && isUserFunction(t.getChild(0).getText())) {
+            String called = t.getChild(0).getText();
+            if (global_modifiers.contains(called)) return true;
+            ChespelTree args = t.getChild(1);
+            for (int i = 0; i < args.getChildCount(); ++i) {
+                ChespelTree arg = args.getChild(i);
+                if (arg.getType() == ChespelLexer.ID && isGlobal(arg) && isParamByReference(called, i)) return true;
+            }
+        }
+        for (int i = 0; i < t.getChildCount(); ++i) {
+            if (modifiesGlobals(t.getChild(i))) return true;
+        }
+        return false;
     }
 
-    private String getRuleHeader(ChespelTree T) {
+    /* Function whose code is being written or optimized (null for a rule) */
+    private ChespelTree current_function = null;
+
+    /*
+    Whether the parameter by reference 'name' of the current function may be
+    modified in 'body' through another name: another parameter by reference
+    bound to the same variable, or a global modified by the functions called
+    */
+    private boolean mayBeModifiedByAlias(String name, ChespelTree body) {
+        if (current_function == null) return false;
+        ChespelTree params = current_function.getChild(2);
+        TypeInfo type = null;
+        for (int i = 0; i < params.getChildCount(); ++i) {
+            ChespelTree param = params.getChild(i);
+            if (param.getChild(1).getType() == ChespelLexer.PREF && param.getChild(1).getText().substring(1).equals(name)) { // drop '&'
+                type = getTypeFromDeclaration(param.getChild(0));
+            }
+        }
+        if (type == null) return false;
+        for (int i = 0; i < params.getChildCount(); ++i) {
+            ChespelTree param = params.getChild(i);
+            if (param.getChild(1).getType() != ChespelLexer.PREF) continue;
+            String other = param.getChild(1).getText().substring(1);
+            if (other.equals(name)) continue;
+            if (getTypeFromDeclaration(param.getChild(0)).equals(type) && modifiesVariable(body, other)) return true;
+        }
+        return modifiesGlobals(body);
+    }
+
+    /*
+    Returns whether the variable 'name' may be modified inside 't', either
+    by an assignment or by being passed by reference to a function
+    */
+    private boolean modifiesVariable(ChespelTree t, String name) {
+        switch (t.getType()) {
+            case ChespelLexer.ASSIGN:
+                ChespelTree varNode = t.getChild(0);
+                while (varNode.getType() == ChespelLexer.L_BRACKET) varNode = varNode.getChild(0);
+                if (varNode.getText().equals(name)) return true;
+                break;
+            case ChespelLexer.FUNCALL:
+                ChespelTree args = t.getChild(1);
+                for (int i = 0; i < args.getChildCount(); ++i) {
+                    ChespelTree arg = args.getChild(i);
+                    if (arg.getType() == ChespelLexer.ID && arg.getText().equals(name) &&
+                        isParamByReference(t.getChild(0).getText(), i)) return true;
+                }
+                break;
+        }
+        for (int i = 0; i < t.getChildCount(); ++i) {
+            if (modifiesVariable(t.getChild(i), name)) return true;
+        }
+        return false;
+    }
+
+    /*
+    Returns whether some variable used in 'expr' may be modified while
+    executing 'body'
+    */
+    private boolean mayBeModified(ChespelTree expr, ChespelTree body) {
+        if (expr.getType() == ChespelLexer.ID) {
+            String name = expr.getText();
+            return globals_passed_by_ref.contains(name) || modifiesVariable(body, name) || mayBeModifiedByAlias(name, body);
+        }
+        for (int i = 0; i < expr.getChildCount(); ++i) {
+            if (mayBeModified(expr.getChild(i), body)) return true;
+        }
+        return false;
+    }
+
+    /* Returns whether some definition of function 'name' has its i-th parameter by reference */
+    private boolean isParamByReference(String name, int i) {
+        ArrayList<ChespelTree> overloads = function_definitions.get(name);
+        if (overloads == null) return false;
+        for (ChespelTree T : overloads) {
+            ChespelTree params = T.getChild(2);
+            if (i < params.getChildCount() && params.getChild(i).getChild(1).getType() == ChespelLexer.PREF) return true;
+        }
+        return false;
+    }
+
+    /* Header of a rule, or of its trace variant (see writeRule) */
+    private String getRuleHeader(ChespelTree T, boolean trace) {
         String t = "void";
-        String name = T.getChild(0).getText();
-        return (t + " rule_" + name + "(long int & _score)");
+        String name = T.getChild(0).getText() + (trace ? "_trace" : "");
+        return ("template<bool INV>\n" + t + " rule_" + name + "(long int & _score)");
     }
 
-    private void writeFunctions() throws IOException {
+    /* Writes the functions of a shard (all of them if shard is -1) */
+    private void writeFunctions(int shard) throws IOException {
         writeLn("// Functions code");
         for (ChespelTree T : FunctionDefinitions) {
-            writeLn(getFunctionHeader(T) + " {");
-            incr_indentation();
-            write(getListInstructionCode(T.getChild(3)));
-            decr_indentation();
-            writeLn("}");
-            writeLn("");
+            if (shard < 0 || shardOf(T.getChild(1).getText()) == shard) writeDefinition(T);
         }
     }
 
-    private void writeRules() throws IOException {
-        rule_condition = new ArrayList<String>();
+    /* Writes the rules of a shard (all of them if shard is -1) */
+    private void writeRules(int shard) throws IOException {
         writeLn("// Rules code");
         for (ChespelTree T : RuleDefinitions) {
-            def_name = T.getChild(0).getText();
-            writeLn(getRuleHeader(T) + " {");
-            incr_indentation();
-            writeLn(indentation + "int __score;");
-            writeLn(indentation + "if (_debug and eval_debug) cout << endl << \"Rule '" + def_name + "' (\" << (!are_players_inverted() ? \"self\" : \"rival\") << \"):\" << endl;");
-            write(getListInstructionCode(T.getChild(2)));
-            decr_indentation();
-            writeLn("}");
-            writeLn("");
-            // Treat rules with a do if
+            if (shard < 0 || shardOf(T.getChild(0).getText()) == shard) writeDefinition(T);
+        }
+    }
+
+    /*
+    Writes a function or a rule. Its code only depends on the definition and on
+    cacheContext(), so it is taken from the cache when it has been generated
+    before
+    */
+    private void writeDefinition(ChespelTree T) throws IOException {
+        String key = null;
+        if (cache != null) {
+            if (cache_context == null) cache_context = cacheContext();
+            key = cache.key(cache_context, T.toStringTree());
+            String cached = cache.get(key);
+            if (cached != null) {
+                write(cached);
+                return;
+            }
+        }
+        // the code goes to the cache entry as it is written
+        CodeCache.Entry entry = (cache == null ? null : cache.put(key));
+        code.copyTo(entry);
+        boolean written = false;
+        try {
+            UID = 0; // the names of the temporaries are local to the definition
+            if (T.getType() == ChespelLexer.FUNCTION_DEF) writeFunction(T);
+            else writeRule(T);
+            written = true;
+        } finally {
+            code.copyTo(null);
+            if (entry != null) {
+                if (written) entry.close();
+                else entry.discard();
+            }
+        }
+    }
+
+    private void writeFunction(ChespelTree T) throws IOException {
+        String name = T.getChild(1).getText();
+        String counter = null;
+        if (configOptions.isEnabled("profile")) {
+            // overloads of a function are numbered in order of definition
+            int overload = 0;
+            for (ChespelTree F : FunctionDefinitions) {
+                if (F == T) break;
+                if (F.getChild(1).getText().equals(name)) ++overload;
+            }
+            String suffix = (overload == 0 ? "" : "_" + overload);
+            counter = "_prof_func_" + name + suffix;
+            writeProfileCounter(counter, "function " + name + (overload == 0 ? "" : " (" + (overload+1) + ")"), false);
+        }
+        writeLn(getFunctionHeader(T) + " {");
+        code.indent();
+        if (counter != null) writeLn("prof_timer _prof(" + counter + ");");
+        memoizing = memoized_functions.contains(T);
+        if (memoizing) {
+            // the tables of the two perspectives are apart, as each is a template instance
+            String t = typeCode(getTypeFromDeclaration(T.getChild(0)));
+            ChespelTree params = T.getChild(2);
+            String args = "";
+            for (int i = 0; i < params.getChildCount(); ++i) {
+                args += (i > 0 ? ", " : "") + params.getChild(i).getChild(1).getText();
+            }
+            int n = Math.max(1, params.getChildCount());
+            writeLn("static memo_table<" + t + ", " + n + "> _memo;");
+            writeLn("const int _memo_args[" + n + "] = {" + (args.equals("") ? "0" : args) + "};");
+            writeLn("const " + t + " *_memo_hit = _memo.find(_memo_args);");
+            writeLn("if (_memo_hit != NULL) return *_memo_hit;");
+        }
+        current_function = T;
+        writeListInstruction(T.getChild(3));
+        current_function = null;
+        memoizing = false;
+        code.dedent();
+        writeLn("}");
+        writeLn("");
+    }
+
+    /* Whether the function being written is memoized (its returns store their result) */
+    private boolean memoizing = false;
+
+    /* Functions whose results are reused within an eval */
+    private HashSet<ChespelTree> memoized_functions = new HashSet<ChespelTree>();
+
+    /*
+    Finds the functions to memoize (config option memoize): the pure ones, whose
+    result only depends on their arguments and the board, with arguments coded
+    as int or bool. Only the functions with a loop or a call to a user function
+    are memoized: shorter code costs less than the lookup of its result
+    */
+    private void findMemoizedFunctions() {
+        memoized_functions = new HashSet<ChespelTree>();
+        if (!configOptions.isEnabled("memoize")) return;
+        HashSet<String> pure = pureFunctions();
+        for (ChespelTree T : FunctionDefinitions) {
+            if (!pure.contains(T.getChild(1).getText()) || getTypeFromDeclaration(T.getChild(0)).isVoid()) continue;
+            boolean scalar = true;
+            ChespelTree params = T.getChild(2);
+            for (int i = 0; i < params.getChildCount(); ++i) {
+                String t = typeCode(getTypeFromDeclaration(params.getChild(i).getChild(0)));
+                if (!t.equals("int") && !t.equals("bool")) scalar = false;
+            }
+            if (scalar && hasLoopOrCall(T.getChild(3))) memoized_functions.add(T);
+        }
+    }
+
+    /*
+    Names of the pure functions. A function is pure if it has no parameters by
+    reference, doesn't read globals which may change during the eval and only
+    calls pure functions (all the predefined ones are)
+    */
+    private HashSet<String> pureFunctions() {
+        // functions are called by name, so a name is pure while all its overloads are
+        HashSet<String> pure = new HashSet<String>(function_definitions.keySet());
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, ArrayList<ChespelTree>> f : function_definitions.entrySet()) {
+                if (!pure.contains(f.getKey())) continue;
+                for (ChespelTree T : f.getValue()) {
+                    if (isPure(T, pure)) continue;
+                    pure.remove(f.getKey());
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        return pure;
+    }
+
+    private boolean isPure(ChespelTree T, HashSet<String> pure) {
+        ChespelTree params = T.getChild(2);
+        for (int i = 0; i < params.getChildCount(); ++i) {
+            if (params.getChild(i).getChild(1).getType() == ChespelLexer.PREF) return false;
+        }
+        return onlyPure(T.getChild(3), pure);
+    }
+
+    /* Whether 't' only calls pure functions and reads no global which may change during the eval */
+    private boolean onlyPure(ChespelTree t, HashSet<String> pure) {
+        String called = null;
+        switch (t.getType()) {
+            case ChespelLexer.ID:
+                if (isGlobal(t) && globals_passed_by_ref.contains(t.getText())) return false;
+                break;
+            case ChespelLexer.FUNCALL:
+                called = t.getChild(0).getText();
+                break;
+            case ChespelLexer.DOT:
+                called = t.getChild(1).getText();
+                break;
+        }
+        if (called != null && isUserFunction(called) && !pure.contains(called)) return false;
+        for (int i = 0; i < t.getChildCount(); ++i) {
+            if (!onlyPure(t.getChild(i), pure)) return false;
+        }
+        return true;
+    }
+
+    private boolean hasLoopOrCall(ChespelTree t) {
+        switch (t.getType()) {
+            case ChespelLexer.FORALL:
+            case ChespelLexer.WHILE:
+                return true;
+            case ChespelLexer.FUNCALL:
+                if (isUserFunction(t.getChild(0).getText())) return true;
+                break;
+            case ChespelLexer.DOT:
+                if (isUserFunction(t.getChild(1).getText())) return true;
+                break;
+        }
+        for (int i = 0; i < t.getChildCount(); ++i) {
+            if (hasLoopOrCall(t.getChild(i))) return true;
+        }
+        return false;
+    }
+
+    /*
+    Writes a rule. With the config option debug it is written twice: the rule
+    run by the search, without any trace, and its trace variant (rule_<name>_trace),
+    run by the eval command, which prints each score with its message
+    */
+    private void writeRule(ChespelTree T) throws IOException {
+        writeRule(T, false);
+        if (configOptions.isEnabled("debug")) writeRule(T, true);
+    }
+
+    private void writeRule(ChespelTree T, boolean trace) throws IOException {
+        def_name = T.getChild(0).getText();
+        boolean profile = configOptions.isEnabled("profile") && !trace;
+        if (profile) writeProfileCounter("_prof_rule_" + def_name, "rule " + def_name, false);
+        writeLn(getRuleHeader(T, trace) + " {");
+        code.indent();
+        if (profile) writeLn("prof_timer _prof(_prof_rule_" + def_name + ");");
+        if (trace) {
+            writeLn("int __score;");
+            writeLn("cout << endl << \"Rule '" + def_name + "' (\" << (!INV ? \"self\" : \"rival\") << \"):\" << endl;");
+        }
+        tracing = trace;
+        writeListInstruction(T.getChild(2));
+        tracing = false;
+        code.dedent();
+        writeLn("}");
+        writeLn("");
+    }
+
+    /* Whether the rule being written is the trace variant, whose scores are printed */
+    private boolean tracing = false;
+
+    /* Counter of the calls and time of a rule, function or eval (config option profile) */
+    private void writeProfileCounter(String counter, String label, boolean eval) throws IOException {
+        writeLn("prof_counter " + counter + "(\"" + label + "\"" + (eval ? ", true" : "") + ");");
+    }
+
+    private String cache_context = null;
+
+    /*
+    What the code of a definition depends on besides its subtree: the config
+    options, the headers of the functions and the globals
+    */
+    private String cacheContext() {
+        StringBuilder context = new StringBuilder();
+        for (ChpOption o : configOptions.getOptions()) context.append(o.name + "=" + o.value + "\n");
+        for (ChespelTree T : FunctionDefinitions) {
+            context.append(T.getChild(0).toStringTree() + " " + T.getChild(1).getText() + T.getChild(2).toStringTree() + "\n");
+        }
+        for (ChespelTree T : GlobalDefinitions) {
+            String name = T.getChild(1).getText();
+            context.append(T.getChild(0).toStringTree() + " " + name + (globals_passed_by_ref.contains(name) ? " &" : "") + "\n");
+        }
+        // whether a function is memoized depends on the bodies of the functions it calls
+        for (int i = 0; i < FunctionDefinitions.size(); ++i) {
+            if (memoized_functions.contains(FunctionDefinitions.get(i))) context.append("memoized " + i + "\n");
+        }
+        // and the subexpressions taken out of a definition, on the functions which are pure
+        if (optimize) context.append("optimized " + new TreeSet<String>(pure_functions) + "\n");
+        return context.toString();
+    }
+
+    /* Condition guarding the call to each rule (for the rules with a doif) */
+    private void collectRuleConditions() {
+        rule_condition = new ArrayList<String>();
+        for (ChespelTree T : RuleDefinitions) {
             if (T.getChildCount() > 3) {
-                incr_indentation();
-                String tmp = exprCode(T.getChild(3).getChild(0));
-                rule_condition_function += addArrayLiteral() + indentation + "cond[" + num_rule_condition + "] = " + tmp + ";\n";
-                decr_indentation();
                 rule_condition.add("if (cond[" + num_rule_condition + "]) ");
                 ++num_rule_condition;
             }
@@ -381,41 +1190,76 @@ public class ChespelCompiler {
 
     private ArrayList<String> rule_condition;
 
-    private String rule_condition_function = "";
-
     private int num_rule_condition = 0;
 
     private void writeRuleConditionFunction() throws IOException {
         writeLn("// Rule condition eval");
+        boolean profile = configOptions.isEnabled("profile");
+        if (profile) writeProfileCounter("_prof_rule_conditions", "rule conditions", false);
+        writeLn("template<bool INV>");
         writeLn("void rule_condition_eval(bool (&cond)["+num_rule_condition+"]) {");
-        write(rule_condition_function);
+        code.indent();
+        if (profile) writeLn("prof_timer _prof(_prof_rule_conditions);");
+        int n = 0;
+        for (ChespelTree T : RuleDefinitions) {
+            if (T.getChildCount() <= 3) continue;
+            String tmp = exprCode(T.getChild(3).getChild(0));
+            writeArrayLiterals();
+            writeLn("cond[" + n + "] = " + tmp + ";");
+            ++n;
+        }
+        code.dedent();
         writeLn("}\n");
     }
 
     private void writeOpnEval() throws IOException {
         writeLn("// Opening eval");
+        if (configOptions.isEnabled("profile")) writeProfileCounter("_prof_opn_eval", "opening eval", true);
         writeLn("long int opn_eval() {");
-        incr_indentation();
-        writeEval(EvalType.OPENING);
-        decr_indentation();
+        code.indent();
+        writeEval(EvalType.OPENING, false);
+        code.dedent();
+        writeLn("}\n");
+        writeTraceEval(EvalType.OPENING);
+        writeLn("// Opening eval which may stop out of the (alpha, beta) window");
+        writeLn("long int opn_eval_lazy(long int alpha, long int beta) {");
+        code.indent();
+        writeLazyEval(EvalType.OPENING, "opn_eval");
+        code.dedent();
         writeLn("}\n");
     }
 
     private void writeMidEval() throws IOException {
         writeLn("// Midgame eval");
+        if (configOptions.isEnabled("profile")) writeProfileCounter("_prof_mid_eval", "midgame eval", true);
         writeLn("long int mid_eval() {");
-        incr_indentation();
-        writeEval(EvalType.MIDGAME);
-        decr_indentation();
+        code.indent();
+        writeEval(EvalType.MIDGAME, false);
+        code.dedent();
+        writeLn("}\n");
+        writeTraceEval(EvalType.MIDGAME);
+        writeLn("// Midgame eval which may stop out of the (alpha, beta) window");
+        writeLn("long int mid_eval_lazy(long int alpha, long int beta) {");
+        code.indent();
+        writeLazyEval(EvalType.MIDGAME, "mid_eval");
+        code.dedent();
         writeLn("}\n");
     }
 
     private void writeEndEval() throws IOException {
         writeLn("// Endgame eval");
+        if (configOptions.isEnabled("profile")) writeProfileCounter("_prof_end_eval", "endgame eval", true);
         writeLn("long int end_eval() {");
-        incr_indentation();
-        writeEval(EvalType.ENDGAME);
-        decr_indentation();
+        code.indent();
+        writeEval(EvalType.ENDGAME, false);
+        code.dedent();
+        writeLn("}\n");
+        writeTraceEval(EvalType.ENDGAME);
+        writeLn("// Endgame eval which may stop out of the (alpha, beta) window");
+        writeLn("long int end_eval_lazy(long int alpha, long int beta) {");
+        code.indent();
+        writeLazyEval(EvalType.ENDGAME, "end_eval");
+        code.dedent();
         writeLn("}\n");
     }
 
@@ -425,95 +1269,314 @@ public class ChespelCompiler {
         ENDGAME
     } ;
 
-    private void writeEval(EvalType t) throws IOException {
-        String symetric_rules = "";
-        writeLn(indentation + "reset();");
-        writeLn(indentation + "preamble();");
-        writeLn(indentation + "long int score = 0;");
-        writeLn(indentation + "long int score_sym = 0;");
+    /*
+    Eval run by the eval command of the engine, which shows the traces of the
+    rules (config option debug). It runs every rule, without the pawn hash or
+    the incremental evaluation
+    */
+    private void writeTraceEval(EvalType t) throws IOException {
+        writeLn("// " + evalOption(t).substring(0, 1).toUpperCase() + evalOption(t).substring(1) + " eval of the eval command");
+        writeLn("long int " + evalPrefix(t) + "_eval_trace() {");
+        code.indent();
+        writeEval(t, true);
+        code.dedent();
+        writeLn("}\n");
+    }
+
+    private void writeEval(EvalType t, boolean trace) throws IOException {
+        boolean sym = false;
+        if (configOptions.isEnabled("profile") && !trace) writeLn("prof_timer _prof(_prof_" + evalPrefix(t) + "_eval);");
+        writeLn("reset();");
+        if (! preamble_init.isEmpty()) writeLn("preamble();");
+        writeLn("long int score = 0;");
+        writeLn("long int score_sym = 0;");
         if (num_rule_condition > 0) {
-            writeLn(indentation + "bool cond[" + num_rule_condition + "];\n");
-            writeLn(indentation + "rule_condition_eval(cond);");
+            writeLn("bool cond[" + num_rule_condition + "];\n");
+            writeLn("rule_condition_eval<false>(cond);");
+        }
+        String opt = evalOption(t);
+        String phase = evalPhase(t);
+        // The rules which only depend on the pawns are skipped when their score is in the pawn hash
+        boolean pawn_hash = false;
+        for (ChespelTree T : RuleDefinitions) {
+            if (isRuleInEval(T, opt) && pawn_rules.contains(T.getChild(0).getText())) pawn_hash = !trace;
+        }
+        if (pawn_hash) {
+            writeLn("long int pawn_score = 0;");
+            writeLn("long int pawn_score_sym = 0;");
+            writeLn("bool pawn_hit = probe_pawn_hash(" + phase + ", &pawn_score);");
+        }
+        int i = 0;
+        for (ChespelTree T : RuleDefinitions) {
+            String name = T.getChild(0).getText();
+            HashSet<String> rule_opt = symbolTable.getRuleOptions(name);
+            if (isRuleInEval(T, opt)) {
+                    String cond = rule_condition.get(i);
+                    String score = "score";
+                    if (pawn_hash && pawn_rules.contains(name)) {
+                        cond = "if (!pawn_hit) " + cond;
+                        score = "pawn_score";
+                    }
+                    writeLn(cond + (trace ? traceCallCode(name, score, 0) : ruleCallCode(i, name, score, 0))); // call to function
+                    if (rule_opt.contains("sym")) sym = true;
+            }
+            ++i;
+        }
+        // second pass of the sym rules, from the perspective of the rival
+        if (sym) {
+            if (num_rule_condition > 0) writeLn("rule_condition_eval<true>(cond);");
+            i = 0;
+            for (ChespelTree T : RuleDefinitions) {
+                String name = T.getChild(0).getText();
+                if (isRuleInEval(T, opt) && symbolTable.getRuleOptions(name).contains("sym")) {
+                    String cond = rule_condition.get(i);
+                    String score_sym = "score_sym";
+                    if (pawn_hash && pawn_rules.contains(name)) {
+                        cond = "if (!pawn_hit) " + cond;
+                        score_sym = "pawn_score_sym";
+                    }
+                    writeLn(cond + (trace ? traceCallCode(name, score_sym, 1) : ruleCallCode(i, name, score_sym, 1)));
+                }
+                ++i;
+            }
+        }
+        if (pawn_hash) {
+            writeLn("if (!pawn_hit) store_pawn_hash(" + phase + ", pawn_score-pawn_score_sym);");
+            writeLn("return score-score_sym+pawn_score-pawn_score_sym;");
         }
-        String opt = ""; //dummy inicialization
+        else writeLn("return score-score_sym;");
+    }
+
+    private String evalOption(EvalType t) {
         switch (t) {
-            case OPENING:
-                opt = "opening";
-                break;
-            case MIDGAME:
-                opt = "midgame";
-                break;
-            case ENDGAME:
-                opt = "endgame";
-                break;
+            case OPENING:   return "opening";
+            case MIDGAME:   return "midgame";
+            default:        return "endgame";
+        }
+    }
+
+    private String evalPrefix(EvalType t) {
+        switch (t) {
+            case OPENING:   return "opn";
+            case MIDGAME:   return "mid";
+            default:        return "end";
         }
+    }
+
+    private String evalPhase(EvalType t) {
+        switch (t) {
+            case OPENING:   return "opn_phase";
+            case MIDGAME:   return "mid_phase";
+            default:        return "end_phase";
+        }
+    }
+
+    /*
+    Lazy eval: the rules without a bound run first, and then the others from
+    the largest bound to the smallest. The eval stops as soon as the rules
+    left can't bring the score back into the (alpha, beta) window
+    */
+    private void writeLazyEval(EvalType t, String eval_name) throws IOException {
+        String opt = evalOption(t);
+        String phase = evalPhase(t);
+        ArrayList<Integer> rules = new ArrayList<Integer>();
+        boolean bounded = false, pawn_hash = false, sym = false;
         int i = 0;
         for (ChespelTree T : RuleDefinitions) {
-            HashSet<String> rule_opt = symbolTable.getRuleOptions(T.getChild(0).getText());
-            if (rule_opt.contains(opt) || (!rule_opt.contains("opening") &&
-                !rule_opt.contains("midgame") && !rule_opt.contains("endgame"))) {
-                    writeLn(indentation + rule_condition.get(i) + "rule_" + T.getChild(0).getText() + "(score);"); // call to function
-                    if (rule_opt.contains("sym")) symetric_rules += indentation + rule_condition.get(i) + "rule_" + T.getChild(0).getText() + "(score_sym);\n";
+            String name = T.getChild(0).getText();
+            if (isRuleInEval(T, opt)) {
+                rules.add(i);
+                if (rule_bounds.containsKey(name)) bounded = true;
+                if (pawn_rules.contains(name)) pawn_hash = true;
+                if (symbolTable.getRuleOptions(name).contains("sym")) sym = true;
             }
             ++i;
         }
-        if (! symetric_rules.equals("")) {
-            writeLn(indentation + "invert_players();");
-            if (num_rule_condition > 0) writeLn(indentation + "rule_condition_eval(cond);");
-            write(symetric_rules);
+        // changing the order of the rules could change the globals passed by reference
+        if (!bounded || !globals_passed_by_ref.isEmpty()) {
+            writeLn("return " + eval_name + "();");
+            return;
+        }
+        Collections.sort(rules, new Comparator<Integer>() {
+            public int compare(Integer r0, Integer r1) { return Long.compare(ruleBound(r1), ruleBound(r0)); }
+        });
+        // bounds of the rules left at each point, apart for those in the pawn hash
+        long[] bound_left = new long[rules.size() + 1];
+        long[] pawn_bound_left = new long[rules.size() + 1];
+        for (int k = rules.size() - 1; k >= 0; --k) {
+            String name = RuleDefinitions.get(rules.get(k)).getChild(0).getText();
+            bound_left[k] = bound_left[k+1];
+            pawn_bound_left[k] = pawn_bound_left[k+1];
+            if (pawn_rules.contains(name)) pawn_bound_left[k] += ruleBound(rules.get(k));
+            else bound_left[k] += ruleBound(rules.get(k));
+        }
+
+        // the lazy eval shares the counter of the eval, which it calls when it is not lazy
+        if (configOptions.isEnabled("profile")) writeLn("prof_timer _prof(_prof_" + evalPrefix(t) + "_eval);");
+        writeLn("reset();");
+        if (! preamble_init.isEmpty()) writeLn("preamble();");
+        writeLn("long int score = 0;");
+        writeLn("long int score_sym = 0;");
+        writeLn("long int lazy_score;");
+        if (pawn_hash) {
+            writeLn("long int pawn_score = 0;");
+            writeLn("long int pawn_score_sym = 0;");
+            writeLn("bool pawn_hit = probe_pawn_hash(" + phase + ", &pawn_score);");
+        }
+        if (num_rule_condition > 0) {
+            writeLn("bool cond[" + num_rule_condition + "];");
+            writeLn("rule_condition_eval<false>(cond);");
+            if (sym) {
+                writeLn("bool cond_sym[" + num_rule_condition + "];");
+                writeLn("rule_condition_eval<true>(cond_sym);");
+            }
+        }
+        for (int k = 0; k < rules.size(); ++k) {
+            i = rules.get(k);
+            String name = RuleDefinitions.get(i).getChild(0).getText();
+            String cond = rule_condition.get(i);
+            String score = "score";
+            String score_sym = "score_sym";
+            if (pawn_hash && pawn_rules.contains(name)) {
+                cond = "if (!pawn_hit) " + cond;
+                score = "pawn_score";
+                score_sym = "pawn_score_sym";
+            }
+            if (rule_bounds.containsKey(name)) {
+                String bound = String.valueOf(bound_left[k]);
+                if (pawn_bound_left[k] > 0) bound += " + (pawn_hit ? 0 : " + pawn_bound_left[k] + ")";
+                writeLn("lazy_score = score-score_sym" + (pawn_hash ? "+pawn_score-pawn_score_sym;" : ";"));
+                writeLn("if (lazy_cutoff(lazy_score, " + bound + ", alpha, beta)) return lazy_score;");
+            }
+            writeLn(cond + ruleCallCode(i, name, score, 0));
+            if (symbolTable.getRuleOptions(name).contains("sym")) {
+                writeLn(cond.replace("cond[", "cond_sym[") + ruleCallCode(i, name, score_sym, 1));
+            }
+        }
+        if (pawn_hash) {
+            writeLn("if (!pawn_hit) store_pawn_hash(" + phase + ", pawn_score-pawn_score_sym);");
+            writeLn("return score-score_sym+pawn_score-pawn_score_sym;");
+        }
+        else writeLn("return score-score_sym;");
+    }
+
+    /* Maximum change of the score due to a rule (both perspectives for sym rules) */
+    private long ruleBound(int i) {
+        String name = RuleDefinitions.get(i).getChild(0).getText();
+        if (!rule_bounds.containsKey(name)) return Long.MAX_VALUE;
+        long bound = rule_bounds.get(name);
+        return (symbolTable.getRuleOptions(name).contains("sym") ? 2*bound : bound);
+    }
+
+    /*
+    In incremental mode a rule is only run if some board feature it reads has
+    changed since its last run, for each perspective ('inv' is 1 in the sym pass)
+    */
+    private String ruleCallCode(int i, String name, String score, int inv) {
+        int features = rule_features.get(name);
+        String rule = "rule_" + name + (inv == 0 ? "<false>" : "<true>");
+        if (!configOptions.isEnabled("incremental") || (features & F_PIECES) == F_PIECES) {
+            return rule + "(" + score + ");";
+        }
+        return "incremental_rule(_stamps[" + i + "][" + inv + "], " + featuresCode(features) + ", " + rule + ", " + score + ");";
+    }
+
+    /* Call to the trace variant of a rule, or to the rule itself if there is none */
+    private String traceCallCode(String name, String score, int inv) {
+        String rule = "rule_" + name + (configOptions.isEnabled("debug") ? "_trace" : "");
+        return rule + (inv == 0 ? "<false>" : "<true>") + "(" + score + ");";
+    }
+
+    private String featuresCode(int features) {
+        String[] flags = {"f_pawns", "f_bishops", "f_rooks", "f_knights", "f_kings", "f_queens", "f_castled"};
+        String code = "";
+        for (int i = 0; i < flags.length; ++i) {
+            if ((features & (1 << i)) == 0) continue;
+            if (!code.equals("")) code += "|";
+            code += flags[i];
         }
-        writeLn(indentation + "return score-score_sym;");
+        return (code.equals("") ? "0" : code);
+    }
+
+    private void writeRuleStamps() throws IOException {
+        boolean incremental = configOptions.isEnabled("incremental");
+        if (incremental) {
+            writeLn("// Scores of the rules at their last run, for both perspectives (incremental evaluation)");
+            writeLn("rule_stamp _stamps[" + RuleDefinitions.size() + "][2];");
+            writeLn("");
+        }
+        writeLn("// Forgets the last scores of the rules, so that the next eval runs all of them");
+        writeLn("void clear_rule_stamps() {");
+        code.indent();
+        if (incremental) {
+            writeLn("for (int i = 0; i < " + RuleDefinitions.size() + "; ++i) _stamps[i][0].valid = _stamps[i][1].valid = false;");
+        }
+        code.dedent();
+        writeLn("}");
+        writeLn("");
+    }
+
+    private boolean isRuleInEval(ChespelTree T, String opt) {
+        HashSet<String> rule_opt = symbolTable.getRuleOptions(T.getChild(0).getText());
+        return rule_opt.contains(opt) || (!rule_opt.contains("opening") &&
+            !rule_opt.contains("midgame") && !rule_opt.contains("endgame"));
     }
 
     private LinkedList<LinkedList<String>> array_literal_definitions;
 
-    private String addArrayLiteral() {
-        String result = "";
+    /* Definitions of the array literals used by the expressions translated since the last call */
+    private String arrayLiteralCode() {
+        StringBuilder result = new StringBuilder();
         for (LinkedList arr_def : array_literal_definitions) {
             Iterator<String> it2 = arr_def.iterator();
             String name = it2.next();
             String type = it2.next();
-            result += indentation;
-            result += type; // add type definition
-            result += " " + name; // add name
-            result += " = " + type + "();\n"; // add initial vector
+            result.append(type); // add type definition
+            result.append(" " + name); // add name
+            result.append(" = " + type + "();\n"); // add initial vector
             while (it2.hasNext()) {
-                result += indentation + name + ".push_back(" + it2.next() + ");\n";
+                result.append(name + ".push_back(" + it2.next() + ");\n");
             }
         }
         array_literal_definitions = new LinkedList<LinkedList<String>>();
-        return result;
+        return result.toString();
+    }
+
+    private void writeArrayLiterals() throws IOException {
+        write(arrayLiteralCode());
     }
 
-    private String getListInstructionCode(ChespelTree T) {
-        String s = "";
+    private void writeListInstruction(ChespelTree T) throws IOException {
         for (int i = 0; i < T.getChildCount(); ++i) {
-            s += sentenceCode(T.getChild(i)) + "\n";
+            writeSentence(T.getChild(i));
         }
-        return s;
     }
 
-    private String sentenceCode(ChespelTree T) {
-        String body, body2, instr = "";
+    /*
+    The expressions of a sentence are translated before writing it, so that
+    the array literals they use are defined right before the sentence
+    */
+    private void writeSentence(ChespelTree T) throws IOException {
+        String body, instr = "";
+        if (opt_prelude.containsKey(T)) writePrelude(T);
         switch (T.getType()) {
             case ChespelLexer.VAR_DECL:
                 String type = typeCode(getTypeFromDeclaration(T.getChild(0)));
                 String names = "";
                 ChespelTree var_defs = T.getChild(1);
-                String initialization = "";
                 for (int i = 0; i < var_defs.getChildCount(); ++i) {
                     ChespelTree var = var_defs.getChild(i);
                     if (var.getType() == ChespelLexer.ID)
                         names += var.getText() + ", ";
-                    else {
+                    else
                         names += var.getChild(0).getText() + ", ";
-                        String tmp = sentenceCode(var);
-                        initialization += addArrayLiteral() + tmp + "\n";
-                        //initialization += tmp + "\n";
-                    }
                 }
-                String result = indentation + type + " " + names.substring(0, names.length()-2) + ";\n" + initialization;
-                return result.substring(0,result.length()-1);
+                writeLn(type + " " + names.substring(0, names.length()-2) + ";");
+                for (int i = 0; i < var_defs.getChildCount(); ++i) {
+                    ChespelTree var = var_defs.getChild(i);
+                    if (var.getType() != ChespelLexer.ID) writeSentence(var); // initialization
+                }
+                return;
             case ChespelLexer.ASSIGN:
                 String varName = "";
                 ChespelTree varNode = T.getChild(0);
@@ -526,74 +1589,92 @@ public class ChespelCompiler {
                 instr = varName + " = " + instr + ";";
                 break;
             case ChespelLexer.FORALL:
-                incr_indentation();
-                body = getListInstructionCode(T.getChild(1));
-                decr_indentation();
                 ChespelTree in_expr = T.getChild(0);
-                String vector_code = exprCode(in_expr.getChild(1)); // get vector name
+                ChespelTree iterated = in_expr.getChild(1);
+                String vector_code = exprCode(iterated); // get vector name
                 String vector_name = "_array_" + getUID();
                 String temp_it = "_it_" + getUID();
                 String iterator_name = in_expr.getChild(0).getText();
-                TypeInfo type_vec = getTypeExpression(in_expr.getChild(1));
-                String vector_type = typeCode(type_vec);
-                String content_type;
+                TypeInfo type_vec = typeOf(iterated);
+                TypeInfo type_content;
                 try {
-                    content_type = typeCode(type_vec.getArrayContent());
+                    type_content = type_vec.getArrayContent();
                 } catch (Exception e) { throw new RuntimeException(e.getMessage()); }
-                instr = vector_type + " " + vector_name + " = " + vector_code + ";\n";
-                instr += indentation + "for (" + vector_type + "::iterator "+temp_it+" = " + vector_name  + ".begin(); "+temp_it+" != " + vector_name + ".end(); ++"+temp_it+") {\n" + indentation + basic_indent +
-                    content_type + " " + iterator_name + " = *"+temp_it+";\n" +
-                    body + indentation +
-                    "}";
-                break;
+                String vector_type = typeCode(type_vec);
+                String content_type = typeCode(type_content);
+                String iterator_type = vector_type + "::const_iterator";
+                if (isPieceList(iterated)) {
+                    // iterate directly over the piece list of the engine
+                    vector_type = "piece_list";
+                    iterator_type = "piece_list::const_iterator";
+                }
+                else if (iterated.getType() != ChespelLexer.L_BRACKET && !mayBeModified(iterated, T.getChild(1))) {
+                    // no need to copy the array (the elements of an array are not
+                    // borrowed, as the array itself might be a temporary)
+                    vector_type = "const " + vector_type + "&";
+                }
+                else {
+                    iterator_type = vector_type + "::iterator";
+                }
+                if (isPassedByConstReference(type_content) && !modifiesVariable(T.getChild(1), iterator_name)) {
+                    content_type = "const " + content_type + "&";
+                }
+                writeArrayLiterals();
+                writeLn(vector_type + " " + vector_name + " = " + vector_code + ";");
+                writeLn("for (" + iterator_type + " "+temp_it+" = " + vector_name  + ".begin(); "+temp_it+" != " + vector_name + ".end(); ++"+temp_it+") {");
+                code.indent();
+                writeLn(content_type + " " + iterator_name + " = *"+temp_it+";");
+                writeListInstruction(T.getChild(1));
+                code.dedent();
+                writeLn("}");
+                return;
             case ChespelLexer.IF:
-                incr_indentation();
-                body = getListInstructionCode(T.getChild(1));
-                decr_indentation();
-                body += indentation + "}";
-                body2 = "";
+                body = exprCode(T.getChild(0));
+                writeArrayLiterals();
+                writeLn("if (" + body + ") {");
+                code.indent();
+                writeListInstruction(T.getChild(1));
+                code.dedent();
+                writeLn("}");
                 if (T.getChildCount() > 2) {
-                    body2 = "\n" + indentation + "else {\n";
-                    incr_indentation();
-                    body2 += getListInstructionCode(T.getChild(2));
-                    decr_indentation();
-                    body2 += indentation + "}";
+                    writeLn("else {");
+                    code.indent();
+                    writeListInstruction(T.getChild(2));
+                    code.dedent();
+                    writeLn("}");
                 }
-                instr = "if (" + exprCode(T.getChild(0)) + ") {\n" + body + body2;
-                break;
+                return;
             case ChespelLexer.WHILE:
-                incr_indentation();
-                body = getListInstructionCode(T.getChild(1));
-                decr_indentation();
-                body += indentation + "}";
-                instr = "while (" + exprCode(T.getChild(0)) + ") {\n" + body;
-                break;
+                body = exprCode(T.getChild(0));
+                writeArrayLiterals();
+                writeLn("while (" + body + ") {");
+                code.indent();
+                writeListInstruction(T.getChild(1));
+                code.dedent();
+                writeLn("}");
+                return;
             case ChespelLexer.RETURN:
                 if (T.getChild(0).getType() == ChespelLexer.VOID_TYPE) instr = "return;";
+                else if (memoizing) instr = "return _memo.store(_memo_args, " + exprCode(T.getChild(0)) + ");";
                 else instr = "return " + exprCode(T.getChild(0)) + ";";
                 break;
             case ChespelLexer.SCORE:
-                String prev = "";
+                body = exprCode(T.getChild(0));
+                if (!tracing) {
+                    instr = "_score += " + body + ";";
+                    break;
+                }
+                writeArrayLiterals();
+                writeLn("__score = " + body + ";");
                 if (T.getChildCount() > 1) {
-                    prev += "if (_debug and eval_debug) {\n"; //debug_eval is an internal Faile variable
-                                                                //that is only true when using the command 'eval'
-                    String code = exprCode(T.getChild(1)); // get code for expression
-                    incr_indentation();
-                    prev += addArrayLiteral(); // empty possible array code in comment
-                    prev += indentation + "cout << \"  (\" << to_string((are_players_inverted() ? -1 : 1)  * (__score / _centipawn_value)*1000, \"NUM\") << \")\\t\"  <<\": \" << " + code + " << endl;\n";
-                    decr_indentation();
-                    prev += indentation + "}\n"+ indentation;
-                    instr = "__score = " + exprCode(T.getChild(0)) +";\n" + prev + "_score += __score;";
+                    String message = exprCode(T.getChild(1)); // get code for expression
+                    writeArrayLiterals(); // empty possible array code in comment
+                    writeLn("cout << \"  (\" << to_string((INV ? -1 : 1)  * (__score / _centipawn_value)*1000, num_tag()) << \")\\t\"  <<\": \" << " + message + " << endl;");
                 }
                 else {
-                    prev += "__score = " + exprCode(T.getChild(0)) + ";\n";
-                    prev += indentation + "if (_debug and eval_debug) {\n"; //debug_eval is an internal Faile variable
-                    incr_indentation();
-                    prev += indentation + "cout << \"  (\" << (__score >= 0 ^ are_players_inverted() ? '+' : '-') << to_string((__score / _centipawn_value)*1000, \"NUM\") << \")\" << endl;\n";
-                    decr_indentation();
-                    prev += indentation + "}\n"+ indentation;
-                    instr = prev + "_score += __score;";
+                    writeLn("cout << \"  (\" << (__score >= 0 ^ INV ? '+' : '-') << to_string((__score / _centipawn_value)*1000, num_tag()) << \")\" << endl;");
                 }
+                instr = "_score += __score;";
                 break;
             case ChespelLexer.FUNCALL:
                 String params = "";
@@ -601,15 +1682,64 @@ public class ChespelCompiler {
                     params += exprCode(T.getChild(1).getChild(i)) + ", ";
                 }
                 if (params.equals("")) params = "  ";
-                instr = "func_" + T.getChild(0).getText() +"(" + params.substring(0,params.length()-2) + ");";
+                instr = functionCode(T.getChild(0).getText()) +"(" + params.substring(0,params.length()-2) + ");";
                 break;
         }
-        String res = addArrayLiteral();
-        //String res = "";
-        return res + indentation + instr;
+        writeArrayLiterals();
+        writeLn(instr);
+    }
+
+    /* Computes into temporaries the expressions the optimization pass took out of the sentence */
+    private void writePrelude(ChespelTree T) throws IOException {
+        ArrayList<String> temps = new ArrayList<String>();
+        for (ChespelTree e : opt_prelude.get(T)) {
+            opt_temps.remove(e); // its own code, not the temporary of a previous translation
+            String name = "_opt_" + getUID();
+            temps.add("const " + typeCode(typeOf(e)) + " " + name + " = " + exprCode(e) + ";");
+            opt_temps.put(e, name);
+        }
+        writeArrayLiterals();
+        for (String temp : temps) writeLn(temp);
+    }
+
+    /*
+    Perspective of the code being generated: rules and functions are templates
+    on it (INV is true for the second pass of the sym rules)
+    */
+    private String perspective = "INV";
+
+    /* Predefined functions which depend on the perspective */
+    private static final HashSet<String> perspective_functions = new HashSet<String>(
+        Arrays.asList("rank", "player", "startingRank", "toRank", "toRow"));
+
+    /* Predefined functions which return a view of a list of the engine (piece_list) */
+    private static final HashSet<String> piece_list_functions = new HashSet<String>(
+        Arrays.asList("coveredBy", "attackedBy"));
+
+    /* Whether the code of the expression is a piece_list, which can be iterated without a copy */
+    private boolean isPieceList(ChespelTree t) {
+        String name;
+        if (t.getType() == ChespelLexer.PIECE_LIST) return true;
+        else if (t.getType() == ChespelLexer.DOT) name = t.getChild(1).getText();
+        else if (t.getType() == ChespelLexer.FUNCALL) name = t.getChild(0).getText();
+        else return false;
+        return !isUserFunction(name) && piece_list_functions.contains(name);
+    }
+
+    private String functionCode(String name) {
+        if (isUserFunction(name) || perspective_functions.contains(name)) {
+            return "func_" + name + "<" + perspective + ">";
+        }
+        return "func_" + name;
     }
 
+    /* The code of each type is computed once, as types are canonical */
     private String typeCode(TypeInfo t) {
+        if (t.code == null) t.code = computeTypeCode(t);
+        return t.code;
+    }
+
+    private String computeTypeCode(TypeInfo t) {
         try {
             if (t.isGeneric()) return "int";
             if (t.isEmptyArray()) return "vector<int>";
@@ -621,10 +1751,30 @@ public class ChespelCompiler {
         } catch (Exception e) { throw new RuntimeException(e.getMessage()); }
     }
 
+    /* Tag of the type, which selects the overload of to_string, arith_operation... */
+    private String tagCode(TypeInfo t) {
+        try {
+            if (t.isNum()) return "num_tag()"; // also the generic and empty array content types, coded as int
+            if (t.isEmptyArray()) return "array_tag<num_tag>()";
+            else if (t.isArray()) {
+                String content = tagCode(t.getArrayContent());
+                content = content.substring(0, content.length()-2);
+                return "array_tag<" + content + (content.endsWith(">") ? " >" : ">") + "()";
+            }
+            return t.toString().toLowerCase() + "_tag()";
+        } catch (Exception e) { throw new RuntimeException(e.getMessage()); }
+    }
+
     private String exprCode(ChespelTree t) {
+        if (optimize) {
+            // an expression computed before by the optimization pass
+            ChespelTree computed = opt_replaced.get(t);
+            if (computed != null && opt_temps.containsKey(computed)) return opt_temps.get(computed);
+        }
         switch (t.getType()) {
             case ChespelLexer.EMPTY_LIST:
             case ChespelLexer.LIST_ATOM:
+                if (isConstantArray(t)) return constantArrayName(t);
                 //array_literals_definitions
                 LinkedList<String> array_def = new LinkedList<String>();
                 String array_type = typeCode(t.getInfo());
@@ -648,13 +1798,11 @@ public class ChespelCompiler {
             case ChespelLexer.CELL_LIT:
                 return "get_cell(\"" + t.getText().substring(1) + "\")";
             case ChespelLexer.RANG_CELL_LIT:
-                return "get_rang_cell(\"" + t.getText().substring(1,3) + "\",\"" + t.getText().substring(5) + "\" )";
             case ChespelLexer.RANG_ROW_LIT:
-                return "get_rang_row(" + t.getText().substring(1,2) + "," + t.getText().substring(4) + ")";
             case ChespelLexer.RANG_FILE_LIT:
-                return "get_rang_file('" + t.getText().substring(1,2) + "','" + t.getText().substring(4) + "')";
             case ChespelLexer.RANG_RANK_LIT:
-                return "get_rang_rank(" + t.getText().substring(2,3) + "," + t.getText().substring(5) + ")";
+            case ChespelLexer.BOARD_LIST:
+                return constantArrayName(t);
             case ChespelLexer.PIECE_LIST:
                 String text = t.getText();
                 String player = (text.charAt(0) == 's' ? "self" : "rival");
@@ -667,12 +1815,11 @@ public class ChespelCompiler {
                 else if (text.equals("knights"))    piece = 4;
                 else if (text.equals("kings"))      piece = 5;
                 else                                piece = 6; // queens
-                return "get_pieces("+player+"(),"+piece+")";
+                return "get_pieces("+player+"<" + perspective + ">(),"+piece+")";
                         
-            case ChespelLexer.BOARD_LIST:
             case ChespelLexer.SELF:
             case ChespelLexer.RIVAL:
-                return t.getText() + "()";
+                return t.getText() + "<" + perspective + ">()";
             case ChespelLexer.STRING:
                 return "string(" + t.getText() + ")";
             case ChespelLexer.NUM:
@@ -684,7 +1831,7 @@ public class ChespelCompiler {
                     params += exprCode(t.getChild(1).getChild(i)) + ", ";
                 }
                 if (params.equals("")) params = "  ";
-                return "func_" + t.getChild(0).getText() +"(" + params.substring(0,params.length()-2) + ")";
+                return functionCode(t.getChild(0).getText()) +"(" + params.substring(0,params.length()-2) + ")";
         }
 
         String s0 = exprCode(t.getChild(0));
@@ -712,18 +1859,18 @@ public class ChespelCompiler {
             case ChespelLexer.IN:
                 return "in_expr("+s0 + "," + s1 + ")";
             case ChespelLexer.DOUBLE_EQUAL:
-                TypeInfo eq0 = getTypeExpression(t.getChild(0));
-                TypeInfo eq1 = getTypeExpression(t.getChild(1));
+                TypeInfo eq0 = typeOf(t.getChild(0));
+                TypeInfo eq1 = typeOf(t.getChild(1));
                 if (eq0.isArray())
                     return "array_equality(" + s0 + "," + s1 + ")";
                 if (eq0.isRow() && eq1.isRank())
-                    return "eq_rankrow(" + s1 + "," + s0 + ")";
+                    return "eq_rankrow<" + perspective + ">(" + s1 + "," + s0 + ")";
                 if (eq0.isRank() && eq1.isRow())
-                    return "eq_rankrow(" + s0 + "," + s1 + ")";
+                    return "eq_rankrow<" + perspective + ">(" + s0 + "," + s1 + ")";
                 rel = "==";
                 break;
             case ChespelLexer.NOT_EQUAL:
-                if (getTypeExpression(t.getChild(0)).isArray())
+                if (typeOf(t.getChild(0)).isArray())
                     return "!(array_equality(" + s0 + "," + s1 + "))";
                 rel = "!=";
                 break;
@@ -744,25 +1891,25 @@ public class ChespelCompiler {
             case ChespelLexer.DIV:
                 return "(1000* (" + s0 + ") / " + s1 + ")";
             case ChespelLexer.DOT:
-                return "func_" + s1 + "(" + s0 + ")";
+                return functionCode(s1) + "(" + s0 + ")";
             case ChespelLexer.L_BRACKET:
                 return "access_array(" + s0 + "," + s1 + ")";
             case ChespelLexer.PLUS:
             case ChespelLexer.MINUS:
                 rel = (t.getType() == ChespelLexer.PLUS ? "+" : "-");
-                TypeInfo t0 = getTypeExpression(t.getChild(0));
-                TypeInfo t1 = getTypeExpression(t.getChild(1));
+                TypeInfo t0 = typeOf(t.getChild(0));
+                TypeInfo t1 = typeOf(t.getChild(1));
                 if (t0.isNum() && t1.isNum()) break; // normal operation
-                if (t0.equals(t1)) return "arith_operation(" + s0 + "," + s1 + ",'" + rel + "',\""+t0.toString()+"\")"; // operations between same types -> return the gap between them
+                if (t0.equals(t1)) return "arith_operation(" + s0 + "," + s1 + ",'" + rel + "'," + tagCode(t0) + ")"; // operations between same types -> return the gap between them
                 // increment first argument by the units of the second
-                if (t0.isNum()) return "incr_operation(" + s1 + "," + rel + "(" + s0 + "),\""+t1.toString()+"\")";
-                return "incr_operation(" + s0 + "," + rel + "(" + s1 + "),\""+t0.toString()+"\")";
+                if (t0.isNum()) return "incr_operation(" + s1 + "," + rel + "(" + s0 + ")," + tagCode(t1) + ")";
+                return "incr_operation(" + s0 + "," + rel + "(" + s1 + ")," + tagCode(t0) + ")";
             case ChespelLexer.CONCAT:
-                if (getTypeExpression(t).isString()) {
-                    if (getTypeExpression(t.getChild(0)).isString())
-                        return "string_concat(" + s0 + "," + s1 + ",true,\""+getTypeExpression(t.getChild(1)).toString()+"\")";
+                if (typeOf(t).isString()) {
+                    if (typeOf(t.getChild(0)).isString())
+                        return "string_concat<" + perspective + ">(" + s0 + "," + s1 + ",true," + tagCode(typeOf(t.getChild(1))) + ")";
                     else
-                        return "string_concat(" + s1 + "," + s0 + ",false,\""+getTypeExpression(t.getChild(0)).toString()+"\")";
+                        return "string_concat<" + perspective + ">(" + s1 + "," + s0 + ",false," + tagCode(typeOf(t.getChild(0))) + ")";
                 }
                 return "concat(" + s0 + "," + s1 + ")";
             default:
@@ -772,6 +1919,420 @@ public class ChespelCompiler {
     }
 
 
+// -------------------------------------------------------------------- //
+//  ** Functions for the optimization pass                              //
+// -------------------------------------------------------------------- //
+
+    /* Expressions computed into a temporary before each sentence, by the order they are computed */
+    private HashMap<ChespelTree, ArrayList<ChespelTree>> opt_prelude = new HashMap<ChespelTree, ArrayList<ChespelTree>>();
+
+    /* Expression computed before whose value each replaced expression takes */
+    private HashMap<ChespelTree, ChespelTree> opt_replaced = new HashMap<ChespelTree, ChespelTree>();
+
+    /* Temporary holding each expression computed before, given during the translation */
+    private HashMap<ChespelTree, String> opt_temps = new HashMap<ChespelTree, String>();
+
+    private HashSet<String> pure_functions = new HashSet<String>();
+
+    /*
+    Optimizes the typed AST (option -O). The constants are folded in all the
+    definitions; in the functions and rules, the expressions invariant in a
+    loop are computed before it and the ones repeated in a sentence once
+    before the sentence. The expressions taken out are recorded apart
+    (opt_prelude and opt_replaced), as the AST has no node for a temporary
+    */
+    void optimizationPass() {
+        pure_functions = pureFunctions();
+        for (ChespelTree T : GlobalDefinitions) foldConstants(T);
+        for (ChespelTree T : FunctionDefinitions) {
+            foldConstants(T);
+            current_function = T;
+            hoistLoopInvariants(T.getChild(3), new ArrayList<ChespelTree>());
+            current_function = null;
+            eliminateCommonSubexpressions(T.getChild(3));
+        }
+        for (ChespelTree T : RuleDefinitions) {
+            foldConstants(T);
+            hoistLoopInvariants(T.getChild(2), new ArrayList<ChespelTree>());
+            eliminateCommonSubexpressions(T.getChild(2));
+        }
+    }
+
+    /* Replaces the operations on literals in 't' by their result */
+    private void foldConstants(ChespelTree t) {
+        for (int i = 0; i < t.getChildCount(); ++i) {
+            foldConstants(t.getChild(i));
+            ChespelTree folded = foldConstant(t.getChild(i));
+            if (folded != t.getChild(i)) t.setChild(i, folded);
+        }
+    }
+
+    /*
+    Result of the operation 't' if its operands are literals (or the operand
+    it amounts to, for the boolean operations), or 't' itself. The arithmetic
+    is the one of the generated code, on ints of the fixed-point values: it is
+    not folded when it overflows or divides by zero
+    */
+    private ChespelTree foldConstant(ChespelTree t) {
+        int type = t.getType();
+        ChespelTree t0 = (t.getChildCount() > 0 ? t.getChild(0) : null);
+        ChespelTree t1 = (t.getChildCount() > 1 ? t.getChild(1) : null);
+        switch (type) {
+            case ChespelLexer.NOT:
+                if (t0.getType() == ChespelLexer.BOOL) return boolLiteral(t, !boolValue(t0));
+                break;
+            case ChespelLexer.AND:
+            case ChespelLexer.OR:
+                // the right operand is evaluated only when the left one doesn't decide
+                boolean and = (type == ChespelLexer.AND);
+                if (t0.getType() == ChespelLexer.BOOL) return (boolValue(t0) == and ? t1 : t0);
+                if (t1.getType() == ChespelLexer.BOOL && boolValue(t1) == and) return t0;
+                break;
+        }
+        if (t0 == null || t0.getType() != ChespelLexer.NUM) return t;
+        long a = Long.parseLong(t0.getText());
+        if (t1 == null) {
+            if (type == ChespelLexer.PLUS) return t0;
+            if (type == ChespelLexer.MINUS) return numLiteral(t, -a);
+            return t;
+        }
+        if (t1.getType() != ChespelLexer.NUM) return t;
+        long b = Long.parseLong(t1.getText());
+        switch (type) {
+            case ChespelLexer.PLUS:         return numLiteral(t, a + b);
+            case ChespelLexer.MINUS:        return numLiteral(t, a - b);
+            case ChespelLexer.MUL:          return (fitsInt(a*b) ? numLiteral(t, a*b / 1000) : t);
+            case ChespelLexer.DIV:          return (b != 0 && fitsInt(1000*a) ? numLiteral(t, 1000*a / b) : t);
+            case ChespelLexer.DOUBLE_EQUAL: return boolLiteral(t, a == b);
+            case ChespelLexer.NOT_EQUAL:    return boolLiteral(t, a != b);
+            case ChespelLexer.LT:           return boolLiteral(t, a < b);
+            case ChespelLexer.LE:           return boolLiteral(t, a <= b);
+            case ChespelLexer.GT:           return boolLiteral(t, a > b);
+            case ChespelLexer.GE:           return boolLiteral(t, a >= b);
+        }
+        return t;
+    }
+
+    /* Whether the value is an int of the generated code (the minimum has no literal) */
+    private boolean fitsInt(long v) {
+        return v > Integer.MIN_VALUE && v <= Integer.MAX_VALUE;
+    }
+
+    private boolean boolValue(ChespelTree t) {
+        return t.getText().equals("true");
+    }
+
+    /* Literal replacing the operation 't', with its type */
+    private ChespelTree literal(ChespelTree t, int type, String text) {
+        CommonToken token = new CommonToken(type, text);
+        token.setLine(t.getLine());
+        ChespelTree lit = new ChespelTree(token);
+        lit.setTypeInfo(t.getInfo());
+        return lit;
+    }
+
+    private ChespelTree numLiteral(ChespelTree t, long v) {
+        return (fitsInt(v) ? literal(t, ChespelLexer.NUM, String.valueOf(v)) : t);
+    }
+
+    private ChespelTree boolLiteral(ChespelTree t, boolean v) {
+        return literal(t, ChespelLexer.BOOL, String.valueOf(v));
+    }
+
+    /* Operands of an expression (the names of the functions called are not) */
+    private ArrayList<ChespelTree> operands(ChespelTree t) {
+        ArrayList<ChespelTree> ops = new ArrayList<ChespelTree>();
+        switch (t.getType()) {
+            case ChespelLexer.FUNCALL:
+                for (int i = 0; i < t.getChild(1).getChildCount(); ++i) ops.add(t.getChild(1).getChild(i));
+                break;
+            case ChespelLexer.DOT:
+                ops.add(t.getChild(0));
+                break;
+            default:
+                for (int i = 0; i < t.getChildCount(); ++i) ops.add(t.getChild(i));
+        }
+        return ops;
+    }
+
+    /* Name of the function called by 't', or null if it is not a call */
+    private String calledFunction(ChespelTree t) {
+        if (t.getType() == ChespelLexer.FUNCALL) return t.getChild(0).getText();
+        if (t.getType() == ChespelLexer.DOT) return t.getChild(1).getText();
+        return null;
+    }
+
+    /*
+    Whether the expression is worth computing apart: it holds a call (the
+    calls to the functions of the engine can't be merged by the C++ compiler)
+    and its value is an int or a bool, cheap to keep in a temporary
+    */
+    private boolean isWorthComputingApart(ChespelTree t) {
+        if (t.getInfo() == null || opt_replaced.containsKey(t)) return false;
+        String type = typeCode(t.getInfo());
+        return (type.equals("int") || type.equals("bool")) && hasCall(t);
+    }
+
+    private boolean hasCall(ChespelTree t) {
+        if (calledFunction(t) != null) return true;
+        for (ChespelTree op : operands(t)) {
+            if (hasCall(op)) return true;
+        }
+        return false;
+    }
+
+    /* Whether 't' calls a user function which is not pure */
+    private boolean callsImpure(ChespelTree t) {
+        String called = calledFunction(t);
+        if (called != null && isUserFunction(called) && !pure_functions.contains(called)) return true;
+        for (ChespelTree op : operands(t)) {
+            if (callsImpure(op)) return true;
+        }
+        return false;
+    }
+
+    /*
+    Whether evaluating 't' can neither fail nor loop, so that it can be
+    evaluated where the original code would not: no user functions, array
+    accesses, divisions or increments of board values (which go out of range)
+    */
+    private boolean isTotal(ChespelTree t) {
+        switch (t.getType()) {
+            case ChespelLexer.DIV:
+            case ChespelLexer.L_BRACKET:
+                return false;
+            case ChespelLexer.PLUS:
+            case ChespelLexer.MINUS:
+                if (t.getChildCount() == 2 && !typeOf(t.getChild(0)).equals(typeOf(t.getChild(1)))) return false;
+                break;
+        }
+        String called = calledFunction(t);
+        if (called != null && isUserFunction(called)) return false;
+        for (ChespelTree op : operands(t)) {
+            if (!isTotal(op)) return false;
+        }
+        return true;
+    }
+
+    /*
+    Hoists out of the loops the expressions which don't change in them. Each
+    one is computed before the outermost loop where none of its variables is
+    declared or modified. 'loops' are the loops around the sentences
+    */
+    private void hoistLoopInvariants(ChespelTree listInstr, ArrayList<ChespelTree> loops) {
+        for (int i = 0; i < listInstr.getChildCount(); ++i) {
+            ChespelTree T = listInstr.getChild(i);
+            switch (T.getType()) {
+                case ChespelLexer.FORALL:
+                    hoistInvariants(T.getChild(0).getChild(1), loops);
+                    loops.add(T);
+                    hoistLoopInvariants(T.getChild(1), loops);
+                    loops.remove(loops.size()-1);
+                    break;
+                case ChespelLexer.WHILE:
+                    loops.add(T);
+                    hoistInvariants(T.getChild(0), loops);
+                    hoistLoopInvariants(T.getChild(1), loops);
+                    loops.remove(loops.size()-1);
+                    break;
+                case ChespelLexer.IF:
+                    hoistInvariants(T.getChild(0), loops);
+                    for (int j = 1; j < T.getChildCount(); ++j) hoistLoopInvariants(T.getChild(j), loops);
+                    break;
+                case ChespelLexer.VAR_DECL:
+                    hoistLoopInvariants(T.getChild(1), loops);
+                    break;
+                case ChespelLexer.SCORE:
+                    // the message is only computed when debugging
+                    hoistInvariants(T.getChild(0), loops);
+                    break;
+                default:
+                    for (ChespelTree e : sentenceExpressions(T)) hoistInvariants(e, loops);
+            }
+        }
+    }
+
+    private void hoistInvariants(ChespelTree t, ArrayList<ChespelTree> loops) {
+        if (isWorthComputingApart(t) && isTotal(t)) {
+            for (ChespelTree loop : loops) {
+                if (declaresVariableOf(loop, t) || mayBeModified(t, loop)) continue;
+                computeBefore(loop, t);
+                return;
+            }
+        }
+        for (ChespelTree op : operands(t)) hoistInvariants(op, loops);
+    }
+
+    /* Whether a variable of the expression is declared in 'T' (the loop variables included) */
+    private boolean declaresVariableOf(ChespelTree T, ChespelTree expr) {
+        switch (T.getType()) {
+            case ChespelLexer.FORALL:
+                if (usesVariable(expr, T.getChild(0).getChild(0).getText())) return true;
+                break;
+            case ChespelLexer.VAR_DECL:
+                ChespelTree var_defs = T.getChild(1);
+                for (int i = 0; i < var_defs.getChildCount(); ++i) {
+                    ChespelTree var = var_defs.getChild(i);
+                    if (var.getType() != ChespelLexer.ID) var = var.getChild(0);
+                    if (usesVariable(expr, var.getText())) return true;
+                }
+                return false;
+        }
+        for (int i = 0; i < T.getChildCount(); ++i) {
+            if (declaresVariableOf(T.getChild(i), expr)) return true;
+        }
+        return false;
+    }
+
+    private boolean usesVariable(ChespelTree t, String name) {
+        if (t.getType() == ChespelLexer.ID) return t.getText().equals(name);
+        for (ChespelTree op : operands(t)) {
+            if (usesVariable(op, name)) return true;
+        }
+        return false;
+    }
+
+    /* Takes 't' to the expressions computed before sentence T, merged with an equal one */
+    private void computeBefore(ChespelTree T, ChespelTree t) {
+        ArrayList<ChespelTree> prelude = opt_prelude.get(T);
+        if (prelude == null) {
+            prelude = new ArrayList<ChespelTree>();
+            opt_prelude.put(T, prelude);
+        }
+        String key = t.toStringTree();
+        for (ChespelTree e : prelude) {
+            if (e.toStringTree().equals(key)) {
+                opt_replaced.put(t, e);
+                return;
+            }
+        }
+        prelude.add(t);
+        opt_replaced.put(t, t);
+    }
+
+    /*
+    Expressions evaluated once by a sentence, besides those of the sentences
+    inside it (the condition of a while is evaluated on every iteration)
+    */
+    private ArrayList<ChespelTree> sentenceExpressions(ChespelTree T) {
+        ArrayList<ChespelTree> exprs = new ArrayList<ChespelTree>();
+        switch (T.getType()) {
+            case ChespelLexer.ASSIGN:
+                ChespelTree varNode = T.getChild(0);
+                while (varNode.getType() == ChespelLexer.L_BRACKET) {
+                    exprs.add(varNode.getChild(1));
+                    varNode = varNode.getChild(0);
+                }
+                exprs.add(T.getChild(1));
+                break;
+            case ChespelLexer.FORALL:
+                exprs.add(T.getChild(0).getChild(1));
+                break;
+            case ChespelLexer.IF:
+                exprs.add(T.getChild(0));
+                break;
+            case ChespelLexer.RETURN:
+                if (T.getChild(0).getType() != ChespelLexer.VOID_TYPE) exprs.add(T.getChild(0));
+                break;
+            case ChespelLexer.SCORE:
+                for (int i = 0; i < T.getChildCount(); ++i) exprs.add(T.getChild(i));
+                break;
+            case ChespelLexer.FUNCALL:
+                exprs.addAll(operands(T));
+                break;
+        }
+        return exprs;
+    }
+
+    /*
+    Computes once before each sentence the expressions repeated in it. As the
+    temporary is computed before the rest of the sentence, an expression is
+    only taken out if it is pure and some of its occurrences is always
+    evaluated (not in the right operand of an and/or nor in the message of a
+    score), and the sentence calls no function which may modify its variables
+    */
+    private void eliminateCommonSubexpressions(ChespelTree listInstr) {
+        for (int i = 0; i < listInstr.getChildCount(); ++i) {
+            ChespelTree T = listInstr.getChild(i);
+            switch (T.getType()) {
+                case ChespelLexer.VAR_DECL:
+                    eliminateCommonSubexpressions(T.getChild(1));
+                    continue;
+                case ChespelLexer.ID:
+                    continue; // declaration without initialization
+                case ChespelLexer.FORALL:
+                case ChespelLexer.WHILE:
+                case ChespelLexer.IF:
+                    for (int j = 1; j < T.getChildCount(); ++j) eliminateCommonSubexpressions(T.getChild(j));
+                    break;
+            }
+            ArrayList<ChespelTree> exprs = sentenceExpressions(T);
+            boolean impure = false;
+            for (ChespelTree e : exprs) impure = impure || callsImpure(e);
+            if (impure) continue;
+            LinkedHashMap<String, ArrayList<ChespelTree>> occurrences = new LinkedHashMap<String, ArrayList<ChespelTree>>();
+            HashSet<ChespelTree> always = new HashSet<ChespelTree>();
+            for (int j = 0; j < exprs.size(); ++j) {
+                boolean message = (T.getType() == ChespelLexer.SCORE && j == 1);
+                collectOccurrences(exprs.get(j), !message, occurrences, always);
+            }
+            // the largest expressions first, so that the ones inside them are not computed apart
+            ArrayList<ArrayList<ChespelTree>> repeated = new ArrayList<ArrayList<ChespelTree>>(occurrences.values());
+            Collections.sort(repeated, new Comparator<ArrayList<ChespelTree>>() {
+                public int compare(ArrayList<ChespelTree> o0, ArrayList<ChespelTree> o1) {
+                    return Integer.compare(treeSize(o1.get(0)), treeSize(o0.get(0)));
+                }
+            });
+            for (ArrayList<ChespelTree> occ : repeated) {
+                ArrayList<ChespelTree> left = new ArrayList<ChespelTree>();
+                ChespelTree first = null;
+                for (ChespelTree t : occ) {
+                    if (isInsideReplaced(t, T)) continue;
+                    left.add(t);
+                    if (first == null && always.contains(t)) first = t;
+                }
+                if (left.size() < 2 || first == null) continue;
+                computeBefore(T, first);
+                ChespelTree computed = opt_replaced.get(first);
+                for (ChespelTree t : left) opt_replaced.put(t, computed);
+            }
+        }
+    }
+
+    private void collectOccurrences(ChespelTree t, boolean always, HashMap<String, ArrayList<ChespelTree>> occurrences, HashSet<ChespelTree> always_evaluated) {
+        if (opt_replaced.containsKey(t)) return;
+        if (isWorthComputingApart(t)) {
+            String key = t.toStringTree();
+            ArrayList<ChespelTree> occ = occurrences.get(key);
+            if (occ == null) {
+                occ = new ArrayList<ChespelTree>();
+                occurrences.put(key, occ);
+            }
+            occ.add(t);
+            if (always) always_evaluated.add(t);
+        }
+        ArrayList<ChespelTree> ops = operands(t);
+        boolean short_circuit = (t.getType() == ChespelLexer.AND || t.getType() == ChespelLexer.OR);
+        for (int i = 0; i < ops.size(); ++i) {
+            collectOccurrences(ops.get(i), always && !(short_circuit && i == 1), occurrences, always_evaluated);
+        }
+    }
+
+    /* Whether 't' or an expression around it within sentence T has been replaced */
+    private boolean isInsideReplaced(ChespelTree t, ChespelTree T) {
+        for (ChespelTree p = t; p != null && p != T; p = (ChespelTree) p.getParent()) {
+            if (opt_replaced.containsKey(p)) return true;
+        }
+        return false;
+    }
+
+    private int treeSize(ChespelTree t) {
+        int size = 1;
+        for (int i = 0; i < t.getChildCount(); ++i) size += treeSize(t.getChild(i));
+        return size;
+    }
+
+
 // -------------------------------------------------------------------- //
 //  ** Functions for semantic analysis                                  //
 // -------------------------------------------------------------------- //
@@ -779,7 +2340,7 @@ public class ChespelCompiler {
     /*
     carries out typechecking and detection of other errors and warnings
     */
-    private void semanticAnalysis() {
+    void semanticAnalysis() {
         analyzeGlobals(); 
         analyzeFunctions();
         analyzeRules();
@@ -828,7 +2389,7 @@ public class ChespelCompiler {
                 references.add(ref);
             }
             if (header.size() == 0) {
-                header.add(new TypeInfo());
+                header.add(TypeInfo.get("VOID"));
                 references.add(new Boolean(false));
             }
             // define function
@@ -878,6 +2439,9 @@ public class ChespelCompiler {
         }
     }
 
+    /* Maximum absolute score of the rules declared with a 'bound' (as every num, x1000) */
+    private HashMap<String,Integer> rule_bounds = new HashMap<String,Integer>();
+
     private void analyzeRules() {
         def_type = "Rule";
         for (ChespelTree T : RuleDefinitions) {
@@ -891,6 +2455,7 @@ public class ChespelCompiler {
                 setLineNumber(optionsNode.getChild(i));
                 if (opts.contains(opt)) addError("Option " + opt + " repeated in the header of the rule.");
                 opts.add(opt);
+                if (opt.equals("bound")) rule_bounds.put(name, Integer.parseInt(optionsNode.getChild(i).getChild(0).getText()));
             }
             setLineNumber(T);
             try {
@@ -906,16 +2471,117 @@ public class ChespelCompiler {
             }
             symbolTable.pushVariableTable();
             checkTypeListInstructions(listInstr);
-            checkReturnType(listInstr, new TypeInfo("VOID"));
+            checkReturnType(listInstr, TypeInfo.get("VOID"));
             checkContainsScore(listInstr);
             checkNoUnreacheableInstructions(listInstr);
 
             treatUnusedVariables();
             symbolTable.popVariableTable();
         }
+        findRuleFeatures();
+    }
+
+    /* Rules whose score only depends on the placement of the pawns (and on the side to move) */
+    private HashSet<String> pawn_rules = new HashSet<String>();
+
+    /*
+    Board features read by each rule (besides the side to move), as a mask of
+    the f_* flags of the engine. A piece list only reads the pieces of its
+    type, and a property of a piece only reads the board at that piece
+    */
+    private static final int F_PAWNS = 1, F_BISHOPS = 2, F_ROOKS = 4, F_KNIGHTS = 8,
+        F_KINGS = 16, F_QUEENS = 32, F_CASTLED = 64;
+    private static final int F_PIECES = 63, F_ALL = 127;
+
+    private HashMap<String,Integer> rule_features = new HashMap<String,Integer>();
+
+    /* Features read by the globals and the user functions */
+    private HashMap<String,Integer> global_features;
+    private HashMap<String,Integer> function_features;
+
+    /* Features read by the predefined functions besides their argument */
+    private static final HashMap<String,Integer> predefined_features = new HashMap<String,Integer>();
+    static {
+        for (String f : Arrays.asList("value", "row", "file", "rank", "cell", "player", "startingRow",
+                                      "startingRank", "len", "toRow", "toRank", "inCenter", "inExpandedCenter")) {
+            predefined_features.put(f, 0);
+        }
+        for (String f : Arrays.asList("isIsolated", "isOpen", "isHalfOpen", "isDoubled")) {
+            predefined_features.put(f, F_PAWNS);
+        }
+        predefined_features.put("king", F_KINGS);
+        predefined_features.put("castled", F_CASTLED);
+        // these can reach any piece of the board
+        for (String f : Arrays.asList("piece", "coveredBy", "attackedBy", "check")) {
+            predefined_features.put(f, F_ALL);
+        }
+    }
+
+    /*
+    Computes the board features read by every rule. The rules which only read
+    the pawns go to the engine's pawn hash
+    */
+    private void findRuleFeatures() {
+        global_features = new HashMap<String,Integer>();
+        function_features = new HashMap<String,Integer>();
+        for (ChespelTree T : GlobalDefinitions) {
+            String id = T.getChild(1).getText();
+            // a global passed by reference can be changed by another rule
+            if (globals_passed_by_ref.contains(id)) global_features.put(id, F_ALL);
+            else global_features.put(id, boardFeatures(T.getChild(2)));
+        }
+        for (ChespelTree T : RuleDefinitions) {
+            String name = T.getChild(0).getText();
+            int features = boardFeatures(T.getChild(2));
+            rule_features.put(name, features);
+            if (T.getChildCount() > 3) features |= boardFeatures(T.getChild(3));
+            if ((features & ~F_PAWNS) == 0) pawn_rules.add(name);
+        }
     }
 
-    private void inferEmptyArrayType() {
+    private int boardFeatures(ChespelTree t) {
+        switch (t.getType()) {
+            case ChespelLexer.PIECE_LIST:
+                String type = t.getText().substring(1);
+                if (type.equals("pawns"))           return F_PAWNS;
+                else if (type.equals("bishops"))    return F_BISHOPS;
+                else if (type.equals("rooks"))      return F_ROOKS;
+                else if (type.equals("knights"))    return F_KNIGHTS;
+                else if (type.equals("kings"))      return F_KINGS;
+                else if (type.equals("queens"))     return F_QUEENS;
+                else                                return F_PIECES;
+            case ChespelLexer.ID:
+                if (!isGlobal(t)) return 0;
+                Integer features = global_features.get(t.getText());
+                return (features == null ? F_ALL : features);
+            case ChespelLexer.FUNCALL:
+                return functionFeatures(t.getChild(0).getText()) | boardFeatures(t.getChild(1));
+            case ChespelLexer.DOT:
+                return functionFeatures(t.getChild(1).getText()) | boardFeatures(t.getChild(0));
+        }
+        int features = 0;
+        for (int i = 0; i < t.getChildCount(); ++i) {
+            features |= boardFeatures(t.getChild(i));
+        }
+        return features;
+    }
+
+    /* Features read by a function; those of the user functions are computed once, by name */
+    private int functionFeatures(String name) {
+        Integer features = function_features.get(name);
+        if (features != null) return features;
+        ChespelTree f = getFunctionNode(name);
+        if (f == null) {
+            features = predefined_features.get(name);
+            return (features == null ? F_ALL : features);
+        }
+        function_features.put(name, F_ALL); // recursive functions are not analyzed
+        features = boardFeatures(f.getChild(3));
+        function_features.put(name, features);
+        return features;
+    }
+
+    void inferEmptyArrayType() {
         // empty arrays on globals
         for (ChespelTree T : GlobalDefinitions) {
             def_name = "Global";
@@ -938,9 +2604,9 @@ public class ChespelCompiler {
             def_name = "Rule";
             def_line = T.getLine();
             def_name = T.getChild(0).getText();
-            inferEmptyArrayTypeInstr(new TypeInfo(), T.getChild(2));
+            inferEmptyArrayTypeInstr(TypeInfo.get("VOID"), T.getChild(2));
             if (T.getChildCount() > 3) // Infer types for do-if
-                inferEmptyArrayTypeExpr(new TypeInfo("BOOL"), T.getChild(3).getChild(0));
+                inferEmptyArrayTypeExpr(TypeInfo.get("BOOL"), T.getChild(3).getChild(0));
         }
 
     }
@@ -953,10 +2619,10 @@ public class ChespelCompiler {
             case ChespelLexer.ASSIGN:
                 ChespelTree x = instr.getChild(0);
                 while (x.getType() == ChespelLexer.L_BRACKET) {
-                    inferEmptyArrayTypeExpr(new TypeInfo("NUM"), x.getChild(1));
+                    inferEmptyArrayTypeExpr(TypeInfo.get("NUM"), x.getChild(1));
                     x = x.getChild(0);
                 }
-                inferEmptyArrayTypeExpr(getTypeExpression(instr.getChild(0)), instr.getChild(1));
+                inferEmptyArrayTypeExpr(typeOf(instr.getChild(0)), instr.getChild(1));
                 break;
 
             case ChespelLexer.VAR_DECL:
@@ -969,12 +2635,12 @@ public class ChespelCompiler {
                 }
                 break;
             case ChespelLexer.IF:
-                inferEmptyArrayTypeExpr(new TypeInfo("BOOL"), instr.getChild(0));
+                inferEmptyArrayTypeExpr(TypeInfo.get("BOOL"), instr.getChild(0));
                 inferEmptyArrayTypeInstr(return_type, instr.getChild(1));
                 if (instr.getChildCount() > 2) inferEmptyArrayTypeInstr(return_type, instr.getChild(2));
                 break;
             case ChespelLexer.FORALL:
-                TypeInfo forall_expr = getTypeExpression(instr.getChild(0).getChild(1));
+                TypeInfo forall_expr = typeOf(instr.getChild(0).getChild(1));
                 if (forall_expr.hasEmptyArray()) {
                     setLineNumber(instr);
                     addErrorContext("Cannot infere array expression's type in forall statement");
@@ -988,7 +2654,7 @@ public class ChespelCompiler {
                 break;
 
             case ChespelLexer.WHILE:
-                inferEmptyArrayTypeExpr(new TypeInfo("BOOL"), instr.getChild(0));
+                inferEmptyArrayTypeExpr(TypeInfo.get("BOOL"), instr.getChild(0));
                 inferEmptyArrayTypeInstr(return_type, instr.getChild(1));
                 break;
 
@@ -997,8 +2663,8 @@ public class ChespelCompiler {
                 break;
 
             case ChespelLexer.SCORE:
-                inferEmptyArrayTypeExpr(new TypeInfo("NUM"), instr.getChild(0));
-                if (instr.getChildCount() > 1) inferEmptyArrayTypeExpr(new TypeInfo("STRING"), instr.getChild(1));
+                inferEmptyArrayTypeExpr(TypeInfo.get("NUM"), instr.getChild(0));
+                if (instr.getChildCount() > 1) inferEmptyArrayTypeExpr(TypeInfo.get("STRING"), instr.getChild(1));
                 break;
                 
             case ChespelLexer.FUNCALL:
@@ -1006,7 +2672,7 @@ public class ChespelCompiler {
                 ArrayList<TypeInfo> header = new ArrayList<TypeInfo>();
                 ChespelTree params = instr.getChild(1);
                 for (int i = 0; i < params.getChildCount(); ++i) {
-                    header.add(getTypeExpression(params.getChild(i)));
+                    header.add(typeOf(params.getChild(i)));
                 }
                 if (header.size() != 0) {
                     ArrayList<TypeInfo> real_header;
@@ -1020,15 +2686,15 @@ public class ChespelCompiler {
 
     private void inferEmptyArrayTypeExpr(TypeInfo type, ChespelTree T) {
         inferEmptyArrayTypeTree(type, T); // update tree node if necessary
-        type = getTypeExpression(T); // get the real type
+        type = typeOf(T); // get the real type
         switch (T.getType()) {
             case ChespelLexer.IN:
                 try {
-                    TypeInfo in_type = getTypeExpression(T.getChild(0));
-                    TypeInfo arr_type = getTypeExpression(T.getChild(1)).getArrayContent();
+                    TypeInfo in_type = typeOf(T.getChild(0));
+                    TypeInfo arr_type = typeOf(T.getChild(1)).getArrayContent();
                     TypeInfo spec_type = in_type.mergeTypes(arr_type);
                     inferEmptyArrayTypeExpr(spec_type, T.getChild(0));
-                    inferEmptyArrayTypeExpr(new TypeInfo(spec_type,1), T.getChild(1));
+                    inferEmptyArrayTypeExpr(TypeInfo.arrayOf(spec_type, 1), T.getChild(1));
                 } catch (Exception e) { throw new RuntimeException(e.getMessage()); }
 
                 break;
@@ -1047,15 +2713,15 @@ public class ChespelCompiler {
             case ChespelLexer.LE:
             case ChespelLexer.GT:
             case ChespelLexer.GE:
-                TypeInfo t = getTypeExpression(T.getChild(0)).mergeTypes(getTypeExpression(T.getChild(1)));
+                TypeInfo t = typeOf(T.getChild(0)).mergeTypes(typeOf(T.getChild(1)));
                 // Both operands must be the same (or they're already typed)
                 inferEmptyArrayTypeExpr(t, T.getChild(0));
                 inferEmptyArrayTypeExpr(t, T.getChild(1));
                 break;
             case ChespelLexer.CONCAT:
                 if (type.isString()) { // string concat, it absorbs types
-                    inferEmptyArrayTypeExpr(getTypeExpression(T.getChild(0)), T.getChild(0));
-                    inferEmptyArrayTypeExpr(getTypeExpression(T.getChild(1)), T.getChild(1));
+                    inferEmptyArrayTypeExpr(typeOf(T.getChild(0)), T.getChild(0));
+                    inferEmptyArrayTypeExpr(typeOf(T.getChild(1)), T.getChild(1));
                 }
                 else {
                     inferEmptyArrayTypeExpr(type, T.getChild(0));
@@ -1065,16 +2731,16 @@ public class ChespelCompiler {
             case ChespelLexer.L_BRACKET:
                 TypeInfo array_type = null;
                 try {
-                    array_type = new TypeInfo(type,1);
+                    array_type = TypeInfo.arrayOf(type, 1);
                 }
                 // should not happen after semantic analysis
                 catch (CompileException e) { throw new RuntimeException(e.getMessage()); } 
                 inferEmptyArrayTypeExpr(array_type, T.getChild(0));
-                inferEmptyArrayTypeExpr(new TypeInfo("NUM"), T.getChild(1));
+                inferEmptyArrayTypeExpr(TypeInfo.get("NUM"), T.getChild(1));
                 break;
             case ChespelLexer.LIST_ATOM:
                 try {
-                    TypeInfo list_type = getTypeExpression(T);
+                    TypeInfo list_type = typeOf(T);
                     for (int i = 0; i < T.getChildCount() ; ++i) {
                         inferEmptyArrayTypeExpr(list_type.getArrayContent(), T.getChild(i));
                     }
@@ -1087,7 +2753,7 @@ public class ChespelCompiler {
         switch (T.getType()) {
             case ChespelLexer.DOT:
                 header = new ArrayList<TypeInfo>();
-                header.add(getTypeExpression(T.getChild(0)));
+                header.add(typeOf(T.getChild(0)));
                 real_header = symbolTable.getFunctionRealHeader(T.getChild(1).getText(), header);
                 inferEmptyArrayTypeExpr(real_header.get(0), T.getChild(0));
                 break;
@@ -1095,7 +2761,7 @@ public class ChespelCompiler {
                 header = new ArrayList<TypeInfo>();
                 ChespelTree params = T.getChild(1);
                 for (int i = 0; i < params.getChildCount(); ++i) {
-                    header.add(getTypeExpression(params.getChild(i)));
+                    header.add(typeOf(params.getChild(i)));
                 }
                 if (header.size() != 0) {
                     real_header = symbolTable.getFunctionRealHeader(T.getChild(0).getText(), header);
@@ -1109,7 +2775,7 @@ public class ChespelCompiler {
     }
 
     private void inferEmptyArrayTypeTree(TypeInfo type, ChespelTree T) {
-        TypeInfo tree_type = getTypeExpression(T);
+        TypeInfo tree_type = typeOf(T);
         if (tree_type.isGeneric()) { T.setTypeInfo(type); return; }
         if (tree_type.isEmptyArray()) {
             assert type.isArray() : "Type of tree is EmptyArray but it's forced to be the non-array " + type.toString();
@@ -1131,7 +2797,7 @@ public class ChespelCompiler {
             if (tree_type.isEmptyArray()) {
                 assert type.isArray() : "Content of the tree's type is EmptyArray but it's forced to be the non-array " + type.toString();
                 try {
-                    T.setTypeInfo(new TypeInfo(type, n));
+                    T.setTypeInfo(TypeInfo.arrayOf(type, n));
                 } catch (CompileException e) { throw new RuntimeException(e.getMessage()); } // should not happen in infere time
                 break;
             }
@@ -1206,7 +2872,7 @@ public class ChespelCompiler {
         }
     }
 
-    private void parseConfigOptions() {
+    void parseConfigOptions() {
         //def_type = "Config options";
         //def_line = t.getLine();
         //def_name = name;
@@ -1224,37 +2890,6 @@ public class ChespelCompiler {
     }
 
 
-    private void addPredefinedFunctionsToSymbolTable() throws CompileException {
-        try {
-            BufferedReader br = new BufferedReader(new FileReader("./src/compiler/predefinedFunctionsHeaders.txt"));
-            try  {
-                String line = br.readLine();
-
-                while (line != null) {
-                    String[] words = line.split("[ ()]+");
-                    TypeInfo return_type = TypeInfo.parseString(words[0]);
-                    String name = words[1];
-                    TypeInfo param = TypeInfo.parseString(words[2]);
-                    ArrayList<TypeInfo> parameters = new ArrayList<TypeInfo>();
-                    parameters.add(param);
-                    ArrayList<Boolean> references = new ArrayList<Boolean>();
-                    references.add(new Boolean(false));
-                    symbolTable.defineFunction(name, return_type, parameters, references);
-
-                    line = br.readLine();
-                }
-            } catch(IOException e) {
-                assert false : e.getMessage();
-            } finally {
-                try {
-                    br.close();
-                } catch(IOException e) { assert false : "total failure"; }
-            }
-        } catch (FileNotFoundException e) {
-            assert false : "Could not find predefinedFunctions.txt";
-        }
-    }
-
     private void checkReturnType(ChespelTree listInstr, TypeInfo returnType) {
         assert listInstr.getType() == ChespelLexer.LIST_INSTR;
         for (int i = 0; i < listInstr.getChildCount(); ++i) {
@@ -1329,20 +2964,20 @@ public class ChespelCompiler {
         setLineNumber(t);
         switch (t.getType()) {
             case ChespelLexer.STRING_TYPE:
-                return new TypeInfo("STRING");
+                return TypeInfo.get("STRING");
             case ChespelLexer.BOARD_TYPE:
-                if (t.getText().equals("cell")) return new TypeInfo("CELL");
-                else if (t.getText().equals("row")) return new TypeInfo("ROW");
-                else if (t.getText().equals("file")) return new TypeInfo("FILE");
-                else if (t.getText().equals("rank")) return new TypeInfo("RANK");
+                if (t.getText().equals("cell")) return TypeInfo.get("CELL");
+                else if (t.getText().equals("row")) return TypeInfo.get("ROW");
+                else if (t.getText().equals("file")) return TypeInfo.get("FILE");
+                else if (t.getText().equals("rank")) return TypeInfo.get("RANK");
             case ChespelLexer.PIECE_TYPE:
-                return new TypeInfo("PIECE");
+                return TypeInfo.get("PIECE");
             case ChespelLexer.NUM_TYPE:
-                return new TypeInfo("NUM");
+                return TypeInfo.get("NUM");
             case ChespelLexer.BOOL_TYPE:
-                return new TypeInfo("BOOL");
+                return TypeInfo.get("BOOL");
             case ChespelLexer.VOID_TYPE:
-                return new TypeInfo("VOID");
+                return TypeInfo.get("VOID");
             case ChespelLexer.L_BRACKET:
                 int num_array = 0;
                 while (t.getType() == ChespelLexer.L_BRACKET) {
@@ -1350,10 +2985,10 @@ public class ChespelCompiler {
                     t = t.getChild(0);
                 }
                 TypeInfo c = getTypeFromDeclaration(t);
-                return new TypeInfo(c.toString(), num_array); // safe because grammar takes out invalid constructions
+                return TypeInfo.get(c.toString(), num_array); // safe because grammar takes out invalid constructions
             default:
                 addErrorContext("Not a type declaration " + t.toString());
-                return new TypeInfo("GENERIC");
+                return TypeInfo.get("GENERIC");
         }
     }
 
@@ -1369,20 +3004,34 @@ public class ChespelCompiler {
         return type_info;
     }
 
+    /*
+    Type of an expression already typed by the semantic analysis. Used after it
+    (empty array inference and code generation), where every expression must
+    have its type stored in the tree
+    */
+    private TypeInfo typeOf(ChespelTree t) {
+        TypeInfo type_info = t.getInfo();
+        assert type_info != null : "Expression '" + t.toStringTree() + "' not typed by the semantic analysis";
+        return type_info;
+    }
+
     private void computeTypeExpression(ChespelTree t) {
+        assert t.getInfo() == null : "Expression '" + t.toStringTree() + "' typed twice";
         TypeInfo type_info = null;
         setLineNumber(t);
         // atomic expression: it has a type by itself
         try {
             switch (t.getType()) {
                 case ChespelLexer.ID:    
-                    type_info = symbolTable.getVariableType(t.getText());
+                    SymbolTable.VariableDefinition v = symbolTable.getVariable(t.getText());
+                    t.setBinding(v);
+                    type_info = v.type;
                     break;
                 case ChespelLexer.VOID_TYPE:
-                    type_info = new TypeInfo("VOID");
+                    type_info = TypeInfo.get("VOID");
                     break;
                 case ChespelLexer.BOOL:
-                    type_info = new TypeInfo("BOOL");
+                    type_info = TypeInfo.get("BOOL");
                     break;
                 case ChespelLexer.FUNCALL:
                     checkValidFunCall(t);
@@ -1393,46 +3042,46 @@ public class ChespelCompiler {
                     }
                     break;
                 case ChespelLexer.STRING:
-                    type_info = new TypeInfo("STRING");
+                    type_info = TypeInfo.get("STRING");
                     break;
                 case ChespelLexer.ROW_LIT:
-                    type_info = new TypeInfo("ROW");
+                    type_info = TypeInfo.get("ROW");
                     break;
                 case ChespelLexer.FILE_LIT:
-                    type_info = new TypeInfo("FILE");
+                    type_info = TypeInfo.get("FILE");
                     break;
                 case ChespelLexer.RANK_LIT:
-                    type_info = new TypeInfo("RANK");
+                    type_info = TypeInfo.get("RANK");
                     break;
                 case ChespelLexer.CELL_LIT:
-                    type_info = new TypeInfo("CELL");
+                    type_info = TypeInfo.get("CELL");
                     break;
                 case ChespelLexer.RANG_CELL_LIT:
-                    type_info = new TypeInfo("CELL",1);
+                    type_info = TypeInfo.get("CELL", 1);
                     break;
                 case ChespelLexer.RANG_ROW_LIT:
-                    type_info = new TypeInfo("ROW",1);
+                    type_info = TypeInfo.get("ROW", 1);
                     break;
                 case ChespelLexer.RANG_RANK_LIT:
-                    type_info = new TypeInfo("RANK",1);
+                    type_info = TypeInfo.get("RANK", 1);
                     break;
                 case ChespelLexer.RANG_FILE_LIT:
-                    type_info = new TypeInfo("FILE",1);
+                    type_info = TypeInfo.get("FILE", 1);
                     break;
                 case ChespelLexer.BOARD_LIST:
-                    if (t.getText().equals("cells")) type_info = new TypeInfo("CELL",1);
-                    else if (t.getText().equals("rows")) type_info = new TypeInfo("ROW",1);
-                    else if (t.getText().equals("files")) type_info = new TypeInfo("FILE",1);
-                    else type_info = new TypeInfo("RANK",1);
+                    if (t.getText().equals("cells")) type_info = TypeInfo.get("CELL", 1);
+                    else if (t.getText().equals("rows")) type_info = TypeInfo.get("ROW", 1);
+                    else if (t.getText().equals("files")) type_info = TypeInfo.get("FILE", 1);
+                    else type_info = TypeInfo.get("RANK", 1);
                     break;
                 case ChespelLexer.PIECE_LIST:
-                    type_info = new TypeInfo("PIECE",1);
+                    type_info = TypeInfo.get("PIECE", 1);
                     break;
                 case ChespelLexer.NUM:
-                    type_info = new TypeInfo("NUM");
+                    type_info = TypeInfo.get("NUM");
                     break;
                 case ChespelLexer.EMPTY_LIST:
-                    type_info = new TypeInfo("EMPTY_ARRAY");
+                    type_info = TypeInfo.get("EMPTY_ARRAY");
                     break;
                 case ChespelLexer.LIST_ATOM:
                     TypeInfo list_type = getTypeExpression(t.getChild(0));
@@ -1440,11 +3089,11 @@ public class ChespelCompiler {
                         if (!list_type.equals(getTypeExpression(t.getChild(i)))) addErrorContext("Elements of the list aren't of the same type");
                         list_type = list_type.mergeTypes(getTypeExpression(t.getChild(i)));
                     }
-                    type_info = new TypeInfo(list_type, 1);
+                    type_info = TypeInfo.arrayOf(list_type, 1);
                     break;
                 case ChespelLexer.SELF:
                 case ChespelLexer.RIVAL:
-                    type_info = new TypeInfo("PLAYER");
+                    type_info = TypeInfo.get("PLAYER");
                     break;
             }
 
@@ -1515,12 +3164,12 @@ public class ChespelCompiler {
                         type_info = t0.getArrayContent();
                     } catch (CompileException e) {
                         addErrorContext(e.getMessage());
-                        type_info = new TypeInfo("GENERIC");
+                        type_info = TypeInfo.get("GENERIC");
                     }
             }
         } catch (CompileException e) {
             addErrorContext(e.getMessage());
-            type_info = new TypeInfo("GENERIC");
+            type_info = TypeInfo.get("GENERIC");
         }
 
         assert type_info != null : linenumber;
@@ -1554,23 +3203,24 @@ public class ChespelCompiler {
                     }
                     varName = varNode.getText();
                     try {
-                        varType = symbolTable.getVariableType(varName); //checks that it is already defined
-                        boolean isGlobal = symbolTable.isGlobalVariable(varName);
-                        if (isGlobal) {
+                        SymbolTable.VariableDefinition v = symbolTable.getVariable(varName); //checks that it is already defined
+                        varNode.setBinding(v);
+                        varType = v.type;
+                        if (v.global) {
                             addErrorContext("Assignment to global variable '" + varName +"'");
                         }
                         while (access_level != 0) {
                             --access_level;
                             if (!varType.isArray()) {
                                 addErrorContext("Cannot access contents of variable '"+varName +"'");
-                                varType = new TypeInfo("GENERIC");
+                                varType = TypeInfo.get("GENERIC");
                                 break;
                             }
                             varType = varType.getArrayContent();
                         }
                     } catch (CompileException e) {
                         addErrorContext(e.getMessage());
-                        varType = new TypeInfo("GENERIC");
+                        varType = TypeInfo.get("GENERIC");
                     }
                     expressionType = getTypeExpression(t.getChild(1));
                     //check that the assigned value is coherent with the type of the variable
@@ -1623,7 +3273,7 @@ public class ChespelCompiler {
                         varType = arrayType.getArrayContent();
                     } catch (CompileException e) {
                         addErrorContext(e.getMessage());
-                        varType = new TypeInfo ("GENERIC");
+                        varType = TypeInfo.get("GENERIC");
                     }
 
                     //new visibility scope for the list of instructions of the forall statement
@@ -1729,7 +3379,7 @@ public class ChespelCompiler {
             TypeInfo paramType = getTypeExpression(param);
             header.add(paramType);
         }
-        if (header.size() == 0) header.add(new TypeInfo());
+        if (header.size() == 0) header.add(TypeInfo.get("VOID"));
         String fName = t.getChild(0).getText();
         try {
             symbolTable.checkFunctionHeader(fName, header);
@@ -1748,18 +3398,33 @@ public class ChespelCompiler {
                 setLineNumber(t);
                 addErrorContext("Function '"+fName+"' has argument "+ (i+1) + " passed by reference but it's called with a non-referenciable argument");
             }
+            else if (isGlobal(params.getChild(i))) {
+                // the global can be modified through the reference, so it
+                // has to be rebuilt at every evaluation
+                globals_passed_by_ref.add(params.getChild(i).getText());
+            }
         }
     }
 
+    /* Whether the ID 't' refers to a global (it has to be bound already) */
+    private boolean isGlobal(ChespelTree t) {
+        SymbolTable.VariableDefinition v = t.getBinding();
+        return v != null && v.global;
+    }
+
+    /* Whether 'name' is a user function (and not a predefined one) */
+    private boolean isUserFunction(String name) {
+        return function_definitions.containsKey(name);
+    }
+
     /*
     Returns the AST node corresponding to the declaration of the function
     with name 'name'
     */
     private ChespelTree getFunctionNode(String name) {
-        for(ChespelTree T : FunctionDefinitions) {
-            if (name.equals(T.getChild(1).getText())) return T;
-        }
-        return null; //this is the case for predefined functions
+        ArrayList<ChespelTree> overloads = function_definitions.get(name);
+        if (overloads == null) return null; //this is the case for predefined functions
+        return overloads.get(0);
     }
 
     /**
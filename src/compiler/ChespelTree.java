@@ -46,6 +46,9 @@ public class ChespelTree extends CommonTree {
     /** Field to store the real name of the variable/function defined or called. */
     private String referTo = null;
 
+    /** Definition of the variable an ID refers to, bound during the semantic analysis. */
+    private SymbolTable.VariableDefinition binding = null;
+
     /** Constructor of the class */
     public ChespelTree(Token t) {
         super(t);
@@ -74,6 +77,15 @@ public class ChespelTree extends CommonTree {
         assert referTo != null : "Refer to not initialized";
         return referTo;
     }
+
+    public void setBinding(SymbolTable.VariableDefinition v) {
+        binding = v;
+    }
+
+    /** Returns null if the variable is not defined. */
+    public SymbolTable.VariableDefinition getBinding() {
+        return binding;
+    }
     
 // --------------------
 // Literals evaluation
@@ -85,14 +97,14 @@ public class ChespelTree extends CommonTree {
      *  but they are rounded to the nearest thousandth.
      */
     public void setNumValue() {
-        type_info = new TypeInfo("NUMERIC");
+        type_info = TypeInfo.get("NUM");
         //int numValue = (int) Math.round (Float.parseFloat(getText()) * 1000);
         // change the text to the new numValue
     }
 
     /** Define the Boolean value of the node. */
     public void setBooleanType() {
-        type_info = new TypeInfo("BOOLEAN");
+        type_info = TypeInfo.get("BOOL");
     }
 
     /**
@@ -100,7 +112,7 @@ public class ChespelTree extends CommonTree {
      * enclosing quotes. In this way, it can be printed as it is.
      */
     public void setStringType() {
-        type_info = new TypeInfo("STRING");
+        type_info = TypeInfo.get("STRING");
     }
     
     public void setRangeType() {
@@ -172,7 +184,7 @@ public class ChespelTree extends CommonTree {
 //         // }
 //       }
 
-        type_info = new TypeInfo("CELL", levelOfArray);
+        type_info = TypeInfo.get("CELL", levelOfArray);
     }
     
 //     public void setCellType() {
@@ -0,0 +1,143 @@
+package compiler;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Cache on disk of the code generated for the definitions of the programs.
+ * The code of a definition is stored under a digest of everything it depends
+ * on (its subtree, the headers of the functions and the globals, the config
+ * options and the compiler itself), so it is reused as long as none of them
+ * changes. It can be shared by several compilers running at the same time.
+ */
+
+public class CodeCache {
+
+    private File dir;
+
+    /** Stamp of the compiler, so that the code of other versions is not reused. */
+    private static String compiler_stamp = null;
+
+    public CodeCache(File dir) {
+        this.dir = dir;
+        dir.mkdirs();
+    }
+
+    /** Key of the code which depends on the given parts. */
+    public String key(String... parts) {
+        String[] stamped = new String[parts.length + 1];
+        stamped[0] = compilerStamp();
+        System.arraycopy(parts, 0, stamped, 1, parts.length);
+        return digest(stamped);
+    }
+
+    /** Hexadecimal SHA-1 digest of the parts (each one delimited). */
+    public static String digest(String... parts) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) { throw new RuntimeException(e.getMessage()); }
+        try {
+            for (int i = 0; i < parts.length; ++i) {
+                if (i > 0) md.update((byte) 0);
+                md.update(parts[i].getBytes("UTF-8"));
+            }
+        } catch (UnsupportedEncodingException e) { throw new RuntimeException(e.getMessage()); }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : md.digest()) hex.append(String.format("%02x", b));
+        return hex.toString();
+    }
+
+    /** Code stored with the key, or null if there is none. */
+    public String get(String key) {
+        File f = new File(dir, key + ".cpp");
+        if (!f.exists()) return null;
+        try {
+            Reader in = new InputStreamReader(new FileInputStream(f), "UTF-8");
+            try {
+                StringBuilder code = new StringBuilder();
+                char[] buf = new char[4096];
+                int n;
+                while ((n = in.read(buf)) > 0) code.append(buf, 0, n);
+                return code.toString();
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            return null; // a missing entry only costs its translation
+        }
+    }
+
+    /**
+     * Writer of the code to store with the key, or null if the entry cannot be
+     * created. The entry is renamed into place when the writer is closed.
+     */
+    public Entry put(String key) {
+        try {
+            return new Entry(key);
+        } catch (IOException e) {
+            return null; // the cache is only an optimization
+        }
+    }
+
+    /**
+     * Entry of the cache being written. Errors are not reported, they only
+     * cost the entry.
+     */
+    public class Entry extends Writer {
+
+        private File tmp;
+        private File entry;
+        private Writer out;
+        private boolean failed = false;
+
+        private Entry(String key) throws IOException {
+            entry = new File(dir, key + ".cpp");
+            tmp = File.createTempFile(key, ".tmp", dir);
+            out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmp), "UTF-8"));
+        }
+
+        public void write(char[] buf, int off, int len) {
+            if (failed) return;
+            try {
+                out.write(buf, off, len);
+            } catch (IOException e) { failed = true; }
+        }
+
+        public void write(String s, int off, int len) {
+            if (failed) return;
+            try {
+                out.write(s, off, len);
+            } catch (IOException e) { failed = true; }
+        }
+
+        public void flush() {}
+
+        /** Stores the entry. */
+        public void close() {
+            try {
+                out.close();
+            } catch (IOException e) { failed = true; }
+            if (failed || !tmp.renameTo(entry)) tmp.delete();
+        }
+
+        /** Drops the entry (its code is incomplete). */
+        public void discard() {
+            failed = true;
+            close();
+        }
+    }
+
+    /* Size and date of the jar (or class) of the compiler */
+    private static synchronized String compilerStamp() {
+        if (compiler_stamp != null) return compiler_stamp;
+        compiler_stamp = "";
+        try {
+            File f = new File(CodeCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (f.isDirectory()) f = new File(f, "compiler/ChespelCompiler.class");
+            compiler_stamp = f.length() + "-" + f.lastModified();
+        } catch (Exception e) {}
+        return compiler_stamp;
+    }
+}
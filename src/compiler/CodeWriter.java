@@ -0,0 +1,102 @@
+package compiler;
+
+import java.io.*;
+
+/**
+ * Writer of the generated code. The text is streamed to the output as it is
+ * appended, and every line is indented at the current level, so the code
+ * generator never has to deal with the indentation of the text it writes.
+ * Empty lines are not indented.
+ */
+
+public class CodeWriter implements Appendable, Closeable {
+
+    private static final String basic_indent = "    ";
+
+    private Writer out;
+
+    /** Writer which receives a copy of the text, or null. */
+    private Writer copy = null;
+
+    /** Indentation level of the lines written. */
+    private int level = 0;
+
+    /** Whether the next character starts a new line. */
+    private boolean line_start = true;
+
+    public CodeWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Copies the text written from now on to 'copy' too (as it is written to
+     * the output, indentation included), until it is called with null.
+     */
+    public void copyTo(Writer copy) {
+        this.copy = copy;
+    }
+
+    public void indent() {
+        ++level;
+    }
+
+    public void dedent() {
+        assert level > 0 : "Negative indentation";
+        --level;
+    }
+
+    public CodeWriter append(char c) throws IOException {
+        if (c == '\n') line_start = true;
+        else startLine();
+        emit(c);
+        return this;
+    }
+
+    public CodeWriter append(CharSequence s) throws IOException {
+        return append(s, 0, s.length());
+    }
+
+    public CodeWriter append(CharSequence s, int start, int end) throws IOException {
+        String text = s.toString();
+        while (start < end) {
+            int nl = text.indexOf('\n', start);
+            if (nl < 0 || nl >= end) nl = end;
+            if (nl > start) {
+                startLine();
+                emit(text, start, nl - start);
+            }
+            if (nl < end) {
+                emit('\n');
+                line_start = true;
+            }
+            start = nl + 1;
+        }
+        return this;
+    }
+
+    /** Writes s followed by a new line. */
+    public CodeWriter line(CharSequence s) throws IOException {
+        append(s);
+        return append('\n');
+    }
+
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void startLine() throws IOException {
+        if (!line_start) return;
+        for (int i = 0; i < level; ++i) emit(basic_indent, 0, basic_indent.length());
+        line_start = false;
+    }
+
+    private void emit(char c) throws IOException {
+        out.write(c);
+        if (copy != null) copy.write(c);
+    }
+
+    private void emit(String s, int start, int length) throws IOException {
+        out.write(s, start, length);
+        if (copy != null) copy.write(s, start, length);
+    }
+}
@@ -15,6 +15,17 @@ public class ConfigOptions {
         options.put("centipawn_value", new ChpOption ("centipawn_value", "int", ChespelLexer.NUM, new Integer (1)));
         options.put("default_PStables", new ChpOption("default_PStables", "bool", ChespelLexer.BOOL, new String ("false")));
         options.put("debug", new ChpOption("debug", "bool", ChespelLexer.BOOL, new String ("false")));
+        options.put("static_globals", new ChpOption("static_globals", "bool", ChespelLexer.BOOL, new String ("true")));
+        // Size in MB of the engine's eval cache (0 disables it). Stored as every num (x1000)
+        options.put("eval_cache_mb", new ChpOption("eval_cache_mb", "int", ChespelLexer.NUM, Integer.valueOf(4000)));
+        // Size in MB of the engine's hash for the rules which only depend on the pawns (0 disables it)
+        options.put("pawn_hash_mb", new ChpOption("pawn_hash_mb", "int", ChespelLexer.NUM, Integer.valueOf(2000)));
+        // Reuse the score of a rule when the board features it reads didn't change
+        options.put("incremental", new ChpOption("incremental", "bool", ChespelLexer.BOOL, new String ("false")));
+        // Reuse the results of the pure functions within an eval (see ChespelCompiler.findMemoizedFunctions)
+        options.put("memoize", new ChpOption("memoize", "bool", ChespelLexer.BOOL, new String ("true")));
+        // Count the calls and the time of every rule and function (shown by the profile command of the engine)
+        options.put("profile", new ChpOption("profile", "bool", ChespelLexer.BOOL, new String ("false")));
     }
 
     public void setConfigOption(String name, ChespelTree value) throws CompileException {
@@ -25,6 +36,11 @@ public class ConfigOptions {
         }
     }
 
+    public boolean isEnabled(String name) {
+        ChpOption o = options.get(name);
+        return o != null && o.value.equals("true");
+    }
+
     public ArrayList<ChpOption> getOptions() {
         return new ArrayList(options.values());
     }
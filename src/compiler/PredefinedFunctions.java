@@ -0,0 +1,86 @@
+// Generated by the Makefile from predefinedFunctionsHeaders.txt, do not edit
+package compiler;
+
+/** Headers of the predefined functions (one parameter each) */
+final class PredefinedFunctions {
+
+    private PredefinedFunctions() {}
+
+    static final String[] NAMES = {
+        "value",
+        "row",
+        "file",
+        "player",
+        "piece",
+        "castled",
+        "startingRow",
+        "coveredBy",
+        "attackedBy",
+        "check",
+        "cell",
+        "rank",
+        "startingRank",
+        "len",
+        "toRow",
+        "toRank",
+        "inCenter",
+        "inExpandedCenter",
+        "isIsolated",
+        "isOpen",
+        "isHalfOpen",
+        "king",
+        "isDoubled"
+    };
+
+    static final TypeInfo[] RETURN_TYPES = {
+        TypeInfo.get("NUM"),
+        TypeInfo.get("ROW"),
+        TypeInfo.get("FILE"),
+        TypeInfo.get("PLAYER"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("BOOL"),
+        TypeInfo.get("ROW"),
+        TypeInfo.get("PIECE", 1),
+        TypeInfo.get("PIECE", 1),
+        TypeInfo.get("BOOL"),
+        TypeInfo.get("CELL"),
+        TypeInfo.get("RANK"),
+        TypeInfo.get("RANK"),
+        TypeInfo.get("NUM"),
+        TypeInfo.get("ROW"),
+        TypeInfo.get("RANK"),
+        TypeInfo.get("BOOL"),
+        TypeInfo.get("BOOL"),
+        TypeInfo.get("BOOL"),
+        TypeInfo.get("BOOL"),
+        TypeInfo.get("BOOL"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("BOOL")
+    };
+
+    static final TypeInfo[] PARAMETER_TYPES = {
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("CELL"),
+        TypeInfo.get("PLAYER"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PLAYER"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("GENERIC_ARRAY"),
+        TypeInfo.get("RANK"),
+        TypeInfo.get("ROW"),
+        TypeInfo.get("CELL"),
+        TypeInfo.get("CELL"),
+        TypeInfo.get("PIECE"),
+        TypeInfo.get("FILE"),
+        TypeInfo.get("FILE"),
+        TypeInfo.get("PLAYER"),
+        TypeInfo.get("PIECE")
+    };
+}
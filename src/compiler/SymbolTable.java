@@ -28,43 +28,48 @@
 package compiler;
 
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.ListIterator;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.List;
-import java.util.Iterator;
 import java.util.Collections;
 
 /**
  * Class to represent the span of visibility of variables.
- * The memory is organized as a stack of activation
- * records and each entry in the activation record contains is a pair
- * <name of variable,value>.
+ * The variables of the nested scopes are kept in a single stack, and the
+ * start of each scope is an index in it. The variable visible with each
+ * name is found in a map, and each definition keeps the one it shadows,
+ * which becomes visible again when its scope is closed.
  */
  
 public class SymbolTable {
 
-    /** Stack of activation records */
-    private LinkedList<HashMap<String,VariableDefinition>> VariableTables;
+    /** Stack of the variables defined in the open scopes */
+    private ArrayList<VariableDefinition> Variables;
 
-    /** Reference to the current activation record */
-    private HashMap<String,VariableDefinition> CurrentVT = null;
+    /** Index in Variables of the first variable of each open scope */
+    private ArrayList<Integer> ScopeStarts;
+
+    /** Variable visible with each name (not including globals) */
+    private HashMap<String,VariableDefinition> Visible;
 
     private HashMap<String,FunctionDefinition> FunctionTable;
 
+    /** Predefined functions, shared by all the tables. A table copies a
+     * predefined function into FunctionTable before adding headers to it */
+    private static final HashMap<String,FunctionDefinition> PredefinedTable = predefinedTable();
+
     private HashMap<String,VariableDefinition> GlobalTable;
 
     private HashMap<String,RuleDefinition> RuleTable;
 
 
-    class Parameter {
+    static class Parameter {
         public TypeInfo type;
         public boolean ref;
 
         public Parameter(TypeInfo type, boolean reference) {
-            this.type = new TypeInfo(type);
+            this.type = type;
             ref = reference;
         }
         @Override
@@ -84,7 +89,7 @@ public class SymbolTable {
         }
     }
 
-    class Header {
+    static class Header {
         public ArrayList<Parameter> parameters;
 
         public Header(List<TypeInfo> paramTypes, List<Boolean> paramRefs) {
@@ -106,7 +111,7 @@ public class SymbolTable {
         public ArrayList<TypeInfo> types() {
             ArrayList<TypeInfo> ts = new ArrayList<TypeInfo>();
             for (Parameter p : parameters) {
-                ts.add(new TypeInfo(p.type));
+                ts.add(p.type);
             }
             return ts;
         }
@@ -149,7 +154,7 @@ public class SymbolTable {
     Each list corresponds to a different header, and it
     contains the types of the parameters in order of occurrence. 
     */
-    class FunctionDefinition {
+    static class FunctionDefinition {
         private String func_name;
         private TypeInfo return_type;
         private HashSet<Header> headers;
@@ -161,10 +166,17 @@ public class SymbolTable {
         public FunctionDefinition(String func_name, TypeInfo returnType,
                 ArrayList<TypeInfo> paramTypes, ArrayList<Boolean> paramRefs) throws CompileException {
             this.func_name = func_name;
-            return_type = new TypeInfo(returnType); 
+            return_type = returnType; 
             headers = new HashSet<Header>();
             headers.add(new Header(paramTypes, paramRefs));
         }
+
+        /** Copy of a definition, with its own set of headers */
+        public FunctionDefinition(FunctionDefinition fd) {
+            func_name = fd.func_name;
+            return_type = fd.return_type;
+            headers = new HashSet<Header>(fd.headers);
+        }
         /*
         Adds a new header to this function definition. It is necessary to check that the return
         value matches.
@@ -205,7 +217,7 @@ public class SymbolTable {
         }
 
         public TypeInfo getReturnType() {
-            return new TypeInfo(return_type);
+            return return_type;
         }
 
         public ArrayList<TypeInfo> getRealHeader(List<TypeInfo> header) {
@@ -259,7 +271,7 @@ public class SymbolTable {
     even if the rule options are different.
     Options are stored in a set of strings.
     */
-    class RuleDefinition {
+    static class RuleDefinition {
         private HashSet<String> options;
 
         /*
@@ -277,11 +289,16 @@ public class SymbolTable {
         }
     }
 
-    class VariableDefinition implements Comparable<VariableDefinition> {
+    static class VariableDefinition implements Comparable<VariableDefinition> {
         public boolean used;
         public String name;
         public TypeInfo type;
         public int line;
+        public boolean global = false;
+        /** Scope of the variable (depth of nesting) */
+        public int scope;
+        /** Variable with the same name hidden by this one */
+        public VariableDefinition shadowed = null;
         public VariableDefinition(String name, TypeInfo type, int line) { this.name = name; this.type = type; used = false; this.line = line; }
         @Override
         public int compareTo(VariableDefinition v) {
@@ -293,25 +310,53 @@ public class SymbolTable {
 
     /** Constructor of the memory */
     public SymbolTable() {
-        VariableTables = new LinkedList<HashMap<String,VariableDefinition>>();
+        Variables = new ArrayList<VariableDefinition>();
+        ScopeStarts = new ArrayList<Integer>();
+        Visible = new HashMap<String,VariableDefinition>();
         FunctionTable = new HashMap<String,FunctionDefinition>();
         GlobalTable = new HashMap<String,VariableDefinition>();
         RuleTable = new HashMap<String,RuleDefinition>();
-        CurrentVT = null;
     }
 
-    /** Creates a new activation record on the top of the stack */
+    private static HashMap<String,FunctionDefinition> predefinedTable() {
+        HashMap<String,FunctionDefinition> table = new HashMap<String,FunctionDefinition>();
+        for (int i = 0; i < PredefinedFunctions.NAMES.length; ++i) {
+            String name = PredefinedFunctions.NAMES[i];
+            ArrayList<TypeInfo> parameters = new ArrayList<TypeInfo>();
+            parameters.add(PredefinedFunctions.PARAMETER_TYPES[i]);
+            ArrayList<Boolean> references = new ArrayList<Boolean>();
+            references.add(Boolean.FALSE);
+            try {
+                FunctionDefinition fd = table.get(name);
+                if (fd == null) table.put(name, new FunctionDefinition(name, PredefinedFunctions.RETURN_TYPES[i], parameters, references));
+                else fd.addFunctionDef(PredefinedFunctions.RETURN_TYPES[i], parameters, references);
+            } catch (CompileException e) {
+                throw new RuntimeException("Wrong predefined function '" + name + "': " + e.getMessage());
+            }
+        }
+        return table;
+    }
+
+    /** Definition of a function, predefined or not (null if it is not defined) */
+    private FunctionDefinition getFunction(String name) {
+        FunctionDefinition fd = FunctionTable.get(name);
+        if (fd == null) fd = PredefinedTable.get(name);
+        return fd;
+    }
+
+    /** Opens a new scope */
     public void pushVariableTable() {
-        CurrentVT = new HashMap<String,VariableDefinition>();
-        VariableTables.addLast (CurrentVT);
+        ScopeStarts.add(Variables.size());
     }
 
-    /** Destroys the current activation record */
+    /** Closes the current scope, the variables it hid become visible again */
     public void popVariableTable() {
-        VariableTables.removeLast();
-        if (VariableTables.isEmpty()) CurrentVT = null;
-        else CurrentVT = VariableTables.getLast();
-        //StackTrace.removeLast();
+        int start = ScopeStarts.remove(ScopeStarts.size() - 1);
+        for (int i = Variables.size() - 1; i >= start; --i) {
+            VariableDefinition v = Variables.remove(i);
+            if (v.shadowed == null) Visible.remove(v.name);
+            else Visible.put(v.name, v.shadowed);
+        }
     }
 
     /** Defines the value of a variable. If the variable does not
@@ -320,13 +365,24 @@ public class SymbolTable {
      * @param value The value of the variable
      */
     public void defineVariable(String name, TypeInfo var_type, int line) throws CompileException {
-        if (CurrentVT.get(name) == null) CurrentVT.put(name, new VariableDefinition (name, new TypeInfo (var_type),line)); // New definition
-        else throw new CompileException("Variable '" + name + "' already defined"); // Error, name already defined
+        int scope = ScopeStarts.size();
+        VariableDefinition prev = Visible.get(name);
+        if (prev != null && prev.scope == scope) throw new CompileException("Variable '" + name + "' already defined"); // Error, name already defined
+        VariableDefinition v = new VariableDefinition (name, var_type,line); // New definition
+        v.scope = scope;
+        v.shadowed = prev;
+        Variables.add(v);
+        Visible.put(name, v);
     }
 
     public void defineFunction(String name, TypeInfo returnValue, ArrayList<TypeInfo> parameters, ArrayList<Boolean> refs) throws CompileException {
         FunctionDefinition s = FunctionTable.get(name);
-        if (s == null) {
+        if (s == null && PredefinedTable.containsKey(name)) { // new header for a predefined function
+            s = new FunctionDefinition(PredefinedTable.get(name));
+            s.addFunctionDef(returnValue, parameters, refs);
+            FunctionTable.put(name, s);
+        }
+        else if (s == null) {
             FunctionTable.put(name, new FunctionDefinition(name, returnValue, parameters, refs));
         }
         else {
@@ -341,22 +397,16 @@ public class SymbolTable {
 
     public void defineGlobal(String name, TypeInfo type, int line) throws CompileException {
         if (GlobalTable.get(name) != null ) throw new CompileException("Global '" + name + "' already defined");
-        GlobalTable.put(name, new VariableDefinition (name, new TypeInfo (type),line));
+        VariableDefinition g = new VariableDefinition (name, type,line);
+        g.global = true;
+        GlobalTable.put(name, g);
     }
 
-    /** Gets the typeInfo of the variable.
+    /** Gets the definition of the variable visible with a name, and marks it as used.
      * @param name The name of the variable
      */
-    public TypeInfo getVariableType(String name) throws CompileException {
-        VariableDefinition v = null;
-        for (Iterator<HashMap<String,VariableDefinition>> it = VariableTables.descendingIterator(); it.hasNext();) {
-            HashMap<String,VariableDefinition> table = it.next();
-            v = table.get(name);
-            if (v != null) {
-                v.used = true;
-                return v.type;
-            }
-        }
+    public VariableDefinition getVariable(String name) throws CompileException {
+        VariableDefinition v = Visible.get(name);
         if (v == null) { // might be a global
             v = GlobalTable.get(name);
             if (v == null) {
@@ -364,17 +414,11 @@ public class SymbolTable {
             }
         }
         v.used = true;
-        return v.type;
-    }
-
-    public boolean isGlobalVariable(String name) {
-        for (Iterator<HashMap<String,VariableDefinition>> it = VariableTables.descendingIterator(); it.hasNext();) 
-            if (it.next().get(name) != null) return false;
-        return GlobalTable.get(name) != null;
+        return v;
     }
 
     public void checkFunctionHeader(String name, List<TypeInfo> header) throws CompileException {
-        FunctionDefinition fd = FunctionTable.get(name);
+        FunctionDefinition fd = getFunction(name);
         if (fd == null) {
             throw new CompileException ("Function '" + name + "' not defined");
         }
@@ -382,7 +426,7 @@ public class SymbolTable {
     }
 
     public TypeInfo getFunctionReturnType(String name) throws CompileException {
-        FunctionDefinition fd = FunctionTable.get(name);
+        FunctionDefinition fd = getFunction(name);
         if (fd == null) {
             throw new CompileException ("Function '" + name + "' not defined");
         }
@@ -394,7 +438,8 @@ public class SymbolTable {
     }
 
     public ArrayList<String> getUnusedVariables() {
-        ArrayList<VariableDefinition> v_def = new ArrayList<VariableDefinition>(CurrentVT.values());
+        int start = ScopeStarts.get(ScopeStarts.size() - 1);
+        ArrayList<VariableDefinition> v_def = new ArrayList<VariableDefinition>(Variables.subList(start, Variables.size()));
         Collections.sort(v_def);
         int i = 0;
         while (i < v_def.size() && !v_def.get(i).used) ++i;
@@ -414,7 +459,7 @@ public class SymbolTable {
     }
 
     public ArrayList<TypeInfo> getFunctionRealHeader(String name, List<TypeInfo> header) {
-        FunctionDefinition fd = FunctionTable.get(name);
+        FunctionDefinition fd = getFunction(name);
         if (fd == null) {
             throw new RuntimeException ("Function '" + name + "' has passed the semantic check but now cannot be found.");
         }
@@ -422,7 +467,7 @@ public class SymbolTable {
     }
 
     public ArrayList<Boolean> getFunctionPREF(String name, List<TypeInfo> header) {
-        FunctionDefinition fd = FunctionTable.get(name);
+        FunctionDefinition fd = getFunction(name);
         if (fd == null) {
             throw new RuntimeException ("function '" + name + "' has passed the semantic check but now cannot be found.");
         }
@@ -39,6 +39,9 @@ package compiler;
  * All the operations on constants are calculated in-place,
  * i.e., the result is stored in the same data.
  * The type VOID is used to represent void values on function returns.
+ * Types are immutable and canonical: there is a single instance of each
+ * type (see get and arrayOf), so they can be shared by all the nodes and
+ * symbols, and identical types are the same object.
  */
 
 import parser.*;
@@ -61,20 +64,43 @@ public class TypeInfo {
         GENERIC // used for unclear types due to an error
     ;}
 
-    private Type type;
-    private TypeInfo content;
-    
-    /** Constructor for arrays */
-    TypeInfo(String s, int levelOfArray) { // used only internally when type to return is known
-        assert !s.equals("VOID") && !s.equals("ARRAY") && !s.equals("GENERIC_ARRAY") && !s.equals("EMPTY_ARRAY_CONTENT");
-        if (levelOfArray == 0) {
-            type = getType(s);
-            content = null;
-        }
-        else {
-            type = Type.ARRAY;
-            content = new TypeInfo(s, levelOfArray-1);
+    private final Type type;
+    private final TypeInfo content;
+
+    /** Canonical array of this type (created on demand). */
+    private TypeInfo array = null;
+
+    /** C++ code of the type, cached by the compiler. */
+    String code = null;
+
+    /** Canonical instances of the types which are not arrays. */
+    private static final TypeInfo[] basic_types = new TypeInfo[Type.values().length];
+
+    static {
+        for (Type t : Type.values()) {
+            if (t != Type.ARRAY && t != Type.EMPTY_ARRAY) basic_types[t.ordinal()] = new TypeInfo(t, null);
         }
+        basic_types[Type.EMPTY_ARRAY.ordinal()] = new TypeInfo(Type.EMPTY_ARRAY, basic_types[Type.EMPTY_ARRAY_CONTENT.ordinal()]);
+    }
+
+    private TypeInfo(Type type, TypeInfo content) {
+        this.type = type;
+        this.content = content;
+    }
+
+    /** Returns the type named s (which cannot be an array). */
+    public static TypeInfo get(String s) {
+        Type type = Type.valueOf(s);
+        assert type != Type.ARRAY;
+        return basic_types[type.ordinal()];
+    }
+
+    /** Returns the type named s inside levelOfArray arrays. */
+    public static TypeInfo get(String s, int levelOfArray) { // used only internally when type to return is known
+        assert !s.equals("VOID") && !s.equals("ARRAY") && !s.equals("GENERIC_ARRAY") && !s.equals("EMPTY_ARRAY_CONTENT");
+        TypeInfo t = get(s);
+        for (int i = 0; i < levelOfArray; ++i) t = t.arrayOf();
+        return t;
     }
 
     public static TypeInfo parseString(String s) {
@@ -85,65 +111,43 @@ public class TypeInfo {
             levelOfArray++;
         }
         String ss = s.substring(i, s.length()-i);
-        if (ss.equals("num")) return new TypeInfo("NUM", levelOfArray);
-        else if (ss.equals("bool")) return new TypeInfo("BOOL", levelOfArray);
-        else if (ss.equals("piece")) return new TypeInfo("PIECE", levelOfArray);
-        else if (ss.equals("string")) return new TypeInfo("STRING", levelOfArray);
-        else if (ss.equals("cell")) return new TypeInfo("CELL", levelOfArray);
-        else if (ss.equals("row")) return new TypeInfo("ROW", levelOfArray);
-        else if (ss.equals("rank")) return new TypeInfo("RANK", levelOfArray);
-        else if (ss.equals("file")) return new TypeInfo("FILE", levelOfArray);
-        else if (ss.equals("player")) return new TypeInfo("PLAYER", levelOfArray);
-        else if (ss.equals("pawn")) return new TypeInfo("PIECE", levelOfArray);
-        else if (ss.equals("genericArray")) { assert levelOfArray == 0; return new TypeInfo("GENERIC_ARRAY"); }
+        if (ss.equals("num")) return get("NUM", levelOfArray);
+        else if (ss.equals("bool")) return get("BOOL", levelOfArray);
+        else if (ss.equals("piece")) return get("PIECE", levelOfArray);
+        else if (ss.equals("string")) return get("STRING", levelOfArray);
+        else if (ss.equals("cell")) return get("CELL", levelOfArray);
+        else if (ss.equals("row")) return get("ROW", levelOfArray);
+        else if (ss.equals("rank")) return get("RANK", levelOfArray);
+        else if (ss.equals("file")) return get("FILE", levelOfArray);
+        else if (ss.equals("player")) return get("PLAYER", levelOfArray);
+        else if (ss.equals("pawn")) return get("PIECE", levelOfArray);
+        else if (ss.equals("genericArray")) { assert levelOfArray == 0; return get("GENERIC_ARRAY"); }
         assert false: "Could not parse type " + ss;
-        return new TypeInfo(); //dummy
+        return get("VOID"); //dummy
     }
 
-    TypeInfo (TypeInfo t, int levelOfArray) throws CompileException {
+    /** Returns the type t inside levelOfArray arrays. */
+    public static TypeInfo arrayOf(TypeInfo t, int levelOfArray) throws CompileException {
         assert (t.type != Type.GENERIC_ARRAY); // used only internally, it cannot come from chp files
         if (t.type == Type.VOID) { // error
             throw new CompileException( t.toString() + " cannot be inside an ARRAY");
         }
-        if (t.type == Type.EMPTY_ARRAY_CONTENT && levelOfArray == 1) {
-            type = Type.EMPTY_ARRAY;
-            content = new TypeInfo("EMPTY_ARRAY_CONTENT");
-        }
-        else if (levelOfArray == 0) {
-            assert (t.type != Type.EMPTY_ARRAY_CONTENT); // shouldn't happen because it's the result of TypeInfo(EMPTY_ARRAY_CONTENT,0)
-            type = t.type;
-            if (t.isArray() && !t.isGenericArray() && !t.isEmptyArray()) content = new TypeInfo (t.content);
-            if (t.isEmptyArray()) content = new TypeInfo("EMPTY_ARRAY_CONTENT");
-        }
-        else {
-           type = Type.ARRAY;
-           content = new TypeInfo(t, levelOfArray-1);
+        if (t.type == Type.EMPTY_ARRAY_CONTENT && levelOfArray == 1) return get("EMPTY_ARRAY");
+        if (levelOfArray == 0) {
+            assert (t.type != Type.EMPTY_ARRAY_CONTENT); // shouldn't happen because it's the result of arrayOf(EMPTY_ARRAY_CONTENT,0)
+            return t;
         }
+        return arrayOf(t, levelOfArray-1).arrayOf();
     }
 
-    /** Constructor for void */
-    TypeInfo() {type = Type.VOID; content = null; }
-    
-    /** Constructor for types */
-    TypeInfo(String s) { 
-        content = null;
-        type = getType(s);
-        if (type == Type.EMPTY_ARRAY) content = new TypeInfo("EMPTY_ARRAY_CONTENT");
-        assert type != Type.ARRAY;
-    }
-    
-    /** Copy for TypeInfo */
-    TypeInfo(TypeInfo t) {
-        type = t.type;
-        if (type == Type.ARRAY || type == Type.EMPTY_ARRAY) content = new TypeInfo(t.content);
-        else content = null;
-    }
-    
-    private Type getType(String s) {
-        return Type.valueOf(s);
+    /** Canonical array of this type. */
+    private synchronized TypeInfo arrayOf() {
+        if (array == null) array = new TypeInfo(Type.ARRAY, this);
+        return array;
     }
     
     public boolean equals(TypeInfo t) {
+        if (this == t) return true;
         if (type == Type.GENERIC || t.type == Type.GENERIC ||
                 type == Type.EMPTY_ARRAY_CONTENT || t.type == Type.EMPTY_ARRAY_CONTENT) return true;
         if (type == Type.GENERIC_ARRAY || t.type == Type.GENERIC_ARRAY) return isArray() && t.isArray();
@@ -186,8 +190,8 @@ public class TypeInfo {
     public boolean isGeneric() { return type == Type.GENERIC; }
     
     public TypeInfo getArrayContent() throws CompileException {
-        if (type == Type.GENERIC || type == Type.GENERIC_ARRAY) return new TypeInfo("GENERIC");
-        if (type == Type.EMPTY_ARRAY) return new TypeInfo("EMPTY_ARRAY_CONTENT");
+        if (type == Type.GENERIC || type == Type.GENERIC_ARRAY) return get("GENERIC");
+        if (type == Type.EMPTY_ARRAY) return get("EMPTY_ARRAY_CONTENT");
         if (type != Type.ARRAY) throw new CompileException("Cannot get content's type of " + this.toString());
         return content;
     }
@@ -195,15 +199,15 @@ public class TypeInfo {
     /** Returns the most specific types between two types.
      *  Assumes they type together (i.e. they're equal). */
     public TypeInfo mergeTypes(TypeInfo t) { // Return the most specific one
-        if (type == Type.GENERIC) return new TypeInfo(t);
-        if (t.type == Type.GENERIC) return new TypeInfo(this);
-        if (type == Type.GENERIC_ARRAY) return new TypeInfo(t);
-        if (t.type == Type.GENERIC_ARRAY) return new TypeInfo(this);
-        if (type == Type.EMPTY_ARRAY_CONTENT) return new TypeInfo(t);
-        if (t.type == Type.EMPTY_ARRAY_CONTENT) return new TypeInfo(this);
-        if (type == Type.EMPTY_ARRAY) return new TypeInfo(t);
-        if (t.type == Type.EMPTY_ARRAY) return new TypeInfo(this);
-        return new TypeInfo(this);
+        if (type == Type.GENERIC) return t;
+        if (t.type == Type.GENERIC) return this;
+        if (type == Type.GENERIC_ARRAY) return t;
+        if (t.type == Type.GENERIC_ARRAY) return this;
+        if (type == Type.EMPTY_ARRAY_CONTENT) return t;
+        if (t.type == Type.EMPTY_ARRAY_CONTENT) return this;
+        if (type == Type.EMPTY_ARRAY) return t;
+        if (t.type == Type.EMPTY_ARRAY) return this;
+        return this;
     }
     
     /** Returns a string representing the data in textual form. */
@@ -222,35 +226,35 @@ public class TypeInfo {
     */
     public TypeInfo checkTypeArithmetic (TypeInfo d) throws CompileException {
         if (this.isConvertibleToNum() && d.isConvertibleToNum()) {
-            if (this.equals(d)) return new TypeInfo("NUM");
-            if (this.isNum()) return new TypeInfo(d);
-            if (d.isNum()) return new TypeInfo(this);
+            if (this.equals(d)) return get("NUM");
+            if (this.isNum()) return d;
+            if (d.isNum()) return this;
         }
         throw new CompileException("Cannot perform arithmetic operation between " +
             this.toString() + " and " + d.toString());
     }
 
     public TypeInfo checkTypeConcat (TypeInfo d) throws CompileException {
-        if (type == Type.GENERIC || d.type == Type.GENERIC) return new TypeInfo("GENERIC");
-        if (type == Type.STRING || d.type == Type.STRING) return new TypeInfo("STRING");
+        if (type == Type.GENERIC || d.type == Type.GENERIC) return get("GENERIC");
+        if (type == Type.STRING || d.type == Type.STRING) return get("STRING");
         if (!this.equals(d) || !isArray()) throw new CompileException("Cannot concatenate " + this.toString() + " with " + d.toString()); // arrays
-        return new TypeInfo((this.hasEmptyArray() ? d : this ));
+        return (this.hasEmptyArray() ? d : this);
     }
     
     public TypeInfo checkTypeBoolOp (TypeInfo d) throws CompileException {
         if (!this.isBool() || !d.isBool()) throw new CompileException("Cannot perform boolean operation between " + this.toString() + " and " + d.toString());
-        return new TypeInfo("BOOL");
+        return get("BOOL");
     }
     
     public TypeInfo checkTypeIn (TypeInfo d) throws CompileException { // f.e. "3 in [1,2,3]"
         if (!this.equals(d.getArrayContent())) throw new CompileException("Cannot check if element of type " + this.toString() + " is in " + d.toString());
-        return new TypeInfo("BOOL");
+        return get("BOOL");
     }
 
     public TypeInfo checkTypeEquality (TypeInfo d) throws CompileException {
-        if (type != Type.VOID && this.equals(d)) return new TypeInfo("BOOL");
+        if (type != Type.VOID && this.equals(d)) return get("BOOL");
         if (type == Type.ROW && d.type == Type.RANK || type == Type.RANK && d.type == Type.ROW) {
-            return new TypeInfo("BOOL"); //allow comparison between row and rank
+            return get("BOOL"); //allow comparison between row and rank
         }
         if (type == d.type && type == Type.ARRAY ) return  content.checkTypeEquality(d.content);
         throw new CompileException("Cannot check equality between " +
@@ -264,7 +268,7 @@ public class TypeInfo {
     public TypeInfo checkTypeOrder (TypeInfo d) throws CompileException {
         if (this.isConvertibleToNum() && d.isConvertibleToNum()) {
             if (this.type == d.type || this.isNum() || d.isNum()) {
-                return new TypeInfo("BOOL");
+                return get("BOOL");
             }
         }
         throw new CompileException("Cannot perform arithmetic operation between " + this.toString() + " and " + d.toString());
@@ -272,12 +276,12 @@ public class TypeInfo {
 
     public TypeInfo checkTypeUnaryBool () throws CompileException {
         if (!this.isBool()) throw new CompileException("Cannot perform boolean unary operation over " + this.toString());
-        return new TypeInfo("BOOL");
+        return get("BOOL");
     }
 
     public TypeInfo checkTypeUnaryArithmetic () throws CompileException {
         if (!this.isNum()) throw new CompileException("Cannot perform arithmetic unary operation over " + this.toString());
-        return new TypeInfo("NUM");
+        return get("NUM");
     }
     
 }
@@ -101,7 +101,7 @@ rule_name
 
 rule_opt    :   (o+=option (',' o+=option)*)? -> ^(RULE_OPTIONS $o*) ;
 
-option      :   SYM | 'opening' | 'midgame' | 'endgame' ; 
+option      :   SYM | 'opening' | 'midgame' | 'endgame' | BOUND^ num_lit ; 
 
 doif    :       d=DOIF expr -> ^(DOIF[$d,"DOIF"] expr) ;
 
@@ -254,6 +254,7 @@ FORALL  : 'forall' ;
 SCORE       :   'score' ;
 RULE        :   'rule' ;
 SYM         :   'sym' ;
+BOUND       :   'bound' ;
 BOARD_TYPE  :   'cell'|'row'|'file'|'rank' ;
 PIECE_TYPE  :   'piece'|'pawn'|'bishop'|'rook'|'knight'|'king'|'queen' ;
 IN  :   'in' ;
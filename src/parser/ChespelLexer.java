@@ -0,0 +1,3542 @@
+// $ANTLR 3.4 /root/project/src/parser/Chespel.g 2026-10-18 05:55:53
+
+package parser;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class ChespelLexer extends Lexer {
+    public static final int EOF=-1;
+    public static final int T__86=86;
+    public static final int T__87=87;
+    public static final int T__88=88;
+    public static final int T__89=89;
+    public static final int T__90=90;
+    public static final int T__91=91;
+    public static final int T__92=92;
+    public static final int T__93=93;
+    public static final int T__94=94;
+    public static final int T__95=95;
+    public static final int ACCESS_ATOM=4;
+    public static final int AND=5;
+    public static final int ARGLIST=6;
+    public static final int ASSIGN=7;
+    public static final int BOARD_LIST=8;
+    public static final int BOARD_TYPE=9;
+    public static final int BOOL=10;
+    public static final int BOOL_TYPE=11;
+    public static final int BOUND=12;
+    public static final int CELL_LIT=13;
+    public static final int COMMENT=14;
+    public static final int CONCAT=15;
+    public static final int CONFIG=16;
+    public static final int DIV=17;
+    public static final int DOIF=18;
+    public static final int DOT=19;
+    public static final int DOUBLE_EQUAL=20;
+    public static final int ELSE=21;
+    public static final int EMPTY_LIST=22;
+    public static final int EQUAL=23;
+    public static final int ESC_SEQ=24;
+    public static final int FALSE=25;
+    public static final int FILE_ID=26;
+    public static final int FILE_LIT=27;
+    public static final int FORALL=28;
+    public static final int FUNCALL=29;
+    public static final int FUNCTION_DEF=30;
+    public static final int GE=31;
+    public static final int GLOBAL=32;
+    public static final int GLOBAL_DEF=33;
+    public static final int GT=34;
+    public static final int ID=35;
+    public static final int IF=36;
+    public static final int IN=37;
+    public static final int LE=38;
+    public static final int LIST_ATOM=39;
+    public static final int LIST_CONF=40;
+    public static final int LIST_DEF=41;
+    public static final int LIST_INSTR=42;
+    public static final int LIST_VAR=43;
+    public static final int LT=44;
+    public static final int L_BRACKET=45;
+    public static final int MINUS=46;
+    public static final int MUL=47;
+    public static final int NOT=48;
+    public static final int NOT_EQUAL=49;
+    public static final int NUM=50;
+    public static final int NUM_TYPE=51;
+    public static final int OPTION=52;
+    public static final int OR=53;
+    public static final int PARAM=54;
+    public static final int PARAMS=55;
+    public static final int PIECE_LIST=56;
+    public static final int PIECE_MOD=57;
+    public static final int PIECE_TYPE=58;
+    public static final int PLUS=59;
+    public static final int PREF=60;
+    public static final int PROGRAM=61;
+    public static final int PVALUE=62;
+    public static final int RANG_CELL_LIT=63;
+    public static final int RANG_FILE_LIT=64;
+    public static final int RANG_RANK_LIT=65;
+    public static final int RANG_ROW_LIT=66;
+    public static final int RANK_LIT=67;
+    public static final int RETURN=68;
+    public static final int RIVAL=69;
+    public static final int ROW_ID=70;
+    public static final int ROW_LIT=71;
+    public static final int RULE=72;
+    public static final int RULE_DEF=73;
+    public static final int RULE_OPTIONS=74;
+    public static final int R_BRACKET=75;
+    public static final int SCORE=76;
+    public static final int SELF=77;
+    public static final int STRING=78;
+    public static final int STRING_TYPE=79;
+    public static final int SYM=80;
+    public static final int TRUE=81;
+    public static final int VAR_DECL=82;
+    public static final int VOID_TYPE=83;
+    public static final int WHILE=84;
+    public static final int WS=85;
+
+    // delegates
+    // delegators
+    public Lexer[] getDelegates() {
+        return new Lexer[] {};
+    }
+
+    public ChespelLexer() {} 
+    public ChespelLexer(CharStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public ChespelLexer(CharStream input, RecognizerSharedState state) {
+        super(input,state);
+    }
+    public String getGrammarFileName() { return "/root/project/src/parser/Chespel.g"; }
+
+    // $ANTLR start "T__86"
+    public final void mT__86() throws RecognitionException {
+        try {
+            int _type = T__86;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:6:7: ( '&' )
+            // /root/project/src/parser/Chespel.g:6:9: '&'
+            {
+            match('&'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__86"
+
+    // $ANTLR start "T__87"
+    public final void mT__87() throws RecognitionException {
+        try {
+            int _type = T__87;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:7:7: ( '(' )
+            // /root/project/src/parser/Chespel.g:7:9: '('
+            {
+            match('('); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__87"
+
+    // $ANTLR start "T__88"
+    public final void mT__88() throws RecognitionException {
+        try {
+            int _type = T__88;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:8:7: ( ')' )
+            // /root/project/src/parser/Chespel.g:8:9: ')'
+            {
+            match(')'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__88"
+
+    // $ANTLR start "T__89"
+    public final void mT__89() throws RecognitionException {
+        try {
+            int _type = T__89;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:9:7: ( ',' )
+            // /root/project/src/parser/Chespel.g:9:9: ','
+            {
+            match(','); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__89"
+
+    // $ANTLR start "T__90"
+    public final void mT__90() throws RecognitionException {
+        try {
+            int _type = T__90;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:10:7: ( ';' )
+            // /root/project/src/parser/Chespel.g:10:9: ';'
+            {
+            match(';'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__90"
+
+    // $ANTLR start "T__91"
+    public final void mT__91() throws RecognitionException {
+        try {
+            int _type = T__91;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:11:7: ( 'endgame' )
+            // /root/project/src/parser/Chespel.g:11:9: 'endgame'
+            {
+            match("endgame"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__91"
+
+    // $ANTLR start "T__92"
+    public final void mT__92() throws RecognitionException {
+        try {
+            int _type = T__92;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:12:7: ( 'midgame' )
+            // /root/project/src/parser/Chespel.g:12:9: 'midgame'
+            {
+            match("midgame"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__92"
+
+    // $ANTLR start "T__93"
+    public final void mT__93() throws RecognitionException {
+        try {
+            int _type = T__93;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:13:7: ( 'opening' )
+            // /root/project/src/parser/Chespel.g:13:9: 'opening'
+            {
+            match("opening"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__93"
+
+    // $ANTLR start "T__94"
+    public final void mT__94() throws RecognitionException {
+        try {
+            int _type = T__94;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:14:7: ( '{' )
+            // /root/project/src/parser/Chespel.g:14:9: '{'
+            {
+            match('{'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__94"
+
+    // $ANTLR start "T__95"
+    public final void mT__95() throws RecognitionException {
+        try {
+            int _type = T__95;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:15:7: ( '}' )
+            // /root/project/src/parser/Chespel.g:15:9: '}'
+            {
+            match('}'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__95"
+
+    // $ANTLR start "RANG_CELL_LIT"
+    public final void mRANG_CELL_LIT() throws RecognitionException {
+        try {
+            int _type = RANG_CELL_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:221:14: ( '$' FILE_ID ROW_ID '..' FILE_ID ROW_ID )
+            // /root/project/src/parser/Chespel.g:221:17: '$' FILE_ID ROW_ID '..' FILE_ID ROW_ID
+            {
+            match('$'); 
+
+            mFILE_ID(); 
+
+
+            mROW_ID(); 
+
+
+            match(".."); 
+
+
+
+            mFILE_ID(); 
+
+
+            mROW_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RANG_CELL_LIT"
+
+    // $ANTLR start "RANG_ROW_LIT"
+    public final void mRANG_ROW_LIT() throws RecognitionException {
+        try {
+            int _type = RANG_ROW_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:222:13: ( '$' ROW_ID '..' ROW_ID )
+            // /root/project/src/parser/Chespel.g:222:17: '$' ROW_ID '..' ROW_ID
+            {
+            match('$'); 
+
+            mROW_ID(); 
+
+
+            match(".."); 
+
+
+
+            mROW_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RANG_ROW_LIT"
+
+    // $ANTLR start "RANG_RANK_LIT"
+    public final void mRANG_RANK_LIT() throws RecognitionException {
+        try {
+            int _type = RANG_RANK_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:223:14: ( '$' 'r' ROW_ID '..' ROW_ID )
+            // /root/project/src/parser/Chespel.g:223:17: '$' 'r' ROW_ID '..' ROW_ID
+            {
+            match('$'); 
+
+            match('r'); 
+
+            mROW_ID(); 
+
+
+            match(".."); 
+
+
+
+            mROW_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RANG_RANK_LIT"
+
+    // $ANTLR start "RANG_FILE_LIT"
+    public final void mRANG_FILE_LIT() throws RecognitionException {
+        try {
+            int _type = RANG_FILE_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:224:14: ( '$' FILE_ID '..' FILE_ID )
+            // /root/project/src/parser/Chespel.g:224:17: '$' FILE_ID '..' FILE_ID
+            {
+            match('$'); 
+
+            mFILE_ID(); 
+
+
+            match(".."); 
+
+
+
+            mFILE_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RANG_FILE_LIT"
+
+    // $ANTLR start "CELL_LIT"
+    public final void mCELL_LIT() throws RecognitionException {
+        try {
+            int _type = CELL_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:226:13: ( '$' FILE_ID ROW_ID )
+            // /root/project/src/parser/Chespel.g:226:17: '$' FILE_ID ROW_ID
+            {
+            match('$'); 
+
+            mFILE_ID(); 
+
+
+            mROW_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CELL_LIT"
+
+    // $ANTLR start "FILE_LIT"
+    public final void mFILE_LIT() throws RecognitionException {
+        try {
+            int _type = FILE_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:227:11: ( '$' FILE_ID )
+            // /root/project/src/parser/Chespel.g:227:15: '$' FILE_ID
+            {
+            match('$'); 
+
+            mFILE_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FILE_LIT"
+
+    // $ANTLR start "ROW_LIT"
+    public final void mROW_LIT() throws RecognitionException {
+        try {
+            int _type = ROW_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:228:13: ( '$' ROW_ID )
+            // /root/project/src/parser/Chespel.g:228:17: '$' ROW_ID
+            {
+            match('$'); 
+
+            mROW_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ROW_LIT"
+
+    // $ANTLR start "RANK_LIT"
+    public final void mRANK_LIT() throws RecognitionException {
+        try {
+            int _type = RANK_LIT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:229:13: ( '$' 'r' ROW_ID )
+            // /root/project/src/parser/Chespel.g:229:17: '$' 'r' ROW_ID
+            {
+            match('$'); 
+
+            match('r'); 
+
+            mROW_ID(); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RANK_LIT"
+
+    // $ANTLR start "DOIF"
+    public final void mDOIF() throws RecognitionException {
+        try {
+            int _type = DOIF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:231:9: ( 'do if' )
+            // /root/project/src/parser/Chespel.g:231:13: 'do if'
+            {
+            match("do if"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DOIF"
+
+    // $ANTLR start "EQUAL"
+    public final void mEQUAL() throws RecognitionException {
+        try {
+            int _type = EQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:232:9: ( '=' )
+            // /root/project/src/parser/Chespel.g:232:11: '='
+            {
+            match('='); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EQUAL"
+
+    // $ANTLR start "DOUBLE_EQUAL"
+    public final void mDOUBLE_EQUAL() throws RecognitionException {
+        try {
+            int _type = DOUBLE_EQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:234:5: ( '==' )
+            // /root/project/src/parser/Chespel.g:234:9: '=='
+            {
+            match("=="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DOUBLE_EQUAL"
+
+    // $ANTLR start "NOT_EQUAL"
+    public final void mNOT_EQUAL() throws RecognitionException {
+        try {
+            int _type = NOT_EQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:235:10: ( '!=' )
+            // /root/project/src/parser/Chespel.g:235:12: '!='
+            {
+            match("!="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT_EQUAL"
+
+    // $ANTLR start "LT"
+    public final void mLT() throws RecognitionException {
+        try {
+            int _type = LT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:236:9: ( '<' )
+            // /root/project/src/parser/Chespel.g:236:11: '<'
+            {
+            match('<'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LT"
+
+    // $ANTLR start "LE"
+    public final void mLE() throws RecognitionException {
+        try {
+            int _type = LE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:237:9: ( '<=' )
+            // /root/project/src/parser/Chespel.g:237:11: '<='
+            {
+            match("<="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LE"
+
+    // $ANTLR start "GT"
+    public final void mGT() throws RecognitionException {
+        try {
+            int _type = GT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:238:9: ( '>' )
+            // /root/project/src/parser/Chespel.g:238:11: '>'
+            {
+            match('>'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "GT"
+
+    // $ANTLR start "GE"
+    public final void mGE() throws RecognitionException {
+        try {
+            int _type = GE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:239:9: ( '>=' )
+            // /root/project/src/parser/Chespel.g:239:11: '>='
+            {
+            match(">="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "GE"
+
+    // $ANTLR start "PLUS"
+    public final void mPLUS() throws RecognitionException {
+        try {
+            int _type = PLUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:240:9: ( '+' )
+            // /root/project/src/parser/Chespel.g:240:11: '+'
+            {
+            match('+'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PLUS"
+
+    // $ANTLR start "MINUS"
+    public final void mMINUS() throws RecognitionException {
+        try {
+            int _type = MINUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:241:9: ( '-' )
+            // /root/project/src/parser/Chespel.g:241:11: '-'
+            {
+            match('-'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MINUS"
+
+    // $ANTLR start "MUL"
+    public final void mMUL() throws RecognitionException {
+        try {
+            int _type = MUL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:242:9: ( '*' )
+            // /root/project/src/parser/Chespel.g:242:11: '*'
+            {
+            match('*'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MUL"
+
+    // $ANTLR start "DIV"
+    public final void mDIV() throws RecognitionException {
+        try {
+            int _type = DIV;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:243:9: ( '/' )
+            // /root/project/src/parser/Chespel.g:243:11: '/'
+            {
+            match('/'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DIV"
+
+    // $ANTLR start "L_BRACKET"
+    public final void mL_BRACKET() throws RecognitionException {
+        try {
+            int _type = L_BRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:244:10: ( '[' )
+            // /root/project/src/parser/Chespel.g:244:13: '['
+            {
+            match('['); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "L_BRACKET"
+
+    // $ANTLR start "R_BRACKET"
+    public final void mR_BRACKET() throws RecognitionException {
+        try {
+            int _type = R_BRACKET;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:245:10: ( ']' )
+            // /root/project/src/parser/Chespel.g:245:13: ']'
+            {
+            match(']'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "R_BRACKET"
+
+    // $ANTLR start "GLOBAL"
+    public final void mGLOBAL() throws RecognitionException {
+        try {
+            int _type = GLOBAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:246:9: ( 'global' )
+            // /root/project/src/parser/Chespel.g:246:13: 'global'
+            {
+            match("global"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "GLOBAL"
+
+    // $ANTLR start "NOT"
+    public final void mNOT() throws RecognitionException {
+        try {
+            int _type = NOT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:247:9: ( 'not' )
+            // /root/project/src/parser/Chespel.g:247:11: 'not'
+            {
+            match("not"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT"
+
+    // $ANTLR start "AND"
+    public final void mAND() throws RecognitionException {
+        try {
+            int _type = AND;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:248:9: ( 'and' )
+            // /root/project/src/parser/Chespel.g:248:11: 'and'
+            {
+            match("and"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AND"
+
+    // $ANTLR start "OR"
+    public final void mOR() throws RecognitionException {
+        try {
+            int _type = OR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:249:9: ( 'or' )
+            // /root/project/src/parser/Chespel.g:249:11: 'or'
+            {
+            match("or"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OR"
+
+    // $ANTLR start "IF"
+    public final void mIF() throws RecognitionException {
+        try {
+            int _type = IF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:250:9: ( 'if' )
+            // /root/project/src/parser/Chespel.g:250:11: 'if'
+            {
+            match("if"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IF"
+
+    // $ANTLR start "ELSE"
+    public final void mELSE() throws RecognitionException {
+        try {
+            int _type = ELSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:251:9: ( 'else' )
+            // /root/project/src/parser/Chespel.g:251:11: 'else'
+            {
+            match("else"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ELSE"
+
+    // $ANTLR start "WHILE"
+    public final void mWHILE() throws RecognitionException {
+        try {
+            int _type = WHILE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:252:9: ( 'while' )
+            // /root/project/src/parser/Chespel.g:252:11: 'while'
+            {
+            match("while"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WHILE"
+
+    // $ANTLR start "FORALL"
+    public final void mFORALL() throws RecognitionException {
+        try {
+            int _type = FORALL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:253:9: ( 'forall' )
+            // /root/project/src/parser/Chespel.g:253:11: 'forall'
+            {
+            match("forall"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FORALL"
+
+    // $ANTLR start "SCORE"
+    public final void mSCORE() throws RecognitionException {
+        try {
+            int _type = SCORE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:254:13: ( 'score' )
+            // /root/project/src/parser/Chespel.g:254:17: 'score'
+            {
+            match("score"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SCORE"
+
+    // $ANTLR start "RULE"
+    public final void mRULE() throws RecognitionException {
+        try {
+            int _type = RULE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:255:13: ( 'rule' )
+            // /root/project/src/parser/Chespel.g:255:17: 'rule'
+            {
+            match("rule"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RULE"
+
+    // $ANTLR start "SYM"
+    public final void mSYM() throws RecognitionException {
+        try {
+            int _type = SYM;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:256:13: ( 'sym' )
+            // /root/project/src/parser/Chespel.g:256:17: 'sym'
+            {
+            match("sym"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SYM"
+
+    // $ANTLR start "BOUND"
+    public final void mBOUND() throws RecognitionException {
+        try {
+            int _type = BOUND;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:257:13: ( 'bound' )
+            // /root/project/src/parser/Chespel.g:257:17: 'bound'
+            {
+            match("bound"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BOUND"
+
+    // $ANTLR start "BOARD_TYPE"
+    public final void mBOARD_TYPE() throws RecognitionException {
+        try {
+            int _type = BOARD_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:258:13: ( 'cell' | 'row' | 'file' | 'rank' )
+            int alt1=4;
+            switch ( input.LA(1) ) {
+            case 'c':
+                {
+                alt1=1;
+                }
+                break;
+            case 'r':
+                {
+                int LA1_2 = input.LA(2);
+
+                if ( (LA1_2=='o') ) {
+                    alt1=2;
+                }
+                else if ( (LA1_2=='a') ) {
+                    alt1=4;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 1, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 'f':
+                {
+                alt1=3;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 1, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt1) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:258:17: 'cell'
+                    {
+                    match("cell"); 
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:258:24: 'row'
+                    {
+                    match("row"); 
+
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:258:30: 'file'
+                    {
+                    match("file"); 
+
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:258:37: 'rank'
+                    {
+                    match("rank"); 
+
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BOARD_TYPE"
+
+    // $ANTLR start "PIECE_TYPE"
+    public final void mPIECE_TYPE() throws RecognitionException {
+        try {
+            int _type = PIECE_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:259:13: ( 'piece' | 'pawn' | 'bishop' | 'rook' | 'knight' | 'king' | 'queen' )
+            int alt2=7;
+            switch ( input.LA(1) ) {
+            case 'p':
+                {
+                int LA2_1 = input.LA(2);
+
+                if ( (LA2_1=='i') ) {
+                    alt2=1;
+                }
+                else if ( (LA2_1=='a') ) {
+                    alt2=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 2, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 'b':
+                {
+                alt2=3;
+                }
+                break;
+            case 'r':
+                {
+                alt2=4;
+                }
+                break;
+            case 'k':
+                {
+                int LA2_4 = input.LA(2);
+
+                if ( (LA2_4=='n') ) {
+                    alt2=5;
+                }
+                else if ( (LA2_4=='i') ) {
+                    alt2=6;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 2, 4, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 'q':
+                {
+                alt2=7;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 2, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt2) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:259:17: 'piece'
+                    {
+                    match("piece"); 
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:259:25: 'pawn'
+                    {
+                    match("pawn"); 
+
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:259:32: 'bishop'
+                    {
+                    match("bishop"); 
+
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:259:41: 'rook'
+                    {
+                    match("rook"); 
+
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:259:48: 'knight'
+                    {
+                    match("knight"); 
+
+
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/parser/Chespel.g:259:57: 'king'
+                    {
+                    match("king"); 
+
+
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/parser/Chespel.g:259:64: 'queen'
+                    {
+                    match("queen"); 
+
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PIECE_TYPE"
+
+    // $ANTLR start "IN"
+    public final void mIN() throws RecognitionException {
+        try {
+            int _type = IN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:260:5: ( 'in' )
+            // /root/project/src/parser/Chespel.g:260:9: 'in'
+            {
+            match("in"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IN"
+
+    // $ANTLR start "CONCAT"
+    public final void mCONCAT() throws RecognitionException {
+        try {
+            int _type = CONCAT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:261:7: ( '++' )
+            // /root/project/src/parser/Chespel.g:261:9: '++'
+            {
+            match("++"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CONCAT"
+
+    // $ANTLR start "BOARD_LIST"
+    public final void mBOARD_LIST() throws RecognitionException {
+        try {
+            int _type = BOARD_LIST;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:263:5: ( 'cells' | 'rows' | 'files' | 'ranks' )
+            int alt3=4;
+            switch ( input.LA(1) ) {
+            case 'c':
+                {
+                alt3=1;
+                }
+                break;
+            case 'r':
+                {
+                int LA3_2 = input.LA(2);
+
+                if ( (LA3_2=='o') ) {
+                    alt3=2;
+                }
+                else if ( (LA3_2=='a') ) {
+                    alt3=4;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 3, 2, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 'f':
+                {
+                alt3=3;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 3, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt3) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:263:9: 'cells'
+                    {
+                    match("cells"); 
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:263:19: 'rows'
+                    {
+                    match("rows"); 
+
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:263:28: 'files'
+                    {
+                    match("files"); 
+
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:263:38: 'ranks'
+                    {
+                    match("ranks"); 
+
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BOARD_LIST"
+
+    // $ANTLR start "PIECE_LIST"
+    public final void mPIECE_LIST() throws RecognitionException {
+        try {
+            int _type = PIECE_LIST;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:265:5: ( PIECE_MOD ( 'pieces' | 'pawns' | 'bishops' | 'rooks' | 'knights' | 'kings' | 'queens' ) )
+            // /root/project/src/parser/Chespel.g:265:9: PIECE_MOD ( 'pieces' | 'pawns' | 'bishops' | 'rooks' | 'knights' | 'kings' | 'queens' )
+            {
+            mPIECE_MOD(); 
+
+
+            // /root/project/src/parser/Chespel.g:265:19: ( 'pieces' | 'pawns' | 'bishops' | 'rooks' | 'knights' | 'kings' | 'queens' )
+            int alt4=7;
+            switch ( input.LA(1) ) {
+            case 'p':
+                {
+                int LA4_1 = input.LA(2);
+
+                if ( (LA4_1=='i') ) {
+                    alt4=1;
+                }
+                else if ( (LA4_1=='a') ) {
+                    alt4=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 4, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 'b':
+                {
+                alt4=3;
+                }
+                break;
+            case 'r':
+                {
+                alt4=4;
+                }
+                break;
+            case 'k':
+                {
+                int LA4_4 = input.LA(2);
+
+                if ( (LA4_4=='n') ) {
+                    alt4=5;
+                }
+                else if ( (LA4_4=='i') ) {
+                    alt4=6;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 4, 4, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case 'q':
+                {
+                alt4=7;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 4, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt4) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:265:20: 'pieces'
+                    {
+                    match("pieces"); 
+
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:265:31: 'pawns'
+                    {
+                    match("pawns"); 
+
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:265:41: 'bishops'
+                    {
+                    match("bishops"); 
+
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:265:53: 'rooks'
+                    {
+                    match("rooks"); 
+
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:265:63: 'knights'
+                    {
+                    match("knights"); 
+
+
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/parser/Chespel.g:265:75: 'kings'
+                    {
+                    match("kings"); 
+
+
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/parser/Chespel.g:265:85: 'queens'
+                    {
+                    match("queens"); 
+
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PIECE_LIST"
+
+    // $ANTLR start "PIECE_MOD"
+    public final void mPIECE_MOD() throws RecognitionException {
+        try {
+            // /root/project/src/parser/Chespel.g:268:5: ( ( 's' | 'r' |) )
+            // /root/project/src/parser/Chespel.g:268:9: ( 's' | 'r' |)
+            {
+            // /root/project/src/parser/Chespel.g:268:9: ( 's' | 'r' |)
+            int alt5=3;
+            switch ( input.LA(1) ) {
+            case 's':
+                {
+                alt5=1;
+                }
+                break;
+            case 'r':
+                {
+                alt5=2;
+                }
+                break;
+            default:
+                alt5=3;
+            }
+
+            switch (alt5) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:268:10: 's'
+                    {
+                    match('s'); 
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:268:16: 'r'
+                    {
+                    match('r'); 
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:268:22: 
+                    {
+                    }
+                    break;
+
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PIECE_MOD"
+
+    // $ANTLR start "SELF"
+    public final void mSELF() throws RecognitionException {
+        try {
+            int _type = SELF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:270:9: ( 'self' )
+            // /root/project/src/parser/Chespel.g:270:13: 'self'
+            {
+            match("self"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SELF"
+
+    // $ANTLR start "RIVAL"
+    public final void mRIVAL() throws RecognitionException {
+        try {
+            int _type = RIVAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:271:9: ( 'rival' )
+            // /root/project/src/parser/Chespel.g:271:13: 'rival'
+            {
+            match("rival"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RIVAL"
+
+    // $ANTLR start "NUM_TYPE"
+    public final void mNUM_TYPE() throws RecognitionException {
+        try {
+            int _type = NUM_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:273:13: ( 'num' )
+            // /root/project/src/parser/Chespel.g:273:17: 'num'
+            {
+            match("num"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NUM_TYPE"
+
+    // $ANTLR start "BOOL_TYPE"
+    public final void mBOOL_TYPE() throws RecognitionException {
+        try {
+            int _type = BOOL_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:274:13: ( 'bool' )
+            // /root/project/src/parser/Chespel.g:274:17: 'bool'
+            {
+            match("bool"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BOOL_TYPE"
+
+    // $ANTLR start "STRING_TYPE"
+    public final void mSTRING_TYPE() throws RecognitionException {
+        try {
+            int _type = STRING_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:275:13: ( 'string' )
+            // /root/project/src/parser/Chespel.g:275:17: 'string'
+            {
+            match("string"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING_TYPE"
+
+    // $ANTLR start "VOID_TYPE"
+    public final void mVOID_TYPE() throws RecognitionException {
+        try {
+            int _type = VOID_TYPE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:276:13: ( 'void' )
+            // /root/project/src/parser/Chespel.g:276:17: 'void'
+            {
+            match("void"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "VOID_TYPE"
+
+    // $ANTLR start "DOT"
+    public final void mDOT() throws RecognitionException {
+        try {
+            int _type = DOT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:277:5: ( '.' )
+            // /root/project/src/parser/Chespel.g:277:9: '.'
+            {
+            match('.'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DOT"
+
+    // $ANTLR start "RETURN"
+    public final void mRETURN() throws RecognitionException {
+        try {
+            int _type = RETURN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:278:9: ( 'return' )
+            // /root/project/src/parser/Chespel.g:278:11: 'return'
+            {
+            match("return"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RETURN"
+
+    // $ANTLR start "TRUE"
+    public final void mTRUE() throws RecognitionException {
+        try {
+            int _type = TRUE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:279:9: ( 'true' )
+            // /root/project/src/parser/Chespel.g:279:11: 'true'
+            {
+            match("true"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TRUE"
+
+    // $ANTLR start "FALSE"
+    public final void mFALSE() throws RecognitionException {
+        try {
+            int _type = FALSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:280:9: ( 'false' )
+            // /root/project/src/parser/Chespel.g:280:11: 'false'
+            {
+            match("false"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FALSE"
+
+    // $ANTLR start "CONFIG"
+    public final void mCONFIG() throws RecognitionException {
+        try {
+            int _type = CONFIG;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:281:9: ( 'config' )
+            // /root/project/src/parser/Chespel.g:281:11: 'config'
+            {
+            match("config"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CONFIG"
+
+    // $ANTLR start "ID"
+    public final void mID() throws RecognitionException {
+        try {
+            int _type = ID;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:282:9: ( ( 'a' .. 'z' | 'A' .. 'Z' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )* )
+            // /root/project/src/parser/Chespel.g:282:13: ( 'a' .. 'z' | 'A' .. 'Z' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+            {
+            if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            // /root/project/src/parser/Chespel.g:282:33: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( ((LA6_0 >= '0' && LA6_0 <= '9')||(LA6_0 >= 'A' && LA6_0 <= 'Z')||LA6_0=='_'||(LA6_0 >= 'a' && LA6_0 <= 'z')) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+            	        input.consume();
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ID"
+
+    // $ANTLR start "NUM"
+    public final void mNUM() throws RecognitionException {
+        try {
+            int _type = NUM;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:283:9: ( ( ( '0' .. '9' )+ ( '.' ( '0' .. '9' )+ )? ) | ( '.' ( '0' .. '9' )+ ) )
+            int alt11=2;
+            int LA11_0 = input.LA(1);
+
+            if ( ((LA11_0 >= '0' && LA11_0 <= '9')) ) {
+                alt11=1;
+            }
+            else if ( (LA11_0=='.') ) {
+                alt11=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt11) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:283:13: ( ( '0' .. '9' )+ ( '.' ( '0' .. '9' )+ )? )
+                    {
+                    // /root/project/src/parser/Chespel.g:283:13: ( ( '0' .. '9' )+ ( '.' ( '0' .. '9' )+ )? )
+                    // /root/project/src/parser/Chespel.g:283:14: ( '0' .. '9' )+ ( '.' ( '0' .. '9' )+ )?
+                    {
+                    // /root/project/src/parser/Chespel.g:283:14: ( '0' .. '9' )+
+                    int cnt7=0;
+                    loop7:
+                    do {
+                        int alt7=2;
+                        int LA7_0 = input.LA(1);
+
+                        if ( ((LA7_0 >= '0' && LA7_0 <= '9')) ) {
+                            alt7=1;
+                        }
+
+
+                        switch (alt7) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Chespel.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                    	        input.consume();
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt7 >= 1 ) break loop7;
+                                EarlyExitException eee =
+                                    new EarlyExitException(7, input);
+                                throw eee;
+                        }
+                        cnt7++;
+                    } while (true);
+
+
+                    // /root/project/src/parser/Chespel.g:283:26: ( '.' ( '0' .. '9' )+ )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0=='.') ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // /root/project/src/parser/Chespel.g:283:27: '.' ( '0' .. '9' )+
+                            {
+                            match('.'); 
+
+                            // /root/project/src/parser/Chespel.g:283:31: ( '0' .. '9' )+
+                            int cnt8=0;
+                            loop8:
+                            do {
+                                int alt8=2;
+                                int LA8_0 = input.LA(1);
+
+                                if ( ((LA8_0 >= '0' && LA8_0 <= '9')) ) {
+                                    alt8=1;
+                                }
+
+
+                                switch (alt8) {
+                            	case 1 :
+                            	    // /root/project/src/parser/Chespel.g:
+                            	    {
+                            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                            	        input.consume();
+                            	    }
+                            	    else {
+                            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                            	        recover(mse);
+                            	        throw mse;
+                            	    }
+
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    if ( cnt8 >= 1 ) break loop8;
+                                        EarlyExitException eee =
+                                            new EarlyExitException(8, input);
+                                        throw eee;
+                                }
+                                cnt8++;
+                            } while (true);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:283:48: ( '.' ( '0' .. '9' )+ )
+                    {
+                    // /root/project/src/parser/Chespel.g:283:48: ( '.' ( '0' .. '9' )+ )
+                    // /root/project/src/parser/Chespel.g:283:49: '.' ( '0' .. '9' )+
+                    {
+                    match('.'); 
+
+                    // /root/project/src/parser/Chespel.g:283:52: ( '0' .. '9' )+
+                    int cnt10=0;
+                    loop10:
+                    do {
+                        int alt10=2;
+                        int LA10_0 = input.LA(1);
+
+                        if ( ((LA10_0 >= '0' && LA10_0 <= '9')) ) {
+                            alt10=1;
+                        }
+
+
+                        switch (alt10) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Chespel.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                    	        input.consume();
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt10 >= 1 ) break loop10;
+                                EarlyExitException eee =
+                                    new EarlyExitException(10, input);
+                                throw eee;
+                        }
+                        cnt10++;
+                    } while (true);
+
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NUM"
+
+    // $ANTLR start "COMMENT"
+    public final void mCOMMENT() throws RecognitionException {
+        try {
+            int _type = COMMENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:286:9: ( '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n' | '/*' ( options {greedy=false; } : . )* '*/' )
+            int alt15=2;
+            int LA15_0 = input.LA(1);
+
+            if ( (LA15_0=='/') ) {
+                int LA15_1 = input.LA(2);
+
+                if ( (LA15_1=='/') ) {
+                    alt15=1;
+                }
+                else if ( (LA15_1=='*') ) {
+                    alt15=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 15, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 15, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt15) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:286:11: '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n'
+                    {
+                    match("//"); 
+
+
+
+                    // /root/project/src/parser/Chespel.g:286:16: (~ ( '\\n' | '\\r' ) )*
+                    loop12:
+                    do {
+                        int alt12=2;
+                        int LA12_0 = input.LA(1);
+
+                        if ( ((LA12_0 >= '\u0000' && LA12_0 <= '\t')||(LA12_0 >= '\u000B' && LA12_0 <= '\f')||(LA12_0 >= '\u000E' && LA12_0 <= '\uFFFF')) ) {
+                            alt12=1;
+                        }
+
+
+                        switch (alt12) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Chespel.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
+                    	        input.consume();
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop12;
+                        }
+                    } while (true);
+
+
+                    // /root/project/src/parser/Chespel.g:286:30: ( '\\r' )?
+                    int alt13=2;
+                    int LA13_0 = input.LA(1);
+
+                    if ( (LA13_0=='\r') ) {
+                        alt13=1;
+                    }
+                    switch (alt13) {
+                        case 1 :
+                            // /root/project/src/parser/Chespel.g:286:30: '\\r'
+                            {
+                            match('\r'); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    match('\n'); 
+
+                    _channel=HIDDEN;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:287:11: '/*' ( options {greedy=false; } : . )* '*/'
+                    {
+                    match("/*"); 
+
+
+
+                    // /root/project/src/parser/Chespel.g:287:16: ( options {greedy=false; } : . )*
+                    loop14:
+                    do {
+                        int alt14=2;
+                        int LA14_0 = input.LA(1);
+
+                        if ( (LA14_0=='*') ) {
+                            int LA14_1 = input.LA(2);
+
+                            if ( (LA14_1=='/') ) {
+                                alt14=2;
+                            }
+                            else if ( ((LA14_1 >= '\u0000' && LA14_1 <= '.')||(LA14_1 >= '0' && LA14_1 <= '\uFFFF')) ) {
+                                alt14=1;
+                            }
+
+
+                        }
+                        else if ( ((LA14_0 >= '\u0000' && LA14_0 <= ')')||(LA14_0 >= '+' && LA14_0 <= '\uFFFF')) ) {
+                            alt14=1;
+                        }
+
+
+                        switch (alt14) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Chespel.g:287:44: .
+                    	    {
+                    	    matchAny(); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop14;
+                        }
+                    } while (true);
+
+
+                    match("*/"); 
+
+
+
+                    _channel=HIDDEN;
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMMENT"
+
+    // $ANTLR start "STRING"
+    public final void mSTRING() throws RecognitionException {
+        try {
+            int _type = STRING;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:291:9: ( '\"' ( options {greedy=false; } : ( ESC_SEQ |~ ( '\\\\' | '\"' ) ) )* '\"' )
+            // /root/project/src/parser/Chespel.g:291:12: '\"' ( options {greedy=false; } : ( ESC_SEQ |~ ( '\\\\' | '\"' ) ) )* '\"'
+            {
+            match('\"'); 
+
+            // /root/project/src/parser/Chespel.g:291:16: ( options {greedy=false; } : ( ESC_SEQ |~ ( '\\\\' | '\"' ) ) )*
+            loop17:
+            do {
+                int alt17=2;
+                int LA17_0 = input.LA(1);
+
+                if ( ((LA17_0 >= '\u0000' && LA17_0 <= '!')||(LA17_0 >= '#' && LA17_0 <= '\uFFFF')) ) {
+                    alt17=1;
+                }
+                else if ( (LA17_0=='\"') ) {
+                    alt17=2;
+                }
+
+
+                switch (alt17) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:291:43: ( ESC_SEQ |~ ( '\\\\' | '\"' ) )
+            	    {
+            	    // /root/project/src/parser/Chespel.g:291:43: ( ESC_SEQ |~ ( '\\\\' | '\"' ) )
+            	    int alt16=2;
+            	    int LA16_0 = input.LA(1);
+
+            	    if ( (LA16_0=='\\') ) {
+            	        alt16=1;
+            	    }
+            	    else if ( ((LA16_0 >= '\u0000' && LA16_0 <= '!')||(LA16_0 >= '#' && LA16_0 <= '[')||(LA16_0 >= ']' && LA16_0 <= '\uFFFF')) ) {
+            	        alt16=2;
+            	    }
+            	    else {
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 16, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt16) {
+            	        case 1 :
+            	            // /root/project/src/parser/Chespel.g:291:45: ESC_SEQ
+            	            {
+            	            mESC_SEQ(); 
+
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/src/parser/Chespel.g:291:55: ~ ( '\\\\' | '\"' )
+            	            {
+            	            if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
+            	                input.consume();
+            	            }
+            	            else {
+            	                MismatchedSetException mse = new MismatchedSetException(null,input);
+            	                recover(mse);
+            	                throw mse;
+            	            }
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop17;
+                }
+            } while (true);
+
+
+            match('\"'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING"
+
+    // $ANTLR start "ESC_SEQ"
+    public final void mESC_SEQ() throws RecognitionException {
+        try {
+            // /root/project/src/parser/Chespel.g:295:5: ( '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' ) )
+            // /root/project/src/parser/Chespel.g:295:9: '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' )
+            {
+            match('\\'); 
+
+            if ( input.LA(1)=='\"'||input.LA(1)=='\''||input.LA(1)=='\\'||input.LA(1)=='b'||input.LA(1)=='f'||input.LA(1)=='n'||input.LA(1)=='r'||input.LA(1)=='t' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ESC_SEQ"
+
+    // $ANTLR start "FILE_ID"
+    public final void mFILE_ID() throws RecognitionException {
+        try {
+            // /root/project/src/parser/Chespel.g:298:18: ( ( 'a' .. 'h' ) )
+            // /root/project/src/parser/Chespel.g:
+            {
+            if ( (input.LA(1) >= 'a' && input.LA(1) <= 'h') ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FILE_ID"
+
+    // $ANTLR start "ROW_ID"
+    public final void mROW_ID() throws RecognitionException {
+        try {
+            // /root/project/src/parser/Chespel.g:299:17: ( ( '1' .. '8' ) )
+            // /root/project/src/parser/Chespel.g:
+            {
+            if ( (input.LA(1) >= '1' && input.LA(1) <= '8') ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ROW_ID"
+
+    // $ANTLR start "WS"
+    public final void mWS() throws RecognitionException {
+        try {
+            int _type = WS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Chespel.g:302:9: ( ( ' ' | '\\t' | '\\n' | '\\r' ) )
+            // /root/project/src/parser/Chespel.g:302:11: ( ' ' | '\\t' | '\\n' | '\\r' )
+            {
+            if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            _channel=HIDDEN;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WS"
+
+    public void mTokens() throws RecognitionException {
+        // /root/project/src/parser/Chespel.g:1:8: ( T__86 | T__87 | T__88 | T__89 | T__90 | T__91 | T__92 | T__93 | T__94 | T__95 | RANG_CELL_LIT | RANG_ROW_LIT | RANG_RANK_LIT | RANG_FILE_LIT | CELL_LIT | FILE_LIT | ROW_LIT | RANK_LIT | DOIF | EQUAL | DOUBLE_EQUAL | NOT_EQUAL | LT | LE | GT | GE | PLUS | MINUS | MUL | DIV | L_BRACKET | R_BRACKET | GLOBAL | NOT | AND | OR | IF | ELSE | WHILE | FORALL | SCORE | RULE | SYM | BOUND | BOARD_TYPE | PIECE_TYPE | IN | CONCAT | BOARD_LIST | PIECE_LIST | SELF | RIVAL | NUM_TYPE | BOOL_TYPE | STRING_TYPE | VOID_TYPE | DOT | RETURN | TRUE | FALSE | CONFIG | ID | NUM | COMMENT | STRING | WS )
+        int alt18=66;
+        alt18 = dfa18.predict(input);
+        switch (alt18) {
+            case 1 :
+                // /root/project/src/parser/Chespel.g:1:10: T__86
+                {
+                mT__86(); 
+
+
+                }
+                break;
+            case 2 :
+                // /root/project/src/parser/Chespel.g:1:16: T__87
+                {
+                mT__87(); 
+
+
+                }
+                break;
+            case 3 :
+                // /root/project/src/parser/Chespel.g:1:22: T__88
+                {
+                mT__88(); 
+
+
+                }
+                break;
+            case 4 :
+                // /root/project/src/parser/Chespel.g:1:28: T__89
+                {
+                mT__89(); 
+
+
+                }
+                break;
+            case 5 :
+                // /root/project/src/parser/Chespel.g:1:34: T__90
+                {
+                mT__90(); 
+
+
+                }
+                break;
+            case 6 :
+                // /root/project/src/parser/Chespel.g:1:40: T__91
+                {
+                mT__91(); 
+
+
+                }
+                break;
+            case 7 :
+                // /root/project/src/parser/Chespel.g:1:46: T__92
+                {
+                mT__92(); 
+
+
+                }
+                break;
+            case 8 :
+                // /root/project/src/parser/Chespel.g:1:52: T__93
+                {
+                mT__93(); 
+
+
+                }
+                break;
+            case 9 :
+                // /root/project/src/parser/Chespel.g:1:58: T__94
+                {
+                mT__94(); 
+
+
+                }
+                break;
+            case 10 :
+                // /root/project/src/parser/Chespel.g:1:64: T__95
+                {
+                mT__95(); 
+
+
+                }
+                break;
+            case 11 :
+                // /root/project/src/parser/Chespel.g:1:70: RANG_CELL_LIT
+                {
+                mRANG_CELL_LIT(); 
+
+
+                }
+                break;
+            case 12 :
+                // /root/project/src/parser/Chespel.g:1:84: RANG_ROW_LIT
+                {
+                mRANG_ROW_LIT(); 
+
+
+                }
+                break;
+            case 13 :
+                // /root/project/src/parser/Chespel.g:1:97: RANG_RANK_LIT
+                {
+                mRANG_RANK_LIT(); 
+
+
+                }
+                break;
+            case 14 :
+                // /root/project/src/parser/Chespel.g:1:111: RANG_FILE_LIT
+                {
+                mRANG_FILE_LIT(); 
+
+
+                }
+                break;
+            case 15 :
+                // /root/project/src/parser/Chespel.g:1:125: CELL_LIT
+                {
+                mCELL_LIT(); 
+
+
+                }
+                break;
+            case 16 :
+                // /root/project/src/parser/Chespel.g:1:134: FILE_LIT
+                {
+                mFILE_LIT(); 
+
+
+                }
+                break;
+            case 17 :
+                // /root/project/src/parser/Chespel.g:1:143: ROW_LIT
+                {
+                mROW_LIT(); 
+
+
+                }
+                break;
+            case 18 :
+                // /root/project/src/parser/Chespel.g:1:151: RANK_LIT
+                {
+                mRANK_LIT(); 
+
+
+                }
+                break;
+            case 19 :
+                // /root/project/src/parser/Chespel.g:1:160: DOIF
+                {
+                mDOIF(); 
+
+
+                }
+                break;
+            case 20 :
+                // /root/project/src/parser/Chespel.g:1:165: EQUAL
+                {
+                mEQUAL(); 
+
+
+                }
+                break;
+            case 21 :
+                // /root/project/src/parser/Chespel.g:1:171: DOUBLE_EQUAL
+                {
+                mDOUBLE_EQUAL(); 
+
+
+                }
+                break;
+            case 22 :
+                // /root/project/src/parser/Chespel.g:1:184: NOT_EQUAL
+                {
+                mNOT_EQUAL(); 
+
+
+                }
+                break;
+            case 23 :
+                // /root/project/src/parser/Chespel.g:1:194: LT
+                {
+                mLT(); 
+
+
+                }
+                break;
+            case 24 :
+                // /root/project/src/parser/Chespel.g:1:197: LE
+                {
+                mLE(); 
+
+
+                }
+                break;
+            case 25 :
+                // /root/project/src/parser/Chespel.g:1:200: GT
+                {
+                mGT(); 
+
+
+                }
+                break;
+            case 26 :
+                // /root/project/src/parser/Chespel.g:1:203: GE
+                {
+                mGE(); 
+
+
+                }
+                break;
+            case 27 :
+                // /root/project/src/parser/Chespel.g:1:206: PLUS
+                {
+                mPLUS(); 
+
+
+                }
+                break;
+            case 28 :
+                // /root/project/src/parser/Chespel.g:1:211: MINUS
+                {
+                mMINUS(); 
+
+
+                }
+                break;
+            case 29 :
+                // /root/project/src/parser/Chespel.g:1:217: MUL
+                {
+                mMUL(); 
+
+
+                }
+                break;
+            case 30 :
+                // /root/project/src/parser/Chespel.g:1:221: DIV
+                {
+                mDIV(); 
+
+
+                }
+                break;
+            case 31 :
+                // /root/project/src/parser/Chespel.g:1:225: L_BRACKET
+                {
+                mL_BRACKET(); 
+
+
+                }
+                break;
+            case 32 :
+                // /root/project/src/parser/Chespel.g:1:235: R_BRACKET
+                {
+                mR_BRACKET(); 
+
+
+                }
+                break;
+            case 33 :
+                // /root/project/src/parser/Chespel.g:1:245: GLOBAL
+                {
+                mGLOBAL(); 
+
+
+                }
+                break;
+            case 34 :
+                // /root/project/src/parser/Chespel.g:1:252: NOT
+                {
+                mNOT(); 
+
+
+                }
+                break;
+            case 35 :
+                // /root/project/src/parser/Chespel.g:1:256: AND
+                {
+                mAND(); 
+
+
+                }
+                break;
+            case 36 :
+                // /root/project/src/parser/Chespel.g:1:260: OR
+                {
+                mOR(); 
+
+
+                }
+                break;
+            case 37 :
+                // /root/project/src/parser/Chespel.g:1:263: IF
+                {
+                mIF(); 
+
+
+                }
+                break;
+            case 38 :
+                // /root/project/src/parser/Chespel.g:1:266: ELSE
+                {
+                mELSE(); 
+
+
+                }
+                break;
+            case 39 :
+                // /root/project/src/parser/Chespel.g:1:271: WHILE
+                {
+                mWHILE(); 
+
+
+                }
+                break;
+            case 40 :
+                // /root/project/src/parser/Chespel.g:1:277: FORALL
+                {
+                mFORALL(); 
+
+
+                }
+                break;
+            case 41 :
+                // /root/project/src/parser/Chespel.g:1:284: SCORE
+                {
+                mSCORE(); 
+
+
+                }
+                break;
+            case 42 :
+                // /root/project/src/parser/Chespel.g:1:290: RULE
+                {
+                mRULE(); 
+
+
+                }
+                break;
+            case 43 :
+                // /root/project/src/parser/Chespel.g:1:295: SYM
+                {
+                mSYM(); 
+
+
+                }
+                break;
+            case 44 :
+                // /root/project/src/parser/Chespel.g:1:299: BOUND
+                {
+                mBOUND(); 
+
+
+                }
+                break;
+            case 45 :
+                // /root/project/src/parser/Chespel.g:1:305: BOARD_TYPE
+                {
+                mBOARD_TYPE(); 
+
+
+                }
+                break;
+            case 46 :
+                // /root/project/src/parser/Chespel.g:1:316: PIECE_TYPE
+                {
+                mPIECE_TYPE(); 
+
+
+                }
+                break;
+            case 47 :
+                // /root/project/src/parser/Chespel.g:1:327: IN
+                {
+                mIN(); 
+
+
+                }
+                break;
+            case 48 :
+                // /root/project/src/parser/Chespel.g:1:330: CONCAT
+                {
+                mCONCAT(); 
+
+
+                }
+                break;
+            case 49 :
+                // /root/project/src/parser/Chespel.g:1:337: BOARD_LIST
+                {
+                mBOARD_LIST(); 
+
+
+                }
+                break;
+            case 50 :
+                // /root/project/src/parser/Chespel.g:1:348: PIECE_LIST
+                {
+                mPIECE_LIST(); 
+
+
+                }
+                break;
+            case 51 :
+                // /root/project/src/parser/Chespel.g:1:359: SELF
+                {
+                mSELF(); 
+
+
+                }
+                break;
+            case 52 :
+                // /root/project/src/parser/Chespel.g:1:364: RIVAL
+                {
+                mRIVAL(); 
+
+
+                }
+                break;
+            case 53 :
+                // /root/project/src/parser/Chespel.g:1:370: NUM_TYPE
+                {
+                mNUM_TYPE(); 
+
+
+                }
+                break;
+            case 54 :
+                // /root/project/src/parser/Chespel.g:1:379: BOOL_TYPE
+                {
+                mBOOL_TYPE(); 
+
+
+                }
+                break;
+            case 55 :
+                // /root/project/src/parser/Chespel.g:1:389: STRING_TYPE
+                {
+                mSTRING_TYPE(); 
+
+
+                }
+                break;
+            case 56 :
+                // /root/project/src/parser/Chespel.g:1:401: VOID_TYPE
+                {
+                mVOID_TYPE(); 
+
+
+                }
+                break;
+            case 57 :
+                // /root/project/src/parser/Chespel.g:1:411: DOT
+                {
+                mDOT(); 
+
+
+                }
+                break;
+            case 58 :
+                // /root/project/src/parser/Chespel.g:1:415: RETURN
+                {
+                mRETURN(); 
+
+
+                }
+                break;
+            case 59 :
+                // /root/project/src/parser/Chespel.g:1:422: TRUE
+                {
+                mTRUE(); 
+
+
+                }
+                break;
+            case 60 :
+                // /root/project/src/parser/Chespel.g:1:427: FALSE
+                {
+                mFALSE(); 
+
+
+                }
+                break;
+            case 61 :
+                // /root/project/src/parser/Chespel.g:1:433: CONFIG
+                {
+                mCONFIG(); 
+
+
+                }
+                break;
+            case 62 :
+                // /root/project/src/parser/Chespel.g:1:440: ID
+                {
+                mID(); 
+
+
+                }
+                break;
+            case 63 :
+                // /root/project/src/parser/Chespel.g:1:443: NUM
+                {
+                mNUM(); 
+
+
+                }
+                break;
+            case 64 :
+                // /root/project/src/parser/Chespel.g:1:447: COMMENT
+                {
+                mCOMMENT(); 
+
+
+                }
+                break;
+            case 65 :
+                // /root/project/src/parser/Chespel.g:1:455: STRING
+                {
+                mSTRING(); 
+
+
+                }
+                break;
+            case 66 :
+                // /root/project/src/parser/Chespel.g:1:462: WS
+                {
+                mWS(); 
+
+
+                }
+                break;
+
+        }
+
+    }
+
+
+    protected DFA18 dfa18 = new DFA18(this);
+    static final String DFA18_eotS =
+        "\6\uffff\3\47\3\uffff\1\47\1\65\1\uffff\1\67\1\71\1\73\2\uffff\1"+
+        "\75\2\uffff\16\47\1\140\1\47\4\uffff\4\47\1\146\1\uffff\1\150\1"+
+        "\153\1\47\12\uffff\4\47\1\162\1\163\34\47\1\uffff\5\47\1\uffff\1"+
+        "\u0099\1\uffff\1\u009b\4\uffff\1\47\1\u009e\1\u009f\1\u00a0\2\uffff"+
+        "\5\47\1\u00a6\12\47\1\u00b2\21\47\1\u00c4\2\47\4\uffff\1\47\3\uffff"+
+        "\2\47\1\u00b2\2\47\1\uffff\1\u00cd\10\47\1\u00d6\1\u00d7\1\uffff"+
+        "\1\u00d9\1\u00b2\3\47\1\u00de\1\47\1\u00b2\2\47\1\u00d9\1\47\1\u00d9"+
+        "\1\47\1\u00e7\1\u00e8\1\47\1\uffff\3\47\1\u00ed\1\47\1\u00d7\1\u00ef"+
+        "\1\u00f0\1\uffff\10\47\2\uffff\1\u00f6\1\uffff\1\u00d7\1\u00f7\1"+
+        "\47\1\u00f9\1\uffff\1\47\1\u00d7\1\47\1\u00d9\1\u00f6\1\47\1\u00f6"+
+        "\1\u00d9\2\uffff\3\47\1\u0102\1\uffff\1\u0103\2\uffff\1\u0104\4"+
+        "\47\2\uffff\1\u0107\1\uffff\1\u00d9\1\u0109\1\u00f6\1\u00d9\1\u00f6"+
+        "\1\u010b\1\u010c\1\u010d\3\uffff\2\47\1\uffff\1\u00f6\1\uffff\1"+
+        "\u00f6\3\uffff";
+    static final String DFA18_eofS =
+        "\u010e\uffff";
+    static final String DFA18_minS =
+        "\1\11\5\uffff\1\154\1\151\1\160\2\uffff\1\61\1\157\1\75\1\uffff"+
+        "\2\75\1\53\2\uffff\1\52\2\uffff\1\154\1\157\1\156\1\146\1\150\1"+
+        "\141\1\142\1\141\1\151\1\145\1\141\1\151\1\165\1\157\1\60\1\162"+
+        "\4\uffff\1\144\1\163\1\144\1\145\1\60\1\61\2\56\1\40\12\uffff\1"+
+        "\157\1\164\1\155\1\144\2\60\1\151\1\162\2\154\1\157\1\155\1\154"+
+        "\1\162\1\141\1\151\1\157\1\151\1\165\1\154\1\157\1\156\1\166\1\164"+
+        "\1\157\1\163\1\154\1\156\1\145\1\167\1\151\1\156\1\145\1\151\1\uffff"+
+        "\1\165\1\147\1\145\1\147\1\156\1\uffff\1\56\1\uffff\1\56\4\uffff"+
+        "\1\142\3\60\2\uffff\1\154\1\141\1\145\1\163\1\162\1\60\1\146\1\151"+
+        "\1\145\1\167\1\163\1\157\1\151\1\156\2\145\1\60\2\153\1\141\1\165"+
+        "\1\156\1\154\1\150\1\154\1\146\1\143\1\156\2\147\1\145\1\144\1\145"+
+        "\1\141\1\60\1\141\1\151\4\uffff\1\141\3\uffff\1\145\1\154\1\60\2"+
+        "\145\1\uffff\1\60\1\156\1\143\1\156\1\150\1\153\2\147\1\145\2\60"+
+        "\1\uffff\2\60\1\154\1\162\1\144\1\60\1\157\1\60\1\151\1\145\1\60"+
+        "\1\150\1\60\1\156\2\60\1\155\1\uffff\1\155\1\156\1\154\1\60\1\154"+
+        "\3\60\1\uffff\1\147\1\145\1\163\1\157\1\163\1\150\1\163\1\156\2"+
+        "\uffff\1\60\1\uffff\2\60\1\156\1\60\1\uffff\1\160\1\60\1\147\2\60"+
+        "\1\164\2\60\2\uffff\2\145\1\147\1\60\1\uffff\1\60\2\uffff\1\60\1"+
+        "\163\1\160\1\164\1\163\2\uffff\1\60\1\uffff\10\60\3\uffff\2\163"+
+        "\1\uffff\1\60\1\uffff\1\60\3\uffff";
+    static final String DFA18_maxS =
+        "\1\175\5\uffff\1\156\1\151\1\162\2\uffff\1\162\1\157\1\75\1\uffff"+
+        "\2\75\1\53\2\uffff\1\57\2\uffff\1\154\1\165\2\156\1\150\1\157\1"+
+        "\171\1\165\2\157\1\151\1\156\1\165\1\157\1\71\1\162\4\uffff\1\144"+
+        "\1\163\1\144\1\145\1\172\2\70\1\56\1\40\12\uffff\1\157\1\164\1\155"+
+        "\1\144\2\172\1\151\1\162\2\154\1\157\1\155\1\154\1\162\2\151\1\157"+
+        "\1\156\1\165\1\154\1\167\1\156\1\166\1\164\1\165\1\163\1\154\1\156"+
+        "\1\145\1\167\1\151\1\156\1\145\1\151\1\uffff\1\165\1\147\1\145\1"+
+        "\147\1\156\1\uffff\1\56\1\uffff\1\56\4\uffff\1\142\3\172\2\uffff"+
+        "\1\154\1\141\1\145\1\163\1\162\1\172\1\146\1\151\1\145\1\167\1\163"+
+        "\1\157\1\151\1\156\2\145\1\172\2\153\1\141\1\165\1\156\1\154\1\150"+
+        "\1\154\1\146\1\143\1\156\2\147\1\145\1\144\1\145\1\141\1\172\1\141"+
+        "\1\151\4\uffff\1\141\3\uffff\1\145\1\154\1\172\2\145\1\uffff\1\172"+
+        "\1\156\1\143\1\156\1\150\1\153\2\147\1\145\2\172\1\uffff\2\172\1"+
+        "\154\1\162\1\144\1\172\1\157\1\172\1\151\1\145\1\172\1\150\1\172"+
+        "\1\156\2\172\1\155\1\uffff\1\155\1\156\1\154\1\172\1\154\3\172\1"+
+        "\uffff\1\147\1\145\1\163\1\157\1\163\1\150\1\163\1\156\2\uffff\1"+
+        "\172\1\uffff\2\172\1\156\1\172\1\uffff\1\160\1\172\1\147\2\172\1"+
+        "\164\2\172\2\uffff\2\145\1\147\1\172\1\uffff\1\172\2\uffff\1\172"+
+        "\1\163\1\160\1\164\1\163\2\uffff\1\172\1\uffff\10\172\3\uffff\2"+
+        "\163\1\uffff\1\172\1\uffff\1\172\3\uffff";
+    static final String DFA18_acceptS =
+        "\1\uffff\1\1\1\2\1\3\1\4\1\5\3\uffff\1\11\1\12\3\uffff\1\26\3\uffff"+
+        "\1\34\1\35\1\uffff\1\37\1\40\20\uffff\1\76\1\77\1\101\1\102\11\uffff"+
+        "\1\25\1\24\1\30\1\27\1\32\1\31\1\60\1\33\1\100\1\36\42\uffff\1\71"+
+        "\5\uffff\1\44\1\uffff\1\20\1\uffff\1\16\1\21\1\14\1\23\4\uffff\1"+
+        "\45\1\57\45\uffff\1\22\1\15\1\17\1\13\1\uffff\1\42\1\65\1\43\5\uffff"+
+        "\1\53\13\uffff\1\55\21\uffff\1\46\10\uffff\1\63\10\uffff\1\52\1"+
+        "\61\1\uffff\1\56\4\uffff\1\66\10\uffff\1\70\1\73\4\uffff\1\47\1"+
+        "\uffff\1\74\1\51\5\uffff\1\62\1\64\1\uffff\1\54\10\uffff\1\41\1"+
+        "\50\1\67\2\uffff\1\72\1\uffff\1\75\1\uffff\1\6\1\7\1\10";
+    static final String DFA18_specialS =
+        "\u010e\uffff}>";
+    static final String[] DFA18_transitionS = {
+            "\2\52\2\uffff\1\52\22\uffff\1\52\1\16\1\51\1\uffff\1\13\1\uffff"+
+            "\1\1\1\uffff\1\2\1\3\1\23\1\21\1\4\1\22\1\45\1\24\12\50\1\uffff"+
+            "\1\5\1\17\1\15\1\20\2\uffff\32\47\1\25\1\uffff\1\26\3\uffff"+
+            "\1\31\1\37\1\40\1\14\1\6\1\34\1\27\1\47\1\32\1\47\1\42\1\47"+
+            "\1\7\1\30\1\10\1\41\1\43\1\36\1\35\1\46\1\47\1\44\1\33\3\47"+
+            "\1\11\1\uffff\1\12",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\54\1\uffff\1\53",
+            "\1\55",
+            "\1\56\1\uffff\1\57",
+            "",
+            "",
+            "\10\62\50\uffff\10\61\11\uffff\1\60",
+            "\1\63",
+            "\1\64",
+            "",
+            "\1\66",
+            "\1\70",
+            "\1\72",
+            "",
+            "",
+            "\1\74\4\uffff\1\74",
+            "",
+            "",
+            "\1\76",
+            "\1\77\5\uffff\1\100",
+            "\1\101",
+            "\1\102\7\uffff\1\103",
+            "\1\104",
+            "\1\107\7\uffff\1\106\5\uffff\1\105",
+            "\1\115\1\110\1\uffff\1\112\5\uffff\1\117\4\uffff\1\114\1\120"+
+            "\1\116\1\uffff\1\113\4\uffff\1\111",
+            "\1\123\1\115\2\uffff\1\125\3\uffff\1\124\1\uffff\1\117\3\uffff"+
+            "\1\122\1\114\1\120\1\116\2\uffff\1\121",
+            "\1\127\5\uffff\1\126",
+            "\1\130\11\uffff\1\131",
+            "\1\133\7\uffff\1\132",
+            "\1\135\4\uffff\1\134",
+            "\1\136",
+            "\1\137",
+            "\12\50",
+            "\1\141",
+            "",
+            "",
+            "",
+            "",
+            "\1\142",
+            "\1\143",
+            "\1\144",
+            "\1\145",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\10\147",
+            "\1\152\2\uffff\10\151",
+            "\1\154",
+            "\1\155",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\156",
+            "\1\157",
+            "\1\160",
+            "\1\161",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\164",
+            "\1\165",
+            "\1\166",
+            "\1\167",
+            "\1\170",
+            "\1\171",
+            "\1\172",
+            "\1\173",
+            "\1\175\7\uffff\1\174",
+            "\1\176",
+            "\1\177",
+            "\1\u0081\4\uffff\1\u0080",
+            "\1\u0082",
+            "\1\u0083",
+            "\1\u0085\7\uffff\1\u0084",
+            "\1\u0086",
+            "\1\u0087",
+            "\1\u0088",
+            "\1\u008a\5\uffff\1\u0089",
+            "\1\u008b",
+            "\1\u008c",
+            "\1\u008d",
+            "\1\u008e",
+            "\1\u008f",
+            "\1\u0090",
+            "\1\u0091",
+            "\1\u0092",
+            "\1\u0093",
+            "",
+            "\1\u0094",
+            "\1\u0095",
+            "\1\u0096",
+            "\1\u0097",
+            "\1\u0098",
+            "",
+            "\1\u009a",
+            "",
+            "\1\u009c",
+            "",
+            "",
+            "",
+            "",
+            "\1\u009d",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "",
+            "\1\u00a1",
+            "\1\u00a2",
+            "\1\u00a3",
+            "\1\u00a4",
+            "\1\u00a5",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00a7",
+            "\1\u00a8",
+            "\1\u00a9",
+            "\1\u00aa",
+            "\1\u00ab",
+            "\1\u00ac",
+            "\1\u00ad",
+            "\1\u00ae",
+            "\1\u00af",
+            "\1\u00b0",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00b1\7\47",
+            "\1\u00b3",
+            "\1\u00b4",
+            "\1\u00b5",
+            "\1\u00b6",
+            "\1\u00b7",
+            "\1\u00b8",
+            "\1\u00b9",
+            "\1\u00ba",
+            "\1\u00bb",
+            "\1\u00bc",
+            "\1\u00bd",
+            "\1\u00be",
+            "\1\u00bf",
+            "\1\u00c0",
+            "\1\u00c1",
+            "\1\u00c2",
+            "\1\u00c3",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00c5",
+            "\1\u00c6",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00c7",
+            "",
+            "",
+            "",
+            "\1\u00c8",
+            "\1\u00c9",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00ca\7\47",
+            "\1\u00cb",
+            "\1\u00cc",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00ce",
+            "\1\u00cf",
+            "\1\u00d0",
+            "\1\u00d1",
+            "\1\u00d2",
+            "\1\u00d3",
+            "\1\u00d4",
+            "\1\u00d5",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00d8\7\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00da\7\47",
+            "\1\u00db",
+            "\1\u00dc",
+            "\1\u00dd",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00df",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00e0\7\47",
+            "\1\u00e1",
+            "\1\u00e2",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00e3\7\47",
+            "\1\u00e4",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00e5\7\47",
+            "\1\u00e6",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00e9",
+            "",
+            "\1\u00ea",
+            "\1\u00eb",
+            "\1\u00ec",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00ee",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "\1\u00f1",
+            "\1\u00f2",
+            "\1\u00e3",
+            "\1\u00f3",
+            "\1\u00d8",
+            "\1\u00f4",
+            "\1\u00e5",
+            "\1\u00f5",
+            "",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00f8",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "\1\u00fa",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00fb",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00fc\7\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00fd",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u00fe\7\47",
+            "",
+            "",
+            "\1\u00ff",
+            "\1\u0100",
+            "\1\u0101",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\1\u00fc",
+            "\1\u0105",
+            "\1\u0106",
+            "\1\u00fe",
+            "",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u0108\7\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\22\47\1\u010a\7\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "",
+            "",
+            "\1\u0108",
+            "\1\u010a",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "\12\47\7\uffff\32\47\4\uffff\1\47\1\uffff\32\47",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA18_eot = DFA.unpackEncodedString(DFA18_eotS);
+    static final short[] DFA18_eof = DFA.unpackEncodedString(DFA18_eofS);
+    static final char[] DFA18_min = DFA.unpackEncodedStringToUnsignedChars(DFA18_minS);
+    static final char[] DFA18_max = DFA.unpackEncodedStringToUnsignedChars(DFA18_maxS);
+    static final short[] DFA18_accept = DFA.unpackEncodedString(DFA18_acceptS);
+    static final short[] DFA18_special = DFA.unpackEncodedString(DFA18_specialS);
+    static final short[][] DFA18_transition;
+
+    static {
+        int numStates = DFA18_transitionS.length;
+        DFA18_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA18_transition[i] = DFA.unpackEncodedString(DFA18_transitionS[i]);
+        }
+    }
+
+    class DFA18 extends DFA {
+
+        public DFA18(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 18;
+            this.eot = DFA18_eot;
+            this.eof = DFA18_eof;
+            this.min = DFA18_min;
+            this.max = DFA18_max;
+            this.accept = DFA18_accept;
+            this.special = DFA18_special;
+            this.transition = DFA18_transition;
+        }
+        public String getDescription() {
+            return "1:1: Tokens : ( T__86 | T__87 | T__88 | T__89 | T__90 | T__91 | T__92 | T__93 | T__94 | T__95 | RANG_CELL_LIT | RANG_ROW_LIT | RANG_RANK_LIT | RANG_FILE_LIT | CELL_LIT | FILE_LIT | ROW_LIT | RANK_LIT | DOIF | EQUAL | DOUBLE_EQUAL | NOT_EQUAL | LT | LE | GT | GE | PLUS | MINUS | MUL | DIV | L_BRACKET | R_BRACKET | GLOBAL | NOT | AND | OR | IF | ELSE | WHILE | FORALL | SCORE | RULE | SYM | BOUND | BOARD_TYPE | PIECE_TYPE | IN | CONCAT | BOARD_LIST | PIECE_LIST | SELF | RIVAL | NUM_TYPE | BOOL_TYPE | STRING_TYPE | VOID_TYPE | DOT | RETURN | TRUE | FALSE | CONFIG | ID | NUM | COMMENT | STRING | WS );";
+        }
+    }
+ 
+
+}
\ No newline at end of file
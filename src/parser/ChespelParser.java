@@ -0,0 +1,6964 @@
+// $ANTLR 3.4 /root/project/src/parser/Chespel.g 2026-10-18 05:55:52
+
+package parser;
+import compiler.ChespelTree;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+import org.antlr.runtime.tree.*;
+
+
+/**
+ * Copyright (c) 2011, Jordi Cortadella
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class ChespelParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ACCESS_ATOM", "AND", "ARGLIST", "ASSIGN", "BOARD_LIST", "BOARD_TYPE", "BOOL", "BOOL_TYPE", "BOUND", "CELL_LIT", "COMMENT", "CONCAT", "CONFIG", "DIV", "DOIF", "DOT", "DOUBLE_EQUAL", "ELSE", "EMPTY_LIST", "EQUAL", "ESC_SEQ", "FALSE", "FILE_ID", "FILE_LIT", "FORALL", "FUNCALL", "FUNCTION_DEF", "GE", "GLOBAL", "GLOBAL_DEF", "GT", "ID", "IF", "IN", "LE", "LIST_ATOM", "LIST_CONF", "LIST_DEF", "LIST_INSTR", "LIST_VAR", "LT", "L_BRACKET", "MINUS", "MUL", "NOT", "NOT_EQUAL", "NUM", "NUM_TYPE", "OPTION", "OR", "PARAM", "PARAMS", "PIECE_LIST", "PIECE_MOD", "PIECE_TYPE", "PLUS", "PREF", "PROGRAM", "PVALUE", "RANG_CELL_LIT", "RANG_FILE_LIT", "RANG_RANK_LIT", "RANG_ROW_LIT", "RANK_LIT", "RETURN", "RIVAL", "ROW_ID", "ROW_LIT", "RULE", "RULE_DEF", "RULE_OPTIONS", "R_BRACKET", "SCORE", "SELF", "STRING", "STRING_TYPE", "SYM", "TRUE", "VAR_DECL", "VOID_TYPE", "WHILE", "WS", "'&'", "'('", "')'", "','", "';'", "'endgame'", "'midgame'", "'opening'", "'{'", "'}'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__86=86;
+    public static final int T__87=87;
+    public static final int T__88=88;
+    public static final int T__89=89;
+    public static final int T__90=90;
+    public static final int T__91=91;
+    public static final int T__92=92;
+    public static final int T__93=93;
+    public static final int T__94=94;
+    public static final int T__95=95;
+    public static final int ACCESS_ATOM=4;
+    public static final int AND=5;
+    public static final int ARGLIST=6;
+    public static final int ASSIGN=7;
+    public static final int BOARD_LIST=8;
+    public static final int BOARD_TYPE=9;
+    public static final int BOOL=10;
+    public static final int BOOL_TYPE=11;
+    public static final int BOUND=12;
+    public static final int CELL_LIT=13;
+    public static final int COMMENT=14;
+    public static final int CONCAT=15;
+    public static final int CONFIG=16;
+    public static final int DIV=17;
+    public static final int DOIF=18;
+    public static final int DOT=19;
+    public static final int DOUBLE_EQUAL=20;
+    public static final int ELSE=21;
+    public static final int EMPTY_LIST=22;
+    public static final int EQUAL=23;
+    public static final int ESC_SEQ=24;
+    public static final int FALSE=25;
+    public static final int FILE_ID=26;
+    public static final int FILE_LIT=27;
+    public static final int FORALL=28;
+    public static final int FUNCALL=29;
+    public static final int FUNCTION_DEF=30;
+    public static final int GE=31;
+    public static final int GLOBAL=32;
+    public static final int GLOBAL_DEF=33;
+    public static final int GT=34;
+    public static final int ID=35;
+    public static final int IF=36;
+    public static final int IN=37;
+    public static final int LE=38;
+    public static final int LIST_ATOM=39;
+    public static final int LIST_CONF=40;
+    public static final int LIST_DEF=41;
+    public static final int LIST_INSTR=42;
+    public static final int LIST_VAR=43;
+    public static final int LT=44;
+    public static final int L_BRACKET=45;
+    public static final int MINUS=46;
+    public static final int MUL=47;
+    public static final int NOT=48;
+    public static final int NOT_EQUAL=49;
+    public static final int NUM=50;
+    public static final int NUM_TYPE=51;
+    public static final int OPTION=52;
+    public static final int OR=53;
+    public static final int PARAM=54;
+    public static final int PARAMS=55;
+    public static final int PIECE_LIST=56;
+    public static final int PIECE_MOD=57;
+    public static final int PIECE_TYPE=58;
+    public static final int PLUS=59;
+    public static final int PREF=60;
+    public static final int PROGRAM=61;
+    public static final int PVALUE=62;
+    public static final int RANG_CELL_LIT=63;
+    public static final int RANG_FILE_LIT=64;
+    public static final int RANG_RANK_LIT=65;
+    public static final int RANG_ROW_LIT=66;
+    public static final int RANK_LIT=67;
+    public static final int RETURN=68;
+    public static final int RIVAL=69;
+    public static final int ROW_ID=70;
+    public static final int ROW_LIT=71;
+    public static final int RULE=72;
+    public static final int RULE_DEF=73;
+    public static final int RULE_OPTIONS=74;
+    public static final int R_BRACKET=75;
+    public static final int SCORE=76;
+    public static final int SELF=77;
+    public static final int STRING=78;
+    public static final int STRING_TYPE=79;
+    public static final int SYM=80;
+    public static final int TRUE=81;
+    public static final int VAR_DECL=82;
+    public static final int VOID_TYPE=83;
+    public static final int WHILE=84;
+    public static final int WS=85;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public ChespelParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public ChespelParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+protected TreeAdaptor adaptor = new CommonTreeAdaptor();
+
+public void setTreeAdaptor(TreeAdaptor adaptor) {
+    this.adaptor = adaptor;
+}
+public TreeAdaptor getTreeAdaptor() {
+    return adaptor;
+}
+    public String[] getTokenNames() { return ChespelParser.tokenNames; }
+    public String getGrammarFileName() { return "/root/project/src/parser/Chespel.g"; }
+
+
+    public static class prog_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "prog"
+    // /root/project/src/parser/Chespel.g:72:1: prog : program EOF -> ^( PROGRAM program ) ;
+    public final ChespelParser.prog_return prog() throws RecognitionException {
+        ChespelParser.prog_return retval = new ChespelParser.prog_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token EOF2=null;
+        ChespelParser.program_return program1 =null;
+
+
+        ChespelTree EOF2_tree=null;
+        RewriteRuleTokenStream stream_EOF=new RewriteRuleTokenStream(adaptor,"token EOF");
+        RewriteRuleSubtreeStream stream_program=new RewriteRuleSubtreeStream(adaptor,"rule program");
+        try {
+            // /root/project/src/parser/Chespel.g:72:9: ( program EOF -> ^( PROGRAM program ) )
+            // /root/project/src/parser/Chespel.g:72:11: program EOF
+            {
+            pushFollow(FOLLOW_program_in_prog260);
+            program1=program();
+
+            state._fsp--;
+
+            stream_program.add(program1.getTree());
+
+            EOF2=(Token)match(input,EOF,FOLLOW_EOF_in_prog262);  
+            stream_EOF.add(EOF2);
+
+
+            // AST REWRITE
+            // elements: program
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 72:23: -> ^( PROGRAM program )
+            {
+                // /root/project/src/parser/Chespel.g:72:26: ^( PROGRAM program )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(PROGRAM, "PROGRAM")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_program.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "prog"
+
+
+    public static class program_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "program"
+    // /root/project/src/parser/Chespel.g:75:1: program : ( configs )? ( definition )+ -> ^( LIST_CONF ( configs )? ) ^( LIST_DEF ( definition )+ ) ;
+    public final ChespelParser.program_return program() throws RecognitionException {
+        ChespelParser.program_return retval = new ChespelParser.program_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        ChespelParser.configs_return configs3 =null;
+
+        ChespelParser.definition_return definition4 =null;
+
+
+        RewriteRuleSubtreeStream stream_configs=new RewriteRuleSubtreeStream(adaptor,"rule configs");
+        RewriteRuleSubtreeStream stream_definition=new RewriteRuleSubtreeStream(adaptor,"rule definition");
+        try {
+            // /root/project/src/parser/Chespel.g:75:12: ( ( configs )? ( definition )+ -> ^( LIST_CONF ( configs )? ) ^( LIST_DEF ( definition )+ ) )
+            // /root/project/src/parser/Chespel.g:75:14: ( configs )? ( definition )+
+            {
+            // /root/project/src/parser/Chespel.g:75:14: ( configs )?
+            int alt1=2;
+            int LA1_0 = input.LA(1);
+
+            if ( (LA1_0==CONFIG) ) {
+                alt1=1;
+            }
+            switch (alt1) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:75:14: configs
+                    {
+                    pushFollow(FOLLOW_configs_in_program290);
+                    configs3=configs();
+
+                    state._fsp--;
+
+                    stream_configs.add(configs3.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Chespel.g:75:23: ( definition )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( (LA2_0==BOARD_TYPE||LA2_0==BOOL_TYPE||LA2_0==GLOBAL||LA2_0==L_BRACKET||LA2_0==NUM_TYPE||LA2_0==PIECE_TYPE||LA2_0==RULE||LA2_0==STRING_TYPE||LA2_0==VOID_TYPE) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:75:23: definition
+            	    {
+            	    pushFollow(FOLLOW_definition_in_program293);
+            	    definition4=definition();
+
+            	    state._fsp--;
+
+            	    stream_definition.add(definition4.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            // AST REWRITE
+            // elements: definition, configs
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 75:35: -> ^( LIST_CONF ( configs )? ) ^( LIST_DEF ( definition )+ )
+            {
+                // /root/project/src/parser/Chespel.g:75:38: ^( LIST_CONF ( configs )? )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(LIST_CONF, "LIST_CONF")
+                , root_1);
+
+                // /root/project/src/parser/Chespel.g:75:50: ( configs )?
+                if ( stream_configs.hasNext() ) {
+                    adaptor.addChild(root_1, stream_configs.nextTree());
+
+                }
+                stream_configs.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+                // /root/project/src/parser/Chespel.g:75:60: ^( LIST_DEF ( definition )+ )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(LIST_DEF, "LIST_DEF")
+                , root_1);
+
+                if ( !(stream_definition.hasNext()) ) {
+                    throw new RewriteEarlyExitException();
+                }
+                while ( stream_definition.hasNext() ) {
+                    adaptor.addChild(root_1, stream_definition.nextTree());
+
+                }
+                stream_definition.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "program"
+
+
+    public static class configs_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "configs"
+    // /root/project/src/parser/Chespel.g:78:1: configs : CONFIG ! '{' ! ( config_assign )+ '}' !;
+    public final ChespelParser.configs_return configs() throws RecognitionException {
+        ChespelParser.configs_return retval = new ChespelParser.configs_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token CONFIG5=null;
+        Token char_literal6=null;
+        Token char_literal8=null;
+        ChespelParser.config_assign_return config_assign7 =null;
+
+
+        ChespelTree CONFIG5_tree=null;
+        ChespelTree char_literal6_tree=null;
+        ChespelTree char_literal8_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:78:9: ( CONFIG ! '{' ! ( config_assign )+ '}' !)
+            // /root/project/src/parser/Chespel.g:78:11: CONFIG ! '{' ! ( config_assign )+ '}' !
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            CONFIG5=(Token)match(input,CONFIG,FOLLOW_CONFIG_in_configs330); 
+
+            char_literal6=(Token)match(input,94,FOLLOW_94_in_configs333); 
+
+            // /root/project/src/parser/Chespel.g:78:24: ( config_assign )+
+            int cnt3=0;
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
+
+                if ( (LA3_0==ID) ) {
+                    alt3=1;
+                }
+
+
+                switch (alt3) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:78:24: config_assign
+            	    {
+            	    pushFollow(FOLLOW_config_assign_in_configs336);
+            	    config_assign7=config_assign();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, config_assign7.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt3 >= 1 ) break loop3;
+                        EarlyExitException eee =
+                            new EarlyExitException(3, input);
+                        throw eee;
+                }
+                cnt3++;
+            } while (true);
+
+
+            char_literal8=(Token)match(input,95,FOLLOW_95_in_configs339); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "configs"
+
+
+    public static class config_assign_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "config_assign"
+    // /root/project/src/parser/Chespel.g:80:1: config_assign : ID eq= EQUAL config_values ';' -> ^( ASSIGN[$eq,\":=\"] ID config_values ) ;
+    public final ChespelParser.config_assign_return config_assign() throws RecognitionException {
+        ChespelParser.config_assign_return retval = new ChespelParser.config_assign_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token eq=null;
+        Token ID9=null;
+        Token char_literal11=null;
+        ChespelParser.config_values_return config_values10 =null;
+
+
+        ChespelTree eq_tree=null;
+        ChespelTree ID9_tree=null;
+        ChespelTree char_literal11_tree=null;
+        RewriteRuleTokenStream stream_EQUAL=new RewriteRuleTokenStream(adaptor,"token EQUAL");
+        RewriteRuleTokenStream stream_90=new RewriteRuleTokenStream(adaptor,"token 90");
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+        RewriteRuleSubtreeStream stream_config_values=new RewriteRuleSubtreeStream(adaptor,"rule config_values");
+        try {
+            // /root/project/src/parser/Chespel.g:80:15: ( ID eq= EQUAL config_values ';' -> ^( ASSIGN[$eq,\":=\"] ID config_values ) )
+            // /root/project/src/parser/Chespel.g:80:17: ID eq= EQUAL config_values ';'
+            {
+            ID9=(Token)match(input,ID,FOLLOW_ID_in_config_assign349);  
+            stream_ID.add(ID9);
+
+
+            eq=(Token)match(input,EQUAL,FOLLOW_EQUAL_in_config_assign353);  
+            stream_EQUAL.add(eq);
+
+
+            pushFollow(FOLLOW_config_values_in_config_assign355);
+            config_values10=config_values();
+
+            state._fsp--;
+
+            stream_config_values.add(config_values10.getTree());
+
+            char_literal11=(Token)match(input,90,FOLLOW_90_in_config_assign357);  
+            stream_90.add(char_literal11);
+
+
+            // AST REWRITE
+            // elements: config_values, ID
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 80:47: -> ^( ASSIGN[$eq,\":=\"] ID config_values )
+            {
+                // /root/project/src/parser/Chespel.g:80:50: ^( ASSIGN[$eq,\":=\"] ID config_values )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(ASSIGN, eq, ":=")
+                , root_1);
+
+                adaptor.addChild(root_1, 
+                stream_ID.nextNode()
+                );
+
+                adaptor.addChild(root_1, stream_config_values.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "config_assign"
+
+
+    public static class config_values_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "config_values"
+    // /root/project/src/parser/Chespel.g:82:1: config_values : ( ID | num_lit | ( (i= TRUE |i= FALSE ) -> ^( BOOL[$i,$i.text] ) ) );
+    public final ChespelParser.config_values_return config_values() throws RecognitionException {
+        ChespelParser.config_values_return retval = new ChespelParser.config_values_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token i=null;
+        Token ID12=null;
+        ChespelParser.num_lit_return num_lit13 =null;
+
+
+        ChespelTree i_tree=null;
+        ChespelTree ID12_tree=null;
+        RewriteRuleTokenStream stream_TRUE=new RewriteRuleTokenStream(adaptor,"token TRUE");
+        RewriteRuleTokenStream stream_FALSE=new RewriteRuleTokenStream(adaptor,"token FALSE");
+
+        try {
+            // /root/project/src/parser/Chespel.g:82:15: ( ID | num_lit | ( (i= TRUE |i= FALSE ) -> ^( BOOL[$i,$i.text] ) ) )
+            int alt5=3;
+            switch ( input.LA(1) ) {
+            case ID:
+                {
+                alt5=1;
+                }
+                break;
+            case NUM:
+                {
+                alt5=2;
+                }
+                break;
+            case FALSE:
+            case TRUE:
+                {
+                alt5=3;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 5, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt5) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:82:17: ID
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    ID12=(Token)match(input,ID,FOLLOW_ID_in_config_values377); 
+                    ID12_tree = 
+                    (ChespelTree)adaptor.create(ID12)
+                    ;
+                    adaptor.addChild(root_0, ID12_tree);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:82:22: num_lit
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_num_lit_in_config_values381);
+                    num_lit13=num_lit();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, num_lit13.getTree());
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:82:32: ( (i= TRUE |i= FALSE ) -> ^( BOOL[$i,$i.text] ) )
+                    {
+                    // /root/project/src/parser/Chespel.g:82:32: ( (i= TRUE |i= FALSE ) -> ^( BOOL[$i,$i.text] ) )
+                    // /root/project/src/parser/Chespel.g:82:33: (i= TRUE |i= FALSE )
+                    {
+                    // /root/project/src/parser/Chespel.g:82:33: (i= TRUE |i= FALSE )
+                    int alt4=2;
+                    int LA4_0 = input.LA(1);
+
+                    if ( (LA4_0==TRUE) ) {
+                        alt4=1;
+                    }
+                    else if ( (LA4_0==FALSE) ) {
+                        alt4=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 4, 0, input);
+
+                        throw nvae;
+
+                    }
+                    switch (alt4) {
+                        case 1 :
+                            // /root/project/src/parser/Chespel.g:82:34: i= TRUE
+                            {
+                            i=(Token)match(input,TRUE,FOLLOW_TRUE_in_config_values389);  
+                            stream_TRUE.add(i);
+
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Chespel.g:82:43: i= FALSE
+                            {
+                            i=(Token)match(input,FALSE,FOLLOW_FALSE_in_config_values395);  
+                            stream_FALSE.add(i);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    // AST REWRITE
+                    // elements: 
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 82:52: -> ^( BOOL[$i,$i.text] )
+                    {
+                        // /root/project/src/parser/Chespel.g:82:55: ^( BOOL[$i,$i.text] )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(BOOL, i, (i!=null?i.getText():null))
+                        , root_1);
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "config_values"
+
+
+    public static class definition_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "definition"
+    // /root/project/src/parser/Chespel.g:84:1: definition : ( func | rule | global_const );
+    public final ChespelParser.definition_return definition() throws RecognitionException {
+        ChespelParser.definition_return retval = new ChespelParser.definition_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        ChespelParser.func_return func14 =null;
+
+        ChespelParser.rule_return rule15 =null;
+
+        ChespelParser.global_const_return global_const16 =null;
+
+
+
+        try {
+            // /root/project/src/parser/Chespel.g:85:5: ( func | rule | global_const )
+            int alt6=3;
+            switch ( input.LA(1) ) {
+            case BOARD_TYPE:
+            case BOOL_TYPE:
+            case L_BRACKET:
+            case NUM_TYPE:
+            case PIECE_TYPE:
+            case STRING_TYPE:
+            case VOID_TYPE:
+                {
+                alt6=1;
+                }
+                break;
+            case RULE:
+                {
+                alt6=2;
+                }
+                break;
+            case GLOBAL:
+                {
+                alt6=3;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 6, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt6) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:85:9: func
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_func_in_definition429);
+                    func14=func();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, func14.getTree());
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:85:16: rule
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_rule_in_definition433);
+                    rule15=rule();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, rule15.getTree());
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:85:23: global_const
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_global_const_in_definition437);
+                    global_const16=global_const();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, global_const16.getTree());
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "definition"
+
+
+    public static class global_const_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "global_const"
+    // /root/project/src/parser/Chespel.g:88:1: global_const : GLOBAL type ID eq= EQUAL expr ';' -> ^( GLOBAL_DEF[\"GLOBAL\"] type ID expr ) ;
+    public final ChespelParser.global_const_return global_const() throws RecognitionException {
+        ChespelParser.global_const_return retval = new ChespelParser.global_const_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token eq=null;
+        Token GLOBAL17=null;
+        Token ID19=null;
+        Token char_literal21=null;
+        ChespelParser.type_return type18 =null;
+
+        ChespelParser.expr_return expr20 =null;
+
+
+        ChespelTree eq_tree=null;
+        ChespelTree GLOBAL17_tree=null;
+        ChespelTree ID19_tree=null;
+        ChespelTree char_literal21_tree=null;
+        RewriteRuleTokenStream stream_EQUAL=new RewriteRuleTokenStream(adaptor,"token EQUAL");
+        RewriteRuleTokenStream stream_90=new RewriteRuleTokenStream(adaptor,"token 90");
+        RewriteRuleTokenStream stream_GLOBAL=new RewriteRuleTokenStream(adaptor,"token GLOBAL");
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+        RewriteRuleSubtreeStream stream_expr=new RewriteRuleSubtreeStream(adaptor,"rule expr");
+        RewriteRuleSubtreeStream stream_type=new RewriteRuleSubtreeStream(adaptor,"rule type");
+        try {
+            // /root/project/src/parser/Chespel.g:89:5: ( GLOBAL type ID eq= EQUAL expr ';' -> ^( GLOBAL_DEF[\"GLOBAL\"] type ID expr ) )
+            // /root/project/src/parser/Chespel.g:89:9: GLOBAL type ID eq= EQUAL expr ';'
+            {
+            GLOBAL17=(Token)match(input,GLOBAL,FOLLOW_GLOBAL_in_global_const460);  
+            stream_GLOBAL.add(GLOBAL17);
+
+
+            pushFollow(FOLLOW_type_in_global_const462);
+            type18=type();
+
+            state._fsp--;
+
+            stream_type.add(type18.getTree());
+
+            ID19=(Token)match(input,ID,FOLLOW_ID_in_global_const464);  
+            stream_ID.add(ID19);
+
+
+            eq=(Token)match(input,EQUAL,FOLLOW_EQUAL_in_global_const468);  
+            stream_EQUAL.add(eq);
+
+
+            pushFollow(FOLLOW_expr_in_global_const470);
+            expr20=expr();
+
+            state._fsp--;
+
+            stream_expr.add(expr20.getTree());
+
+            char_literal21=(Token)match(input,90,FOLLOW_90_in_global_const472);  
+            stream_90.add(char_literal21);
+
+
+            // AST REWRITE
+            // elements: ID, type, expr
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 89:42: -> ^( GLOBAL_DEF[\"GLOBAL\"] type ID expr )
+            {
+                // /root/project/src/parser/Chespel.g:89:45: ^( GLOBAL_DEF[\"GLOBAL\"] type ID expr )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(GLOBAL_DEF, "GLOBAL")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_type.nextTree());
+
+                adaptor.addChild(root_1, 
+                stream_ID.nextNode()
+                );
+
+                adaptor.addChild(root_1, stream_expr.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "global_const"
+
+
+    public static class func_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func"
+    // /root/project/src/parser/Chespel.g:93:1: func : function_type ID params block_instructions_strict -> ^( FUNCTION_DEF[\"FUNCTION\"] function_type ID params block_instructions_strict ) ;
+    public final ChespelParser.func_return func() throws RecognitionException {
+        ChespelParser.func_return retval = new ChespelParser.func_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token ID23=null;
+        ChespelParser.function_type_return function_type22 =null;
+
+        ChespelParser.params_return params24 =null;
+
+        ChespelParser.block_instructions_strict_return block_instructions_strict25 =null;
+
+
+        ChespelTree ID23_tree=null;
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+        RewriteRuleSubtreeStream stream_function_type=new RewriteRuleSubtreeStream(adaptor,"rule function_type");
+        RewriteRuleSubtreeStream stream_block_instructions_strict=new RewriteRuleSubtreeStream(adaptor,"rule block_instructions_strict");
+        RewriteRuleSubtreeStream stream_params=new RewriteRuleSubtreeStream(adaptor,"rule params");
+        try {
+            // /root/project/src/parser/Chespel.g:93:9: ( function_type ID params block_instructions_strict -> ^( FUNCTION_DEF[\"FUNCTION\"] function_type ID params block_instructions_strict ) )
+            // /root/project/src/parser/Chespel.g:93:11: function_type ID params block_instructions_strict
+            {
+            pushFollow(FOLLOW_function_type_in_func510);
+            function_type22=function_type();
+
+            state._fsp--;
+
+            stream_function_type.add(function_type22.getTree());
+
+            ID23=(Token)match(input,ID,FOLLOW_ID_in_func512);  
+            stream_ID.add(ID23);
+
+
+            pushFollow(FOLLOW_params_in_func514);
+            params24=params();
+
+            state._fsp--;
+
+            stream_params.add(params24.getTree());
+
+            pushFollow(FOLLOW_block_instructions_strict_in_func516);
+            block_instructions_strict25=block_instructions_strict();
+
+            state._fsp--;
+
+            stream_block_instructions_strict.add(block_instructions_strict25.getTree());
+
+            // AST REWRITE
+            // elements: params, function_type, ID, block_instructions_strict
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 93:61: -> ^( FUNCTION_DEF[\"FUNCTION\"] function_type ID params block_instructions_strict )
+            {
+                // /root/project/src/parser/Chespel.g:93:64: ^( FUNCTION_DEF[\"FUNCTION\"] function_type ID params block_instructions_strict )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(FUNCTION_DEF, "FUNCTION")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_function_type.nextTree());
+
+                adaptor.addChild(root_1, 
+                stream_ID.nextNode()
+                );
+
+                adaptor.addChild(root_1, stream_params.nextTree());
+
+                adaptor.addChild(root_1, stream_block_instructions_strict.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func"
+
+
+    public static class rule_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rule"
+    // /root/project/src/parser/Chespel.g:96:1: rule : r= RULE rule_name rule_opt ( doif )? block_instructions_strict -> ^( RULE_DEF[\"RULE\"] rule_name rule_opt block_instructions_strict ( doif )? ) ;
+    public final ChespelParser.rule_return rule() throws RecognitionException {
+        ChespelParser.rule_return retval = new ChespelParser.rule_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token r=null;
+        ChespelParser.rule_name_return rule_name26 =null;
+
+        ChespelParser.rule_opt_return rule_opt27 =null;
+
+        ChespelParser.doif_return doif28 =null;
+
+        ChespelParser.block_instructions_strict_return block_instructions_strict29 =null;
+
+
+        ChespelTree r_tree=null;
+        RewriteRuleTokenStream stream_RULE=new RewriteRuleTokenStream(adaptor,"token RULE");
+        RewriteRuleSubtreeStream stream_rule_name=new RewriteRuleSubtreeStream(adaptor,"rule rule_name");
+        RewriteRuleSubtreeStream stream_rule_opt=new RewriteRuleSubtreeStream(adaptor,"rule rule_opt");
+        RewriteRuleSubtreeStream stream_doif=new RewriteRuleSubtreeStream(adaptor,"rule doif");
+        RewriteRuleSubtreeStream stream_block_instructions_strict=new RewriteRuleSubtreeStream(adaptor,"rule block_instructions_strict");
+        try {
+            // /root/project/src/parser/Chespel.g:96:13: (r= RULE rule_name rule_opt ( doif )? block_instructions_strict -> ^( RULE_DEF[\"RULE\"] rule_name rule_opt block_instructions_strict ( doif )? ) )
+            // /root/project/src/parser/Chespel.g:96:17: r= RULE rule_name rule_opt ( doif )? block_instructions_strict
+            {
+            r=(Token)match(input,RULE,FOLLOW_RULE_in_rule567);  
+            stream_RULE.add(r);
+
+
+            pushFollow(FOLLOW_rule_name_in_rule569);
+            rule_name26=rule_name();
+
+            state._fsp--;
+
+            stream_rule_name.add(rule_name26.getTree());
+
+            pushFollow(FOLLOW_rule_opt_in_rule571);
+            rule_opt27=rule_opt();
+
+            state._fsp--;
+
+            stream_rule_opt.add(rule_opt27.getTree());
+
+            // /root/project/src/parser/Chespel.g:96:43: ( doif )?
+            int alt7=2;
+            int LA7_0 = input.LA(1);
+
+            if ( (LA7_0==DOIF) ) {
+                alt7=1;
+            }
+            switch (alt7) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:96:43: doif
+                    {
+                    pushFollow(FOLLOW_doif_in_rule573);
+                    doif28=doif();
+
+                    state._fsp--;
+
+                    stream_doif.add(doif28.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_block_instructions_strict_in_rule576);
+            block_instructions_strict29=block_instructions_strict();
+
+            state._fsp--;
+
+            stream_block_instructions_strict.add(block_instructions_strict29.getTree());
+
+            // AST REWRITE
+            // elements: doif, rule_opt, block_instructions_strict, rule_name
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 96:75: -> ^( RULE_DEF[\"RULE\"] rule_name rule_opt block_instructions_strict ( doif )? )
+            {
+                // /root/project/src/parser/Chespel.g:96:78: ^( RULE_DEF[\"RULE\"] rule_name rule_opt block_instructions_strict ( doif )? )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(RULE_DEF, "RULE")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_rule_name.nextTree());
+
+                adaptor.addChild(root_1, stream_rule_opt.nextTree());
+
+                adaptor.addChild(root_1, stream_block_instructions_strict.nextTree());
+
+                // /root/project/src/parser/Chespel.g:96:142: ( doif )?
+                if ( stream_doif.hasNext() ) {
+                    adaptor.addChild(root_1, stream_doif.nextTree());
+
+                }
+                stream_doif.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rule"
+
+
+    public static class rule_name_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rule_name"
+    // /root/project/src/parser/Chespel.g:99:1: rule_name : (t= ID |t= PIECE_LIST |t= BOARD_LIST |t= PIECE_TYPE |t= BOARD_TYPE ) -> ^( ID[$t,$t.text] ) ;
+    public final ChespelParser.rule_name_return rule_name() throws RecognitionException {
+        ChespelParser.rule_name_return retval = new ChespelParser.rule_name_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token t=null;
+
+        ChespelTree t_tree=null;
+        RewriteRuleTokenStream stream_PIECE_TYPE=new RewriteRuleTokenStream(adaptor,"token PIECE_TYPE");
+        RewriteRuleTokenStream stream_BOARD_LIST=new RewriteRuleTokenStream(adaptor,"token BOARD_LIST");
+        RewriteRuleTokenStream stream_BOARD_TYPE=new RewriteRuleTokenStream(adaptor,"token BOARD_TYPE");
+        RewriteRuleTokenStream stream_PIECE_LIST=new RewriteRuleTokenStream(adaptor,"token PIECE_LIST");
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+
+        try {
+            // /root/project/src/parser/Chespel.g:100:5: ( (t= ID |t= PIECE_LIST |t= BOARD_LIST |t= PIECE_TYPE |t= BOARD_TYPE ) -> ^( ID[$t,$t.text] ) )
+            // /root/project/src/parser/Chespel.g:100:9: (t= ID |t= PIECE_LIST |t= BOARD_LIST |t= PIECE_TYPE |t= BOARD_TYPE )
+            {
+            // /root/project/src/parser/Chespel.g:100:9: (t= ID |t= PIECE_LIST |t= BOARD_LIST |t= PIECE_TYPE |t= BOARD_TYPE )
+            int alt8=5;
+            switch ( input.LA(1) ) {
+            case ID:
+                {
+                alt8=1;
+                }
+                break;
+            case PIECE_LIST:
+                {
+                alt8=2;
+                }
+                break;
+            case BOARD_LIST:
+                {
+                alt8=3;
+                }
+                break;
+            case PIECE_TYPE:
+                {
+                alt8=4;
+                }
+                break;
+            case BOARD_TYPE:
+                {
+                alt8=5;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 8, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt8) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:100:10: t= ID
+                    {
+                    t=(Token)match(input,ID,FOLLOW_ID_in_rule_name612);  
+                    stream_ID.add(t);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:100:17: t= PIECE_LIST
+                    {
+                    t=(Token)match(input,PIECE_LIST,FOLLOW_PIECE_LIST_in_rule_name618);  
+                    stream_PIECE_LIST.add(t);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:100:32: t= BOARD_LIST
+                    {
+                    t=(Token)match(input,BOARD_LIST,FOLLOW_BOARD_LIST_in_rule_name624);  
+                    stream_BOARD_LIST.add(t);
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:100:47: t= PIECE_TYPE
+                    {
+                    t=(Token)match(input,PIECE_TYPE,FOLLOW_PIECE_TYPE_in_rule_name630);  
+                    stream_PIECE_TYPE.add(t);
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:100:62: t= BOARD_TYPE
+                    {
+                    t=(Token)match(input,BOARD_TYPE,FOLLOW_BOARD_TYPE_in_rule_name636);  
+                    stream_BOARD_TYPE.add(t);
+
+
+                    }
+                    break;
+
+            }
+
+
+            // AST REWRITE
+            // elements: ID
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 100:76: -> ^( ID[$t,$t.text] )
+            {
+                // /root/project/src/parser/Chespel.g:100:79: ^( ID[$t,$t.text] )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(ID, t, (t!=null?t.getText():null))
+                , root_1);
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rule_name"
+
+
+    public static class rule_opt_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rule_opt"
+    // /root/project/src/parser/Chespel.g:102:1: rule_opt : (o+= option ( ',' o+= option )* )? -> ^( RULE_OPTIONS ( $o)* ) ;
+    public final ChespelParser.rule_opt_return rule_opt() throws RecognitionException {
+        ChespelParser.rule_opt_return retval = new ChespelParser.rule_opt_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal30=null;
+        List list_o=null;
+        RuleReturnScope o = null;
+        ChespelTree char_literal30_tree=null;
+        RewriteRuleTokenStream stream_89=new RewriteRuleTokenStream(adaptor,"token 89");
+        RewriteRuleSubtreeStream stream_option=new RewriteRuleSubtreeStream(adaptor,"rule option");
+        try {
+            // /root/project/src/parser/Chespel.g:102:13: ( (o+= option ( ',' o+= option )* )? -> ^( RULE_OPTIONS ( $o)* ) )
+            // /root/project/src/parser/Chespel.g:102:17: (o+= option ( ',' o+= option )* )?
+            {
+            // /root/project/src/parser/Chespel.g:102:17: (o+= option ( ',' o+= option )* )?
+            int alt10=2;
+            int LA10_0 = input.LA(1);
+
+            if ( (LA10_0==BOUND||LA10_0==SYM||(LA10_0 >= 91 && LA10_0 <= 93)) ) {
+                alt10=1;
+            }
+            switch (alt10) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:102:18: o+= option ( ',' o+= option )*
+                    {
+                    pushFollow(FOLLOW_option_in_rule_opt660);
+                    o=option();
+
+                    state._fsp--;
+
+                    stream_option.add(o.getTree());
+                    if (list_o==null) list_o=new ArrayList();
+                    list_o.add(o.getTree());
+
+
+                    // /root/project/src/parser/Chespel.g:102:28: ( ',' o+= option )*
+                    loop9:
+                    do {
+                        int alt9=2;
+                        int LA9_0 = input.LA(1);
+
+                        if ( (LA9_0==89) ) {
+                            alt9=1;
+                        }
+
+
+                        switch (alt9) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Chespel.g:102:29: ',' o+= option
+                    	    {
+                    	    char_literal30=(Token)match(input,89,FOLLOW_89_in_rule_opt663);  
+                    	    stream_89.add(char_literal30);
+
+
+                    	    pushFollow(FOLLOW_option_in_rule_opt667);
+                    	    o=option();
+
+                    	    state._fsp--;
+
+                    	    stream_option.add(o.getTree());
+                    	    if (list_o==null) list_o=new ArrayList();
+                    	    list_o.add(o.getTree());
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop9;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+
+
+            // AST REWRITE
+            // elements: o
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: o
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+            RewriteRuleSubtreeStream stream_o=new RewriteRuleSubtreeStream(adaptor,"token o",list_o);
+            root_0 = (ChespelTree)adaptor.nil();
+            // 102:47: -> ^( RULE_OPTIONS ( $o)* )
+            {
+                // /root/project/src/parser/Chespel.g:102:50: ^( RULE_OPTIONS ( $o)* )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(RULE_OPTIONS, "RULE_OPTIONS")
+                , root_1);
+
+                // /root/project/src/parser/Chespel.g:102:66: ( $o)*
+                while ( stream_o.hasNext() ) {
+                    adaptor.addChild(root_1, stream_o.nextTree());
+
+                }
+                stream_o.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rule_opt"
+
+
+    public static class option_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "option"
+    // /root/project/src/parser/Chespel.g:104:1: option : ( SYM | 'opening' | 'midgame' | 'endgame' | BOUND ^ num_lit );
+    public final ChespelParser.option_return option() throws RecognitionException {
+        ChespelParser.option_return retval = new ChespelParser.option_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token SYM31=null;
+        Token string_literal32=null;
+        Token string_literal33=null;
+        Token string_literal34=null;
+        Token BOUND35=null;
+        ChespelParser.num_lit_return num_lit36 =null;
+
+
+        ChespelTree SYM31_tree=null;
+        ChespelTree string_literal32_tree=null;
+        ChespelTree string_literal33_tree=null;
+        ChespelTree string_literal34_tree=null;
+        ChespelTree BOUND35_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:104:13: ( SYM | 'opening' | 'midgame' | 'endgame' | BOUND ^ num_lit )
+            int alt11=5;
+            switch ( input.LA(1) ) {
+            case SYM:
+                {
+                alt11=1;
+                }
+                break;
+            case 93:
+                {
+                alt11=2;
+                }
+                break;
+            case 92:
+                {
+                alt11=3;
+                }
+                break;
+            case 91:
+                {
+                alt11=4;
+                }
+                break;
+            case BOUND:
+                {
+                alt11=5;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt11) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:104:17: SYM
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    SYM31=(Token)match(input,SYM,FOLLOW_SYM_in_option697); 
+                    SYM31_tree = 
+                    (ChespelTree)adaptor.create(SYM31)
+                    ;
+                    adaptor.addChild(root_0, SYM31_tree);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:104:23: 'opening'
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    string_literal32=(Token)match(input,93,FOLLOW_93_in_option701); 
+                    string_literal32_tree = 
+                    (ChespelTree)adaptor.create(string_literal32)
+                    ;
+                    adaptor.addChild(root_0, string_literal32_tree);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:104:35: 'midgame'
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    string_literal33=(Token)match(input,92,FOLLOW_92_in_option705); 
+                    string_literal33_tree = 
+                    (ChespelTree)adaptor.create(string_literal33)
+                    ;
+                    adaptor.addChild(root_0, string_literal33_tree);
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:104:47: 'endgame'
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    string_literal34=(Token)match(input,91,FOLLOW_91_in_option709); 
+                    string_literal34_tree = 
+                    (ChespelTree)adaptor.create(string_literal34)
+                    ;
+                    adaptor.addChild(root_0, string_literal34_tree);
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:104:59: BOUND ^ num_lit
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    BOUND35=(Token)match(input,BOUND,FOLLOW_BOUND_in_option713); 
+                    BOUND35_tree = 
+                    (ChespelTree)adaptor.create(BOUND35)
+                    ;
+                    root_0 = (ChespelTree)adaptor.becomeRoot(BOUND35_tree, root_0);
+
+
+                    pushFollow(FOLLOW_num_lit_in_option716);
+                    num_lit36=num_lit();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, num_lit36.getTree());
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "option"
+
+
+    public static class doif_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "doif"
+    // /root/project/src/parser/Chespel.g:106:1: doif : d= DOIF expr -> ^( DOIF[$d,\"DOIF\"] expr ) ;
+    public final ChespelParser.doif_return doif() throws RecognitionException {
+        ChespelParser.doif_return retval = new ChespelParser.doif_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token d=null;
+        ChespelParser.expr_return expr37 =null;
+
+
+        ChespelTree d_tree=null;
+        RewriteRuleTokenStream stream_DOIF=new RewriteRuleTokenStream(adaptor,"token DOIF");
+        RewriteRuleSubtreeStream stream_expr=new RewriteRuleSubtreeStream(adaptor,"rule expr");
+        try {
+            // /root/project/src/parser/Chespel.g:106:9: (d= DOIF expr -> ^( DOIF[$d,\"DOIF\"] expr ) )
+            // /root/project/src/parser/Chespel.g:106:17: d= DOIF expr
+            {
+            d=(Token)match(input,DOIF,FOLLOW_DOIF_in_doif737);  
+            stream_DOIF.add(d);
+
+
+            pushFollow(FOLLOW_expr_in_doif739);
+            expr37=expr();
+
+            state._fsp--;
+
+            stream_expr.add(expr37.getTree());
+
+            // AST REWRITE
+            // elements: DOIF, expr
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 106:29: -> ^( DOIF[$d,\"DOIF\"] expr )
+            {
+                // /root/project/src/parser/Chespel.g:106:32: ^( DOIF[$d,\"DOIF\"] expr )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(DOIF, d, "DOIF")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_expr.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "doif"
+
+
+    public static class params_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "params"
+    // /root/project/src/parser/Chespel.g:108:1: params : '(' ( paramlist )? ')' -> ^( PARAMS ( paramlist )? ) ;
+    public final ChespelParser.params_return params() throws RecognitionException {
+        ChespelParser.params_return retval = new ChespelParser.params_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal38=null;
+        Token char_literal40=null;
+        ChespelParser.paramlist_return paramlist39 =null;
+
+
+        ChespelTree char_literal38_tree=null;
+        ChespelTree char_literal40_tree=null;
+        RewriteRuleTokenStream stream_88=new RewriteRuleTokenStream(adaptor,"token 88");
+        RewriteRuleTokenStream stream_87=new RewriteRuleTokenStream(adaptor,"token 87");
+        RewriteRuleSubtreeStream stream_paramlist=new RewriteRuleSubtreeStream(adaptor,"rule paramlist");
+        try {
+            // /root/project/src/parser/Chespel.g:108:9: ( '(' ( paramlist )? ')' -> ^( PARAMS ( paramlist )? ) )
+            // /root/project/src/parser/Chespel.g:108:11: '(' ( paramlist )? ')'
+            {
+            char_literal38=(Token)match(input,87,FOLLOW_87_in_params758);  
+            stream_87.add(char_literal38);
+
+
+            // /root/project/src/parser/Chespel.g:108:15: ( paramlist )?
+            int alt12=2;
+            int LA12_0 = input.LA(1);
+
+            if ( (LA12_0==BOARD_TYPE||LA12_0==BOOL_TYPE||LA12_0==L_BRACKET||LA12_0==NUM_TYPE||LA12_0==PIECE_TYPE||LA12_0==STRING_TYPE) ) {
+                alt12=1;
+            }
+            switch (alt12) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:108:15: paramlist
+                    {
+                    pushFollow(FOLLOW_paramlist_in_params760);
+                    paramlist39=paramlist();
+
+                    state._fsp--;
+
+                    stream_paramlist.add(paramlist39.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            char_literal40=(Token)match(input,88,FOLLOW_88_in_params763);  
+            stream_88.add(char_literal40);
+
+
+            // AST REWRITE
+            // elements: paramlist
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 108:30: -> ^( PARAMS ( paramlist )? )
+            {
+                // /root/project/src/parser/Chespel.g:108:33: ^( PARAMS ( paramlist )? )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(PARAMS, "PARAMS")
+                , root_1);
+
+                // /root/project/src/parser/Chespel.g:108:42: ( paramlist )?
+                if ( stream_paramlist.hasNext() ) {
+                    adaptor.addChild(root_1, stream_paramlist.nextTree());
+
+                }
+                stream_paramlist.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "params"
+
+
+    public static class paramlist_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "paramlist"
+    // /root/project/src/parser/Chespel.g:110:1: paramlist : param ( ',' ! param )* ;
+    public final ChespelParser.paramlist_return paramlist() throws RecognitionException {
+        ChespelParser.paramlist_return retval = new ChespelParser.paramlist_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal42=null;
+        ChespelParser.param_return param41 =null;
+
+        ChespelParser.param_return param43 =null;
+
+
+        ChespelTree char_literal42_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:110:10: ( param ( ',' ! param )* )
+            // /root/project/src/parser/Chespel.g:110:12: param ( ',' ! param )*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_param_in_paramlist780);
+            param41=param();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, param41.getTree());
+
+            // /root/project/src/parser/Chespel.g:110:18: ( ',' ! param )*
+            loop13:
+            do {
+                int alt13=2;
+                int LA13_0 = input.LA(1);
+
+                if ( (LA13_0==89) ) {
+                    alt13=1;
+                }
+
+
+                switch (alt13) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:110:19: ',' ! param
+            	    {
+            	    char_literal42=(Token)match(input,89,FOLLOW_89_in_paramlist783); 
+
+            	    pushFollow(FOLLOW_param_in_paramlist786);
+            	    param43=param();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, param43.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop13;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "paramlist"
+
+
+    public static class param_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "param"
+    // /root/project/src/parser/Chespel.g:112:1: param : type paramid -> ^( PARAM type paramid ) ;
+    public final ChespelParser.param_return param() throws RecognitionException {
+        ChespelParser.param_return retval = new ChespelParser.param_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        ChespelParser.type_return type44 =null;
+
+        ChespelParser.paramid_return paramid45 =null;
+
+
+        RewriteRuleSubtreeStream stream_type=new RewriteRuleSubtreeStream(adaptor,"rule type");
+        RewriteRuleSubtreeStream stream_paramid=new RewriteRuleSubtreeStream(adaptor,"rule paramid");
+        try {
+            // /root/project/src/parser/Chespel.g:112:9: ( type paramid -> ^( PARAM type paramid ) )
+            // /root/project/src/parser/Chespel.g:112:13: type paramid
+            {
+            pushFollow(FOLLOW_type_in_param801);
+            type44=type();
+
+            state._fsp--;
+
+            stream_type.add(type44.getTree());
+
+            pushFollow(FOLLOW_paramid_in_param803);
+            paramid45=paramid();
+
+            state._fsp--;
+
+            stream_paramid.add(paramid45.getTree());
+
+            // AST REWRITE
+            // elements: paramid, type
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 112:26: -> ^( PARAM type paramid )
+            {
+                // /root/project/src/parser/Chespel.g:112:29: ^( PARAM type paramid )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(PARAM, "PARAM")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_type.nextTree());
+
+                adaptor.addChild(root_1, stream_paramid.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "param"
+
+
+    public static class paramid_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "paramid"
+    // /root/project/src/parser/Chespel.g:117:1: paramid : ( '&' id= ID -> ^( PREF[$id,'&' + $id.text] ) |id= ID -> ^( PVALUE[$id,$id.text] ) );
+    public final ChespelParser.paramid_return paramid() throws RecognitionException {
+        ChespelParser.paramid_return retval = new ChespelParser.paramid_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token id=null;
+        Token char_literal46=null;
+
+        ChespelTree id_tree=null;
+        ChespelTree char_literal46_tree=null;
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+        RewriteRuleTokenStream stream_86=new RewriteRuleTokenStream(adaptor,"token 86");
+
+        try {
+            // /root/project/src/parser/Chespel.g:117:9: ( '&' id= ID -> ^( PREF[$id,'&' + $id.text] ) |id= ID -> ^( PVALUE[$id,$id.text] ) )
+            int alt14=2;
+            int LA14_0 = input.LA(1);
+
+            if ( (LA14_0==86) ) {
+                alt14=1;
+            }
+            else if ( (LA14_0==ID) ) {
+                alt14=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 14, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt14) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:117:13: '&' id= ID
+                    {
+                    char_literal46=(Token)match(input,86,FOLLOW_86_in_paramid835);  
+                    stream_86.add(char_literal46);
+
+
+                    id=(Token)match(input,ID,FOLLOW_ID_in_paramid839);  
+                    stream_ID.add(id);
+
+
+                    // AST REWRITE
+                    // elements: 
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 117:23: -> ^( PREF[$id,'&' + $id.text] )
+                    {
+                        // /root/project/src/parser/Chespel.g:117:26: ^( PREF[$id,'&' + $id.text] )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(PREF, id, '&' + (id!=null?id.getText():null))
+                        , root_1);
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:118:13: id= ID
+                    {
+                    id=(Token)match(input,ID,FOLLOW_ID_in_paramid862);  
+                    stream_ID.add(id);
+
+
+                    // AST REWRITE
+                    // elements: 
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 118:19: -> ^( PVALUE[$id,$id.text] )
+                    {
+                        // /root/project/src/parser/Chespel.g:118:22: ^( PVALUE[$id,$id.text] )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(PVALUE, id, (id!=null?id.getText():null))
+                        , root_1);
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "paramid"
+
+
+    public static class function_type_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "function_type"
+    // /root/project/src/parser/Chespel.g:121:1: function_type : ( VOID_TYPE | type );
+    public final ChespelParser.function_type_return function_type() throws RecognitionException {
+        ChespelParser.function_type_return retval = new ChespelParser.function_type_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token VOID_TYPE47=null;
+        ChespelParser.type_return type48 =null;
+
+
+        ChespelTree VOID_TYPE47_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:121:16: ( VOID_TYPE | type )
+            int alt15=2;
+            int LA15_0 = input.LA(1);
+
+            if ( (LA15_0==VOID_TYPE) ) {
+                alt15=1;
+            }
+            else if ( (LA15_0==BOARD_TYPE||LA15_0==BOOL_TYPE||LA15_0==L_BRACKET||LA15_0==NUM_TYPE||LA15_0==PIECE_TYPE||LA15_0==STRING_TYPE) ) {
+                alt15=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 15, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt15) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:121:20: VOID_TYPE
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    VOID_TYPE47=(Token)match(input,VOID_TYPE,FOLLOW_VOID_TYPE_in_function_type889); 
+                    VOID_TYPE47_tree = 
+                    (ChespelTree)adaptor.create(VOID_TYPE47)
+                    ;
+                    adaptor.addChild(root_0, VOID_TYPE47_tree);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:121:32: type
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_type_in_function_type893);
+                    type48=type();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, type48.getTree());
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "function_type"
+
+
+    public static class type_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "type"
+    // /root/project/src/parser/Chespel.g:123:1: type : ( STRING_TYPE | BOARD_TYPE | PIECE_TYPE | NUM_TYPE | BOOL_TYPE | L_BRACKET ^ type R_BRACKET !);
+    public final ChespelParser.type_return type() throws RecognitionException {
+        ChespelParser.type_return retval = new ChespelParser.type_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token STRING_TYPE49=null;
+        Token BOARD_TYPE50=null;
+        Token PIECE_TYPE51=null;
+        Token NUM_TYPE52=null;
+        Token BOOL_TYPE53=null;
+        Token L_BRACKET54=null;
+        Token R_BRACKET56=null;
+        ChespelParser.type_return type55 =null;
+
+
+        ChespelTree STRING_TYPE49_tree=null;
+        ChespelTree BOARD_TYPE50_tree=null;
+        ChespelTree PIECE_TYPE51_tree=null;
+        ChespelTree NUM_TYPE52_tree=null;
+        ChespelTree BOOL_TYPE53_tree=null;
+        ChespelTree L_BRACKET54_tree=null;
+        ChespelTree R_BRACKET56_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:123:13: ( STRING_TYPE | BOARD_TYPE | PIECE_TYPE | NUM_TYPE | BOOL_TYPE | L_BRACKET ^ type R_BRACKET !)
+            int alt16=6;
+            switch ( input.LA(1) ) {
+            case STRING_TYPE:
+                {
+                alt16=1;
+                }
+                break;
+            case BOARD_TYPE:
+                {
+                alt16=2;
+                }
+                break;
+            case PIECE_TYPE:
+                {
+                alt16=3;
+                }
+                break;
+            case NUM_TYPE:
+                {
+                alt16=4;
+                }
+                break;
+            case BOOL_TYPE:
+                {
+                alt16=5;
+                }
+                break;
+            case L_BRACKET:
+                {
+                alt16=6;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 16, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt16) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:123:17: STRING_TYPE
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    STRING_TYPE49=(Token)match(input,STRING_TYPE,FOLLOW_STRING_TYPE_in_type911); 
+                    STRING_TYPE49_tree = 
+                    (ChespelTree)adaptor.create(STRING_TYPE49)
+                    ;
+                    adaptor.addChild(root_0, STRING_TYPE49_tree);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:123:31: BOARD_TYPE
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    BOARD_TYPE50=(Token)match(input,BOARD_TYPE,FOLLOW_BOARD_TYPE_in_type915); 
+                    BOARD_TYPE50_tree = 
+                    (ChespelTree)adaptor.create(BOARD_TYPE50)
+                    ;
+                    adaptor.addChild(root_0, BOARD_TYPE50_tree);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:123:44: PIECE_TYPE
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    PIECE_TYPE51=(Token)match(input,PIECE_TYPE,FOLLOW_PIECE_TYPE_in_type919); 
+                    PIECE_TYPE51_tree = 
+                    (ChespelTree)adaptor.create(PIECE_TYPE51)
+                    ;
+                    adaptor.addChild(root_0, PIECE_TYPE51_tree);
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:123:57: NUM_TYPE
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    NUM_TYPE52=(Token)match(input,NUM_TYPE,FOLLOW_NUM_TYPE_in_type923); 
+                    NUM_TYPE52_tree = 
+                    (ChespelTree)adaptor.create(NUM_TYPE52)
+                    ;
+                    adaptor.addChild(root_0, NUM_TYPE52_tree);
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:123:68: BOOL_TYPE
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    BOOL_TYPE53=(Token)match(input,BOOL_TYPE,FOLLOW_BOOL_TYPE_in_type927); 
+                    BOOL_TYPE53_tree = 
+                    (ChespelTree)adaptor.create(BOOL_TYPE53)
+                    ;
+                    adaptor.addChild(root_0, BOOL_TYPE53_tree);
+
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/parser/Chespel.g:123:80: L_BRACKET ^ type R_BRACKET !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    L_BRACKET54=(Token)match(input,L_BRACKET,FOLLOW_L_BRACKET_in_type931); 
+                    L_BRACKET54_tree = 
+                    (ChespelTree)adaptor.create(L_BRACKET54)
+                    ;
+                    root_0 = (ChespelTree)adaptor.becomeRoot(L_BRACKET54_tree, root_0);
+
+
+                    pushFollow(FOLLOW_type_in_type934);
+                    type55=type();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, type55.getTree());
+
+                    R_BRACKET56=(Token)match(input,R_BRACKET,FOLLOW_R_BRACKET_in_type936); 
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "type"
+
+
+    public static class block_instructions_strict_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "block_instructions_strict"
+    // /root/project/src/parser/Chespel.g:126:1: block_instructions_strict : ( '{' ( instruction )* '}' ) -> ^( LIST_INSTR ( instruction )* ) ;
+    public final ChespelParser.block_instructions_strict_return block_instructions_strict() throws RecognitionException {
+        ChespelParser.block_instructions_strict_return retval = new ChespelParser.block_instructions_strict_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal57=null;
+        Token char_literal59=null;
+        ChespelParser.instruction_return instruction58 =null;
+
+
+        ChespelTree char_literal57_tree=null;
+        ChespelTree char_literal59_tree=null;
+        RewriteRuleTokenStream stream_94=new RewriteRuleTokenStream(adaptor,"token 94");
+        RewriteRuleTokenStream stream_95=new RewriteRuleTokenStream(adaptor,"token 95");
+        RewriteRuleSubtreeStream stream_instruction=new RewriteRuleSubtreeStream(adaptor,"rule instruction");
+        try {
+            // /root/project/src/parser/Chespel.g:126:28: ( ( '{' ( instruction )* '}' ) -> ^( LIST_INSTR ( instruction )* ) )
+            // /root/project/src/parser/Chespel.g:126:32: ( '{' ( instruction )* '}' )
+            {
+            // /root/project/src/parser/Chespel.g:126:32: ( '{' ( instruction )* '}' )
+            // /root/project/src/parser/Chespel.g:126:33: '{' ( instruction )* '}'
+            {
+            char_literal57=(Token)match(input,94,FOLLOW_94_in_block_instructions_strict959);  
+            stream_94.add(char_literal57);
+
+
+            // /root/project/src/parser/Chespel.g:126:37: ( instruction )*
+            loop17:
+            do {
+                int alt17=2;
+                int LA17_0 = input.LA(1);
+
+                if ( (LA17_0==BOARD_TYPE||LA17_0==BOOL_TYPE||LA17_0==FORALL||(LA17_0 >= ID && LA17_0 <= IF)||LA17_0==L_BRACKET||LA17_0==NUM_TYPE||LA17_0==PIECE_TYPE||LA17_0==RETURN||LA17_0==SCORE||LA17_0==STRING_TYPE||LA17_0==WHILE||LA17_0==90) ) {
+                    alt17=1;
+                }
+
+
+                switch (alt17) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:126:39: instruction
+            	    {
+            	    pushFollow(FOLLOW_instruction_in_block_instructions_strict963);
+            	    instruction58=instruction();
+
+            	    state._fsp--;
+
+            	    stream_instruction.add(instruction58.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop17;
+                }
+            } while (true);
+
+
+            char_literal59=(Token)match(input,95,FOLLOW_95_in_block_instructions_strict968);  
+            stream_95.add(char_literal59);
+
+
+            }
+
+
+            // AST REWRITE
+            // elements: instruction
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 126:59: -> ^( LIST_INSTR ( instruction )* )
+            {
+                // /root/project/src/parser/Chespel.g:126:62: ^( LIST_INSTR ( instruction )* )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(LIST_INSTR, "LIST_INSTR")
+                , root_1);
+
+                // /root/project/src/parser/Chespel.g:126:75: ( instruction )*
+                while ( stream_instruction.hasNext() ) {
+                    adaptor.addChild(root_1, stream_instruction.nextTree());
+
+                }
+                stream_instruction.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "block_instructions_strict"
+
+
+    public static class block_instructions_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "block_instructions"
+    // /root/project/src/parser/Chespel.g:128:1: block_instructions : ( block_instructions_strict | ( instruction -> ^( LIST_INSTR instruction ) ) );
+    public final ChespelParser.block_instructions_return block_instructions() throws RecognitionException {
+        ChespelParser.block_instructions_return retval = new ChespelParser.block_instructions_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        ChespelParser.block_instructions_strict_return block_instructions_strict60 =null;
+
+        ChespelParser.instruction_return instruction61 =null;
+
+
+        RewriteRuleSubtreeStream stream_instruction=new RewriteRuleSubtreeStream(adaptor,"rule instruction");
+        try {
+            // /root/project/src/parser/Chespel.g:129:5: ( block_instructions_strict | ( instruction -> ^( LIST_INSTR instruction ) ) )
+            int alt18=2;
+            int LA18_0 = input.LA(1);
+
+            if ( (LA18_0==94) ) {
+                alt18=1;
+            }
+            else if ( (LA18_0==BOARD_TYPE||LA18_0==BOOL_TYPE||LA18_0==FORALL||(LA18_0 >= ID && LA18_0 <= IF)||LA18_0==L_BRACKET||LA18_0==NUM_TYPE||LA18_0==PIECE_TYPE||LA18_0==RETURN||LA18_0==SCORE||LA18_0==STRING_TYPE||LA18_0==WHILE||LA18_0==90) ) {
+                alt18=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 18, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt18) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:129:9: block_instructions_strict
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_block_instructions_strict_in_block_instructions1001);
+                    block_instructions_strict60=block_instructions_strict();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, block_instructions_strict60.getTree());
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:129:38: ( instruction -> ^( LIST_INSTR instruction ) )
+                    {
+                    // /root/project/src/parser/Chespel.g:129:38: ( instruction -> ^( LIST_INSTR instruction ) )
+                    // /root/project/src/parser/Chespel.g:129:39: instruction
+                    {
+                    pushFollow(FOLLOW_instruction_in_block_instructions1007);
+                    instruction61=instruction();
+
+                    state._fsp--;
+
+                    stream_instruction.add(instruction61.getTree());
+
+                    // AST REWRITE
+                    // elements: instruction
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 129:51: -> ^( LIST_INSTR instruction )
+                    {
+                        // /root/project/src/parser/Chespel.g:129:54: ^( LIST_INSTR instruction )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(LIST_INSTR, "LIST_INSTR")
+                        , root_1);
+
+                        adaptor.addChild(root_1, stream_instruction.nextTree());
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "block_instructions"
+
+
+    public static class instruction_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "instruction"
+    // /root/project/src/parser/Chespel.g:131:1: instruction : ( assign ';' !| decl ';' !| ite_stmt | forall_stmt | while_stmt | return_stmt ';' !| score ';' !| funcall ';' !| ';' !);
+    public final ChespelParser.instruction_return instruction() throws RecognitionException {
+        ChespelParser.instruction_return retval = new ChespelParser.instruction_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal63=null;
+        Token char_literal65=null;
+        Token char_literal70=null;
+        Token char_literal72=null;
+        Token char_literal74=null;
+        Token char_literal75=null;
+        ChespelParser.assign_return assign62 =null;
+
+        ChespelParser.decl_return decl64 =null;
+
+        ChespelParser.ite_stmt_return ite_stmt66 =null;
+
+        ChespelParser.forall_stmt_return forall_stmt67 =null;
+
+        ChespelParser.while_stmt_return while_stmt68 =null;
+
+        ChespelParser.return_stmt_return return_stmt69 =null;
+
+        ChespelParser.score_return score71 =null;
+
+        ChespelParser.funcall_return funcall73 =null;
+
+
+        ChespelTree char_literal63_tree=null;
+        ChespelTree char_literal65_tree=null;
+        ChespelTree char_literal70_tree=null;
+        ChespelTree char_literal72_tree=null;
+        ChespelTree char_literal74_tree=null;
+        ChespelTree char_literal75_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:132:9: ( assign ';' !| decl ';' !| ite_stmt | forall_stmt | while_stmt | return_stmt ';' !| score ';' !| funcall ';' !| ';' !)
+            int alt19=9;
+            switch ( input.LA(1) ) {
+            case ID:
+                {
+                int LA19_1 = input.LA(2);
+
+                if ( (LA19_1==EQUAL||LA19_1==L_BRACKET) ) {
+                    alt19=1;
+                }
+                else if ( (LA19_1==87) ) {
+                    alt19=8;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 19, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case BOOL_TYPE:
+            case L_BRACKET:
+            case NUM_TYPE:
+            case STRING_TYPE:
+                {
+                alt19=2;
+                }
+                break;
+            case BOARD_TYPE:
+                {
+                int LA19_3 = input.LA(2);
+
+                if ( (LA19_3==ID) ) {
+                    alt19=2;
+                }
+                else if ( (LA19_3==87) ) {
+                    alt19=8;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 19, 3, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case PIECE_TYPE:
+                {
+                int LA19_4 = input.LA(2);
+
+                if ( (LA19_4==ID) ) {
+                    alt19=2;
+                }
+                else if ( (LA19_4==87) ) {
+                    alt19=8;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 19, 4, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case IF:
+                {
+                alt19=3;
+                }
+                break;
+            case FORALL:
+                {
+                alt19=4;
+                }
+                break;
+            case WHILE:
+                {
+                alt19=5;
+                }
+                break;
+            case RETURN:
+                {
+                alt19=6;
+                }
+                break;
+            case SCORE:
+                {
+                alt19=7;
+                }
+                break;
+            case 90:
+                {
+                alt19=9;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 19, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt19) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:132:13: assign ';' !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_assign_in_instruction1043);
+                    assign62=assign();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, assign62.getTree());
+
+                    char_literal63=(Token)match(input,90,FOLLOW_90_in_instruction1045); 
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:133:13: decl ';' !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_decl_in_instruction1069);
+                    decl64=decl();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, decl64.getTree());
+
+                    char_literal65=(Token)match(input,90,FOLLOW_90_in_instruction1071); 
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:134:13: ite_stmt
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_ite_stmt_in_instruction1097);
+                    ite_stmt66=ite_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, ite_stmt66.getTree());
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:135:13: forall_stmt
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_forall_stmt_in_instruction1123);
+                    forall_stmt67=forall_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, forall_stmt67.getTree());
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:136:13: while_stmt
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_while_stmt_in_instruction1146);
+                    while_stmt68=while_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, while_stmt68.getTree());
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/parser/Chespel.g:137:13: return_stmt ';' !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_return_stmt_in_instruction1170);
+                    return_stmt69=return_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, return_stmt69.getTree());
+
+                    char_literal70=(Token)match(input,90,FOLLOW_90_in_instruction1172); 
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/parser/Chespel.g:138:13: score ';' !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_score_in_instruction1191);
+                    score71=score();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, score71.getTree());
+
+                    char_literal72=(Token)match(input,90,FOLLOW_90_in_instruction1193); 
+
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/parser/Chespel.g:139:13: funcall ';' !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_funcall_in_instruction1218);
+                    funcall73=funcall();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, funcall73.getTree());
+
+                    char_literal74=(Token)match(input,90,FOLLOW_90_in_instruction1219); 
+
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/parser/Chespel.g:140:17: ';' !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    char_literal75=(Token)match(input,90,FOLLOW_90_in_instruction1247); 
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "instruction"
+
+
+    public static class assign_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "assign"
+    // /root/project/src/parser/Chespel.g:143:1: assign : id_array eq= EQUAL expr -> ^( ASSIGN[$eq,\":=\"] id_array expr ) ;
+    public final ChespelParser.assign_return assign() throws RecognitionException {
+        ChespelParser.assign_return retval = new ChespelParser.assign_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token eq=null;
+        ChespelParser.id_array_return id_array76 =null;
+
+        ChespelParser.expr_return expr77 =null;
+
+
+        ChespelTree eq_tree=null;
+        RewriteRuleTokenStream stream_EQUAL=new RewriteRuleTokenStream(adaptor,"token EQUAL");
+        RewriteRuleSubtreeStream stream_id_array=new RewriteRuleSubtreeStream(adaptor,"rule id_array");
+        RewriteRuleSubtreeStream stream_expr=new RewriteRuleSubtreeStream(adaptor,"rule expr");
+        try {
+            // /root/project/src/parser/Chespel.g:143:9: ( id_array eq= EQUAL expr -> ^( ASSIGN[$eq,\":=\"] id_array expr ) )
+            // /root/project/src/parser/Chespel.g:143:13: id_array eq= EQUAL expr
+            {
+            pushFollow(FOLLOW_id_array_in_assign1280);
+            id_array76=id_array();
+
+            state._fsp--;
+
+            stream_id_array.add(id_array76.getTree());
+
+            eq=(Token)match(input,EQUAL,FOLLOW_EQUAL_in_assign1284);  
+            stream_EQUAL.add(eq);
+
+
+            pushFollow(FOLLOW_expr_in_assign1286);
+            expr77=expr();
+
+            state._fsp--;
+
+            stream_expr.add(expr77.getTree());
+
+            // AST REWRITE
+            // elements: id_array, expr
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 143:36: -> ^( ASSIGN[$eq,\":=\"] id_array expr )
+            {
+                // /root/project/src/parser/Chespel.g:143:39: ^( ASSIGN[$eq,\":=\"] id_array expr )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(ASSIGN, eq, ":=")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_id_array.nextTree());
+
+                adaptor.addChild(root_1, stream_expr.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "assign"
+
+
+    public static class id_array_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "id_array"
+    // /root/project/src/parser/Chespel.g:145:1: id_array : ID ( '[' ^ expr ']' !)* ;
+    public final ChespelParser.id_array_return id_array() throws RecognitionException {
+        ChespelParser.id_array_return retval = new ChespelParser.id_array_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token ID78=null;
+        Token char_literal79=null;
+        Token char_literal81=null;
+        ChespelParser.expr_return expr80 =null;
+
+
+        ChespelTree ID78_tree=null;
+        ChespelTree char_literal79_tree=null;
+        ChespelTree char_literal81_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:145:10: ( ID ( '[' ^ expr ']' !)* )
+            // /root/project/src/parser/Chespel.g:145:12: ID ( '[' ^ expr ']' !)*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            ID78=(Token)match(input,ID,FOLLOW_ID_in_id_array1306); 
+            ID78_tree = 
+            (ChespelTree)adaptor.create(ID78)
+            ;
+            adaptor.addChild(root_0, ID78_tree);
+
+
+            // /root/project/src/parser/Chespel.g:145:15: ( '[' ^ expr ']' !)*
+            loop20:
+            do {
+                int alt20=2;
+                int LA20_0 = input.LA(1);
+
+                if ( (LA20_0==L_BRACKET) ) {
+                    alt20=1;
+                }
+
+
+                switch (alt20) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:145:17: '[' ^ expr ']' !
+            	    {
+            	    char_literal79=(Token)match(input,L_BRACKET,FOLLOW_L_BRACKET_in_id_array1310); 
+            	    char_literal79_tree = 
+            	    (ChespelTree)adaptor.create(char_literal79)
+            	    ;
+            	    root_0 = (ChespelTree)adaptor.becomeRoot(char_literal79_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_expr_in_id_array1313);
+            	    expr80=expr();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, expr80.getTree());
+
+            	    char_literal81=(Token)match(input,R_BRACKET,FOLLOW_R_BRACKET_in_id_array1315); 
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop20;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "id_array"
+
+
+    public static class decl_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "decl"
+    // /root/project/src/parser/Chespel.g:147:1: decl : type declOrAssignment ( ',' declOrAssignment )* -> ^( VAR_DECL type ^( LIST_VAR ( declOrAssignment )+ ) ) ;
+    public final ChespelParser.decl_return decl() throws RecognitionException {
+        ChespelParser.decl_return retval = new ChespelParser.decl_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal84=null;
+        ChespelParser.type_return type82 =null;
+
+        ChespelParser.declOrAssignment_return declOrAssignment83 =null;
+
+        ChespelParser.declOrAssignment_return declOrAssignment85 =null;
+
+
+        ChespelTree char_literal84_tree=null;
+        RewriteRuleTokenStream stream_89=new RewriteRuleTokenStream(adaptor,"token 89");
+        RewriteRuleSubtreeStream stream_declOrAssignment=new RewriteRuleSubtreeStream(adaptor,"rule declOrAssignment");
+        RewriteRuleSubtreeStream stream_type=new RewriteRuleSubtreeStream(adaptor,"rule type");
+        try {
+            // /root/project/src/parser/Chespel.g:147:9: ( type declOrAssignment ( ',' declOrAssignment )* -> ^( VAR_DECL type ^( LIST_VAR ( declOrAssignment )+ ) ) )
+            // /root/project/src/parser/Chespel.g:147:13: type declOrAssignment ( ',' declOrAssignment )*
+            {
+            pushFollow(FOLLOW_type_in_decl1333);
+            type82=type();
+
+            state._fsp--;
+
+            stream_type.add(type82.getTree());
+
+            pushFollow(FOLLOW_declOrAssignment_in_decl1335);
+            declOrAssignment83=declOrAssignment();
+
+            state._fsp--;
+
+            stream_declOrAssignment.add(declOrAssignment83.getTree());
+
+            // /root/project/src/parser/Chespel.g:147:35: ( ',' declOrAssignment )*
+            loop21:
+            do {
+                int alt21=2;
+                int LA21_0 = input.LA(1);
+
+                if ( (LA21_0==89) ) {
+                    alt21=1;
+                }
+
+
+                switch (alt21) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:147:36: ',' declOrAssignment
+            	    {
+            	    char_literal84=(Token)match(input,89,FOLLOW_89_in_decl1338);  
+            	    stream_89.add(char_literal84);
+
+
+            	    pushFollow(FOLLOW_declOrAssignment_in_decl1340);
+            	    declOrAssignment85=declOrAssignment();
+
+            	    state._fsp--;
+
+            	    stream_declOrAssignment.add(declOrAssignment85.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop21;
+                }
+            } while (true);
+
+
+            // AST REWRITE
+            // elements: type, declOrAssignment
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 147:59: -> ^( VAR_DECL type ^( LIST_VAR ( declOrAssignment )+ ) )
+            {
+                // /root/project/src/parser/Chespel.g:147:62: ^( VAR_DECL type ^( LIST_VAR ( declOrAssignment )+ ) )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(VAR_DECL, "VAR_DECL")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_type.nextTree());
+
+                // /root/project/src/parser/Chespel.g:147:78: ^( LIST_VAR ( declOrAssignment )+ )
+                {
+                ChespelTree root_2 = (ChespelTree)adaptor.nil();
+                root_2 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(LIST_VAR, "LIST_VAR")
+                , root_2);
+
+                if ( !(stream_declOrAssignment.hasNext()) ) {
+                    throw new RewriteEarlyExitException();
+                }
+                while ( stream_declOrAssignment.hasNext() ) {
+                    adaptor.addChild(root_2, stream_declOrAssignment.nextTree());
+
+                }
+                stream_declOrAssignment.reset();
+
+                adaptor.addChild(root_1, root_2);
+                }
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "decl"
+
+
+    public static class declOrAssignment_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "declOrAssignment"
+    // /root/project/src/parser/Chespel.g:149:1: declOrAssignment : ID (eq= EQUAL expr -> ^( ASSIGN[$eq,\":=\"] ID expr ) | -> ^( ID ) ) ;
+    public final ChespelParser.declOrAssignment_return declOrAssignment() throws RecognitionException {
+        ChespelParser.declOrAssignment_return retval = new ChespelParser.declOrAssignment_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token eq=null;
+        Token ID86=null;
+        ChespelParser.expr_return expr87 =null;
+
+
+        ChespelTree eq_tree=null;
+        ChespelTree ID86_tree=null;
+        RewriteRuleTokenStream stream_EQUAL=new RewriteRuleTokenStream(adaptor,"token EQUAL");
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+        RewriteRuleSubtreeStream stream_expr=new RewriteRuleSubtreeStream(adaptor,"rule expr");
+        try {
+            // /root/project/src/parser/Chespel.g:149:19: ( ID (eq= EQUAL expr -> ^( ASSIGN[$eq,\":=\"] ID expr ) | -> ^( ID ) ) )
+            // /root/project/src/parser/Chespel.g:149:23: ID (eq= EQUAL expr -> ^( ASSIGN[$eq,\":=\"] ID expr ) | -> ^( ID ) )
+            {
+            ID86=(Token)match(input,ID,FOLLOW_ID_in_declOrAssignment1368);  
+            stream_ID.add(ID86);
+
+
+            // /root/project/src/parser/Chespel.g:149:26: (eq= EQUAL expr -> ^( ASSIGN[$eq,\":=\"] ID expr ) | -> ^( ID ) )
+            int alt22=2;
+            int LA22_0 = input.LA(1);
+
+            if ( (LA22_0==EQUAL) ) {
+                alt22=1;
+            }
+            else if ( ((LA22_0 >= 89 && LA22_0 <= 90)) ) {
+                alt22=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 22, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt22) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:149:27: eq= EQUAL expr
+                    {
+                    eq=(Token)match(input,EQUAL,FOLLOW_EQUAL_in_declOrAssignment1373);  
+                    stream_EQUAL.add(eq);
+
+
+                    pushFollow(FOLLOW_expr_in_declOrAssignment1375);
+                    expr87=expr();
+
+                    state._fsp--;
+
+                    stream_expr.add(expr87.getTree());
+
+                    // AST REWRITE
+                    // elements: expr, ID
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 149:41: -> ^( ASSIGN[$eq,\":=\"] ID expr )
+                    {
+                        // /root/project/src/parser/Chespel.g:149:44: ^( ASSIGN[$eq,\":=\"] ID expr )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(ASSIGN, eq, ":=")
+                        , root_1);
+
+                        adaptor.addChild(root_1, 
+                        stream_ID.nextNode()
+                        );
+
+                        adaptor.addChild(root_1, stream_expr.nextTree());
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:149:74: 
+                    {
+                    // AST REWRITE
+                    // elements: ID
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 149:74: -> ^( ID )
+                    {
+                        // /root/project/src/parser/Chespel.g:149:77: ^( ID )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        stream_ID.nextNode()
+                        , root_1);
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "declOrAssignment"
+
+
+    public static class ite_stmt_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "ite_stmt"
+    // /root/project/src/parser/Chespel.g:151:1: ite_stmt : IF ^ '(' ! expr ')' ! block_instructions ( options {greedy=true; } : ELSE ! block_instructions )? ;
+    public final ChespelParser.ite_stmt_return ite_stmt() throws RecognitionException {
+        ChespelParser.ite_stmt_return retval = new ChespelParser.ite_stmt_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token IF88=null;
+        Token char_literal89=null;
+        Token char_literal91=null;
+        Token ELSE93=null;
+        ChespelParser.expr_return expr90 =null;
+
+        ChespelParser.block_instructions_return block_instructions92 =null;
+
+        ChespelParser.block_instructions_return block_instructions94 =null;
+
+
+        ChespelTree IF88_tree=null;
+        ChespelTree char_literal89_tree=null;
+        ChespelTree char_literal91_tree=null;
+        ChespelTree ELSE93_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:151:13: ( IF ^ '(' ! expr ')' ! block_instructions ( options {greedy=true; } : ELSE ! block_instructions )? )
+            // /root/project/src/parser/Chespel.g:151:17: IF ^ '(' ! expr ')' ! block_instructions ( options {greedy=true; } : ELSE ! block_instructions )?
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            IF88=(Token)match(input,IF,FOLLOW_IF_in_ite_stmt1409); 
+            IF88_tree = 
+            (ChespelTree)adaptor.create(IF88)
+            ;
+            root_0 = (ChespelTree)adaptor.becomeRoot(IF88_tree, root_0);
+
+
+            char_literal89=(Token)match(input,87,FOLLOW_87_in_ite_stmt1412); 
+
+            pushFollow(FOLLOW_expr_in_ite_stmt1415);
+            expr90=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr90.getTree());
+
+            char_literal91=(Token)match(input,88,FOLLOW_88_in_ite_stmt1417); 
+
+            pushFollow(FOLLOW_block_instructions_in_ite_stmt1422);
+            block_instructions92=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions92.getTree());
+
+            // /root/project/src/parser/Chespel.g:151:58: ( options {greedy=true; } : ELSE ! block_instructions )?
+            int alt23=2;
+            int LA23_0 = input.LA(1);
+
+            if ( (LA23_0==ELSE) ) {
+                alt23=1;
+            }
+            switch (alt23) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:151:86: ELSE ! block_instructions
+                    {
+                    ELSE93=(Token)match(input,ELSE,FOLLOW_ELSE_in_ite_stmt1437); 
+
+                    pushFollow(FOLLOW_block_instructions_in_ite_stmt1440);
+                    block_instructions94=block_instructions();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, block_instructions94.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "ite_stmt"
+
+
+    public static class while_stmt_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "while_stmt"
+    // /root/project/src/parser/Chespel.g:153:1: while_stmt : WHILE ^ '(' ! expr ')' ! block_instructions ;
+    public final ChespelParser.while_stmt_return while_stmt() throws RecognitionException {
+        ChespelParser.while_stmt_return retval = new ChespelParser.while_stmt_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token WHILE95=null;
+        Token char_literal96=null;
+        Token char_literal98=null;
+        ChespelParser.expr_return expr97 =null;
+
+        ChespelParser.block_instructions_return block_instructions99 =null;
+
+
+        ChespelTree WHILE95_tree=null;
+        ChespelTree char_literal96_tree=null;
+        ChespelTree char_literal98_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:153:13: ( WHILE ^ '(' ! expr ')' ! block_instructions )
+            // /root/project/src/parser/Chespel.g:153:17: WHILE ^ '(' ! expr ')' ! block_instructions
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            WHILE95=(Token)match(input,WHILE,FOLLOW_WHILE_in_while_stmt1454); 
+            WHILE95_tree = 
+            (ChespelTree)adaptor.create(WHILE95)
+            ;
+            root_0 = (ChespelTree)adaptor.becomeRoot(WHILE95_tree, root_0);
+
+
+            char_literal96=(Token)match(input,87,FOLLOW_87_in_while_stmt1457); 
+
+            pushFollow(FOLLOW_expr_in_while_stmt1460);
+            expr97=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr97.getTree());
+
+            char_literal98=(Token)match(input,88,FOLLOW_88_in_while_stmt1462); 
+
+            pushFollow(FOLLOW_block_instructions_in_while_stmt1465);
+            block_instructions99=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions99.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "while_stmt"
+
+
+    public static class return_stmt_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "return_stmt"
+    // /root/project/src/parser/Chespel.g:156:1: return_stmt : RETURN ( expr -> ^( RETURN expr ) | -> ^( RETURN VOID_TYPE ) ) ;
+    public final ChespelParser.return_stmt_return return_stmt() throws RecognitionException {
+        ChespelParser.return_stmt_return retval = new ChespelParser.return_stmt_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token RETURN100=null;
+        ChespelParser.expr_return expr101 =null;
+
+
+        ChespelTree RETURN100_tree=null;
+        RewriteRuleTokenStream stream_RETURN=new RewriteRuleTokenStream(adaptor,"token RETURN");
+        RewriteRuleSubtreeStream stream_expr=new RewriteRuleSubtreeStream(adaptor,"rule expr");
+        try {
+            // /root/project/src/parser/Chespel.g:156:13: ( RETURN ( expr -> ^( RETURN expr ) | -> ^( RETURN VOID_TYPE ) ) )
+            // /root/project/src/parser/Chespel.g:156:17: RETURN ( expr -> ^( RETURN expr ) | -> ^( RETURN VOID_TYPE ) )
+            {
+            RETURN100=(Token)match(input,RETURN,FOLLOW_RETURN_in_return_stmt1477);  
+            stream_RETURN.add(RETURN100);
+
+
+            // /root/project/src/parser/Chespel.g:156:24: ( expr -> ^( RETURN expr ) | -> ^( RETURN VOID_TYPE ) )
+            int alt24=2;
+            int LA24_0 = input.LA(1);
+
+            if ( ((LA24_0 >= BOARD_LIST && LA24_0 <= BOARD_TYPE)||LA24_0==CELL_LIT||LA24_0==FALSE||LA24_0==FILE_LIT||LA24_0==ID||(LA24_0 >= L_BRACKET && LA24_0 <= MINUS)||LA24_0==NOT||LA24_0==NUM||LA24_0==PIECE_LIST||(LA24_0 >= PIECE_TYPE && LA24_0 <= PLUS)||(LA24_0 >= RANG_CELL_LIT && LA24_0 <= RANK_LIT)||LA24_0==RIVAL||LA24_0==ROW_LIT||(LA24_0 >= SELF && LA24_0 <= STRING)||LA24_0==TRUE||LA24_0==87) ) {
+                alt24=1;
+            }
+            else if ( (LA24_0==90) ) {
+                alt24=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 24, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt24) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:156:25: expr
+                    {
+                    pushFollow(FOLLOW_expr_in_return_stmt1480);
+                    expr101=expr();
+
+                    state._fsp--;
+
+                    stream_expr.add(expr101.getTree());
+
+                    // AST REWRITE
+                    // elements: RETURN, expr
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 156:30: -> ^( RETURN expr )
+                    {
+                        // /root/project/src/parser/Chespel.g:156:33: ^( RETURN expr )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        stream_RETURN.nextNode()
+                        , root_1);
+
+                        adaptor.addChild(root_1, stream_expr.nextTree());
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:156:50: 
+                    {
+                    // AST REWRITE
+                    // elements: RETURN
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 156:50: -> ^( RETURN VOID_TYPE )
+                    {
+                        // /root/project/src/parser/Chespel.g:156:53: ^( RETURN VOID_TYPE )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        stream_RETURN.nextNode()
+                        , root_1);
+
+                        adaptor.addChild(root_1, 
+                        (ChespelTree)adaptor.create(VOID_TYPE, "VOID_TYPE")
+                        );
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "return_stmt"
+
+
+    public static class forall_stmt_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "forall_stmt"
+    // /root/project/src/parser/Chespel.g:158:1: forall_stmt : FORALL ^ in_decl block_instructions ;
+    public final ChespelParser.forall_stmt_return forall_stmt() throws RecognitionException {
+        ChespelParser.forall_stmt_return retval = new ChespelParser.forall_stmt_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token FORALL102=null;
+        ChespelParser.in_decl_return in_decl103 =null;
+
+        ChespelParser.block_instructions_return block_instructions104 =null;
+
+
+        ChespelTree FORALL102_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:158:13: ( FORALL ^ in_decl block_instructions )
+            // /root/project/src/parser/Chespel.g:158:17: FORALL ^ in_decl block_instructions
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            FORALL102=(Token)match(input,FORALL,FOLLOW_FORALL_in_forall_stmt1510); 
+            FORALL102_tree = 
+            (ChespelTree)adaptor.create(FORALL102)
+            ;
+            root_0 = (ChespelTree)adaptor.becomeRoot(FORALL102_tree, root_0);
+
+
+            pushFollow(FOLLOW_in_decl_in_forall_stmt1513);
+            in_decl103=in_decl();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, in_decl103.getTree());
+
+            pushFollow(FOLLOW_block_instructions_in_forall_stmt1515);
+            block_instructions104=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions104.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "forall_stmt"
+
+
+    public static class in_decl_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "in_decl"
+    // /root/project/src/parser/Chespel.g:161:1: in_decl : '(' ! ID IN ^ expr ')' !;
+    public final ChespelParser.in_decl_return in_decl() throws RecognitionException {
+        ChespelParser.in_decl_return retval = new ChespelParser.in_decl_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal105=null;
+        Token ID106=null;
+        Token IN107=null;
+        Token char_literal109=null;
+        ChespelParser.expr_return expr108 =null;
+
+
+        ChespelTree char_literal105_tree=null;
+        ChespelTree ID106_tree=null;
+        ChespelTree IN107_tree=null;
+        ChespelTree char_literal109_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:161:10: ( '(' ! ID IN ^ expr ')' !)
+            // /root/project/src/parser/Chespel.g:161:12: '(' ! ID IN ^ expr ')' !
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            char_literal105=(Token)match(input,87,FOLLOW_87_in_in_decl1526); 
+
+            ID106=(Token)match(input,ID,FOLLOW_ID_in_in_decl1529); 
+            ID106_tree = 
+            (ChespelTree)adaptor.create(ID106)
+            ;
+            adaptor.addChild(root_0, ID106_tree);
+
+
+            IN107=(Token)match(input,IN,FOLLOW_IN_in_in_decl1531); 
+            IN107_tree = 
+            (ChespelTree)adaptor.create(IN107)
+            ;
+            root_0 = (ChespelTree)adaptor.becomeRoot(IN107_tree, root_0);
+
+
+            pushFollow(FOLLOW_expr_in_in_decl1534);
+            expr108=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr108.getTree());
+
+            char_literal109=(Token)match(input,88,FOLLOW_88_in_in_decl1536); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "in_decl"
+
+
+    public static class score_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "score"
+    // /root/project/src/parser/Chespel.g:165:1: score : SCORE ^ expr ( ',' ! expr )? ;
+    public final ChespelParser.score_return score() throws RecognitionException {
+        ChespelParser.score_return retval = new ChespelParser.score_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token SCORE110=null;
+        Token char_literal112=null;
+        ChespelParser.expr_return expr111 =null;
+
+        ChespelParser.expr_return expr113 =null;
+
+
+        ChespelTree SCORE110_tree=null;
+        ChespelTree char_literal112_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:165:13: ( SCORE ^ expr ( ',' ! expr )? )
+            // /root/project/src/parser/Chespel.g:165:17: SCORE ^ expr ( ',' ! expr )?
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            SCORE110=(Token)match(input,SCORE,FOLLOW_SCORE_in_score1556); 
+            SCORE110_tree = 
+            (ChespelTree)adaptor.create(SCORE110)
+            ;
+            root_0 = (ChespelTree)adaptor.becomeRoot(SCORE110_tree, root_0);
+
+
+            pushFollow(FOLLOW_expr_in_score1559);
+            expr111=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr111.getTree());
+
+            // /root/project/src/parser/Chespel.g:165:29: ( ',' ! expr )?
+            int alt25=2;
+            int LA25_0 = input.LA(1);
+
+            if ( (LA25_0==89) ) {
+                alt25=1;
+            }
+            switch (alt25) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:165:30: ',' ! expr
+                    {
+                    char_literal112=(Token)match(input,89,FOLLOW_89_in_score1562); 
+
+                    pushFollow(FOLLOW_expr_in_score1565);
+                    expr113=expr();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, expr113.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "score"
+
+
+    public static class expr_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "expr"
+    // /root/project/src/parser/Chespel.g:168:1: expr : boolterm ( OR ^ boolterm )* ;
+    public final ChespelParser.expr_return expr() throws RecognitionException {
+        ChespelParser.expr_return retval = new ChespelParser.expr_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token OR115=null;
+        ChespelParser.boolterm_return boolterm114 =null;
+
+        ChespelParser.boolterm_return boolterm116 =null;
+
+
+        ChespelTree OR115_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:168:9: ( boolterm ( OR ^ boolterm )* )
+            // /root/project/src/parser/Chespel.g:168:13: boolterm ( OR ^ boolterm )*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_boolterm_in_expr1582);
+            boolterm114=boolterm();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, boolterm114.getTree());
+
+            // /root/project/src/parser/Chespel.g:168:22: ( OR ^ boolterm )*
+            loop26:
+            do {
+                int alt26=2;
+                int LA26_0 = input.LA(1);
+
+                if ( (LA26_0==OR) ) {
+                    alt26=1;
+                }
+
+
+                switch (alt26) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:168:23: OR ^ boolterm
+            	    {
+            	    OR115=(Token)match(input,OR,FOLLOW_OR_in_expr1585); 
+            	    OR115_tree = 
+            	    (ChespelTree)adaptor.create(OR115)
+            	    ;
+            	    root_0 = (ChespelTree)adaptor.becomeRoot(OR115_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_boolterm_in_expr1588);
+            	    boolterm116=boolterm();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, boolterm116.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop26;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "expr"
+
+
+    public static class boolterm_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "boolterm"
+    // /root/project/src/parser/Chespel.g:170:1: boolterm : boolfact ( AND ^ boolfact )* ;
+    public final ChespelParser.boolterm_return boolterm() throws RecognitionException {
+        ChespelParser.boolterm_return retval = new ChespelParser.boolterm_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token AND118=null;
+        ChespelParser.boolfact_return boolfact117 =null;
+
+        ChespelParser.boolfact_return boolfact119 =null;
+
+
+        ChespelTree AND118_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:170:9: ( boolfact ( AND ^ boolfact )* )
+            // /root/project/src/parser/Chespel.g:170:13: boolfact ( AND ^ boolfact )*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_boolfact_in_boolterm1600);
+            boolfact117=boolfact();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, boolfact117.getTree());
+
+            // /root/project/src/parser/Chespel.g:170:22: ( AND ^ boolfact )*
+            loop27:
+            do {
+                int alt27=2;
+                int LA27_0 = input.LA(1);
+
+                if ( (LA27_0==AND) ) {
+                    alt27=1;
+                }
+
+
+                switch (alt27) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:170:23: AND ^ boolfact
+            	    {
+            	    AND118=(Token)match(input,AND,FOLLOW_AND_in_boolterm1603); 
+            	    AND118_tree = 
+            	    (ChespelTree)adaptor.create(AND118)
+            	    ;
+            	    root_0 = (ChespelTree)adaptor.becomeRoot(AND118_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_boolfact_in_boolterm1606);
+            	    boolfact119=boolfact();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, boolfact119.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop27;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "boolterm"
+
+
+    public static class boolfact_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "boolfact"
+    // /root/project/src/parser/Chespel.g:172:1: boolfact : num_expr ( ( DOUBLE_EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )? ;
+    public final ChespelParser.boolfact_return boolfact() throws RecognitionException {
+        ChespelParser.boolfact_return retval = new ChespelParser.boolfact_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token DOUBLE_EQUAL121=null;
+        Token NOT_EQUAL122=null;
+        Token LT123=null;
+        Token LE124=null;
+        Token GT125=null;
+        Token GE126=null;
+        ChespelParser.num_expr_return num_expr120 =null;
+
+        ChespelParser.num_expr_return num_expr127 =null;
+
+
+        ChespelTree DOUBLE_EQUAL121_tree=null;
+        ChespelTree NOT_EQUAL122_tree=null;
+        ChespelTree LT123_tree=null;
+        ChespelTree LE124_tree=null;
+        ChespelTree GT125_tree=null;
+        ChespelTree GE126_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:172:9: ( num_expr ( ( DOUBLE_EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )? )
+            // /root/project/src/parser/Chespel.g:172:13: num_expr ( ( DOUBLE_EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )?
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_num_expr_in_boolfact1618);
+            num_expr120=num_expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, num_expr120.getTree());
+
+            // /root/project/src/parser/Chespel.g:172:23: ( ( DOUBLE_EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )?
+            int alt29=2;
+            int LA29_0 = input.LA(1);
+
+            if ( (LA29_0==DOUBLE_EQUAL||LA29_0==GE||LA29_0==GT||LA29_0==LE||LA29_0==LT||LA29_0==NOT_EQUAL) ) {
+                alt29=1;
+            }
+            switch (alt29) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:172:24: ( DOUBLE_EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr
+                    {
+                    // /root/project/src/parser/Chespel.g:172:24: ( DOUBLE_EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^)
+                    int alt28=6;
+                    switch ( input.LA(1) ) {
+                    case DOUBLE_EQUAL:
+                        {
+                        alt28=1;
+                        }
+                        break;
+                    case NOT_EQUAL:
+                        {
+                        alt28=2;
+                        }
+                        break;
+                    case LT:
+                        {
+                        alt28=3;
+                        }
+                        break;
+                    case LE:
+                        {
+                        alt28=4;
+                        }
+                        break;
+                    case GT:
+                        {
+                        alt28=5;
+                        }
+                        break;
+                    case GE:
+                        {
+                        alt28=6;
+                        }
+                        break;
+                    default:
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 28, 0, input);
+
+                        throw nvae;
+
+                    }
+
+                    switch (alt28) {
+                        case 1 :
+                            // /root/project/src/parser/Chespel.g:172:25: DOUBLE_EQUAL ^
+                            {
+                            DOUBLE_EQUAL121=(Token)match(input,DOUBLE_EQUAL,FOLLOW_DOUBLE_EQUAL_in_boolfact1623); 
+                            DOUBLE_EQUAL121_tree = 
+                            (ChespelTree)adaptor.create(DOUBLE_EQUAL121)
+                            ;
+                            root_0 = (ChespelTree)adaptor.becomeRoot(DOUBLE_EQUAL121_tree, root_0);
+
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Chespel.g:172:41: NOT_EQUAL ^
+                            {
+                            NOT_EQUAL122=(Token)match(input,NOT_EQUAL,FOLLOW_NOT_EQUAL_in_boolfact1628); 
+                            NOT_EQUAL122_tree = 
+                            (ChespelTree)adaptor.create(NOT_EQUAL122)
+                            ;
+                            root_0 = (ChespelTree)adaptor.becomeRoot(NOT_EQUAL122_tree, root_0);
+
+
+                            }
+                            break;
+                        case 3 :
+                            // /root/project/src/parser/Chespel.g:172:54: LT ^
+                            {
+                            LT123=(Token)match(input,LT,FOLLOW_LT_in_boolfact1633); 
+                            LT123_tree = 
+                            (ChespelTree)adaptor.create(LT123)
+                            ;
+                            root_0 = (ChespelTree)adaptor.becomeRoot(LT123_tree, root_0);
+
+
+                            }
+                            break;
+                        case 4 :
+                            // /root/project/src/parser/Chespel.g:172:60: LE ^
+                            {
+                            LE124=(Token)match(input,LE,FOLLOW_LE_in_boolfact1638); 
+                            LE124_tree = 
+                            (ChespelTree)adaptor.create(LE124)
+                            ;
+                            root_0 = (ChespelTree)adaptor.becomeRoot(LE124_tree, root_0);
+
+
+                            }
+                            break;
+                        case 5 :
+                            // /root/project/src/parser/Chespel.g:172:66: GT ^
+                            {
+                            GT125=(Token)match(input,GT,FOLLOW_GT_in_boolfact1643); 
+                            GT125_tree = 
+                            (ChespelTree)adaptor.create(GT125)
+                            ;
+                            root_0 = (ChespelTree)adaptor.becomeRoot(GT125_tree, root_0);
+
+
+                            }
+                            break;
+                        case 6 :
+                            // /root/project/src/parser/Chespel.g:172:72: GE ^
+                            {
+                            GE126=(Token)match(input,GE,FOLLOW_GE_in_boolfact1648); 
+                            GE126_tree = 
+                            (ChespelTree)adaptor.create(GE126)
+                            ;
+                            root_0 = (ChespelTree)adaptor.becomeRoot(GE126_tree, root_0);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    pushFollow(FOLLOW_num_expr_in_boolfact1652);
+                    num_expr127=num_expr();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, num_expr127.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "boolfact"
+
+
+    public static class num_expr_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "num_expr"
+    // /root/project/src/parser/Chespel.g:175:1: num_expr : term ( ( PLUS ^| MINUS ^) term )* ;
+    public final ChespelParser.num_expr_return num_expr() throws RecognitionException {
+        ChespelParser.num_expr_return retval = new ChespelParser.num_expr_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token PLUS129=null;
+        Token MINUS130=null;
+        ChespelParser.term_return term128 =null;
+
+        ChespelParser.term_return term131 =null;
+
+
+        ChespelTree PLUS129_tree=null;
+        ChespelTree MINUS130_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:175:9: ( term ( ( PLUS ^| MINUS ^) term )* )
+            // /root/project/src/parser/Chespel.g:175:13: term ( ( PLUS ^| MINUS ^) term )*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_term_in_num_expr1665);
+            term128=term();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, term128.getTree());
+
+            // /root/project/src/parser/Chespel.g:175:18: ( ( PLUS ^| MINUS ^) term )*
+            loop31:
+            do {
+                int alt31=2;
+                int LA31_0 = input.LA(1);
+
+                if ( (LA31_0==MINUS||LA31_0==PLUS) ) {
+                    alt31=1;
+                }
+
+
+                switch (alt31) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:175:20: ( PLUS ^| MINUS ^) term
+            	    {
+            	    // /root/project/src/parser/Chespel.g:175:20: ( PLUS ^| MINUS ^)
+            	    int alt30=2;
+            	    int LA30_0 = input.LA(1);
+
+            	    if ( (LA30_0==PLUS) ) {
+            	        alt30=1;
+            	    }
+            	    else if ( (LA30_0==MINUS) ) {
+            	        alt30=2;
+            	    }
+            	    else {
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 30, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt30) {
+            	        case 1 :
+            	            // /root/project/src/parser/Chespel.g:175:21: PLUS ^
+            	            {
+            	            PLUS129=(Token)match(input,PLUS,FOLLOW_PLUS_in_num_expr1670); 
+            	            PLUS129_tree = 
+            	            (ChespelTree)adaptor.create(PLUS129)
+            	            ;
+            	            root_0 = (ChespelTree)adaptor.becomeRoot(PLUS129_tree, root_0);
+
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/src/parser/Chespel.g:175:29: MINUS ^
+            	            {
+            	            MINUS130=(Token)match(input,MINUS,FOLLOW_MINUS_in_num_expr1675); 
+            	            MINUS130_tree = 
+            	            (ChespelTree)adaptor.create(MINUS130)
+            	            ;
+            	            root_0 = (ChespelTree)adaptor.becomeRoot(MINUS130_tree, root_0);
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_term_in_num_expr1679);
+            	    term131=term();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, term131.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop31;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "num_expr"
+
+
+    public static class term_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "term"
+    // /root/project/src/parser/Chespel.g:177:1: term : factor ( ( MUL ^| DIV ^) factor )* ;
+    public final ChespelParser.term_return term() throws RecognitionException {
+        ChespelParser.term_return retval = new ChespelParser.term_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token MUL133=null;
+        Token DIV134=null;
+        ChespelParser.factor_return factor132 =null;
+
+        ChespelParser.factor_return factor135 =null;
+
+
+        ChespelTree MUL133_tree=null;
+        ChespelTree DIV134_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:177:9: ( factor ( ( MUL ^| DIV ^) factor )* )
+            // /root/project/src/parser/Chespel.g:177:13: factor ( ( MUL ^| DIV ^) factor )*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_factor_in_term1695);
+            factor132=factor();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, factor132.getTree());
+
+            // /root/project/src/parser/Chespel.g:177:20: ( ( MUL ^| DIV ^) factor )*
+            loop33:
+            do {
+                int alt33=2;
+                int LA33_0 = input.LA(1);
+
+                if ( (LA33_0==DIV||LA33_0==MUL) ) {
+                    alt33=1;
+                }
+
+
+                switch (alt33) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:177:22: ( MUL ^| DIV ^) factor
+            	    {
+            	    // /root/project/src/parser/Chespel.g:177:22: ( MUL ^| DIV ^)
+            	    int alt32=2;
+            	    int LA32_0 = input.LA(1);
+
+            	    if ( (LA32_0==MUL) ) {
+            	        alt32=1;
+            	    }
+            	    else if ( (LA32_0==DIV) ) {
+            	        alt32=2;
+            	    }
+            	    else {
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 32, 0, input);
+
+            	        throw nvae;
+
+            	    }
+            	    switch (alt32) {
+            	        case 1 :
+            	            // /root/project/src/parser/Chespel.g:177:23: MUL ^
+            	            {
+            	            MUL133=(Token)match(input,MUL,FOLLOW_MUL_in_term1700); 
+            	            MUL133_tree = 
+            	            (ChespelTree)adaptor.create(MUL133)
+            	            ;
+            	            root_0 = (ChespelTree)adaptor.becomeRoot(MUL133_tree, root_0);
+
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/src/parser/Chespel.g:177:30: DIV ^
+            	            {
+            	            DIV134=(Token)match(input,DIV,FOLLOW_DIV_in_term1705); 
+            	            DIV134_tree = 
+            	            (ChespelTree)adaptor.create(DIV134)
+            	            ;
+            	            root_0 = (ChespelTree)adaptor.becomeRoot(DIV134_tree, root_0);
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_factor_in_term1709);
+            	    factor135=factor();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, factor135.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop33;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "term"
+
+
+    public static class factor_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "factor"
+    // /root/project/src/parser/Chespel.g:179:1: factor : ( NOT ^| PLUS ^| MINUS ^)? in_factor ;
+    public final ChespelParser.factor_return factor() throws RecognitionException {
+        ChespelParser.factor_return retval = new ChespelParser.factor_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token NOT136=null;
+        Token PLUS137=null;
+        Token MINUS138=null;
+        ChespelParser.in_factor_return in_factor139 =null;
+
+
+        ChespelTree NOT136_tree=null;
+        ChespelTree PLUS137_tree=null;
+        ChespelTree MINUS138_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:179:9: ( ( NOT ^| PLUS ^| MINUS ^)? in_factor )
+            // /root/project/src/parser/Chespel.g:179:13: ( NOT ^| PLUS ^| MINUS ^)? in_factor
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            // /root/project/src/parser/Chespel.g:179:13: ( NOT ^| PLUS ^| MINUS ^)?
+            int alt34=4;
+            switch ( input.LA(1) ) {
+                case NOT:
+                    {
+                    alt34=1;
+                    }
+                    break;
+                case PLUS:
+                    {
+                    alt34=2;
+                    }
+                    break;
+                case MINUS:
+                    {
+                    alt34=3;
+                    }
+                    break;
+            }
+
+            switch (alt34) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:179:14: NOT ^
+                    {
+                    NOT136=(Token)match(input,NOT,FOLLOW_NOT_in_factor1724); 
+                    NOT136_tree = 
+                    (ChespelTree)adaptor.create(NOT136)
+                    ;
+                    root_0 = (ChespelTree)adaptor.becomeRoot(NOT136_tree, root_0);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:179:21: PLUS ^
+                    {
+                    PLUS137=(Token)match(input,PLUS,FOLLOW_PLUS_in_factor1729); 
+                    PLUS137_tree = 
+                    (ChespelTree)adaptor.create(PLUS137)
+                    ;
+                    root_0 = (ChespelTree)adaptor.becomeRoot(PLUS137_tree, root_0);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:179:29: MINUS ^
+                    {
+                    MINUS138=(Token)match(input,MINUS,FOLLOW_MINUS_in_factor1734); 
+                    MINUS138_tree = 
+                    (ChespelTree)adaptor.create(MINUS138)
+                    ;
+                    root_0 = (ChespelTree)adaptor.becomeRoot(MINUS138_tree, root_0);
+
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_in_factor_in_factor1739);
+            in_factor139=in_factor();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, in_factor139.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "factor"
+
+
+    public static class in_factor_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "in_factor"
+    // /root/project/src/parser/Chespel.g:181:1: in_factor : concat_atom ( IN ^ concat_atom )? ;
+    public final ChespelParser.in_factor_return in_factor() throws RecognitionException {
+        ChespelParser.in_factor_return retval = new ChespelParser.in_factor_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token IN141=null;
+        ChespelParser.concat_atom_return concat_atom140 =null;
+
+        ChespelParser.concat_atom_return concat_atom142 =null;
+
+
+        ChespelTree IN141_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:181:13: ( concat_atom ( IN ^ concat_atom )? )
+            // /root/project/src/parser/Chespel.g:181:16: concat_atom ( IN ^ concat_atom )?
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_concat_atom_in_in_factor1751);
+            concat_atom140=concat_atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, concat_atom140.getTree());
+
+            // /root/project/src/parser/Chespel.g:181:28: ( IN ^ concat_atom )?
+            int alt35=2;
+            int LA35_0 = input.LA(1);
+
+            if ( (LA35_0==IN) ) {
+                alt35=1;
+            }
+            switch (alt35) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:181:29: IN ^ concat_atom
+                    {
+                    IN141=(Token)match(input,IN,FOLLOW_IN_in_in_factor1754); 
+                    IN141_tree = 
+                    (ChespelTree)adaptor.create(IN141)
+                    ;
+                    root_0 = (ChespelTree)adaptor.becomeRoot(IN141_tree, root_0);
+
+
+                    pushFollow(FOLLOW_concat_atom_in_in_factor1757);
+                    concat_atom142=concat_atom();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, concat_atom142.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "in_factor"
+
+
+    public static class concat_atom_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "concat_atom"
+    // /root/project/src/parser/Chespel.g:183:1: concat_atom : access_atom ( CONCAT ^ access_atom )* ;
+    public final ChespelParser.concat_atom_return concat_atom() throws RecognitionException {
+        ChespelParser.concat_atom_return retval = new ChespelParser.concat_atom_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token CONCAT144=null;
+        ChespelParser.access_atom_return access_atom143 =null;
+
+        ChespelParser.access_atom_return access_atom145 =null;
+
+
+        ChespelTree CONCAT144_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:183:13: ( access_atom ( CONCAT ^ access_atom )* )
+            // /root/project/src/parser/Chespel.g:183:17: access_atom ( CONCAT ^ access_atom )*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_access_atom_in_concat_atom1770);
+            access_atom143=access_atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, access_atom143.getTree());
+
+            // /root/project/src/parser/Chespel.g:183:29: ( CONCAT ^ access_atom )*
+            loop36:
+            do {
+                int alt36=2;
+                int LA36_0 = input.LA(1);
+
+                if ( (LA36_0==CONCAT) ) {
+                    alt36=1;
+                }
+
+
+                switch (alt36) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:183:30: CONCAT ^ access_atom
+            	    {
+            	    CONCAT144=(Token)match(input,CONCAT,FOLLOW_CONCAT_in_concat_atom1773); 
+            	    CONCAT144_tree = 
+            	    (ChespelTree)adaptor.create(CONCAT144)
+            	    ;
+            	    root_0 = (ChespelTree)adaptor.becomeRoot(CONCAT144_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_access_atom_in_concat_atom1776);
+            	    access_atom145=access_atom();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, access_atom145.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop36;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "concat_atom"
+
+
+    public static class access_atom_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "access_atom"
+    // /root/project/src/parser/Chespel.g:185:1: access_atom : atom ( DOT ^ id_extended | L_BRACKET ^ expr R_BRACKET !)* ;
+    public final ChespelParser.access_atom_return access_atom() throws RecognitionException {
+        ChespelParser.access_atom_return retval = new ChespelParser.access_atom_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token DOT147=null;
+        Token L_BRACKET149=null;
+        Token R_BRACKET151=null;
+        ChespelParser.atom_return atom146 =null;
+
+        ChespelParser.id_extended_return id_extended148 =null;
+
+        ChespelParser.expr_return expr150 =null;
+
+
+        ChespelTree DOT147_tree=null;
+        ChespelTree L_BRACKET149_tree=null;
+        ChespelTree R_BRACKET151_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:185:13: ( atom ( DOT ^ id_extended | L_BRACKET ^ expr R_BRACKET !)* )
+            // /root/project/src/parser/Chespel.g:185:17: atom ( DOT ^ id_extended | L_BRACKET ^ expr R_BRACKET !)*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_atom_in_access_atom1789);
+            atom146=atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, atom146.getTree());
+
+            // /root/project/src/parser/Chespel.g:185:22: ( DOT ^ id_extended | L_BRACKET ^ expr R_BRACKET !)*
+            loop37:
+            do {
+                int alt37=3;
+                int LA37_0 = input.LA(1);
+
+                if ( (LA37_0==DOT) ) {
+                    alt37=1;
+                }
+                else if ( (LA37_0==L_BRACKET) ) {
+                    alt37=2;
+                }
+
+
+                switch (alt37) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:185:23: DOT ^ id_extended
+            	    {
+            	    DOT147=(Token)match(input,DOT,FOLLOW_DOT_in_access_atom1792); 
+            	    DOT147_tree = 
+            	    (ChespelTree)adaptor.create(DOT147)
+            	    ;
+            	    root_0 = (ChespelTree)adaptor.becomeRoot(DOT147_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_id_extended_in_access_atom1795);
+            	    id_extended148=id_extended();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, id_extended148.getTree());
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/src/parser/Chespel.g:185:42: L_BRACKET ^ expr R_BRACKET !
+            	    {
+            	    L_BRACKET149=(Token)match(input,L_BRACKET,FOLLOW_L_BRACKET_in_access_atom1799); 
+            	    L_BRACKET149_tree = 
+            	    (ChespelTree)adaptor.create(L_BRACKET149)
+            	    ;
+            	    root_0 = (ChespelTree)adaptor.becomeRoot(L_BRACKET149_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_expr_in_access_atom1802);
+            	    expr150=expr();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, expr150.getTree());
+
+            	    R_BRACKET151=(Token)match(input,R_BRACKET,FOLLOW_R_BRACKET_in_access_atom1804); 
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop37;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "access_atom"
+
+
+    public static class id_extended_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "id_extended"
+    // /root/project/src/parser/Chespel.g:189:1: id_extended : (t= PIECE_TYPE |t= BOARD_TYPE |t= ID ) -> ^( ID[$t,$t.text] ) ;
+    public final ChespelParser.id_extended_return id_extended() throws RecognitionException {
+        ChespelParser.id_extended_return retval = new ChespelParser.id_extended_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token t=null;
+
+        ChespelTree t_tree=null;
+        RewriteRuleTokenStream stream_PIECE_TYPE=new RewriteRuleTokenStream(adaptor,"token PIECE_TYPE");
+        RewriteRuleTokenStream stream_BOARD_TYPE=new RewriteRuleTokenStream(adaptor,"token BOARD_TYPE");
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+
+        try {
+            // /root/project/src/parser/Chespel.g:189:13: ( (t= PIECE_TYPE |t= BOARD_TYPE |t= ID ) -> ^( ID[$t,$t.text] ) )
+            // /root/project/src/parser/Chespel.g:189:17: (t= PIECE_TYPE |t= BOARD_TYPE |t= ID )
+            {
+            // /root/project/src/parser/Chespel.g:189:17: (t= PIECE_TYPE |t= BOARD_TYPE |t= ID )
+            int alt38=3;
+            switch ( input.LA(1) ) {
+            case PIECE_TYPE:
+                {
+                alt38=1;
+                }
+                break;
+            case BOARD_TYPE:
+                {
+                alt38=2;
+                }
+                break;
+            case ID:
+                {
+                alt38=3;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 38, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt38) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:189:18: t= PIECE_TYPE
+                    {
+                    t=(Token)match(input,PIECE_TYPE,FOLLOW_PIECE_TYPE_in_id_extended1824);  
+                    stream_PIECE_TYPE.add(t);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:189:33: t= BOARD_TYPE
+                    {
+                    t=(Token)match(input,BOARD_TYPE,FOLLOW_BOARD_TYPE_in_id_extended1830);  
+                    stream_BOARD_TYPE.add(t);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:189:48: t= ID
+                    {
+                    t=(Token)match(input,ID,FOLLOW_ID_in_id_extended1836);  
+                    stream_ID.add(t);
+
+
+                    }
+                    break;
+
+            }
+
+
+            // AST REWRITE
+            // elements: ID
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 190:13: -> ^( ID[$t,$t.text] )
+            {
+                // /root/project/src/parser/Chespel.g:190:17: ^( ID[$t,$t.text] )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(ID, t, (t!=null?t.getText():null))
+                , root_1);
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "id_extended"
+
+
+    public static class atom_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "atom"
+    // /root/project/src/parser/Chespel.g:192:1: atom : ( ID | (b= TRUE |b= FALSE ) -> ^( BOOL[$b,$b.text] ) | funcall | STRING | board_lit | BOARD_LIST | PIECE_LIST | num_lit | '(' ! expr ')' !| list | SELF | RIVAL );
+    public final ChespelParser.atom_return atom() throws RecognitionException {
+        ChespelParser.atom_return retval = new ChespelParser.atom_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token b=null;
+        Token ID152=null;
+        Token STRING154=null;
+        Token BOARD_LIST156=null;
+        Token PIECE_LIST157=null;
+        Token char_literal159=null;
+        Token char_literal161=null;
+        Token SELF163=null;
+        Token RIVAL164=null;
+        ChespelParser.funcall_return funcall153 =null;
+
+        ChespelParser.board_lit_return board_lit155 =null;
+
+        ChespelParser.num_lit_return num_lit158 =null;
+
+        ChespelParser.expr_return expr160 =null;
+
+        ChespelParser.list_return list162 =null;
+
+
+        ChespelTree b_tree=null;
+        ChespelTree ID152_tree=null;
+        ChespelTree STRING154_tree=null;
+        ChespelTree BOARD_LIST156_tree=null;
+        ChespelTree PIECE_LIST157_tree=null;
+        ChespelTree char_literal159_tree=null;
+        ChespelTree char_literal161_tree=null;
+        ChespelTree SELF163_tree=null;
+        ChespelTree RIVAL164_tree=null;
+        RewriteRuleTokenStream stream_TRUE=new RewriteRuleTokenStream(adaptor,"token TRUE");
+        RewriteRuleTokenStream stream_FALSE=new RewriteRuleTokenStream(adaptor,"token FALSE");
+
+        try {
+            // /root/project/src/parser/Chespel.g:192:9: ( ID | (b= TRUE |b= FALSE ) -> ^( BOOL[$b,$b.text] ) | funcall | STRING | board_lit | BOARD_LIST | PIECE_LIST | num_lit | '(' ! expr ')' !| list | SELF | RIVAL )
+            int alt40=12;
+            switch ( input.LA(1) ) {
+            case ID:
+                {
+                int LA40_1 = input.LA(2);
+
+                if ( (LA40_1==AND||LA40_1==CONCAT||LA40_1==DIV||(LA40_1 >= DOT && LA40_1 <= DOUBLE_EQUAL)||LA40_1==GE||LA40_1==GT||(LA40_1 >= IN && LA40_1 <= LE)||(LA40_1 >= LT && LA40_1 <= MUL)||LA40_1==NOT_EQUAL||LA40_1==OR||LA40_1==PLUS||LA40_1==R_BRACKET||(LA40_1 >= 88 && LA40_1 <= 90)||LA40_1==94) ) {
+                    alt40=1;
+                }
+                else if ( (LA40_1==87) ) {
+                    alt40=3;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 40, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case FALSE:
+            case TRUE:
+                {
+                alt40=2;
+                }
+                break;
+            case BOARD_TYPE:
+            case PIECE_TYPE:
+                {
+                alt40=3;
+                }
+                break;
+            case STRING:
+                {
+                alt40=4;
+                }
+                break;
+            case CELL_LIT:
+            case FILE_LIT:
+            case RANG_CELL_LIT:
+            case RANG_FILE_LIT:
+            case RANG_RANK_LIT:
+            case RANG_ROW_LIT:
+            case RANK_LIT:
+            case ROW_LIT:
+                {
+                alt40=5;
+                }
+                break;
+            case BOARD_LIST:
+                {
+                alt40=6;
+                }
+                break;
+            case PIECE_LIST:
+                {
+                alt40=7;
+                }
+                break;
+            case NUM:
+                {
+                alt40=8;
+                }
+                break;
+            case 87:
+                {
+                alt40=9;
+                }
+                break;
+            case L_BRACKET:
+                {
+                alt40=10;
+                }
+                break;
+            case SELF:
+                {
+                alt40=11;
+                }
+                break;
+            case RIVAL:
+                {
+                alt40=12;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 40, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt40) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:192:11: ID
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    ID152=(Token)match(input,ID,FOLLOW_ID_in_atom1872); 
+                    ID152_tree = 
+                    (ChespelTree)adaptor.create(ID152)
+                    ;
+                    adaptor.addChild(root_0, ID152_tree);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:193:11: (b= TRUE |b= FALSE )
+                    {
+                    // /root/project/src/parser/Chespel.g:193:11: (b= TRUE |b= FALSE )
+                    int alt39=2;
+                    int LA39_0 = input.LA(1);
+
+                    if ( (LA39_0==TRUE) ) {
+                        alt39=1;
+                    }
+                    else if ( (LA39_0==FALSE) ) {
+                        alt39=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 39, 0, input);
+
+                        throw nvae;
+
+                    }
+                    switch (alt39) {
+                        case 1 :
+                            // /root/project/src/parser/Chespel.g:193:12: b= TRUE
+                            {
+                            b=(Token)match(input,TRUE,FOLLOW_TRUE_in_atom1887);  
+                            stream_TRUE.add(b);
+
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Chespel.g:193:21: b= FALSE
+                            {
+                            b=(Token)match(input,FALSE,FOLLOW_FALSE_in_atom1893);  
+                            stream_FALSE.add(b);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    // AST REWRITE
+                    // elements: 
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 193:31: -> ^( BOOL[$b,$b.text] )
+                    {
+                        // /root/project/src/parser/Chespel.g:193:34: ^( BOOL[$b,$b.text] )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(BOOL, b, (b!=null?b.getText():null))
+                        , root_1);
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:194:11: funcall
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_funcall_in_atom1914);
+                    funcall153=funcall();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, funcall153.getTree());
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:195:11: STRING
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    STRING154=(Token)match(input,STRING,FOLLOW_STRING_in_atom1926); 
+                    STRING154_tree = 
+                    (ChespelTree)adaptor.create(STRING154)
+                    ;
+                    adaptor.addChild(root_0, STRING154_tree);
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:196:11: board_lit
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_board_lit_in_atom1938);
+                    board_lit155=board_lit();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, board_lit155.getTree());
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/parser/Chespel.g:197:11: BOARD_LIST
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    BOARD_LIST156=(Token)match(input,BOARD_LIST,FOLLOW_BOARD_LIST_in_atom1950); 
+                    BOARD_LIST156_tree = 
+                    (ChespelTree)adaptor.create(BOARD_LIST156)
+                    ;
+                    adaptor.addChild(root_0, BOARD_LIST156_tree);
+
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/parser/Chespel.g:198:11: PIECE_LIST
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    PIECE_LIST157=(Token)match(input,PIECE_LIST,FOLLOW_PIECE_LIST_in_atom1963); 
+                    PIECE_LIST157_tree = 
+                    (ChespelTree)adaptor.create(PIECE_LIST157)
+                    ;
+                    adaptor.addChild(root_0, PIECE_LIST157_tree);
+
+
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/parser/Chespel.g:199:11: num_lit
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_num_lit_in_atom1975);
+                    num_lit158=num_lit();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, num_lit158.getTree());
+
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/parser/Chespel.g:200:11: '(' ! expr ')' !
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    char_literal159=(Token)match(input,87,FOLLOW_87_in_atom1987); 
+
+                    pushFollow(FOLLOW_expr_in_atom1990);
+                    expr160=expr();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, expr160.getTree());
+
+                    char_literal161=(Token)match(input,88,FOLLOW_88_in_atom1992); 
+
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/parser/Chespel.g:201:11: list
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_list_in_atom2005);
+                    list162=list();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, list162.getTree());
+
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/parser/Chespel.g:202:11: SELF
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    SELF163=(Token)match(input,SELF,FOLLOW_SELF_in_atom2017); 
+                    SELF163_tree = 
+                    (ChespelTree)adaptor.create(SELF163)
+                    ;
+                    adaptor.addChild(root_0, SELF163_tree);
+
+
+                    }
+                    break;
+                case 12 :
+                    // /root/project/src/parser/Chespel.g:202:18: RIVAL
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    RIVAL164=(Token)match(input,RIVAL,FOLLOW_RIVAL_in_atom2021); 
+                    RIVAL164_tree = 
+                    (ChespelTree)adaptor.create(RIVAL164)
+                    ;
+                    adaptor.addChild(root_0, RIVAL164_tree);
+
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "atom"
+
+
+    public static class board_lit_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "board_lit"
+    // /root/project/src/parser/Chespel.g:205:1: board_lit : ( FILE_LIT | ROW_LIT | RANK_LIT | CELL_LIT | rang_lit );
+    public final ChespelParser.board_lit_return board_lit() throws RecognitionException {
+        ChespelParser.board_lit_return retval = new ChespelParser.board_lit_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token FILE_LIT165=null;
+        Token ROW_LIT166=null;
+        Token RANK_LIT167=null;
+        Token CELL_LIT168=null;
+        ChespelParser.rang_lit_return rang_lit169 =null;
+
+
+        ChespelTree FILE_LIT165_tree=null;
+        ChespelTree ROW_LIT166_tree=null;
+        ChespelTree RANK_LIT167_tree=null;
+        ChespelTree CELL_LIT168_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:205:11: ( FILE_LIT | ROW_LIT | RANK_LIT | CELL_LIT | rang_lit )
+            int alt41=5;
+            switch ( input.LA(1) ) {
+            case FILE_LIT:
+                {
+                alt41=1;
+                }
+                break;
+            case ROW_LIT:
+                {
+                alt41=2;
+                }
+                break;
+            case RANK_LIT:
+                {
+                alt41=3;
+                }
+                break;
+            case CELL_LIT:
+                {
+                alt41=4;
+                }
+                break;
+            case RANG_CELL_LIT:
+            case RANG_FILE_LIT:
+            case RANG_RANK_LIT:
+            case RANG_ROW_LIT:
+                {
+                alt41=5;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 41, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt41) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:205:13: FILE_LIT
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    FILE_LIT165=(Token)match(input,FILE_LIT,FOLLOW_FILE_LIT_in_board_lit2038); 
+                    FILE_LIT165_tree = 
+                    (ChespelTree)adaptor.create(FILE_LIT165)
+                    ;
+                    adaptor.addChild(root_0, FILE_LIT165_tree);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:205:24: ROW_LIT
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    ROW_LIT166=(Token)match(input,ROW_LIT,FOLLOW_ROW_LIT_in_board_lit2042); 
+                    ROW_LIT166_tree = 
+                    (ChespelTree)adaptor.create(ROW_LIT166)
+                    ;
+                    adaptor.addChild(root_0, ROW_LIT166_tree);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Chespel.g:205:34: RANK_LIT
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    RANK_LIT167=(Token)match(input,RANK_LIT,FOLLOW_RANK_LIT_in_board_lit2046); 
+                    RANK_LIT167_tree = 
+                    (ChespelTree)adaptor.create(RANK_LIT167)
+                    ;
+                    adaptor.addChild(root_0, RANK_LIT167_tree);
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Chespel.g:205:45: CELL_LIT
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    CELL_LIT168=(Token)match(input,CELL_LIT,FOLLOW_CELL_LIT_in_board_lit2050); 
+                    CELL_LIT168_tree = 
+                    (ChespelTree)adaptor.create(CELL_LIT168)
+                    ;
+                    adaptor.addChild(root_0, CELL_LIT168_tree);
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Chespel.g:205:56: rang_lit
+                    {
+                    root_0 = (ChespelTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_rang_lit_in_board_lit2054);
+                    rang_lit169=rang_lit();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, rang_lit169.getTree());
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "board_lit"
+
+
+    public static class rang_lit_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "rang_lit"
+    // /root/project/src/parser/Chespel.g:206:1: rang_lit : ( RANG_CELL_LIT | RANG_ROW_LIT | RANG_RANK_LIT | RANG_FILE_LIT );
+    public final ChespelParser.rang_lit_return rang_lit() throws RecognitionException {
+        ChespelParser.rang_lit_return retval = new ChespelParser.rang_lit_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token set170=null;
+
+        ChespelTree set170_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:206:9: ( RANG_CELL_LIT | RANG_ROW_LIT | RANG_RANK_LIT | RANG_FILE_LIT )
+            // /root/project/src/parser/Chespel.g:
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            set170=(Token)input.LT(1);
+
+            if ( (input.LA(1) >= RANG_CELL_LIT && input.LA(1) <= RANG_ROW_LIT) ) {
+                input.consume();
+                adaptor.addChild(root_0, 
+                (ChespelTree)adaptor.create(set170)
+                );
+                state.errorRecovery=false;
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "rang_lit"
+
+
+    public static class num_lit_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "num_lit"
+    // /root/project/src/parser/Chespel.g:209:1: num_lit : n= NUM ;
+    public final ChespelParser.num_lit_return num_lit() throws RecognitionException {
+        ChespelParser.num_lit_return retval = new ChespelParser.num_lit_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token n=null;
+
+        ChespelTree n_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:209:9: (n= NUM )
+            // /root/project/src/parser/Chespel.g:209:13: n= NUM
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            n=(Token)match(input,NUM,FOLLOW_NUM_in_num_lit2087); 
+            n_tree = 
+            (ChespelTree)adaptor.create(n)
+            ;
+            adaptor.addChild(root_0, n_tree);
+
+
+            int numValue = (int) Math.round (Float.parseFloat((n!=null?n.getText():null)) * 1000); n.setText(String.valueOf(numValue));
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "num_lit"
+
+
+    public static class funcall_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "funcall"
+    // /root/project/src/parser/Chespel.g:212:1: funcall : ( id_extended '(' ( expr_list )? ')' ) -> ^( FUNCALL id_extended ^( ARGLIST ( expr_list )? ) ) ;
+    public final ChespelParser.funcall_return funcall() throws RecognitionException {
+        ChespelParser.funcall_return retval = new ChespelParser.funcall_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal172=null;
+        Token char_literal174=null;
+        ChespelParser.id_extended_return id_extended171 =null;
+
+        ChespelParser.expr_list_return expr_list173 =null;
+
+
+        ChespelTree char_literal172_tree=null;
+        ChespelTree char_literal174_tree=null;
+        RewriteRuleTokenStream stream_88=new RewriteRuleTokenStream(adaptor,"token 88");
+        RewriteRuleTokenStream stream_87=new RewriteRuleTokenStream(adaptor,"token 87");
+        RewriteRuleSubtreeStream stream_expr_list=new RewriteRuleSubtreeStream(adaptor,"rule expr_list");
+        RewriteRuleSubtreeStream stream_id_extended=new RewriteRuleSubtreeStream(adaptor,"rule id_extended");
+        try {
+            // /root/project/src/parser/Chespel.g:212:9: ( ( id_extended '(' ( expr_list )? ')' ) -> ^( FUNCALL id_extended ^( ARGLIST ( expr_list )? ) ) )
+            // /root/project/src/parser/Chespel.g:212:13: ( id_extended '(' ( expr_list )? ')' )
+            {
+            // /root/project/src/parser/Chespel.g:212:13: ( id_extended '(' ( expr_list )? ')' )
+            // /root/project/src/parser/Chespel.g:212:14: id_extended '(' ( expr_list )? ')'
+            {
+            pushFollow(FOLLOW_id_extended_in_funcall2102);
+            id_extended171=id_extended();
+
+            state._fsp--;
+
+            stream_id_extended.add(id_extended171.getTree());
+
+            char_literal172=(Token)match(input,87,FOLLOW_87_in_funcall2104);  
+            stream_87.add(char_literal172);
+
+
+            // /root/project/src/parser/Chespel.g:212:30: ( expr_list )?
+            int alt42=2;
+            int LA42_0 = input.LA(1);
+
+            if ( ((LA42_0 >= BOARD_LIST && LA42_0 <= BOARD_TYPE)||LA42_0==CELL_LIT||LA42_0==FALSE||LA42_0==FILE_LIT||LA42_0==ID||(LA42_0 >= L_BRACKET && LA42_0 <= MINUS)||LA42_0==NOT||LA42_0==NUM||LA42_0==PIECE_LIST||(LA42_0 >= PIECE_TYPE && LA42_0 <= PLUS)||(LA42_0 >= RANG_CELL_LIT && LA42_0 <= RANK_LIT)||LA42_0==RIVAL||LA42_0==ROW_LIT||(LA42_0 >= SELF && LA42_0 <= STRING)||LA42_0==TRUE||LA42_0==87) ) {
+                alt42=1;
+            }
+            switch (alt42) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:212:30: expr_list
+                    {
+                    pushFollow(FOLLOW_expr_list_in_funcall2106);
+                    expr_list173=expr_list();
+
+                    state._fsp--;
+
+                    stream_expr_list.add(expr_list173.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            char_literal174=(Token)match(input,88,FOLLOW_88_in_funcall2109);  
+            stream_88.add(char_literal174);
+
+
+            }
+
+
+            // AST REWRITE
+            // elements: expr_list, id_extended
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (ChespelTree)adaptor.nil();
+            // 212:46: -> ^( FUNCALL id_extended ^( ARGLIST ( expr_list )? ) )
+            {
+                // /root/project/src/parser/Chespel.g:212:49: ^( FUNCALL id_extended ^( ARGLIST ( expr_list )? ) )
+                {
+                ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                root_1 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(FUNCALL, "FUNCALL")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_id_extended.nextTree());
+
+                // /root/project/src/parser/Chespel.g:212:71: ^( ARGLIST ( expr_list )? )
+                {
+                ChespelTree root_2 = (ChespelTree)adaptor.nil();
+                root_2 = (ChespelTree)adaptor.becomeRoot(
+                (ChespelTree)adaptor.create(ARGLIST, "ARGLIST")
+                , root_2);
+
+                // /root/project/src/parser/Chespel.g:212:81: ( expr_list )?
+                if ( stream_expr_list.hasNext() ) {
+                    adaptor.addChild(root_2, stream_expr_list.nextTree());
+
+                }
+                stream_expr_list.reset();
+
+                adaptor.addChild(root_1, root_2);
+                }
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "funcall"
+
+
+    public static class list_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "list"
+    // /root/project/src/parser/Chespel.g:214:1: list : L_BRACKET ( ( expr_list R_BRACKET -> ^( LIST_ATOM ( expr_list )? ) ) | R_BRACKET -> ^( EMPTY_LIST[\"[]\"] ) ) ;
+    public final ChespelParser.list_return list() throws RecognitionException {
+        ChespelParser.list_return retval = new ChespelParser.list_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token L_BRACKET175=null;
+        Token R_BRACKET177=null;
+        Token R_BRACKET178=null;
+        ChespelParser.expr_list_return expr_list176 =null;
+
+
+        ChespelTree L_BRACKET175_tree=null;
+        ChespelTree R_BRACKET177_tree=null;
+        ChespelTree R_BRACKET178_tree=null;
+        RewriteRuleTokenStream stream_L_BRACKET=new RewriteRuleTokenStream(adaptor,"token L_BRACKET");
+        RewriteRuleTokenStream stream_R_BRACKET=new RewriteRuleTokenStream(adaptor,"token R_BRACKET");
+        RewriteRuleSubtreeStream stream_expr_list=new RewriteRuleSubtreeStream(adaptor,"rule expr_list");
+        try {
+            // /root/project/src/parser/Chespel.g:214:9: ( L_BRACKET ( ( expr_list R_BRACKET -> ^( LIST_ATOM ( expr_list )? ) ) | R_BRACKET -> ^( EMPTY_LIST[\"[]\"] ) ) )
+            // /root/project/src/parser/Chespel.g:214:13: L_BRACKET ( ( expr_list R_BRACKET -> ^( LIST_ATOM ( expr_list )? ) ) | R_BRACKET -> ^( EMPTY_LIST[\"[]\"] ) )
+            {
+            L_BRACKET175=(Token)match(input,L_BRACKET,FOLLOW_L_BRACKET_in_list2139);  
+            stream_L_BRACKET.add(L_BRACKET175);
+
+
+            // /root/project/src/parser/Chespel.g:214:23: ( ( expr_list R_BRACKET -> ^( LIST_ATOM ( expr_list )? ) ) | R_BRACKET -> ^( EMPTY_LIST[\"[]\"] ) )
+            int alt43=2;
+            int LA43_0 = input.LA(1);
+
+            if ( ((LA43_0 >= BOARD_LIST && LA43_0 <= BOARD_TYPE)||LA43_0==CELL_LIT||LA43_0==FALSE||LA43_0==FILE_LIT||LA43_0==ID||(LA43_0 >= L_BRACKET && LA43_0 <= MINUS)||LA43_0==NOT||LA43_0==NUM||LA43_0==PIECE_LIST||(LA43_0 >= PIECE_TYPE && LA43_0 <= PLUS)||(LA43_0 >= RANG_CELL_LIT && LA43_0 <= RANK_LIT)||LA43_0==RIVAL||LA43_0==ROW_LIT||(LA43_0 >= SELF && LA43_0 <= STRING)||LA43_0==TRUE||LA43_0==87) ) {
+                alt43=1;
+            }
+            else if ( (LA43_0==R_BRACKET) ) {
+                alt43=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 43, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt43) {
+                case 1 :
+                    // /root/project/src/parser/Chespel.g:214:24: ( expr_list R_BRACKET -> ^( LIST_ATOM ( expr_list )? ) )
+                    {
+                    // /root/project/src/parser/Chespel.g:214:24: ( expr_list R_BRACKET -> ^( LIST_ATOM ( expr_list )? ) )
+                    // /root/project/src/parser/Chespel.g:214:25: expr_list R_BRACKET
+                    {
+                    pushFollow(FOLLOW_expr_list_in_list2143);
+                    expr_list176=expr_list();
+
+                    state._fsp--;
+
+                    stream_expr_list.add(expr_list176.getTree());
+
+                    R_BRACKET177=(Token)match(input,R_BRACKET,FOLLOW_R_BRACKET_in_list2145);  
+                    stream_R_BRACKET.add(R_BRACKET177);
+
+
+                    // AST REWRITE
+                    // elements: expr_list
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 214:45: -> ^( LIST_ATOM ( expr_list )? )
+                    {
+                        // /root/project/src/parser/Chespel.g:214:48: ^( LIST_ATOM ( expr_list )? )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(LIST_ATOM, "LIST_ATOM")
+                        , root_1);
+
+                        // /root/project/src/parser/Chespel.g:214:60: ( expr_list )?
+                        if ( stream_expr_list.hasNext() ) {
+                            adaptor.addChild(root_1, stream_expr_list.nextTree());
+
+                        }
+                        stream_expr_list.reset();
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Chespel.g:214:75: R_BRACKET
+                    {
+                    R_BRACKET178=(Token)match(input,R_BRACKET,FOLLOW_R_BRACKET_in_list2159);  
+                    stream_R_BRACKET.add(R_BRACKET178);
+
+
+                    // AST REWRITE
+                    // elements: 
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (ChespelTree)adaptor.nil();
+                    // 214:85: -> ^( EMPTY_LIST[\"[]\"] )
+                    {
+                        // /root/project/src/parser/Chespel.g:214:88: ^( EMPTY_LIST[\"[]\"] )
+                        {
+                        ChespelTree root_1 = (ChespelTree)adaptor.nil();
+                        root_1 = (ChespelTree)adaptor.becomeRoot(
+                        (ChespelTree)adaptor.create(EMPTY_LIST, "[]")
+                        , root_1);
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "list"
+
+
+    public static class expr_list_return extends ParserRuleReturnScope {
+        ChespelTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "expr_list"
+    // /root/project/src/parser/Chespel.g:217:1: expr_list : expr ( ',' ! expr )* ;
+    public final ChespelParser.expr_list_return expr_list() throws RecognitionException {
+        ChespelParser.expr_list_return retval = new ChespelParser.expr_list_return();
+        retval.start = input.LT(1);
+
+
+        ChespelTree root_0 = null;
+
+        Token char_literal180=null;
+        ChespelParser.expr_return expr179 =null;
+
+        ChespelParser.expr_return expr181 =null;
+
+
+        ChespelTree char_literal180_tree=null;
+
+        try {
+            // /root/project/src/parser/Chespel.g:217:10: ( expr ( ',' ! expr )* )
+            // /root/project/src/parser/Chespel.g:217:13: expr ( ',' ! expr )*
+            {
+            root_0 = (ChespelTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_expr_in_expr_list2178);
+            expr179=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr179.getTree());
+
+            // /root/project/src/parser/Chespel.g:217:18: ( ',' ! expr )*
+            loop44:
+            do {
+                int alt44=2;
+                int LA44_0 = input.LA(1);
+
+                if ( (LA44_0==89) ) {
+                    alt44=1;
+                }
+
+
+                switch (alt44) {
+            	case 1 :
+            	    // /root/project/src/parser/Chespel.g:217:19: ',' ! expr
+            	    {
+            	    char_literal180=(Token)match(input,89,FOLLOW_89_in_expr_list2181); 
+
+            	    pushFollow(FOLLOW_expr_in_expr_list2184);
+            	    expr181=expr();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, expr181.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop44;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (ChespelTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (ChespelTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "expr_list"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_program_in_prog260 = new BitSet(new long[]{0x0000000000000000L});
+    public static final BitSet FOLLOW_EOF_in_prog262 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_configs_in_program290 = new BitSet(new long[]{0x0408200100000A00L,0x0000000000088100L});
+    public static final BitSet FOLLOW_definition_in_program293 = new BitSet(new long[]{0x0408200100000A02L,0x0000000000088100L});
+    public static final BitSet FOLLOW_CONFIG_in_configs330 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_94_in_configs333 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_config_assign_in_configs336 = new BitSet(new long[]{0x0000000800000000L,0x0000000080000000L});
+    public static final BitSet FOLLOW_95_in_configs339 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_config_assign349 = new BitSet(new long[]{0x0000000000800000L});
+    public static final BitSet FOLLOW_EQUAL_in_config_assign353 = new BitSet(new long[]{0x0004000802000000L,0x0000000000020000L});
+    public static final BitSet FOLLOW_config_values_in_config_assign355 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_90_in_config_assign357 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_config_values377 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_num_lit_in_config_values381 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRUE_in_config_values389 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FALSE_in_config_values395 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_func_in_definition429 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rule_in_definition433 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_global_const_in_definition437 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_GLOBAL_in_global_const460 = new BitSet(new long[]{0x0408200000000A00L,0x0000000000008000L});
+    public static final BitSet FOLLOW_type_in_global_const462 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_ID_in_global_const464 = new BitSet(new long[]{0x0000000000800000L});
+    public static final BitSet FOLLOW_EQUAL_in_global_const468 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_global_const470 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_90_in_global_const472 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_function_type_in_func510 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_ID_in_func512 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+    public static final BitSet FOLLOW_params_in_func514 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_block_instructions_strict_in_func516 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RULE_in_rule567 = new BitSet(new long[]{0x0500000800000300L});
+    public static final BitSet FOLLOW_rule_name_in_rule569 = new BitSet(new long[]{0x0000000000041000L,0x0000000078010000L});
+    public static final BitSet FOLLOW_rule_opt_in_rule571 = new BitSet(new long[]{0x0000000000040000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_doif_in_rule573 = new BitSet(new long[]{0x0000000000000000L,0x0000000040000000L});
+    public static final BitSet FOLLOW_block_instructions_strict_in_rule576 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_rule_name612 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PIECE_LIST_in_rule_name618 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOARD_LIST_in_rule_name624 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PIECE_TYPE_in_rule_name630 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOARD_TYPE_in_rule_name636 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_option_in_rule_opt660 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_89_in_rule_opt663 = new BitSet(new long[]{0x0000000000001000L,0x0000000038010000L});
+    public static final BitSet FOLLOW_option_in_rule_opt667 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_SYM_in_option697 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_93_in_option701 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_92_in_option705 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_91_in_option709 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOUND_in_option713 = new BitSet(new long[]{0x0004000000000000L});
+    public static final BitSet FOLLOW_num_lit_in_option716 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_DOIF_in_doif737 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_doif739 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_87_in_params758 = new BitSet(new long[]{0x0408200000000A00L,0x0000000001008000L});
+    public static final BitSet FOLLOW_paramlist_in_params760 = new BitSet(new long[]{0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_88_in_params763 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_param_in_paramlist780 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_89_in_paramlist783 = new BitSet(new long[]{0x0408200000000A00L,0x0000000000008000L});
+    public static final BitSet FOLLOW_param_in_paramlist786 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_type_in_param801 = new BitSet(new long[]{0x0000000800000000L,0x0000000000400000L});
+    public static final BitSet FOLLOW_paramid_in_param803 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_86_in_paramid835 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_ID_in_paramid839 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_paramid862 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_VOID_TYPE_in_function_type889 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_type_in_function_type893 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STRING_TYPE_in_type911 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOARD_TYPE_in_type915 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PIECE_TYPE_in_type919 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_TYPE_in_type923 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOOL_TYPE_in_type927 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_L_BRACKET_in_type931 = new BitSet(new long[]{0x0408200000000A00L,0x0000000000008000L});
+    public static final BitSet FOLLOW_type_in_type934 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_R_BRACKET_in_type936 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_94_in_block_instructions_strict959 = new BitSet(new long[]{0x0408201810000A00L,0x0000000084109010L});
+    public static final BitSet FOLLOW_instruction_in_block_instructions_strict963 = new BitSet(new long[]{0x0408201810000A00L,0x0000000084109010L});
+    public static final BitSet FOLLOW_95_in_block_instructions_strict968 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_block_instructions_strict_in_block_instructions1001 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_instruction_in_block_instructions1007 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assign_in_instruction1043 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_90_in_instruction1045 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_decl_in_instruction1069 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_90_in_instruction1071 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ite_stmt_in_instruction1097 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_forall_stmt_in_instruction1123 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_while_stmt_in_instruction1146 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_return_stmt_in_instruction1170 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_90_in_instruction1172 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_score_in_instruction1191 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_90_in_instruction1193 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_funcall_in_instruction1218 = new BitSet(new long[]{0x0000000000000000L,0x0000000004000000L});
+    public static final BitSet FOLLOW_90_in_instruction1219 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_90_in_instruction1247 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_id_array_in_assign1280 = new BitSet(new long[]{0x0000000000800000L});
+    public static final BitSet FOLLOW_EQUAL_in_assign1284 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_assign1286 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_id_array1306 = new BitSet(new long[]{0x0000200000000002L});
+    public static final BitSet FOLLOW_L_BRACKET_in_id_array1310 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_id_array1313 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_R_BRACKET_in_id_array1315 = new BitSet(new long[]{0x0000200000000002L});
+    public static final BitSet FOLLOW_type_in_decl1333 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_declOrAssignment_in_decl1335 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_89_in_decl1338 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_declOrAssignment_in_decl1340 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_ID_in_declOrAssignment1368 = new BitSet(new long[]{0x0000000000800002L});
+    public static final BitSet FOLLOW_EQUAL_in_declOrAssignment1373 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_declOrAssignment1375 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IF_in_ite_stmt1409 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+    public static final BitSet FOLLOW_87_in_ite_stmt1412 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_ite_stmt1415 = new BitSet(new long[]{0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_88_in_ite_stmt1417 = new BitSet(new long[]{0x0408201810000A00L,0x0000000044109010L});
+    public static final BitSet FOLLOW_block_instructions_in_ite_stmt1422 = new BitSet(new long[]{0x0000000000200002L});
+    public static final BitSet FOLLOW_ELSE_in_ite_stmt1437 = new BitSet(new long[]{0x0408201810000A00L,0x0000000044109010L});
+    public static final BitSet FOLLOW_block_instructions_in_ite_stmt1440 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_WHILE_in_while_stmt1454 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+    public static final BitSet FOLLOW_87_in_while_stmt1457 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_while_stmt1460 = new BitSet(new long[]{0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_88_in_while_stmt1462 = new BitSet(new long[]{0x0408201810000A00L,0x0000000044109010L});
+    public static final BitSet FOLLOW_block_instructions_in_while_stmt1465 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RETURN_in_return_stmt1477 = new BitSet(new long[]{0x8D0560080A002302L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_return_stmt1480 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FORALL_in_forall_stmt1510 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+    public static final BitSet FOLLOW_in_decl_in_forall_stmt1513 = new BitSet(new long[]{0x0408201810000A00L,0x0000000044109010L});
+    public static final BitSet FOLLOW_block_instructions_in_forall_stmt1515 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_87_in_in_decl1526 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_ID_in_in_decl1529 = new BitSet(new long[]{0x0000002000000000L});
+    public static final BitSet FOLLOW_IN_in_in_decl1531 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_in_decl1534 = new BitSet(new long[]{0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_88_in_in_decl1536 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SCORE_in_score1556 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_score1559 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_89_in_score1562 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_score1565 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_boolterm_in_expr1582 = new BitSet(new long[]{0x0020000000000002L});
+    public static final BitSet FOLLOW_OR_in_expr1585 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_boolterm_in_expr1588 = new BitSet(new long[]{0x0020000000000002L});
+    public static final BitSet FOLLOW_boolfact_in_boolterm1600 = new BitSet(new long[]{0x0000000000000022L});
+    public static final BitSet FOLLOW_AND_in_boolterm1603 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_boolfact_in_boolterm1606 = new BitSet(new long[]{0x0000000000000022L});
+    public static final BitSet FOLLOW_num_expr_in_boolfact1618 = new BitSet(new long[]{0x0002104480100002L});
+    public static final BitSet FOLLOW_DOUBLE_EQUAL_in_boolfact1623 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_NOT_EQUAL_in_boolfact1628 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_LT_in_boolfact1633 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_LE_in_boolfact1638 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_GT_in_boolfact1643 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_GE_in_boolfact1648 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_num_expr_in_boolfact1652 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_term_in_num_expr1665 = new BitSet(new long[]{0x0800400000000002L});
+    public static final BitSet FOLLOW_PLUS_in_num_expr1670 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_MINUS_in_num_expr1675 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_term_in_num_expr1679 = new BitSet(new long[]{0x0800400000000002L});
+    public static final BitSet FOLLOW_factor_in_term1695 = new BitSet(new long[]{0x0000800000020002L});
+    public static final BitSet FOLLOW_MUL_in_term1700 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_DIV_in_term1705 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_factor_in_term1709 = new BitSet(new long[]{0x0000800000020002L});
+    public static final BitSet FOLLOW_NOT_in_factor1724 = new BitSet(new long[]{0x850420080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_PLUS_in_factor1729 = new BitSet(new long[]{0x850420080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_MINUS_in_factor1734 = new BitSet(new long[]{0x850420080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_in_factor_in_factor1739 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_concat_atom_in_in_factor1751 = new BitSet(new long[]{0x0000002000000002L});
+    public static final BitSet FOLLOW_IN_in_in_factor1754 = new BitSet(new long[]{0x850420080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_concat_atom_in_in_factor1757 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_access_atom_in_concat_atom1770 = new BitSet(new long[]{0x0000000000008002L});
+    public static final BitSet FOLLOW_CONCAT_in_concat_atom1773 = new BitSet(new long[]{0x850420080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_access_atom_in_concat_atom1776 = new BitSet(new long[]{0x0000000000008002L});
+    public static final BitSet FOLLOW_atom_in_access_atom1789 = new BitSet(new long[]{0x0000200000080002L});
+    public static final BitSet FOLLOW_DOT_in_access_atom1792 = new BitSet(new long[]{0x0400000800000200L});
+    public static final BitSet FOLLOW_id_extended_in_access_atom1795 = new BitSet(new long[]{0x0000200000080002L});
+    public static final BitSet FOLLOW_L_BRACKET_in_access_atom1799 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_access_atom1802 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_R_BRACKET_in_access_atom1804 = new BitSet(new long[]{0x0000200000080002L});
+    public static final BitSet FOLLOW_PIECE_TYPE_in_id_extended1824 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOARD_TYPE_in_id_extended1830 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_id_extended1836 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_atom1872 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRUE_in_atom1887 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FALSE_in_atom1893 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_funcall_in_atom1914 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STRING_in_atom1926 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_board_lit_in_atom1938 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BOARD_LIST_in_atom1950 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PIECE_LIST_in_atom1963 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_num_lit_in_atom1975 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_87_in_atom1987 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_atom1990 = new BitSet(new long[]{0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_88_in_atom1992 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_list_in_atom2005 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SELF_in_atom2017 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RIVAL_in_atom2021 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FILE_LIT_in_board_lit2038 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ROW_LIT_in_board_lit2042 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RANK_LIT_in_board_lit2046 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CELL_LIT_in_board_lit2050 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_rang_lit_in_board_lit2054 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUM_in_num_lit2087 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_id_extended_in_funcall2102 = new BitSet(new long[]{0x0000000000000000L,0x0000000000800000L});
+    public static final BitSet FOLLOW_87_in_funcall2104 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000018260AFL});
+    public static final BitSet FOLLOW_expr_list_in_funcall2106 = new BitSet(new long[]{0x0000000000000000L,0x0000000001000000L});
+    public static final BitSet FOLLOW_88_in_funcall2109 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_L_BRACKET_in_list2139 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008268AFL});
+    public static final BitSet FOLLOW_expr_list_in_list2143 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_R_BRACKET_in_list2145 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_R_BRACKET_in_list2159 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expr_in_expr_list2178 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+    public static final BitSet FOLLOW_89_in_expr_list2181 = new BitSet(new long[]{0x8D0560080A002300L,0x00000000008260AFL});
+    public static final BitSet FOLLOW_expr_in_expr_list2184 = new BitSet(new long[]{0x0000000000000002L,0x0000000002000000L});
+
+}
\ No newline at end of file